@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -43,4 +44,18 @@ public interface AuthTokenRepository extends JpaRepository<AuthToken, Long> {
     @Modifying
     @Query("DELETE FROM AuthToken t WHERE t.member.id = :memberId")
     void deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * <h3>FCM 토큰 일괄 해제</h3>
+     * <p>FCM이 만료/미등록으로 거부한 토큰을 가진 모든 기기의 FCM 토큰을 한 번의 UPDATE로 비웁니다.</p>
+     * <p>AuthToken은 로그인 세션이기도 하므로 행을 삭제하지 않고 FCM 토큰 컬럼만 NULL로 만듭니다.</p>
+     *
+     * @param fcmTokens 해제할 FCM 토큰 목록
+     * @return 변경된 행 수
+     * @author Jaeik
+     * @since 2.8.0
+     */
+    @Modifying
+    @Query("UPDATE AuthToken t SET t.fcmRegistrationToken = NULL WHERE t.fcmRegistrationToken IN :fcmTokens")
+    int clearFcmTokens(@Param("fcmTokens") Collection<String> fcmTokens);
 }
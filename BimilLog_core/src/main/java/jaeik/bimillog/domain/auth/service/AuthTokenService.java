@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -66,6 +67,21 @@ public class AuthTokenService {
         authToken.updateFcmToken(fcmToken);
     }
 
+    /**
+     * <h3>만료 FCM 토큰 일괄 해제</h3>
+     * <p>FCM 전송 결과 만료/미등록으로 확인된 토큰을 한 번의 UPDATE로 해제합니다.</p>
+     *
+     * @param fcmTokens 해제할 FCM 토큰 목록
+     * @return 변경된 행 수
+     */
+    @Transactional
+    public int clearFcmTokens(Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) {
+            return 0;
+        }
+        return authTokenRepository.clearFcmTokens(fcmTokens);
+    }
+
     /**
      * <h3>JWT 리프레시 토큰 업데이트</h3>
      * <p>JWT 리프레시 토큰을 갱신합니다.</p>
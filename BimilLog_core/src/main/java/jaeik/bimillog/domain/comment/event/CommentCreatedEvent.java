@@ -3,7 +3,7 @@ package jaeik.bimillog.domain.comment.event;
 import jaeik.bimillog.domain.global.event.CacheCountEvent;
 import jaeik.bimillog.domain.global.event.FriendInteractionEvent;
 import jaeik.bimillog.domain.global.event.RealtimeScoreEvent;
-import jaeik.bimillog.domain.notification.listener.NotificationSendListener;
+import jaeik.bimillog.domain.notification.listener.NotificationSaveListener;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
@@ -16,7 +16,7 @@ import java.util.UUID;
  *
  * @author Jaeik
  * @version 2.0.0
- * {@link NotificationSendListener} SSE/FCM 알림 발송
+ * {@link NotificationSaveListener} 알림 아웃박스 기록 (SSE/FCM 알림 발송)
  */
 @Slf4j
 public record CommentCreatedEvent(String eventId, Long postUserId, String commenterName, Long commenterId, Long postId)
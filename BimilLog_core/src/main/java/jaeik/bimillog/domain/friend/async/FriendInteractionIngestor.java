@@ -0,0 +1,241 @@
+package jaeik.bimillog.domain.friend.async;
+
+import jaeik.bimillog.domain.friend.dto.InteractionIncrementDTO;
+import jaeik.bimillog.domain.friend.rebuild.FriendEventDlqService;
+import jaeik.bimillog.domain.friend.rebuild.FriendRebuildFlag;
+import jaeik.bimillog.domain.global.event.FriendInteractionEvent;
+import jaeik.bimillog.infrastructure.redis.friend.RedisInteractionScoreRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.INTERACTION_SCORE_DEFAULT;
+import static jaeik.bimillog.infrastructure.redis.RedisKey.PIPELINE_BATCH_SIZE;
+
+/**
+ * <h2>상호작용 점수 수집기</h2>
+ * <p>리스너는 이벤트를 제한된 버퍼에 넣기만 하고, 전용 워커 하나가 버퍼를 비우며 Redis에 반영합니다.</p>
+ * <p>워커는 최대 1000건을 꺼내 멱등성 확인 → 회원 쌍별 합산 → 상한 확인과 증가를 묶은 Lua 스크립트로 일괄 반영 순서로 처리합니다.</p>
+ * <p>Redis 반영 실패 또는 재구축 중인 경우 해당 배치의 이벤트를 DLQ에 저장합니다.</p>
+ * <p>버퍼가 가득 차 짧은 대기 후에도 적재하지 못한 이벤트는 별도 워커(interactionOverflowExecutor)에 넘겨 DLQ에 저장합니다.
+ * 요청 스레드는 DB에도 접근하지 않으므로 호출자의 트랜잭션(추천, 댓글 작성)에 참여하지 않습니다.
+ * 그 워커의 대기열마저 가득 차면 이벤트를 버리고 버린 건수를 기록합니다.</p>
+ * <p>종료 시 제한 시간 안에 반영하지 못한 이벤트는 DLQ에 저장합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@Slf4j
+public class FriendInteractionIngestor {
+    private final RedisInteractionScoreRepository redisInteractionScoreRepository;
+    private final FriendEventDlqService friendEventDlqService;
+    private final FriendRebuildFlag friendRebuildFlag;
+    private final Executor interactionIngestExecutor;
+    private final Executor interactionOverflowExecutor;
+
+    private static final int BUFFER_CAPACITY = 10_000;
+    private static final long OFFER_TIMEOUT_MILLIS = 50;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 20;
+
+    private final BlockingQueue<FriendInteractionEvent> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private final CountDownLatch workerDone = new CountDownLatch(1);
+    private volatile boolean running = true;
+    private volatile boolean workerStarted = false;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public FriendInteractionIngestor(RedisInteractionScoreRepository redisInteractionScoreRepository,
+                                     FriendEventDlqService friendEventDlqService,
+                                     FriendRebuildFlag friendRebuildFlag,
+                                     @Qualifier("interactionIngestExecutor") Executor interactionIngestExecutor,
+                                     @Qualifier("interactionOverflowExecutor") Executor interactionOverflowExecutor) {
+        this.redisInteractionScoreRepository = redisInteractionScoreRepository;
+        this.friendEventDlqService = friendEventDlqService;
+        this.friendRebuildFlag = friendRebuildFlag;
+        this.interactionIngestExecutor = interactionIngestExecutor;
+        this.interactionOverflowExecutor = interactionOverflowExecutor;
+    }
+
+    @PostConstruct
+    public void start() {
+        interactionIngestExecutor.execute(this::drainLoop);
+    }
+
+    /**
+     * <h3>종료</h3>
+     * <p>워커가 남은 버퍼를 모두 반영하고 끝날 때까지 최대 {@value #SHUTDOWN_TIMEOUT_SECONDS}초 기다립니다.
+     * 그 안에 반영하지 못한 이벤트는 DLQ에 저장합니다.</p>
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workerStarted) {
+            try {
+                if (!workerDone.await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("상호작용 수집 워커 종료 대기 시간 초과");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<FriendInteractionEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("상호작용 수집 버퍼 미반영 {}건 DLQ 저장", remaining.size());
+            saveToDlqQuietly(remaining);
+        }
+    }
+
+    /**
+     * <h3>이벤트 버퍼 적재</h3>
+     * <p>호출 스레드에서는 Redis와 DB 작업을 하지 않습니다.</p>
+     * <p>버퍼가 가득 차면 최대 {@value #OFFER_TIMEOUT_MILLIS}ms 기다리고, 그래도 적재하지 못하거나 종료 중이면
+     * DLQ 저장을 별도 워커에 넘깁니다.</p>
+     *
+     * @return 버퍼에 적재하지 못했으면 false
+     */
+    public boolean offer(FriendInteractionEvent event) {
+        if (running) {
+            try {
+                if (buffer.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        handOffToDlq(event);
+        return false;
+    }
+
+    /**
+     * <h3>버린 이벤트 수</h3>
+     * <p>버퍼와 DLQ 저장 대기열이 모두 가득 차 저장하지 못한 누적 이벤트 수입니다.</p>
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void handOffToDlq(FriendInteractionEvent event) {
+        try {
+            interactionOverflowExecutor.execute(() -> saveToDlqQuietly(List.of(event)));
+            log.warn("상호작용 수집 버퍼에 적재하지 못해 DLQ 저장 위임: idempotencyKey={}, memberId={}, targetId={}",
+                    event.getIdempotencyKey(), event.getMemberId(), event.getTargetMemberId());
+        } catch (RejectedExecutionException e) {
+            log.error("상호작용 이벤트 버림 (버퍼와 DLQ 저장 대기열 초과): idempotencyKey={}, 누적 {}건",
+                    event.getIdempotencyKey(), droppedCount.incrementAndGet());
+        }
+    }
+
+    private void drainLoop() {
+        workerStarted = true;
+        try {
+            drainUntilStopped();
+        } finally {
+            workerDone.countDown();
+        }
+    }
+
+    private void drainUntilStopped() {
+        List<FriendInteractionEvent> batch = new ArrayList<>(PIPELINE_BATCH_SIZE);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                FriendInteractionEvent first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                buffer.drainTo(batch, PIPELINE_BATCH_SIZE - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                buffer.drainTo(batch);
+                flush(batch);
+                log.warn("상호작용 수집 워커 인터럽트, 남은 {}건 반영 후 종료", batch.size());
+                break;
+            } catch (Exception e) {
+                log.error("상호작용 수집 워커 배치 처리 실패", e);
+            } finally {
+                batch.clear();
+            }
+        }
+        log.info("상호작용 수집 워커 종료");
+    }
+
+    /**
+     * <h3>배치 반영</h3>
+     * <p>같은 멱등성 키는 한 번만 확인하고, 새 이벤트만 회원 쌍별로 합산하여 반영합니다.</p>
+     */
+    public void flush(List<FriendInteractionEvent> batch) {
+        if (batch.isEmpty()) return;
+
+        Map<String, FriendInteractionEvent> unique = new LinkedHashMap<>();
+        for (FriendInteractionEvent event : batch) {
+            unique.putIfAbsent(event.getIdempotencyKey(), event);
+        }
+        List<FriendInteractionEvent> events = new ArrayList<>(unique.values());
+
+        if (friendRebuildFlag.isRebuilding()) {
+            saveToDlq(events, null);
+            return;
+        }
+
+        try {
+            List<Boolean> fresh = redisInteractionScoreRepository.markInteractionEvents(new ArrayList<>(unique.keySet()));
+
+            Map<Pair, Integer> pairCounts = new LinkedHashMap<>();
+            for (int i = 0; i < events.size(); i++) {
+                FriendInteractionEvent event = events.get(i);
+                if (!fresh.get(i)) {
+                    event.getAlreadyProcess();
+                    continue;
+                }
+                long low = Math.min(event.getMemberId(), event.getTargetMemberId());
+                long high = Math.max(event.getMemberId(), event.getTargetMemberId());
+                pairCounts.merge(new Pair(low, high), 1, Integer::sum);
+            }
+
+            List<InteractionIncrementDTO> increments = new ArrayList<>(pairCounts.size());
+            pairCounts.forEach((pair, count) -> increments.add(new InteractionIncrementDTO(pair.low(), pair.high(), count)));
+            redisInteractionScoreRepository.addInteractionScoreBatch(increments);
+        } catch (Exception e) {
+            saveToDlq(events, e);
+        }
+    }
+
+    private void saveToDlqQuietly(List<FriendInteractionEvent> events) {
+        try {
+            saveToDlq(events, null);
+        } catch (Exception e) {
+            log.error("상호작용 이벤트 DLQ 저장 실패: {}건", events.size(), e);
+        }
+    }
+
+    private void saveToDlq(List<FriendInteractionEvent> events, Exception cause) {
+        for (FriendInteractionEvent event : events) {
+            if (cause != null) {
+                event.getDlqMessage(cause);
+            }
+            friendEventDlqService.saveScoreUp(event.getIdempotencyKey(), event.getMemberId(), event.getTargetMemberId(), INTERACTION_SCORE_DEFAULT);
+        }
+    }
+
+    /**
+     * 상호작용은 양방향으로 반영되므로 (작은 ID, 큰 ID) 순서로 정규화한 회원 쌍
+     */
+    private record Pair(long low, long high) {
+    }
+}
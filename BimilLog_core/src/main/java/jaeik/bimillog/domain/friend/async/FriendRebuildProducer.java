@@ -8,17 +8,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * <h2>친구 관계 재구축 프로듀서</h2>
- * <p>DB에서 memberId를 청크 단위로 조회하고 배치 친구 조회 결과를 큐에 삽입합니다.</p>
+ * <p>memberId keyset 커서에서 범위를 발급받아 범위 단위 배치 조회 결과를 큐에 삽입합니다.</p>
  *
  * @author Jaeik
  * @version 2.8.0
@@ -29,27 +27,20 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class FriendRebuildProducer {
     private final FriendAdminQueryRepository friendAdminQueryRepository;
 
-    private static final int MEMBER_CHUNK_SIZE = 1000;
-    private static final int INTERACTION_CHUNK_SIZE = 500;
-
-
     /**
      * <h3>DB 배치 조회 → 큐 삽입</h3>
      * <p>완료 시 POISON_PILL을 삽입하여 컨슈머에 종료 신호를 전달합니다.</p>
      */
     @Async("rebuildProducerExecutor")
-    public void produce(LinkedBlockingQueue<Long> memberQueue, BlockingQueue<FriendshipRebuildDTO> queue,
+    public void produce(MemberIdRangeCursor cursor, BlockingQueue<FriendshipRebuildDTO> queue,
                         FriendshipRebuildDTO poisonPill) {
-        List<Long> memberIds = new ArrayList<>(MEMBER_CHUNK_SIZE);
-
         try {
-            while (!memberQueue.isEmpty()) {
-                memberIds.clear();
-                memberQueue.drainTo(memberIds, MEMBER_CHUNK_SIZE);
-                if (memberIds.isEmpty()) break;
+            Optional<MemberIdRangeCursor.Range> next;
+            while ((next = cursor.next()).isPresent()) {
+                MemberIdRangeCursor.Range range = next.get();
 
-                Map<Long, Set<Long>> friendMap = friendAdminQueryRepository.getMemberFriendBatch(memberIds);
-                log.info("친구 관계 생산자 : memberId {} 이후 {}명 처리 완료", memberIds.getLast(), memberIds.size());
+                Map<Long, Set<Long>> friendMap = friendAdminQueryRepository.getMemberFriendBatch(range.startId(), range.endId());
+                log.info("친구 관계 생산자 : memberId {} ~ {} {}명 처리 완료", range.startId(), range.endId(), range.count());
 
                 for (Map.Entry<Long, Set<Long>> entry : friendMap.entrySet()) {
                     if (!entry.getValue().isEmpty()) {
@@ -77,22 +68,19 @@ public class FriendRebuildProducer {
 
     /**
      * <h3>상호작용 점수 DB 배치 조회 → 큐 삽입</h3>
-     * <p>여러 프로듀서가 동일한 memberQueue에서 경쟁적으로 drainTo하여 병렬 처리합니다.</p>
+     * <p>여러 프로듀서가 동일한 커서에서 경쟁적으로 범위를 발급받아 병렬 처리합니다.</p>
      * <p>POISON_PILL은 호출측에서 allOf 완료 후 삽입합니다.</p>
      */
     @Async("interactionProducerExecutor")
-    public CompletableFuture<Void> produceInteraction(LinkedBlockingQueue<Long> memberQueue,
+    public CompletableFuture<Void> produceInteraction(MemberIdRangeCursor cursor,
                                                       BlockingQueue<InteractionRebuildDTO> queue) {
-        List<Long> memberIds = new ArrayList<>(INTERACTION_CHUNK_SIZE);
-
         try {
-            while (!memberQueue.isEmpty()) {
-                memberIds.clear();
-                memberQueue.drainTo(memberIds, INTERACTION_CHUNK_SIZE);
-                if (memberIds.isEmpty()) break;
+            Optional<MemberIdRangeCursor.Range> next;
+            while ((next = cursor.next()).isPresent()) {
+                MemberIdRangeCursor.Range range = next.get();
 
-                Map<Long, Map<Long, Double>> scoreMap = friendAdminQueryRepository.getInteractionScore(memberIds);
-                log.info("상호작용 생산자 : memberId {} 이후 {}명 처리 완료", memberIds.getLast(), memberIds.size());
+                Map<Long, Map<Long, Double>> scoreMap = friendAdminQueryRepository.getInteractionScore(range.startId(), range.endId());
+                log.info("상호작용 생산자 : memberId {} ~ {} {}명 처리 완료", range.startId(), range.endId(), range.count());
 
                 for (Map.Entry<Long, Map<Long, Double>> entry : scoreMap.entrySet()) {
                     if (!entry.getValue().isEmpty()) {
@@ -0,0 +1,59 @@
+package jaeik.bimillog.domain.friend.async;
+
+import jaeik.bimillog.domain.friend.repository.FriendAdminQueryRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <h2>재구축용 memberId keyset 범위 커서</h2>
+ * <p>member 테이블을 PK 오름차순 keyset으로 읽어 [startId, endId] 범위를 순차적으로 발급합니다.</p>
+ * <p>여러 프로듀서가 하나의 커서를 공유하여 경쟁적으로 범위를 가져갈 수 있으며,
+ * 메모리에는 현재 청크만 유지되므로 회원 수와 무관하게 힙 사용량이 일정합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public class MemberIdRangeCursor {
+    private final FriendAdminQueryRepository friendAdminQueryRepository;
+    private final int chunkSize;
+
+    private long lastId = 0L;
+    private boolean exhausted = false;
+
+    public MemberIdRangeCursor(FriendAdminQueryRepository friendAdminQueryRepository, int chunkSize) {
+        this.friendAdminQueryRepository = friendAdminQueryRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * <h3>다음 memberId 범위 발급</h3>
+     * <p>모든 회원을 순회했으면 빈 Optional을 반환합니다.</p>
+     */
+    public synchronized Optional<Range> next() {
+        if (exhausted) {
+            return Optional.empty();
+        }
+
+        List<Long> chunk = friendAdminQueryRepository.getMemberIdChunk(lastId, chunkSize);
+        if (chunk.isEmpty()) {
+            exhausted = true;
+            return Optional.empty();
+        }
+        if (chunk.size() < chunkSize) {
+            exhausted = true;
+        }
+
+        Range range = new Range(chunk.getFirst(), chunk.getLast(), chunk.size());
+        lastId = range.endId();
+        return Optional.of(range);
+    }
+
+    /**
+     * @param startId 범위 시작 memberId (포함)
+     * @param endId   범위 끝 memberId (포함)
+     * @param count   범위에 포함된 회원 수
+     */
+    public record Range(Long startId, Long endId, int count) {
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 /**
  * <h2>친구 도메인 Redis 복구 어드민 컨트롤러</h2>
  * <p>Redis 데이터 유실 시 어드민이 수동으로 친구 관계 및 상호작용 점수를 재구축합니다.</p>
+ * <p>배포 후 친구 인접 목록(friend_adjacency) 누락 행 보정도 수행합니다.</p>
  *
  * @version 2.7.0
  * @author Jaeik
@@ -51,4 +52,16 @@ public class FriendAdminController {
         friendAdminService.rebuildInteractionScoreRedis();
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * <h3>친구 인접 목록 보정 API</h3>
+     * <p>friendship에는 있지만 friend_adjacency 행이 없는 방향을 채웁니다. 롤링 배포 누락분은 스케줄러가 자동으로 채우므로 수동 복구용입니다.</p>
+     *
+     * @return 추가된 인접 목록 행 수
+     */
+    @PostMapping("/adjacency/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> reconcileFriendAdjacency() {
+        return ResponseEntity.ok(friendAdminService.reconcileFriendAdjacency());
+    }
 }
@@ -0,0 +1,15 @@
+package jaeik.bimillog.domain.friend.dto;
+
+/**
+ * <h2>상호작용 점수 증가 배치 항목</h2>
+ * <p>같은 회원 쌍에 대한 여러 상호작용 이벤트를 하나로 합친 결과입니다.</p>
+ * <p>점수는 양방향(memberId ↔ targetId)으로 count번 증가합니다.</p>
+ *
+ * @param memberId 회원 ID
+ * @param targetId 상호작용 대상 회원 ID
+ * @param count    합쳐진 이벤트 수
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record InteractionIncrementDTO(Long memberId, Long targetId, int count) {
+}
@@ -0,0 +1,83 @@
+package jaeik.bimillog.domain.friend.entity.jpa;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * <h2>회원별 친구 인접 목록 프로젝션</h2>
+ * <p>friendship 한 건당 (member → friend), (friend → member) 두 행을 저장합니다.</p>
+ * <p>PK가 (member_id, friendship_id)이므로 한 회원의 친구 목록은 클러스터드 인덱스 범위 스캔 한 번으로 조회됩니다.</p>
+ * <p>friendship 삭제 시 DB 레벨 CASCADE로 함께 삭제됩니다.</p>
+ * <p>항상 새로 INSERT만 하므로 isNew()를 true로 고정해 merge 전 SELECT를 생략합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(FriendAdjacency.FriendAdjacencyId.class)
+@Table(name = "friend_adjacency")
+public class FriendAdjacency implements Persistable<FriendAdjacency.FriendAdjacencyId> {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "friendship_id")
+    private Long friendshipId;
+
+    @Column(name = "friend_id", nullable = false)
+    private Long friendId;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMP(6)")
+    private Instant createdAt;
+
+    @Override
+    public FriendAdjacencyId getId() {
+        return new FriendAdjacencyId(memberId, friendshipId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    /**
+     * 저장된 친구 관계로부터 양방향 인접 행 두 개를 생성합니다.
+     */
+    public static List<FriendAdjacency> createBothDirections(Friendship friendship) {
+        Long memberId = friendship.getMember().getId();
+        Long friendId = friendship.getFriend().getId();
+        return List.of(
+                FriendAdjacency.builder()
+                        .memberId(memberId)
+                        .friendshipId(friendship.getId())
+                        .friendId(friendId)
+                        .createdAt(friendship.getCreatedAt())
+                        .build(),
+                FriendAdjacency.builder()
+                        .memberId(friendId)
+                        .friendshipId(friendship.getId())
+                        .friendId(memberId)
+                        .createdAt(friendship.getCreatedAt())
+                        .build()
+        );
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class FriendAdjacencyId implements Serializable {
+        private Long memberId;
+        private Long friendshipId;
+    }
+}
@@ -2,6 +2,7 @@ package jaeik.bimillog.domain.friend.entity.jpa;
 
 public enum FriendDlqStatus {
     PENDING,
+    PROCESSING,
     PROCESSED,
     FAILED
 }
\ No newline at end of file
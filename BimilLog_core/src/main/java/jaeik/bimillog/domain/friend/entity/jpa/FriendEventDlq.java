@@ -8,16 +8,20 @@ import java.time.LocalDateTime;
 /**
  * <h2>친구 이벤트 DLQ 엔티티</h2>
  * <p>Redis 친구 관련 이벤트 처리 실패 시 재처리를 위해 저장하는 Dead Letter Queue 엔티티입니다.</p>
+ * <p>재처리 워커는 claimId로 배치를 선점하며, 선점 중인 이벤트는 PROCESSING 상태입니다.</p>
  *
  * @author Jaeik
- * @version 2.7.0
+ * @version 2.8.0
  */
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "friend_event_dlq", indexes = @Index(name = "idx_dlq_status_created", columnList = "status, created_at"))
+@Table(name = "friend_event_dlq", indexes = {
+        @Index(name = "idx_dlq_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_dlq_claim_id", columnList = "claim_id")
+})
 public class FriendEventDlq {
 
     @Id
@@ -49,6 +53,12 @@ public class FriendEventDlq {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "claim_id", length = 36)
+    private String claimId;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
     /**
      * 친구 추가 이벤트용 DLQ 엔티티를 생성합니다.
      * eventId는 deterministic하게 생성되어 동일한 친구 추가 이벤트의 중복 저장을 방지합니다.
@@ -9,6 +9,7 @@ import lombok.*;
 /**
  * 친구 요청테이블
  * 멤버가 삭제될시 친구요청도 삭제되게 한다.
+ * (작은 ID, 큰 ID) 정규화 쌍 키는 DB 생성 컬럼이며 유니크 인덱스로 양방향 중복을 막는다.
  */
 // 친구 요청은 양방향이다 1, 100이면 100, 1이 존재하면 저장되지말아야함
 @Entity
@@ -17,7 +18,10 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Table(name = "friend_request",
-        uniqueConstraints = {@UniqueConstraint(name = "unique_friend_request", columnNames = {"sender_id", "receiver_id"})})
+        uniqueConstraints = {
+                @UniqueConstraint(name = "unique_friend_request", columnNames = {"sender_id", "receiver_id"}),
+                @UniqueConstraint(name = "uk_friend_request_pair", columnNames = {"pair_min_id", "pair_max_id"})
+        })
 public class FriendRequest extends BaseEntity {
 
     @Id
@@ -37,6 +41,14 @@ public class FriendRequest extends BaseEntity {
     @JoinColumn(name = "receiver_id")
     private Member receiver;
 
+    // DB 생성 컬럼 LEAST(sender_id, receiver_id)
+    @Column(name = "pair_min_id", insertable = false, updatable = false)
+    private Long pairMinId;
+
+    // DB 생성 컬럼 GREATEST(sender_id, receiver_id)
+    @Column(name = "pair_max_id", insertable = false, updatable = false)
+    private Long pairMaxId;
+
     public static FriendRequest createFriendRequest(Member sender, Member receiver) {
         return FriendRequest.builder()
                 .sender(sender)
@@ -10,7 +10,8 @@ import lombok.*;
  * <h2>친구관계 설정테이블</h2>
  * <p>멤버가 삭제될시 친구관계도 삭제되게 한다.</p>
  * <p>친구 요청은 양방향이다 1, 100이면 100, 1이 존재하면 저장되지말아야함</p>
- * @version 2.5.0
+ * <p>(작은 ID, 큰 ID) 정규화 쌍 키는 DB 생성 컬럼이며 유니크 인덱스로 양방향 중복을 막는다.</p>
+ * @version 2.8.0
  * @author Jaeik
  */
 @Entity
@@ -19,7 +20,10 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Table(name = "friendship",
-        uniqueConstraints = {@UniqueConstraint(name = "unique_friend_pair", columnNames = {"member_id", "friend_id"})},
+        uniqueConstraints = {
+                @UniqueConstraint(name = "unique_friend_pair", columnNames = {"member_id", "friend_id"}),
+                @UniqueConstraint(name = "uk_friendship_pair", columnNames = {"pair_min_id", "pair_max_id"})
+        },
         indexes = {@Index(name = "idx_friendship_friend_member", columnList = "friend_id, member_id")})
 public class Friendship extends BaseEntity {
 
@@ -40,6 +44,14 @@ public class Friendship extends BaseEntity {
     @JoinColumn(name = "friend_id")
     private Member friend;
 
+    // DB 생성 컬럼 LEAST(member_id, friend_id)
+    @Column(name = "pair_min_id", insertable = false, updatable = false)
+    private Long pairMinId;
+
+    // DB 생성 컬럼 GREATEST(member_id, friend_id)
+    @Column(name = "pair_max_id", insertable = false, updatable = false)
+    private Long pairMaxId;
+
     public static Friendship createFriendship(Member member, Member friend) {
         return Friendship.builder()
                 .member(member)
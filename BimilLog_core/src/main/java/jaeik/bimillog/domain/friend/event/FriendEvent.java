@@ -1,5 +1,7 @@
 package jaeik.bimillog.domain.friend.event;
 
+import java.util.Set;
+
 /**
  * <h2>친구 도메인 이벤트</h2>
  * <p>친구 도메인에서 발생하는 모든 이벤트를 정의합니다.</p>
@@ -38,4 +40,14 @@ public interface FriendEvent {
      * @param memberId2 친구 ID
      */
     record FriendshipDeletedEvent(Long memberId1, Long memberId2) implements FriendEvent {}
+
+    /**
+     * <h3>회원 탈퇴 친구 관계 삭제 이벤트</h3>
+     * <p>탈퇴 트랜잭션 안에서 친구 관계가 DB CASCADE로 삭제되기 전에 친구 ID를 담아 발행하고,
+     * 커밋 후 친구 목록 로컬 캐시에서 탈퇴 회원을 제거하는 데 사용합니다.</p>
+     *
+     * @param memberId  탈퇴 회원 ID
+     * @param friendIds 탈퇴 회원의 친구 ID 목록
+     */
+    record FriendshipsWithdrawnEvent(Long memberId, Set<Long> friendIds) implements FriendEvent {}
 }
@@ -1,20 +1,10 @@
 package jaeik.bimillog.domain.friend.listener;
 
-import io.lettuce.core.RedisCommandTimeoutException;
-import jaeik.bimillog.domain.friend.rebuild.FriendEventDlqService;
-import jaeik.bimillog.domain.friend.rebuild.FriendRebuildFlag;
+import jaeik.bimillog.domain.friend.async.FriendInteractionIngestor;
 import jaeik.bimillog.domain.global.event.FriendInteractionEvent;
-
-import jaeik.bimillog.infrastructure.redis.friend.RedisInteractionScoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.data.redis.RedisSystemException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import jaeik.bimillog.infrastructure.log.Log;
@@ -22,22 +12,20 @@ import jaeik.bimillog.infrastructure.log.Log;
 
 /**
  * <h2>친구 상호작용 점수 관리 리스너</h2>
- * <p>게시글 좋아요, 댓글 작성, 댓글 좋아요 이벤트를 수신하여 Redis에 상호작용 점수를 기록합니다.</p>
- * <p>친구 추천 알고리즘에서 사용되는 상호작용 점수를 실시간으로 업데이트합니다.</p>
+ * <p>게시글 좋아요, 댓글 작성, 댓글 좋아요 이벤트를 수신하여 상호작용 점수 수집기 버퍼에 적재합니다.</p>
+ * <p>Redis 반영은 {@link FriendInteractionIngestor}의 전용 워커가 배치로 처리하므로 요청 스레드는 Redis 작업을 하지 않습니다.</p>
  * <p>익명 사용자의 상호작용은 점수에 반영되지 않습니다.</p>
  * <p>각 상호작용당 +0.5점, 최대 10점까지 증가합니다.</p>
  *
  * @author Jaeik
- * @version 2.7.0
+ * @version 2.8.0
  */
 @Log(logResult = false, level = Log.LogLevel.DEBUG, message = "친구 상호작용 점수")
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FriendInteractionListener {
-    private final RedisInteractionScoreRepository redisInteractionScoreRepository;
-    private final FriendEventDlqService friendEventDlqService;
-    private final FriendRebuildFlag friendRebuildFlag;
+    private final FriendInteractionIngestor friendInteractionIngestor;
 
     public static final Double INTERACTION_SCORE_DEFAULT = 0.5; // 상호 작용 점수 증가 기본 값
 
@@ -45,39 +33,17 @@ public class FriendInteractionListener {
      * <h3>상호작용 점수 증가</h3>
      * <p>댓글 추천, 글 추천, 댓글 작성의 경우 FriendInteractionEvent로 추상화</p>
      * <p>자기자신이나 익명 게시글, 댓글의 경우 점수가 증가하지 않습니다.</p>
+     * <p>버퍼가 가득 차 적재하지 못한 이벤트는 수집기가 DLQ에 저장하여 재처리합니다.</p>
      *
      * @param event 게시글 좋아요 이벤트
      */
     @EventListener
-    @Async("friendUpdateExecutor")
-    @Retryable(
-            retryFor = {
-                    RedisConnectionFailureException.class,
-                    RedisSystemException.class,
-                    RedisCommandTimeoutException.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100))
     public void handlePostLiked(FriendInteractionEvent event) {
         // 익명 사용자 또는 자기 자신과의 상호작용은 점수 반영하지 않음
         if (event.getMemberId() == null || event.getTargetMemberId() == null || event.getMemberId().equals(event.getTargetMemberId())) {
             return;
         }
 
-        if (friendRebuildFlag.isRebuilding()) {
-            friendEventDlqService.saveScoreUp(event.getIdempotencyKey(), event.getMemberId(), event.getTargetMemberId(), INTERACTION_SCORE_DEFAULT);
-            return;
-        }
-
-        boolean processed = redisInteractionScoreRepository.addInteractionScore(event.getMemberId(), event.getTargetMemberId(), event.getIdempotencyKey());
-        if (!processed) {
-            event.getAlreadyProcess();
-        }
-    }
-
-    @Recover
-    public void recoverPostLiked(Exception e, FriendInteractionEvent event) {
-        event.getDlqMessage(e);
-        friendEventDlqService.saveScoreUp(event.getIdempotencyKey(), event.getMemberId(), event.getTargetMemberId(), INTERACTION_SCORE_DEFAULT);
+        friendInteractionIngestor.offer(event);
     }
 }
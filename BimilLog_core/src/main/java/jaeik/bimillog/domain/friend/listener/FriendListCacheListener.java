@@ -0,0 +1,48 @@
+package jaeik.bimillog.domain.friend.listener;
+
+import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipCreatedEvent;
+import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipDeletedEvent;
+import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipsWithdrawnEvent;
+import jaeik.bimillog.domain.friend.repository.FriendListCache;
+import jaeik.bimillog.domain.member.event.MemberNameChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <h2>친구 목록 로컬 캐시 패치 리스너</h2>
+ * <p>커밋된 친구 관계/닉네임 변경을 로컬 캐시에 그 자리에서 반영합니다. 메모리 연산이므로 동기로 처리합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+public class FriendListCacheListener {
+    private final FriendListCache friendListCache;
+
+    @TransactionalEventListener
+    public void handleFriendshipCreated(FriendshipCreatedEvent event) {
+        friendListCache.addFriend(event.memberId(), event.friendId());
+        friendListCache.addFriend(event.friendId(), event.memberId());
+    }
+
+    @TransactionalEventListener
+    public void handleFriendshipDeleted(FriendshipDeletedEvent event) {
+        friendListCache.removeFriend(event.memberId1(), event.memberId2());
+        friendListCache.removeFriend(event.memberId2(), event.memberId1());
+    }
+
+    @TransactionalEventListener
+    public void handleMemberNameChanged(MemberNameChangedEvent event) {
+        friendListCache.renameFriend(event.memberId(), event.newMemberName());
+    }
+
+    /**
+     * 탈퇴 트랜잭션 커밋 후 처리. 커밋 전에 제거하면 그 사이 조회가 삭제 전 친구 목록으로 다시 적재할 수 있다.
+     */
+    @TransactionalEventListener
+    public void handleFriendshipsWithdrawn(FriendshipsWithdrawnEvent event) {
+        friendListCache.removeMember(event.memberId(), event.friendIds());
+    }
+}
@@ -2,8 +2,10 @@ package jaeik.bimillog.domain.friend.rebuild;
 
 import jaeik.bimillog.domain.friend.async.FriendRebuildConsumer;
 import jaeik.bimillog.domain.friend.async.FriendRebuildProducer;
+import jaeik.bimillog.domain.friend.async.MemberIdRangeCursor;
 import jaeik.bimillog.domain.friend.dto.FriendshipRebuildDTO;
 import jaeik.bimillog.domain.friend.dto.InteractionRebuildDTO;
+import jaeik.bimillog.domain.friend.repository.FriendAdjacencyRepository;
 import jaeik.bimillog.domain.friend.repository.FriendAdminQueryRepository;
 import jaeik.bimillog.domain.friend.scheduler.FriendEventDlqScheduler;
 import jaeik.bimillog.infrastructure.redis.friend.RedisFriendRestore;
@@ -11,13 +13,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * <h2>친구 도메인 Redis 복구 어드민 서비스</h2>
@@ -37,17 +37,21 @@ public class FriendAdminService {
     private final FriendRebuildConsumer friendRebuildConsumer;
     private final FriendRebuildFlag friendRebuildFlag;
     private final FriendEventDlqScheduler friendEventDlqScheduler;
+    private final FriendAdjacencyRepository friendAdjacencyRepository;
 
     private static final FriendshipRebuildDTO POISON_PILL = FriendshipRebuildDTO.createDTO(-1L, Set.of());
     private static final InteractionRebuildDTO INTERACTION_POISON_PILL = InteractionRebuildDTO.createDTO(-1L, Map.of());
 
     private static final int QUEUE_CAPACITY = 10_000;
     private static final int INTERACTION_PRODUCER_COUNT = 5;
+    private static final int MEMBER_CHUNK_SIZE = 1000;
+    private static final int INTERACTION_CHUNK_SIZE = 500;
+    private static final int ADJACENCY_CHUNK_SIZE = 5000;
 
     /**
      * <h3>친구 관계 Redis 프로듀서/컨슈머 병렬 재구축</h3>
-     * <p>전체 memberId를 한 번에 조회하여 LinkedBlockingQueue에 적재한 뒤,
-     * 프로듀서가 drainTo로 청크 단위로 꺼내며 배치 친구 조회 → 결과 큐에 삽입합니다.</p>
+     * <p>프로듀서가 memberId keyset 커서에서 범위를 발급받아 범위 단위 친구 조회 → 결과 큐에 삽입합니다.</p>
+     * <p>전체 memberId를 메모리에 적재하지 않으므로 회원 수와 무관하게 힙 사용량이 일정합니다.</p>
      * <p>컨슈머: 큐에서 DTO를 꺼내 Redis SADD 수행</p>
      * <p>POISON_PILL 패턴으로 종료 신호를 전달합니다.</p>
      */
@@ -56,10 +60,9 @@ public class FriendAdminService {
         redisFriendRestore.deleteAllFriendshipKeys();
         BlockingQueue<FriendshipRebuildDTO> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
 
-        List<Long> allIds = friendAdminQueryRepository.getMemberId();
-        LinkedBlockingQueue<Long> memberQueue = new LinkedBlockingQueue<>(allIds);
+        MemberIdRangeCursor cursor = new MemberIdRangeCursor(friendAdminQueryRepository, MEMBER_CHUNK_SIZE);
 
-        friendRebuildProducer.produce(memberQueue, queue, POISON_PILL);
+        friendRebuildProducer.produce(cursor, queue, POISON_PILL);
         friendRebuildConsumer.consume(queue, POISON_PILL)
                 .whenComplete((result, ex) -> {
                     friendRebuildFlag.stopRebuilding();
@@ -74,8 +77,7 @@ public class FriendAdminService {
 
     /**
      * <h3>상호작용 점수 Redis 프로듀서/컨슈머 병렬 재구축</h3>
-     * <p>전체 memberId를 한 번에 조회하여 LinkedBlockingQueue에 적재한 뒤,
-     * 프로듀서 5개가 동일한 큐에서 경쟁적으로 drainTo하여 병렬 처리합니다.</p>
+     * <p>프로듀서 5개가 하나의 memberId keyset 커서를 공유하며 경쟁적으로 범위를 발급받아 병렬 처리합니다.</p>
      * <p>모든 프로듀서가 완료되면 POISON_PILL을 삽입하여 컨슈머에 종료 신호를 전달합니다.</p>
      */
     public void rebuildInteractionScoreRedis() {
@@ -83,12 +85,11 @@ public class FriendAdminService {
         redisFriendRestore.deleteAllInteractionKeys();
         BlockingQueue<InteractionRebuildDTO> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
 
-        List<Long> allIds = friendAdminQueryRepository.getMemberId();
-        LinkedBlockingQueue<Long> memberQueue = new LinkedBlockingQueue<>(allIds);
+        MemberIdRangeCursor cursor = new MemberIdRangeCursor(friendAdminQueryRepository, INTERACTION_CHUNK_SIZE);
 
         CompletableFuture<?>[] producers = new CompletableFuture[INTERACTION_PRODUCER_COUNT];
         for (int i = 0; i < INTERACTION_PRODUCER_COUNT; i++) {
-            producers[i] = friendRebuildProducer.produceInteraction(memberQueue, queue);
+            producers[i] = friendRebuildProducer.produceInteraction(cursor, queue);
         }
 
         CompletableFuture.allOf(producers).thenRun(() -> {
@@ -112,4 +113,34 @@ public class FriendAdminService {
                     friendEventDlqScheduler.processDlq();
                 });
     }
+
+    /**
+     * <h3>친구 인접 목록 누락 행 채우기</h3>
+     * <p>friendship 전체에서 인접 목록 행이 없는 방향만 INSERT합니다.</p>
+     * <p>롤링 배포 중 누락된 행은 {@link jaeik.bimillog.domain.friend.scheduler.FriendAdjacencyReconcileScheduler}가
+     * 자동으로 채우므로, 이 메서드는 어드민 수동 복구용입니다. 이미 채워진 행은 건너뛰므로 여러 번 실행해도 결과가 같습니다.</p>
+     *
+     * @return 추가된 인접 목록 행 수
+     */
+    public int reconcileFriendAdjacency() {
+        return reconcileFriendAdjacency(0, friendAdjacencyRepository.findMaxFriendshipId());
+    }
+
+    /**
+     * <h3>friendship_id 범위의 친구 인접 목록 누락 행 채우기</h3>
+     * <p>(afterId, upToId] 범위를 {@value #ADJACENCY_CHUNK_SIZE}건씩 나누어 인접 목록 행이 없는 방향만 INSERT합니다.
+     * 범위마다 별도 문장으로 실행하므로 friendship 행 잠금은 한 범위씩만 짧게 유지됩니다.</p>
+     *
+     * @param afterId 이 ID 초과
+     * @param upToId  이 ID 이하
+     * @return 추가된 인접 목록 행 수
+     */
+    public int reconcileFriendAdjacency(long afterId, long upToId) {
+        int inserted = 0;
+        for (long from = afterId; from < upToId; from += ADJACENCY_CHUNK_SIZE) {
+            inserted += friendAdjacencyRepository.insertMissingInRange(from, Math.min(from + ADJACENCY_CHUNK_SIZE, upToId));
+        }
+        log.info("[친구 인접 목록 보정] friendship_id {} ~ {}: {}행 추가", afterId, upToId, inserted);
+        return inserted;
+    }
 }
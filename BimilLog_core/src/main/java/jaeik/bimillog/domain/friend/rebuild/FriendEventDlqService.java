@@ -2,24 +2,32 @@ package jaeik.bimillog.domain.friend.rebuild;
 
 import jaeik.bimillog.domain.friend.entity.jpa.FriendEventDlq;
 import jaeik.bimillog.domain.friend.repository.FriendEventDlqRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * <h2>친구 이벤트 DLQ 서비스</h2>
  * <p>Redis 친구 이벤트 처리 실패 시 DLQ에 저장하는 서비스입니다.</p>
  *
  * @author Jaeik
- * @version 2.5.0
+ * @version 2.8.0
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FriendEventDlqService {
     private final FriendEventDlqRepository repository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public FriendEventDlqService(FriendEventDlqRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * 친구 추가 이벤트를 DLQ에 저장합니다.
@@ -48,17 +56,18 @@ public class FriendEventDlqService {
     /**
      * 상호작용 점수 증가 이벤트를 DLQ에 저장합니다.
      * <p>이미 동일한 PENDING 상태의 이벤트가 존재하면 중복 저장하지 않습니다.</p>
+     * <p>호출자의 트랜잭션에 참여하지 않고 항상 새 트랜잭션(REQUIRES_NEW)에서 저장합니다.
+     * 중복 키 예외는 새 트랜잭션이 롤백된 뒤 바깥에서 처리하므로 호출자의 트랜잭션이 rollback-only로 표시되지 않습니다.</p>
      *
      * @param eventId  이벤트 고유 ID (멱등성 보장용)
      * @param memberId 회원 ID
      * @param targetId 상호작용 대상 ID
      * @param score    증가할 점수
      */
-    @Transactional
     public void saveScoreUp(String eventId, Long memberId, Long targetId, Double score) {
         try {
             FriendEventDlq dlq = FriendEventDlq.createScoreUp(eventId, memberId, targetId, score);
-            repository.save(dlq);
+            requiresNewTransaction.executeWithoutResult(status -> repository.save(dlq));
             log.info("[DLQ] 상호작용 점수 증가 이벤트 저장: eventId={}, memberId={}, targetId={}, score={}", eventId, memberId, targetId, score);
         } catch (DataIntegrityViolationException e) {
             log.debug("[DLQ] 상호작용 점수 증가 이벤트 중복 저장 스킵 (멱등성): eventId={}", eventId);
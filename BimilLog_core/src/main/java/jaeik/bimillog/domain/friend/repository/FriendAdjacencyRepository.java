@@ -0,0 +1,52 @@
+package jaeik.bimillog.domain.friend.repository;
+
+import jaeik.bimillog.domain.friend.entity.jpa.FriendAdjacency;
+import jaeik.bimillog.domain.friend.entity.jpa.FriendAdjacency.FriendAdjacencyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <h2>친구 인접 목록 레포지토리</h2>
+ * <p>friendship 1건당 양방향 2행으로 유지되는 인접 목록 프로젝션을 다룹니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Repository
+public interface FriendAdjacencyRepository extends JpaRepository<FriendAdjacency, FriendAdjacencyId> {
+
+    /**
+     * <h3>가장 큰 friendship ID 조회</h3>
+     *
+     * @return 가장 큰 friendship ID, 없으면 0
+     */
+    @Query(value = "SELECT COALESCE(MAX(friendship_id), 0) FROM friendship", nativeQuery = true)
+    long findMaxFriendshipId();
+
+    /**
+     * <h3>범위 내 누락된 인접 목록 행 채우기</h3>
+     * <p>friendship_id가 (afterId, upToId] 범위인 친구 관계 중 인접 목록 행이 없는 방향만 INSERT합니다.
+     * 인접 목록 PK 단건 조회로 누락 여부를 판단하고, 그 사이 새 버전이 같은 행을 쓴 경우는 INSERT IGNORE로 건너뜁니다.</p>
+     * <p>범위 단위로 끊어 실행하므로 friendship 행 잠금은 한 범위씩만 짧게 유지됩니다.</p>
+     *
+     * @param afterId 이 ID 초과
+     * @param upToId  이 ID 이하
+     * @return 추가된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_adjacency (member_id, friendship_id, friend_id, created_at) " +
+            "SELECT f.member_id, f.friendship_id, f.friend_id, f.created_at FROM friendship f " +
+            "LEFT JOIN friend_adjacency a ON a.member_id = f.member_id AND a.friendship_id = f.friendship_id " +
+            "WHERE f.friendship_id > :afterId AND f.friendship_id <= :upToId AND a.member_id IS NULL " +
+            "UNION ALL " +
+            "SELECT f.friend_id, f.friendship_id, f.member_id, f.created_at FROM friendship f " +
+            "LEFT JOIN friend_adjacency a ON a.member_id = f.friend_id AND a.friendship_id = f.friendship_id " +
+            "WHERE f.friendship_id > :afterId AND f.friendship_id <= :upToId AND a.member_id IS NULL",
+            nativeQuery = true)
+    int insertMissingInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+}
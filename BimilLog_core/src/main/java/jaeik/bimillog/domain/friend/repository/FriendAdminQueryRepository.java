@@ -37,36 +37,47 @@ public class FriendAdminQueryRepository {
     private static final QCommentLike commentLike = QCommentLike.commentLike;
     private static final QMember member = QMember.member;
 
-    public List<Long> getMemberId() {
+    /**
+     * <h3>memberId keyset 청크 조회</h3>
+     * <p>afterId 이후의 memberId를 PK 오름차순으로 size개 조회합니다.</p>
+     * <p>전체 memberId를 한 번에 메모리에 적재하지 않고 PK 범위 스캔으로 순차 조회합니다.</p>
+     *
+     * @param afterId 직전 청크의 마지막 memberId (처음이면 0)
+     * @param size    조회할 개수
+     */
+    public List<Long> getMemberIdChunk(Long afterId, int size) {
         return jpaQueryFactory
                 .select(member.id)
                 .from(member)
+                .where(member.id.gt(afterId))
+                .orderBy(member.id.asc())
+                .limit(size)
                 .fetch();
     }
 
     /**
-     * <h3>memberId 배치의 친구 관계 일괄 조회</h3>
+     * <h3>memberId 범위의 친구 관계 일괄 조회</h3>
      * <p>friendship 테이블을 양방향으로 조회하여 Map&lt;memberId, Set&lt;friendId&gt;&gt;로 반환합니다.</p>
+     * <p>IN 목록 대신 BETWEEN 범위 조건을 사용하여 (member_id, friend_id), (friend_id, member_id)
+     * 복합 인덱스의 범위 스캔으로 처리합니다.</p>
      *
-     * @param memberIds 조회할 memberId 목록
+     * @param startId 범위 시작 memberId (포함)
+     * @param endId   범위 끝 memberId (포함)
      */
-    public Map<Long, Set<Long>> getMemberFriendBatch(List<Long> memberIds) {
+    public Map<Long, Set<Long>> getMemberFriendBatch(Long startId, Long endId) {
         List<Tuple> memberAsMainRows = jpaQueryFactory
                 .select(friendship.member.id, friendship.friend.id)
                 .from(friendship)
-                .where(friendship.member.id.in(memberIds))
+                .where(friendship.member.id.between(startId, endId))
                 .fetch();
 
         List<Tuple> memberAsFriendRows = jpaQueryFactory
                 .select(friendship.friend.id, friendship.member.id)
                 .from(friendship)
-                .where(friendship.friend.id.in(memberIds))
+                .where(friendship.friend.id.between(startId, endId))
                 .fetch();
 
         Map<Long, Set<Long>> result = new HashMap<>();
-        for (Long memberId : memberIds) {
-            result.put(memberId, new HashSet<>());
-        }
 
         for (Tuple tuple : memberAsMainRows) {
             Long memberId = tuple.get(friendship.member.id);
@@ -83,12 +94,20 @@ public class FriendAdminQueryRepository {
         return result;
     }
 
-    public Map<Long, Map<Long, Double>> getInteractionScore(List<Long> memberIds) {
+    /**
+     * <h3>memberId 범위의 상호작용 점수 일괄 조회</h3>
+     * <p>댓글, 글 추천, 댓글 추천을 행위자 기준으로 집계하여 Map&lt;actorId, Map&lt;targetId, score&gt;&gt;로 반환합니다.</p>
+     * <p>IN 목록 대신 BETWEEN 범위 조건을 사용합니다.</p>
+     *
+     * @param startId 범위 시작 memberId (포함)
+     * @param endId   범위 끝 memberId (포함)
+     */
+    public Map<Long, Map<Long, Double>> getInteractionScore(Long startId, Long endId) {
         List<Tuple> commentInteraction = jpaQueryFactory
                 .select(comment.member.id, post.member.id, comment.count())
                 .from(comment)
                 .innerJoin(comment.post, post)
-                .where(comment.member.id.in(memberIds), post.member.id.isNotNull(), comment.member.id.ne(post.member.id))
+                .where(comment.member.id.between(startId, endId), post.member.id.isNotNull(), comment.member.id.ne(post.member.id))
                 .groupBy(comment.member.id, post.member.id)
                 .fetch();
 
@@ -96,7 +115,7 @@ public class FriendAdminQueryRepository {
                 .select(postLike.member.id, post.member.id, postLike.count())
                 .from(postLike)
                 .innerJoin(postLike.post, post)
-                .where(postLike.member.id.in(memberIds), post.member.id.isNotNull(), postLike.member.id.ne(post.member.id))
+                .where(postLike.member.id.between(startId, endId), post.member.id.isNotNull(), postLike.member.id.ne(post.member.id))
                 .groupBy(postLike.member.id, post.member.id)
                 .fetch();
 
@@ -104,7 +123,7 @@ public class FriendAdminQueryRepository {
                 .select(commentLike.member.id, comment.member.id, commentLike.count())
                 .from(commentLike)
                 .innerJoin(commentLike.comment, comment)
-                .where(commentLike.member.id.in(memberIds), comment.member.id.isNotNull(), commentLike.member.id.ne(comment.member.id))
+                .where(commentLike.member.id.between(startId, endId), comment.member.id.isNotNull(), commentLike.member.id.ne(comment.member.id))
                 .groupBy(commentLike.member.id, comment.member.id)
                 .fetch();
 
@@ -3,17 +3,20 @@ package jaeik.bimillog.domain.friend.repository;
 import jaeik.bimillog.domain.friend.entity.jpa.FriendDlqStatus;
 import jaeik.bimillog.domain.friend.entity.jpa.FriendEventDlq;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
  * <h2>친구 이벤트 DLQ 레포지토리</h2>
  * <p>친구 이벤트 DLQ 엔티티의 CRUD 작업을 처리합니다.</p>
+ * <p>재처리 상태 전이는 선점(claim) ID 기준 벌크 UPDATE로 수행하며, 각 문장은 독립된 짧은 트랜잭션으로 실행됩니다.</p>
  *
  * @author Jaeik
- * @version 2.5.0
+ * @version 2.8.0
  */
 public interface FriendEventDlqRepository extends JpaRepository<FriendEventDlq, Long> {
 
@@ -27,4 +30,71 @@ public interface FriendEventDlqRepository extends JpaRepository<FriendEventDlq,
      */
     @Query("SELECT e FROM FriendEventDlq e WHERE e.status = :status AND e.retryCount < :maxRetry ORDER BY e.createdAt ASC LIMIT :limit")
     List<FriendEventDlq> findPendingEvents(@Param("status") FriendDlqStatus status, @Param("maxRetry") int maxRetry, @Param("limit") int limit);
+
+    /**
+     * <h3>PENDING 이벤트 배치 선점</h3>
+     * <p>PENDING 이벤트를 생성 순으로 최대 limit건 PROCESSING으로 변경하고 claimId를 기록합니다.
+     * 행 단위 잠금으로 선점되므로 여러 워커/인스턴스가 같은 이벤트를 중복 선점하지 않습니다.</p>
+     * <p>같은 회원 쌍의 이벤트는 항상 같은 슬롯에 배정되어 추가/삭제 순서가 유지됩니다.</p>
+     *
+     * @param claimId     선점 ID
+     * @param slot        워커 슬롯 번호 (0 ~ slotCount - 1)
+     * @param slotCount   전체 워커 슬롯 수
+     * @param maxRetry    최대 재시도 횟수
+     * @param limit       선점할 최대 개수
+     * @return 선점한 이벤트 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE friend_event_dlq SET status = 'PROCESSING', claim_id = :claimId, claimed_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE status = 'PENDING' AND retry_count < :maxRetry AND MOD(LEAST(member_id, target_id), :slotCount) = :slot " +
+            "ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    int claimPendingEvents(@Param("claimId") String claimId, @Param("slot") int slot, @Param("slotCount") int slotCount,
+                           @Param("maxRetry") int maxRetry, @Param("limit") int limit);
+
+    /**
+     * <h3>선점한 이벤트 조회</h3>
+     */
+    List<FriendEventDlq> findByClaimIdOrderByIdAsc(String claimId);
+
+    /**
+     * <h3>선점 배치 일괄 처리 완료</h3>
+     * <p>실패 이벤트는 {@link #releaseFailedEvents}로 먼저 선점이 해제되므로 남은 PROCESSING 이벤트만 PROCESSED로 변경됩니다.</p>
+     *
+     * @return 처리 완료된 이벤트 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE friend_event_dlq SET status = 'PROCESSED', claim_id = NULL, claimed_at = NULL " +
+            "WHERE claim_id = :claimId AND status = 'PROCESSING'", nativeQuery = true)
+    int markProcessedByClaimId(@Param("claimId") String claimId);
+
+    /**
+     * <h3>실패 이벤트 일괄 재시도 처리</h3>
+     * <p>retryCount를 1 증가시키고 최대 재시도에 도달하면 FAILED, 아니면 PENDING으로 되돌립니다.</p>
+     * <p>MySQL은 SET 절을 왼쪽부터 평가하므로 status를 retry_count보다 먼저 계산합니다.</p>
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE friend_event_dlq SET " +
+            "status = CASE WHEN retry_count + 1 >= :maxRetry THEN 'FAILED' ELSE 'PENDING' END, " +
+            "retry_count = retry_count + 1, claim_id = NULL, claimed_at = NULL " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int releaseFailedEvents(@Param("ids") List<Long> ids, @Param("maxRetry") int maxRetry);
+
+    /**
+     * <h3>오래된 선점 해제</h3>
+     * <p>워커가 비정상 종료되어 PROCESSING으로 남은 이벤트를 PENDING으로 되돌립니다.</p>
+     *
+     * <p>claimed_at은 DB 시계로 기록하므로 만료 판단도 DB 시계(CURRENT_TIMESTAMP) 기준으로 합니다.</p>
+     *
+     * @param timeoutSeconds 선점 후 이 시간(초)이 지난 이벤트를 해제
+     * @return 해제된 이벤트 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE friend_event_dlq SET status = 'PENDING', claim_id = NULL, claimed_at = NULL " +
+            "WHERE status = 'PROCESSING' AND claimed_at < CURRENT_TIMESTAMP(6) - INTERVAL :timeoutSeconds SECOND",
+            nativeQuery = true)
+    int releaseStaleClaims(@Param("timeoutSeconds") long timeoutSeconds);
 }
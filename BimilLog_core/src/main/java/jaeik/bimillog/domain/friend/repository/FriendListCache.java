@@ -0,0 +1,304 @@
+package jaeik.bimillog.domain.friend.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jaeik.bimillog.domain.friend.entity.Friend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * <h2>회원별 친구 목록 로컬 캐시</h2>
+ * <p>회원의 친구 목록 전체를 friendship_id 내림차순 병렬 배열로 보관하여 어떤 페이지든 DB 없이 응답합니다.</p>
+ * <p>친구 추가/삭제, 닉네임 변경, 회원 탈퇴 이벤트로 캐시를 무효화하지 않고 해당 항목만 교체합니다.
+ * 스냅샷은 불변이며 Caffeine의 키 단위 원자 연산(computeIfPresent)으로 교체됩니다.</p>
+ * <p>다른 인스턴스에서 발생한 변경과 프로필 이미지 변경은 이벤트로 전달되지 않으므로,
+ * 적재 시점 기준 TTL(패치로 연장되지 않음)로 오래된 정도를 제한합니다.</p>
+ * <p>친구 수가 MAX_FRIENDS를 넘는 회원은 목록 대신 초과 표시({@link FriendListSnapshot#OVERSIZED})를 캐시하여,
+ * TTL 동안 매 조회마다 MAX_FRIENDS + 1건을 다시 적재하지 않게 합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendListCache {
+    private static final int MAX_MEMBERS = 10_000;
+    private static final int MAX_FRIENDS = 5_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final FriendshipQueryRepository friendshipQueryRepository;
+
+    private final Cache<Long, FriendListSnapshot> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_MEMBERS)
+            .expireAfter(new Expiry<Long, FriendListSnapshot>() {
+                @Override
+                public long expireAfterCreate(Long key, FriendListSnapshot value, long currentTime) {
+                    return TTL.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Long key, FriendListSnapshot value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Long key, FriendListSnapshot value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    /**
+     * <h3>친구 페이지 조회</h3>
+     * <p>캐시 미스 시 친구 목록 전체를 한 번 적재합니다.
+     * 친구 수가 MAX_FRIENDS를 넘는 회원은 빈 Optional을 반환합니다.</p>
+     */
+    public Optional<Page<Friend>> getPage(Long memberId, Pageable pageable) {
+        FriendListSnapshot snapshot = cache.get(memberId, this::load);
+        if (snapshot.isOversized()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.page(pageable));
+    }
+
+    /**
+     * <h3>친구 추가 반영</h3>
+     * <p>ownerId의 목록이 캐시되어 있을 때만 추가된 친구 항목을 조회하여 끼워 넣습니다.</p>
+     */
+    public void addFriend(Long ownerId, Long friendId) {
+        FriendListSnapshot cached = cache.getIfPresent(ownerId);
+        if (cached == null || cached.isOversized()) {
+            return;
+        }
+        try {
+            friendshipQueryRepository.getFriend(ownerId, friendId).ifPresent(friend ->
+                    cache.asMap().computeIfPresent(ownerId, (id, snapshot) -> snapshot.with(friend)));
+        } catch (Exception e) {
+            log.warn("[FRIEND_LIST_CACHE] 친구 추가 반영 실패, 캐시 제거: ownerId={}, friendId={}", ownerId, friendId, e);
+            cache.invalidate(ownerId);
+        }
+    }
+
+    /**
+     * <h3>친구 삭제 반영</h3>
+     */
+    public void removeFriend(Long ownerId, Long friendId) {
+        cache.asMap().computeIfPresent(ownerId, (id, snapshot) -> snapshot.without(friendId));
+    }
+
+    /**
+     * <h3>닉네임 변경 반영</h3>
+     * <p>변경한 회원의 친구들의 목록에서 해당 항목의 닉네임만 교체합니다.
+     * 본인 목록이 캐시되어 있으면 친구 ID를 캐시에서, 아니면 DB에서 가져옵니다.</p>
+     */
+    public void renameFriend(Long memberId, String newMemberName) {
+        try {
+            FriendListSnapshot own = cache.getIfPresent(memberId);
+            Collection<Long> ownerIds = own != null && !own.isOversized()
+                    ? own.friendIds()
+                    : friendshipQueryRepository.getMyFriendIdsSet(memberId);
+            for (Long ownerId : ownerIds) {
+                cache.asMap().computeIfPresent(ownerId, (id, snapshot) -> snapshot.renamed(memberId, newMemberName));
+            }
+        } catch (Exception e) {
+            log.warn("[FRIEND_LIST_CACHE] 닉네임 변경 반영 실패, 전체 캐시 제거: memberId={}", memberId, e);
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * <h3>회원 탈퇴 반영</h3>
+     * <p>탈퇴 회원 본인의 목록을 제거하고, 탈퇴 전에 조회한 친구들의 목록에서만 해당 항목을 제거합니다.</p>
+     *
+     * @param memberId  탈퇴 회원 ID
+     * @param friendIds 탈퇴 회원의 친구 ID 목록 (친구 관계 삭제 전에 조회)
+     */
+    public void removeMember(Long memberId, Collection<Long> friendIds) {
+        cache.invalidate(memberId);
+        for (Long ownerId : friendIds) {
+            cache.asMap().computeIfPresent(ownerId, (id, snapshot) -> snapshot.without(memberId));
+        }
+    }
+
+    private FriendListSnapshot load(Long memberId) {
+        List<Friend> friends = friendshipQueryRepository.getFriendList(memberId, MAX_FRIENDS + 1);
+        if (friends.size() > MAX_FRIENDS) {
+            return FriendListSnapshot.OVERSIZED;
+        }
+        return FriendListSnapshot.of(friends);
+    }
+
+    /**
+     * <h3>친구 목록 불변 스냅샷</h3>
+     * <p>friendship_id 내림차순으로 정렬된 병렬 배열입니다. 생성일은 epoch 마이크로초로 보관합니다.</p>
+     */
+    static final class FriendListSnapshot {
+        /**
+         * 친구 수 초과 표시. 패치를 적용하지 않고 TTL이 지나면 다시 적재한다.
+         */
+        static final FriendListSnapshot OVERSIZED = new FriendListSnapshot(0);
+
+        private final long[] friendshipIds;
+        private final long[] friendIds;
+        private final String[] names;
+        private final String[] thumbnails;
+        private final long[] createdAtMicros;
+
+        private FriendListSnapshot(int size) {
+            this.friendshipIds = new long[size];
+            this.friendIds = new long[size];
+            this.names = new String[size];
+            this.thumbnails = new String[size];
+            this.createdAtMicros = new long[size];
+        }
+
+        static FriendListSnapshot of(List<Friend> friends) {
+            FriendListSnapshot snapshot = new FriendListSnapshot(friends.size());
+            for (int i = 0; i < friends.size(); i++) {
+                snapshot.set(i, friends.get(i));
+            }
+            return snapshot;
+        }
+
+        int size() {
+            return friendshipIds.length;
+        }
+
+        boolean isOversized() {
+            return this == OVERSIZED;
+        }
+
+        Page<Friend> page(Pageable pageable) {
+            int from = (int) Math.min(pageable.getOffset(), size());
+            int to = Math.min(from + pageable.getPageSize(), size());
+            List<Friend> content = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                content.add(get(i));
+            }
+            return new PageImpl<>(content, pageable, size());
+        }
+
+        List<Long> friendIds() {
+            List<Long> ids = new ArrayList<>(size());
+            for (long id : friendIds) {
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        /**
+         * 정렬 위치에 친구를 삽입한 새 스냅샷. 이미 있으면 그대로, 최대 개수를 넘으면 초과 표시
+         */
+        FriendListSnapshot with(Friend friend) {
+            if (isOversized()) {
+                return this;
+            }
+            int index = search(friend.friendshipId());
+            if (index >= 0) {
+                return this;
+            }
+            if (size() >= MAX_FRIENDS) {
+                return OVERSIZED;
+            }
+
+            int insertAt = -(index + 1);
+            FriendListSnapshot next = new FriendListSnapshot(size() + 1);
+            next.copyFrom(this, 0, 0, insertAt);
+            next.set(insertAt, friend);
+            next.copyFrom(this, insertAt, insertAt + 1, size() - insertAt);
+            return next;
+        }
+
+        FriendListSnapshot without(long friendId) {
+            if (isOversized()) {
+                return this;
+            }
+            int index = indexOfFriend(friendId);
+            if (index < 0) {
+                return this;
+            }
+
+            FriendListSnapshot next = new FriendListSnapshot(size() - 1);
+            next.copyFrom(this, 0, 0, index);
+            next.copyFrom(this, index + 1, index, size() - index - 1);
+            return next;
+        }
+
+        FriendListSnapshot renamed(long friendId, String newName) {
+            if (isOversized()) {
+                return this;
+            }
+            int index = indexOfFriend(friendId);
+            if (index < 0) {
+                return this;
+            }
+
+            FriendListSnapshot next = new FriendListSnapshot(size());
+            next.copyFrom(this, 0, 0, size());
+            next.names[index] = newName;
+            return next;
+        }
+
+        private Friend get(int i) {
+            long micros = createdAtMicros[i];
+            Instant createdAt = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+            return new Friend(friendshipIds[i], friendIds[i], names[i], thumbnails[i], createdAt);
+        }
+
+        private void set(int i, Friend friend) {
+            Instant createdAt = friend.friendshipCreatedAt();
+            friendshipIds[i] = friend.friendshipId();
+            friendIds[i] = friend.friendMemberId();
+            names[i] = friend.memberName();
+            thumbnails[i] = friend.thumbnailImage();
+            createdAtMicros[i] = createdAt.getEpochSecond() * 1_000_000L + createdAt.getNano() / 1_000L;
+        }
+
+        private void copyFrom(FriendListSnapshot source, int sourcePos, int destPos, int length) {
+            System.arraycopy(source.friendshipIds, sourcePos, friendshipIds, destPos, length);
+            System.arraycopy(source.friendIds, sourcePos, friendIds, destPos, length);
+            System.arraycopy(source.names, sourcePos, names, destPos, length);
+            System.arraycopy(source.thumbnails, sourcePos, thumbnails, destPos, length);
+            System.arraycopy(source.createdAtMicros, sourcePos, createdAtMicros, destPos, length);
+        }
+
+        /**
+         * 내림차순 배열 이진 탐색. 없으면 -(삽입 위치) - 1
+         */
+        private int search(long friendshipId) {
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long value = friendshipIds[mid];
+                if (value > friendshipId) {
+                    low = mid + 1;
+                } else if (value < friendshipId) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private int indexOfFriend(long friendId) {
+            for (int i = 0; i < friendIds.length; i++) {
+                if (friendIds[i] == friendId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -2,11 +2,20 @@ package jaeik.bimillog.domain.friend.repository;
 
 import jaeik.bimillog.domain.friend.entity.jpa.FriendRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface FriendRequestRepository extends JpaRepository<FriendRequest, Long> {
 
-    boolean existsBySenderIdAndReceiverId(Long requestMemberId, Long blackMemberId);
+    /**
+     * (작은 ID, 큰 ID) 정규화 쌍 키 유니크 인덱스 단건 조회로 두 회원 사이의 요청 발신자를 반환합니다.
+     * 요청이 없으면 빈 Optional을 반환합니다.
+     */
+    @Query("SELECT r.sender.id FROM FriendRequest r WHERE r.pairMinId = :pairMinId AND r.pairMaxId = :pairMaxId")
+    Optional<Long> findSenderIdByPair(@Param("pairMinId") Long pairMinId, @Param("pairMaxId") Long pairMaxId);
 
 }
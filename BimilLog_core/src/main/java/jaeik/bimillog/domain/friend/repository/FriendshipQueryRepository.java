@@ -2,12 +2,10 @@ package jaeik.bimillog.domain.friend.repository;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jaeik.bimillog.domain.friend.entity.Friend;
-import jaeik.bimillog.domain.friend.entity.jpa.QFriendship;
+import jaeik.bimillog.domain.friend.entity.jpa.QFriendAdjacency;
 import jaeik.bimillog.domain.member.entity.QMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,41 +17,32 @@ import java.util.*;
 
 /**
  * <h2>친구 조회 레포지터리</h2>
- * @version 2.7.0
+ * <p>friendship 양방향 OR 조건 대신 회원별 인접 목록(friend_adjacency)의 member_id 범위 스캔으로 조회합니다.</p>
+ * @version 2.8.0
  * @author Jaeik
  */
 @Repository
 @RequiredArgsConstructor
 public class FriendshipQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
-    private final QFriendship friendship = QFriendship.friendship;
+    private final QFriendAdjacency adjacency = QFriendAdjacency.friendAdjacency;
     private final QMember member = QMember.member;
 
     /**
      * <h3>친구 페이지 반환</h3>
      */
     public Page<Friend> getFriendPage(Long memberId, Pageable pageable) {
-        NumberExpression<Long> friendIdPath = new CaseBuilder()
-                .when(friendship.member.id.eq(memberId)).then(friendship.friend.id)
-                .otherwise(friendship.member.id);
-
-        List<Friend> content = jpaQueryFactory.select(Projections.constructor(Friend.class,
-                        friendship.id,
-                        friendIdPath,
-                        member.memberName,
-                        member.thumbnailImage,
-                        friendship.createdAt))
-                .from(friendship)
-                .join(member).on(member.id.eq(friendIdPath))
-                .where(friendship.member.id.eq(memberId).or(friendship.friend.id.eq(memberId)))
+        List<Friend> content = selectFriend()
+                .where(adjacency.memberId.eq(memberId))
+                .orderBy(adjacency.friendshipId.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
         Long total = jpaQueryFactory
-                .select(friendship.count())
-                .from(friendship)
-                .where(friendship.member.id.eq(memberId).or(friendship.friend.id.eq(memberId)))
+                .select(adjacency.count())
+                .from(adjacency)
+                .where(adjacency.memberId.eq(memberId))
                 .fetchOne();
 
         if (total == null) {
@@ -63,6 +52,27 @@ public class FriendshipQueryRepository {
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * <h3>친구 목록 전체 조회 (캐시 적재용)</h3>
+     * <p>친구 페이지와 같은 순서(friendship_id 내림차순)로 최대 limit건을 조회합니다.</p>
+     */
+    public List<Friend> getFriendList(Long memberId, int limit) {
+        return selectFriend()
+                .where(adjacency.memberId.eq(memberId))
+                .orderBy(adjacency.friendshipId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * <h3>특정 친구 항목 단건 조회 (캐시 패치용)</h3>
+     */
+    public Optional<Friend> getFriend(Long memberId, Long friendId) {
+        return Optional.ofNullable(selectFriend()
+                .where(adjacency.memberId.eq(memberId), adjacency.friendId.eq(friendId))
+                .fetchFirst());
+    }
+
     /**
      * DB에서 특정 회원의 1촌 친구 ID 목록을 조회합니다.
      * Redis 폴백용으로, 양방향 친구 관계를 처리합니다.
@@ -72,7 +82,7 @@ public class FriendshipQueryRepository {
      * @return 친구 ID Set
      */
     public Set<Long> getMyFriendIdsSet(Long memberId, int limit) {
-        List<Long> friendIds = getFriend(memberId)
+        List<Long> friendIds = getFriendIds(memberId)
                 .limit(limit)
                 .fetch();
         return new HashSet<>(friendIds);
@@ -86,24 +96,32 @@ public class FriendshipQueryRepository {
      * @return 전체 친구 ID Set
      */
     public Set<Long> getMyFriendIdsSet(Long memberId) {
-        List<Long> friendIds = getFriend(memberId)
+        List<Long> friendIds = getFriendIds(memberId)
                 .fetch();
         return new HashSet<>(friendIds);
     }
 
-    private JPAQuery<Long> getFriend(Long memberId) {
+    private JPAQuery<Friend> selectFriend() {
+        return jpaQueryFactory.select(Projections.constructor(Friend.class,
+                        adjacency.friendshipId,
+                        adjacency.friendId,
+                        member.memberName,
+                        member.thumbnailImage,
+                        adjacency.createdAt))
+                .from(adjacency)
+                .join(member).on(member.id.eq(adjacency.friendId));
+    }
+
+    private JPAQuery<Long> getFriendIds(Long memberId) {
         return jpaQueryFactory
-                .select(new CaseBuilder()
-                        .when(friendship.member.id.eq(memberId)).then(friendship.friend.id)
-                        .otherwise(friendship.member.id))
-                .from(friendship)
-                .where(friendship.member.id.eq(memberId)
-                        .or(friendship.friend.id.eq(memberId)));
+                .select(adjacency.friendId)
+                .from(adjacency)
+                .where(adjacency.memberId.eq(memberId));
     }
 
     /**
      * 여러 회원의 친구 목록을 한 번의 쿼리로 조회합니다.
-     * Redis 폴백용으로, 양방향 친구 관계를 Java에서 매핑합니다.
+     * Redis 폴백용으로, 인접 목록에 양방향 행이 모두 있으므로 member_id IN 조건만으로 조회합니다.
      *
      * @param memberIdList 조회할 회원 ID 목록 (순서 유지)
      * @return 파이프라인 결과 (memberIdList 순서와 동일)
@@ -114,10 +132,9 @@ public class FriendshipQueryRepository {
         Set<Long> memberIdSet = new HashSet<>(memberIdList);
 
         List<Tuple> results = jpaQueryFactory
-                .select(friendship.member.id, friendship.friend.id)
-                .from(friendship)
-                .where(friendship.member.id.in(memberIdSet)
-                        .or(friendship.friend.id.in(memberIdSet)))
+                .select(adjacency.memberId, adjacency.friendId)
+                .from(adjacency)
+                .where(adjacency.memberId.in(memberIdSet))
                 .fetch();
 
         Map<Long, List<Long>> resultMap = new HashMap<>();
@@ -126,15 +143,7 @@ public class FriendshipQueryRepository {
         }
 
         for (Tuple tuple : results) {
-            Long mId = tuple.get(friendship.member.id);
-            Long fId = tuple.get(friendship.friend.id);
-
-            if (memberIdSet.contains(mId)) {
-                resultMap.get(mId).add(fId);
-            }
-            if (memberIdSet.contains(fId)) {
-                resultMap.get(fId).add(mId);
-            }
+            resultMap.get(tuple.get(adjacency.memberId)).add(tuple.get(adjacency.friendId));
         }
 
         // memberIdList 순서대로 결과 반환
@@ -7,7 +7,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
 
-    boolean existsByMemberIdAndFriendId(Long memberId, Long friendId);
+    /**
+     * (작은 ID, 큰 ID) 정규화 쌍 키 유니크 인덱스 단건 조회로 방향과 무관하게 친구 여부를 확인합니다.
+     */
+    boolean existsByPairMinIdAndPairMaxId(Long pairMinId, Long pairMaxId);
 
 }
-
@@ -0,0 +1,91 @@
+package jaeik.bimillog.domain.friend.scheduler;
+
+import jaeik.bimillog.domain.friend.rebuild.FriendAdminService;
+import jaeik.bimillog.domain.friend.repository.FriendAdjacencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * <h2>친구 인접 목록 롤링 배포 보정 스케줄러</h2>
+ * <p>V2.27 백필 이후 롤링 배포 중 이전 버전 인스턴스가 만든 친구 관계는 인접 목록 행이 없습니다.
+ * 운영자의 수동 호출 없이 이 행들을 채우기 위해 인스턴스마다 기동 후 보정 기간 동안 자동으로 보정합니다.</p>
+ * <p>기동 시 friendship 전체를 한 번 보정하고, 이후 5분마다 최근 범위를 보정합니다.
+ * 보정 기간이 지나면 마지막으로 한 번 더 보정한 뒤 완료로 기록하고 더 이상 실행하지 않습니다.</p>
+ * <p>롤링 배포는 마지막 새 버전 인스턴스가 뜬 직후 이전 버전 인스턴스가 모두 내려가므로,
+ * 마지막 인스턴스의 보정 기간이 배포 이후 누락분을 모두 덮습니다. 보정은 멱등이므로 여러 인스턴스가 동시에 실행해도 안전합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendAdjacencyReconcileScheduler {
+    private final FriendAdminService friendAdminService;
+    private final FriendAdjacencyRepository friendAdjacencyRepository;
+
+    @Value("${friend.adjacency.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Value("${friend.adjacency.reconcile-window-minutes:120}")
+    private long reconcileWindowMinutes;
+
+    /**
+     * 보정 기간 종료 시각. null이면 보정을 하지 않거나 이미 완료된 상태
+     */
+    private volatile Instant windowEnd;
+
+    /**
+     * 직전, 그 이전 보정에서 확인한 최대 friendship ID.
+     * 범위를 확인할 때 커밋되지 않았던 행을 놓치지 않도록 두 번 전 보정의 최대 ID 이후부터 다시 확인합니다.
+     */
+    private long lastMaxId;
+    private long previousMaxId;
+
+    /**
+     * 기동 시 friendship 전체 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        windowEnd = Instant.now().plus(Duration.ofMinutes(reconcileWindowMinutes));
+        reconcile();
+    }
+
+    /**
+     * 보정 기간 동안 5분마다 최근 범위 보정
+     */
+    @Scheduled(fixedDelay = 300000L, initialDelay = 300000L)
+    public void reconcileDuringRollout() {
+        Instant end = windowEnd;
+        if (end == null) {
+            return;
+        }
+        reconcile();
+        if (Instant.now().isAfter(end)) {
+            windowEnd = null;
+            log.info("[친구 인접 목록 보정] 롤링 배포 보정 기간 종료");
+        }
+    }
+
+    private synchronized void reconcile() {
+        try {
+            long maxId = friendAdjacencyRepository.findMaxFriendshipId();
+            friendAdminService.reconcileFriendAdjacency(previousMaxId, maxId);
+            previousMaxId = lastMaxId;
+            lastMaxId = maxId;
+        } catch (Exception e) {
+            log.error("[친구 인접 목록 보정] 실패", e);
+        }
+    }
+}
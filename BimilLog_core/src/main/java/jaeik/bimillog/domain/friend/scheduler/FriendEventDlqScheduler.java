@@ -1,6 +1,5 @@
 package jaeik.bimillog.domain.friend.scheduler;
 
-import jaeik.bimillog.domain.friend.entity.jpa.FriendDlqStatus;
 import jaeik.bimillog.domain.friend.entity.jpa.FriendEventDlq;
 import jaeik.bimillog.domain.friend.repository.FriendEventDlqRepository;
 import jaeik.bimillog.domain.friend.rebuild.FriendRebuildFlag;
@@ -8,29 +7,33 @@ import jaeik.bimillog.infrastructure.redis.RedisCheck;
 import jaeik.bimillog.infrastructure.redis.friend.RedisFriendRestore;
 import jaeik.bimillog.infrastructure.redis.friend.RedisFriendshipRepository;
 import jaeik.bimillog.infrastructure.redis.friend.RedisInteractionScoreRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static jaeik.bimillog.infrastructure.redis.RedisKey.PIPELINE_BATCH_SIZE;
 
 /**
  * <h2>친구 이벤트 DLQ 재처리 스케줄러</h2>
- * <p>10분마다 DLQ에 저장된 이벤트를 Redis 파이프라인으로 일괄 재처리합니다.</p>
+ * <p>5분마다 DLQ에 저장된 이벤트를 Redis 파이프라인으로 일괄 재처리합니다.</p>
  * <p>친구 추가, 삭제의 유실 친구 상호작용 점수의 유실이 모임</p>
+ * <p>슬롯별 워커가 동시에 실행되며, 각 워커는 선점(UPDATE ... LIMIT) → 파이프라인 재처리 → claimId 기준 벌크 UPDATE를
+ * PENDING 이벤트가 소진될 때까지 반복합니다. 모든 DB 작업은 문장 단위의 짧은 트랜잭션입니다.</p>
  *
  * @author Jaeik
- * @version 2.7.0
+ * @version 2.8.0
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class FriendEventDlqScheduler {
     private final FriendEventDlqRepository repository;
@@ -40,42 +43,88 @@ public class FriendEventDlqScheduler {
     private final RedisInteractionScoreRepository redisInteractionScoreRepository;
     private final RedisFriendRestore redisFriendRestore;
     private final FriendRebuildFlag friendRebuildFlag;
+    private final Executor friendDlqExecutor;
 
     private static final int MAX_RETRY = 3;
+    private static final int WORKER_COUNT = 4;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
+
+    public FriendEventDlqScheduler(FriendEventDlqRepository repository,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   RedisCheck redisCheck,
+                                   RedisFriendshipRepository redisFriendshipRepository,
+                                   RedisInteractionScoreRepository redisInteractionScoreRepository,
+                                   RedisFriendRestore redisFriendRestore,
+                                   FriendRebuildFlag friendRebuildFlag,
+                                   @Qualifier("friendDlqExecutor") Executor friendDlqExecutor) {
+        this.repository = repository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisCheck = redisCheck;
+        this.redisFriendshipRepository = redisFriendshipRepository;
+        this.redisInteractionScoreRepository = redisInteractionScoreRepository;
+        this.redisFriendRestore = redisFriendRestore;
+        this.friendRebuildFlag = friendRebuildFlag;
+        this.friendDlqExecutor = friendDlqExecutor;
+    }
 
     /**
      * 5분마다 DLQ 이벤트를 재처리합니다.
-     * <p>Redis가 정상 상태일 때만 실행되며, PENDING 이벤트가 모두 소진될 때까지 배치 반복 처리합니다.</p>
+     * <p>Redis가 정상 상태일 때만 실행되며, 모든 슬롯 워커가 PENDING 이벤트를 소진할 때까지 대기합니다.</p>
      */
     @Scheduled(fixedRate = 300000)  // 5분마다
-    @Transactional
     public void processDlq() {
         if (!redisCheck.isRedisHealthy()) return;
         if (friendRebuildFlag.isRebuilding()) return;
 
-        while (true) {
-            List<FriendEventDlq> events = repository.findPendingEvents(FriendDlqStatus.PENDING, MAX_RETRY, PIPELINE_BATCH_SIZE);
-            if (events.isEmpty()) break;
+        int released = repository.releaseStaleClaims(CLAIM_TIMEOUT.toSeconds());
+        if (released > 0) {
+            log.warn("[친구 DLQ] 만료된 선점 {}건 PENDING 복귀", released);
+        }
 
-            List<FriendEventDlq> processedEvents = new ArrayList<>();
-            List<FriendEventDlq> failedEvents = new ArrayList<>();
+        CompletableFuture<?>[] workers = new CompletableFuture[WORKER_COUNT];
+        for (int slot = 0; slot < WORKER_COUNT; slot++) {
+            int workerSlot = slot;
+            workers[slot] = CompletableFuture.runAsync(() -> replaySlot(workerSlot), friendDlqExecutor);
+        }
+        CompletableFuture.allOf(workers).join();
+    }
 
-            try {
-                pipelineRestore(events, processedEvents);
-            } catch (Exception e) {
-                log.error("[친구 DLQ] 파이프라인 처리 실패, 개별 재시도 진행", e);
-                singleRestore(events, processedEvents, failedEvents);
-            }
+    /**
+     * 슬롯 워커: 선점할 이벤트가 없을 때까지 배치를 반복 처리
+     */
+    private void replaySlot(int slot) {
+        try {
+            while (!friendRebuildFlag.isRebuilding()) {
+                String claimId = UUID.randomUUID().toString();
+                int claimed = repository.claimPendingEvents(claimId, slot, WORKER_COUNT, MAX_RETRY, PIPELINE_BATCH_SIZE);
+                if (claimed == 0) break;
 
-            repository.saveAll(processedEvents);
-            repository.saveAll(failedEvents);
+                List<FriendEventDlq> events = repository.findByClaimIdOrderByIdAsc(claimId);
+                List<Long> failedIds = new ArrayList<>();
+
+                try {
+                    pipelineRestore(events);
+                } catch (Exception e) {
+                    log.error("[친구 DLQ] 파이프라인 처리 실패, 개별 재시도 진행: slot={}", slot, e);
+                    singleRestore(events, failedIds);
+                }
+
+                if (!failedIds.isEmpty()) {
+                    repository.releaseFailedEvents(failedIds, MAX_RETRY);
+                }
+                repository.markProcessedByClaimId(claimId);
+
+                if (claimed < PIPELINE_BATCH_SIZE) break;
+            }
+        } catch (Exception e) {
+            log.error("[친구 DLQ] 워커 처리 중단: slot={}", slot, e);
         }
     }
 
     /**
      * 파이프라인 복구
      */
-    private void pipelineRestore(List<FriendEventDlq> events, List<FriendEventDlq> processedEvents) {
+    private void pipelineRestore(List<FriendEventDlq> events) {
         stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
             for (FriendEventDlq event : events) {
                 switch (event.getType()) {
@@ -86,30 +135,20 @@ public class FriendEventDlqScheduler {
             }
             return null;
         });
-
-        // 파이프라인 성공 시 모두 PROCESSED 처리
-        for (FriendEventDlq event : events) {
-            event.markAsProcessed();
-            processedEvents.add(event);
-        }
     }
 
     /**
      * 파이프라인 실패시 개별처리
      */
-    private void singleRestore(List<FriendEventDlq> events, List<FriendEventDlq> processedEvents, List<FriendEventDlq> failedEvents) {
+    private void singleRestore(List<FriendEventDlq> events, List<Long> failedIds) {
         for (FriendEventDlq event : events) {
             try {
                 dispatchEvent(event);
-                event.markAsProcessed();
-                processedEvents.add(event);
             } catch (Exception ex) {
-                event.incrementRetryCount();
-                if (event.getRetryCount() >= MAX_RETRY) {
-                    event.markAsFailed();
+                if (event.getRetryCount() + 1 >= MAX_RETRY) {
                     log.error("[친구 DLQ] 최대 재시도 초과, FAILED 처리: id={}, type={}", event.getId(), event.getType());
                 }
-                failedEvents.add(event);
+                failedIds.add(event.getId());
             }
         }
     }
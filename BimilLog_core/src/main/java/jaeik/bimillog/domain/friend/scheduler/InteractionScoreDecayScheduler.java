@@ -3,16 +3,22 @@ package jaeik.bimillog.domain.friend.scheduler;
 import jaeik.bimillog.infrastructure.redis.friend.RedisInteractionScoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * <h2>상호작용 점수 지수 감쇠 스케줄러</h2>
- * <p>1일마다 모든 상호작용 점수에 0.95를 곱하여 시간에 따른 감쇠를 적용합니다.</p>
- * <p>오래된 상호작용의 영향력을 자연스럽게 감소시켜 최근 상호작용이 추천에 더 많이 반영되도록 합니다.</p>
+ * <p>상호작용 점수는 ln Σ e^(λ·t_event) 형태로 저장되고 조회 시 정규화되므로 감쇠는 암묵적으로 적용됩니다.
+ * 로그로 저장하므로 기준 시각이 멀어져도 오버플로하지 않아 기준 시각을 옮기는 재조정 작업이 필요 없습니다.</p>
+ * <p>이 스케줄러는 감쇠되어 임계값 이하가 된 항목만 정리하는 가벼운 압축 작업을 수행합니다.</p>
+ * <p>이전 형식(감쇠 반영 현재 점수, 지수 형식)의 점수는 기동 시 한 번 로그 저장 형태로 전환하고, 롤링 배포 중 이전 버전 인스턴스가
+ * 이전 형식으로 남긴 점수는 매일 정리 전에 다시 전환합니다.</p>
  *
  * @author Jaeik
- * @version 2.6.0
+ * @version 2.8.0
  */
 @Component
 @RequiredArgsConstructor
@@ -20,16 +26,42 @@ import org.springframework.stereotype.Component;
 public class InteractionScoreDecayScheduler {
     private final RedisInteractionScoreRepository redisInteractionScoreRepository;
 
+    @Value("${friend.interaction.convert-legacy-on-startup:true}")
+    private boolean convertLegacyOnStartup;
+
+    /**
+     * 기동 시 기존 형식 상호작용 점수 전환
+     * <p>전환 완료 기록이 없으면 interaction:* 전체를 저장 형태로 전환하고 완료를 기록합니다.
+     * 전환은 멱등이므로 여러 인스턴스가 동시에 기동해도 안전합니다.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void convertLegacyInteractionScores() {
+        if (!convertLegacyOnStartup) {
+            return;
+        }
+        try {
+            if (redisInteractionScoreRepository.isLegacyConversionDone()) {
+                return;
+            }
+            long converted = redisInteractionScoreRepository.convertLegacyInteractionScores();
+            redisInteractionScoreRepository.markLegacyConversionDone();
+            log.info("[상호작용 점수 형식 전환] 완료: {}건", converted);
+        } catch (Exception e) {
+            log.error("[상호작용 점수 형식 전환] 실패", e);
+        }
+    }
+
     /**
-     * 1일마다 상호작용 점수에 지수 감쇠 적용
-     * <p>모든 interaction:* 키의 점수에 0.95를 곱하고, 0.1 이하의 점수는 삭제합니다.</p>
+     * 1일마다 감쇠된 상호작용 점수 정리
+     * <p>기존 형식으로 남은 점수를 먼저 전환한 뒤, 현재 시각 기준 임계값 이하가 된 점수를 키마다 ZREMRANGEBYSCORE로 삭제합니다.</p>
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
-    public void applyInteractionScoreDecay() {
+    public void pruneDecayedInteractionScores() {
         try {
-            redisInteractionScoreRepository.applyInteractionScoreDecay();
+            redisInteractionScoreRepository.convertLegacyInteractionScores();
+            redisInteractionScoreRepository.pruneDecayedInteractionScores();
         } catch (Exception e) {
-            log.error("[상호작용 점수 감쇠] 실패", e);
+            log.error("[상호작용 점수 정리] 실패", e);
         }
     }
 }
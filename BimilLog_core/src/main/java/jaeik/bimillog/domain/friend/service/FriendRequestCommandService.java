@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -90,16 +91,19 @@ public class FriendRequestCommandService {
     }
 
     private void checkFriendRequest(Long memberId, Long receiveMemberId) {
+        // 방향과 무관하게 두 회원 사이의 요청을 한 번에 조회한다. (정규화 쌍 키 단건 조회)
+        Optional<Long> existingSenderId = friendRequestRepository.findSenderIdByPair(
+                Math.min(memberId, receiveMemberId), Math.max(memberId, receiveMemberId));
+        if (existingSenderId.isEmpty()) {
+            return;
+        }
+
         // 이미 요청이 존재한다.
-        boolean aSendB = friendRequestRepository.existsBySenderIdAndReceiverId(memberId, receiveMemberId);
-        if (aSendB) {
+        if (Objects.equals(existingSenderId.get(), memberId)) {
             throw new CustomException(ErrorCode.FRIEND_REQUEST_ALREADY_SEND);
         }
 
         // 이미 상대가 요청을 보냈다.
-        boolean bSendA = friendRequestRepository.existsBySenderIdAndReceiverId(receiveMemberId, memberId);
-        if (bSendA) {
-            throw new CustomException(ErrorCode.FRIEND_REQUEST_ALREADY_RECEIVE);
-        }
+        throw new CustomException(ErrorCode.FRIEND_REQUEST_ALREADY_RECEIVE);
     }
 }
@@ -1,10 +1,14 @@
 package jaeik.bimillog.domain.friend.service;
 
+import jaeik.bimillog.domain.friend.entity.jpa.FriendAdjacency;
 import jaeik.bimillog.domain.friend.entity.jpa.Friendship;
 import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipCreatedEvent;
 import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipDeletedEvent;
+import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipsWithdrawnEvent;
 import jaeik.bimillog.domain.friend.repository.FriendRequestRepository;
 import jaeik.bimillog.domain.friend.adapter.FriendToMemberAdapter;
+import jaeik.bimillog.domain.friend.repository.FriendAdjacencyRepository;
+import jaeik.bimillog.domain.friend.repository.FriendshipQueryRepository;
 import jaeik.bimillog.domain.friend.repository.FriendshipRepository;
 import jaeik.bimillog.domain.global.event.CheckBlacklistEvent;
 import jaeik.bimillog.domain.member.entity.Member;
@@ -12,15 +16,19 @@ import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class FriendshipCommandService {
     private final FriendshipRepository friendshipRepository;
+    private final FriendAdjacencyRepository friendAdjacencyRepository;
+    private final FriendshipQueryRepository friendshipQueryRepository;
     private final FriendRequestRepository friendRequestRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final FriendToMemberAdapter friendToMemberAdapter;
@@ -40,7 +48,14 @@ public class FriendshipCommandService {
 
         Member member = friendToMemberAdapter.findById(memberId);
         Friendship friendship = Friendship.createFriendship(member, friend);
-        friendshipRepository.save(friendship);
+        try {
+            friendshipRepository.save(friendship);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 (1,10)과 (10,1)이 수락된 경우 쌍 키 유니크 인덱스에서 걸린다.
+            throw new CustomException(ErrorCode.FRIEND_SHIP_ALREADY_EXIST);
+        }
+        // 회원별 친구 목록 조회용 인접 행 (삭제는 DB CASCADE)
+        friendAdjacencyRepository.saveAll(FriendAdjacency.createBothDirections(friendship));
 
         // 요청 삭제
         friendRequestRepository.deleteById(friendRequestId);
@@ -73,16 +88,20 @@ public class FriendshipCommandService {
         eventPublisher.publishEvent(new FriendshipDeletedEvent(memberId1, memberId2));
     }
 
-    private void checkFriendship(Long memberId, Long friendId) {
-        // 이미 친구가 되어있다.
-        boolean aSendB = friendshipRepository.existsByMemberIdAndFriendId(memberId, friendId);
-        if (aSendB) {
-            throw new CustomException(ErrorCode.FRIEND_SHIP_ALREADY_EXIST);
-        }
+    /**
+     * 회원 탈퇴 시 친구 관계 삭제 이벤트 발행
+     * 친구 관계는 회원 삭제의 DB CASCADE로 지워지므로, 삭제 전에 친구 ID를 조회해 이벤트에 담는다.
+     */
+    @Transactional
+    public void publishFriendshipsWithdrawn(Long memberId) {
+        Set<Long> friendIds = friendshipQueryRepository.getMyFriendIdsSet(memberId);
+        eventPublisher.publishEvent(new FriendshipsWithdrawnEvent(memberId, friendIds));
+    }
 
-        // 이미 상대의 친구가 되어있다.
-        boolean bSendA = friendshipRepository.existsByMemberIdAndFriendId(friendId, memberId);
-        if (bSendA) {
+    private void checkFriendship(Long memberId, Long friendId) {
+        // 방향과 무관하게 이미 친구가 되어있다. (정규화 쌍 키 단건 조회)
+        boolean exists = friendshipRepository.existsByPairMinIdAndPairMaxId(Math.min(memberId, friendId), Math.max(memberId, friendId));
+        if (exists) {
             throw new CustomException(ErrorCode.FRIEND_SHIP_ALREADY_EXIST);
         }
     }
@@ -1,28 +1,26 @@
 package jaeik.bimillog.domain.friend.service;
 
 import jaeik.bimillog.domain.friend.entity.Friend;
-import jaeik.bimillog.domain.friend.adapter.FriendToMemberAdapter;
+import jaeik.bimillog.domain.friend.repository.FriendListCache;
 import jaeik.bimillog.domain.friend.repository.FriendshipQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FriendshipQueryService {
     private final FriendshipQueryRepository friendshipQueryRepository;
+    private final FriendListCache friendListCache;
 
     /**
      * 친구 조회
+     * <p>로컬 캐시에서 페이지를 잘라 반환하고, 캐시 대상이 아닌 회원(친구 수 초과)만 DB 페이지 조회합니다.</p>
+     * <p>캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않습니다.</p>
      */
-    @Transactional(readOnly = true)
     public Page<Friend> getMyFriendList(Long memberId, Pageable pageable) {
-        return friendshipQueryRepository.getFriendPage(memberId, pageable);
+        return friendListCache.getPage(memberId, pageable)
+                .orElseGet(() -> friendshipQueryRepository.getFriendPage(memberId, pageable));
     }
 }
@@ -5,6 +5,7 @@ import jaeik.bimillog.domain.auth.service.AuthTokenService;
 import jaeik.bimillog.domain.auth.service.SocialLogoutService;
 import jaeik.bimillog.domain.auth.service.SocialTokenService;
 import jaeik.bimillog.domain.comment.service.CommentCommandService;
+import jaeik.bimillog.domain.friend.service.FriendshipCommandService;
 import jaeik.bimillog.domain.member.entity.SocialProvider;
 import jaeik.bimillog.domain.member.event.MemberWithdrawnEvent;
 import jaeik.bimillog.domain.member.service.MemberAccountService;
@@ -60,6 +61,7 @@ public class MemberWithdrawListener {
     private final SocialTokenService socialTokenService;
     private final RedisInteractionScoreRepository redisInteractionScoreRepository;
     private final RedisFriendshipRepository redisFriendshipRepository;
+    private final FriendshipCommandService friendshipCommandService;
 
     /**
      * <h3>사용자 탈퇴 이벤트 처리</h3>
@@ -123,6 +125,9 @@ public class MemberWithdrawListener {
             log.error("Redis 친구 관계 테이블 정리 실패: memberId={}. 탈퇴 후속 처리를 계속 진행합니다.", memberId, e);
         }
 
+        // 친구 관계는 회원 삭제 CASCADE로 지워지므로 그 전에 친구 ID를 담아 발행, 친구 목록 캐시는 커밋 후 정리
+        friendshipCommandService.publishFriendshipsWithdrawn(memberId);
+
         // 사용자 정보 삭제 Cascade로 설정도 함께 삭제 모든 FCM 토큰은 DB레벨 CasCade로 동시 삭제
         memberAccountService.removeMemberAccount(memberId);
     }
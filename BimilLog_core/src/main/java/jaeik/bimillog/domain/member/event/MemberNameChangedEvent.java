@@ -0,0 +1,13 @@
+package jaeik.bimillog.domain.member.event;
+
+/**
+ * <h2>회원 닉네임 변경 이벤트</h2>
+ * <p>닉네임 변경이 커밋된 후 닉네임을 보관하는 로컬 캐시를 갱신하기 위해 발행됩니다.</p>
+ *
+ * @param memberId      닉네임을 변경한 회원 ID
+ * @param newMemberName 변경된 닉네임
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record MemberNameChangedEvent(Long memberId, String newMemberName) {
+}
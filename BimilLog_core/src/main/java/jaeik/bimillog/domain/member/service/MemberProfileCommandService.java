@@ -2,10 +2,12 @@ package jaeik.bimillog.domain.member.service;
 
 import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.member.entity.Setting;
+import jaeik.bimillog.domain.member.event.MemberNameChangedEvent;
 import jaeik.bimillog.domain.member.repository.MemberRepository;
 import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberProfileCommandService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void updateMemberSettings(Long memberId, Setting newSetting) {
@@ -39,6 +42,7 @@ public class MemberProfileCommandService {
             Member member = memberRepository.findById(memberId)
                     .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_USER_NOT_FOUND));
             member.changeMemberName(newMemberName);
+            eventPublisher.publishEvent(new MemberNameChangedEvent(memberId, newMemberName));
         } catch (DataIntegrityViolationException e) {
             if (e.getMessage() != null && e.getMessage().contains("member_name")) {
                 throw new CustomException(ErrorCode.MEMBER_EXISTED_NICKNAME);
@@ -0,0 +1,30 @@
+package jaeik.bimillog.domain.notification.adapter;
+
+import jaeik.bimillog.domain.auth.service.AuthTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * <h2>알림-인증 도메인 연결 어댑터</h2>
+ * <p>Notification 도메인과 Auth 도메인을 연결하는 어댑터입니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationToAuthAdapter {
+    private final AuthTokenService authTokenService;
+
+    /**
+     * <h3>만료 FCM 토큰 해제</h3>
+     *
+     * @param fcmTokens FCM이 거부한 토큰 목록
+     * @return 변경된 기기 수
+     */
+    public int clearFcmTokens(Collection<String> fcmTokens) {
+        return authTokenService.clearFcmTokens(fcmTokens);
+    }
+}
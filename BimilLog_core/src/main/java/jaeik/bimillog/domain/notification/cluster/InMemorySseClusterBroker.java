@@ -0,0 +1,78 @@
+package jaeik.bimillog.domain.notification.cluster;
+
+import jaeik.bimillog.domain.notification.entity.SseMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * <h2>메모리 SSE 클러스터 브로커</h2>
+ * <p>한 JVM 안에서 노드 채널과 presence를 흉내 내는 구현입니다. {@code sse.cluster.broker=memory}일 때 사용되며,
+ * Redis 없이 동작해야 하는 H2 테스트와 여러 SseService 인스턴스를 노드처럼 묶는 단위 테스트에서 사용합니다.</p>
+ * <p>발행은 구독 handler를 호출 스레드에서 바로 실행합니다. presence는 만료 없이 명시적 제거만 반영합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@ConditionalOnProperty(name = "sse.cluster.broker", havingValue = "memory")
+public class InMemorySseClusterBroker implements SseClusterBroker {
+    private final Map<String, List<Consumer<SseMessage>>> handlers = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<SseDisconnectCommand>>> disconnectHandlers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> presence = new ConcurrentHashMap<>();
+
+    @Override
+    public void subscribe(String nodeId, Consumer<SseMessage> handler) {
+        handlers.computeIfAbsent(nodeId, id -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @Override
+    public void publish(String nodeId, SseMessage message) {
+        handlers.getOrDefault(nodeId, List.of()).forEach(handler -> handler.accept(message));
+    }
+
+    @Override
+    public void subscribeDisconnect(String nodeId, Consumer<SseDisconnectCommand> handler) {
+        disconnectHandlers.computeIfAbsent(nodeId, id -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @Override
+    public void publishDisconnect(String nodeId, SseDisconnectCommand command) {
+        disconnectHandlers.getOrDefault(nodeId, List.of()).forEach(handler -> handler.accept(command));
+    }
+
+    @Override
+    public void addPresence(Long memberId, String nodeId) {
+        presence.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(nodeId);
+    }
+
+    @Override
+    public void removePresence(Collection<Long> memberIds, String nodeId) {
+        for (Long memberId : memberIds) {
+            presence.computeIfPresent(memberId, (id, nodes) -> {
+                nodes.remove(nodeId);
+                return nodes.isEmpty() ? null : nodes;
+            });
+        }
+    }
+
+    @Override
+    public void clearPresence(Long memberId) {
+        presence.remove(memberId);
+    }
+
+    @Override
+    public void refreshPresence(Collection<Long> memberIds, String nodeId) {
+        memberIds.forEach(memberId -> addPresence(memberId, nodeId));
+    }
+
+    @Override
+    public Set<String> findNodes(Long memberId) {
+        Set<String> nodes = presence.get(memberId);
+        return nodes == null ? Set.of() : Set.copyOf(nodes);
+    }
+}
@@ -0,0 +1,71 @@
+package jaeik.bimillog.domain.notification.cluster;
+
+import jaeik.bimillog.domain.notification.entity.SseMessage;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <h2>SSE 클러스터 브로커</h2>
+ * <p>여러 인스턴스에 나뉘어 연결된 SSE 사용자에게 알림을 전달하기 위한 노드 간 통신과 접속 위치(presence)를 담당합니다.</p>
+ * <p>노드마다 전용 채널을 구독하고, presence는 사용자 ID → 연결을 가진 노드 ID를 보관합니다.
+ * presence 항목은 TTL이 있어 노드가 비정상 종료되어도 갱신이 멈추면 사라집니다.</p>
+ * <p>구현: {@code RedisSseClusterBroker}(기본, Redis Pub/Sub), {@link InMemorySseClusterBroker}(단일 JVM, 테스트용)</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public interface SseClusterBroker {
+
+    /**
+     * <h3>노드 채널 구독</h3>
+     * <p>해당 노드로 발행된 메시지를 handler로 전달합니다.</p>
+     */
+    void subscribe(String nodeId, Consumer<SseMessage> handler);
+
+    /**
+     * <h3>노드 채널 발행</h3>
+     */
+    void publish(String nodeId, SseMessage message);
+
+    /**
+     * <h3>노드 연결 정리 채널 구독</h3>
+     * <p>해당 노드로 발행된 연결 정리 명령을 handler로 전달합니다.</p>
+     */
+    void subscribeDisconnect(String nodeId, Consumer<SseDisconnectCommand> handler);
+
+    /**
+     * <h3>노드 연결 정리 명령 발행</h3>
+     */
+    void publishDisconnect(String nodeId, SseDisconnectCommand command);
+
+    /**
+     * <h3>접속 위치 등록</h3>
+     */
+    void addPresence(Long memberId, String nodeId);
+
+    /**
+     * <h3>접속 위치 제거</h3>
+     */
+    void removePresence(Collection<Long> memberIds, String nodeId);
+
+    /**
+     * <h3>사용자의 모든 접속 위치 제거</h3>
+     * <p>사용자의 모든 연결을 정리할 때(탈퇴, 제재) 노드와 관계없이 presence를 한 번에 제거합니다.</p>
+     */
+    void clearPresence(Long memberId);
+
+    /**
+     * <h3>접속 위치 일괄 갱신</h3>
+     * <p>노드에 연결이 남아 있는 사용자의 presence 만료 시각을 연장합니다.</p>
+     */
+    void refreshPresence(Collection<Long> memberIds, String nodeId);
+
+    /**
+     * <h3>사용자가 연결된 노드 조회</h3>
+     *
+     * @return 만료되지 않은 노드 ID (없으면 빈 집합)
+     */
+    Set<String> findNodes(Long memberId);
+}
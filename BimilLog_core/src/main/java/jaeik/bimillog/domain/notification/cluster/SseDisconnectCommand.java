@@ -0,0 +1,13 @@
+package jaeik.bimillog.domain.notification.cluster;
+
+/**
+ * <h2>SSE 연결 정리 명령</h2>
+ * <p>로그아웃/탈퇴/제재 시 다른 노드에 남아 있는 사용자의 SSE 연결을 정리하도록 노드 채널로 전달하는 명령입니다.</p>
+ *
+ * @param memberId 사용자 ID
+ * @param tokenId  토큰 ID (null이면 모든 연결 정리)
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record SseDisconnectCommand(Long memberId, Long tokenId) {
+}
@@ -1,9 +1,10 @@
 package jaeik.bimillog.domain.notification.controller;
 
+import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.domain.global.entity.CustomUserDetails;
 import jaeik.bimillog.domain.notification.dto.NotificationDTO;
+import jaeik.bimillog.domain.notification.dto.NotificationUpdateResultDTO;
 import jaeik.bimillog.domain.notification.dto.UpdateNotificationDTO;
-import jaeik.bimillog.domain.notification.entity.Notification;
 import jaeik.bimillog.domain.notification.service.NotificationCommandService;
 import jaeik.bimillog.domain.notification.service.NotificationQueryService;
 import jaeik.bimillog.infrastructure.log.Log;
@@ -19,7 +20,7 @@ import java.util.List;
 /**
  * <h2>알림 컨트롤러</h2>
  * <p>알림을 담당하는 REST API 컨트롤러입니다.</p>
- * <p>알림 목록 조회</p>
+ * <p>알림 목록 조회, 알림함 커서 조회, 안 읽은 알림 수 조회</p>
  * <p>알림 배치 삭제</p>
  *
  * @author Jaeik
@@ -39,7 +40,7 @@ public class NotificationController {
 
     /**
      * <h3>알림 리스트 조회</h3>
-     * <p>현재 로그인한 유저의 알림 리스트를 조회합니다.</p>
+     * <p>현재 로그인한 유저의 최신 알림 리스트를 조회합니다. 이전 알림은 /inbox 커서 조회로 받습니다.</p>
      *
      * @param userDetails 현재 로그인한 유저 정보
      * @return ResponseEntity<List<NotificationDTO>> 알림 리스트 (최신순 정렬)
@@ -52,22 +53,47 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    /**
+     * <h3>알림함 커서 조회</h3>
+     * <p>현재 로그인한 유저의 알림을 최신순 커서 기반으로 조회합니다.</p>
+     *
+     * @param cursor 마지막으로 받은 알림 ID (null이면 처음부터)
+     * @param size   조회할 개수 (기본값: 20, 최대 50)
+     * @return CursorPageResponse 커서 기반 페이지 응답 (200 OK)
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<CursorPageResponse<NotificationDTO>> getInbox(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                        @RequestParam(required = false) Long cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationQueryService.getInbox(userDetails.getMemberId(), cursor, size));
+    }
+
+    /**
+     * <h3>안 읽은 알림 수 조회</h3>
+     * <p>알림 배지 표시용으로 목록을 받지 않고 개수만 조회합니다.</p>
+     *
+     * @return 안 읽은 알림 수 (200 OK)
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Long> getUnreadCount(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(notificationQueryService.getUnreadCount(userDetails.getMemberId()));
+    }
+
     /**
      * <h3>알림 배치 읽음/삭제 처리</h3>
      * <p>현재 로그인한 유저의 알림을 배치로 읽음 처리하거나 삭제합니다.</p>
      *
      * @param userDetails           현재 로그인한 유저 정보
      * @param updateNotificationDTO 알림 업데이트 정보 (읽음/삭제할 ID 목록)
-     * @return ResponseEntity<Void> HTTP 응답
+     * @return ResponseEntity<NotificationUpdateResultDTO> 실제 읽음 처리/삭제된 개수
      * @author Jaeik
      * @since 2.3.0
      */
     @PostMapping("/update")
-    public ResponseEntity<Void> markAsRead(@AuthenticationPrincipal CustomUserDetails userDetails,
+    public ResponseEntity<NotificationUpdateResultDTO> markAsRead(@AuthenticationPrincipal CustomUserDetails userDetails,
                                            @Valid @RequestBody UpdateNotificationDTO updateNotificationDTO) {
         List<Long> readIds = updateNotificationDTO.getReadIds();
         List<Long> deletedIds = updateNotificationDTO.getDeletedIds();
-        notificationCommandUseCase.batchUpdate(userDetails.getMemberId(), readIds, deletedIds);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(notificationCommandUseCase.batchUpdate(userDetails.getMemberId(), readIds, deletedIds));
     }
 }
@@ -0,0 +1,11 @@
+package jaeik.bimillog.domain.notification.dto;
+
+/**
+ * <h2>보관 기간 만료 알림 DTO</h2>
+ * <p>만료 알림 삭제 후 회원별 안 읽은 알림 수를 보정하기 위해 필요한 값만 담습니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record ExpiredNotificationDTO(Long id, Long memberId, boolean read) {
+}
@@ -0,0 +1,13 @@
+package jaeik.bimillog.domain.notification.dto;
+
+/**
+ * <h2>알림 일괄 업데이트 결과 DTO</h2>
+ * <p>소유자 기준으로 실제 반영된 개수만 담습니다. 이미 읽은 알림, 없는 알림, 다른 사용자의 알림은 포함되지 않습니다.</p>
+ *
+ * @param readCount    새로 읽음 처리된 알림 수
+ * @param deletedCount 삭제된 알림 수
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record NotificationUpdateResultDTO(int readCount, int deletedCount) {
+}
@@ -28,16 +28,16 @@ public class UpdateNotificationDTO {
     
     /**
      * 읽음 처리할 알림 ID 목록
-     * 최대 100개까지 처리 가능
+     * 최대 1000개까지 처리 가능 (벌크 UPDATE 한 문장으로 처리)
      */
-    @Size(max = 100, message = "읽음 처리는 한 번에 최대 100개까지 가능합니다.")
+    @Size(max = 1000, message = "읽음 처리는 한 번에 최대 1000개까지 가능합니다.")
     private List<@Min(value = 1, message = "알림 ID는 1 이상이어야 합니다.") Long> readIds;
     
     /**
      * 삭제할 알림 ID 목록
-     * 최대 100개까지 처리 가능
+     * 최대 1000개까지 처리 가능 (벌크 DELETE 문장으로 처리)
      */
-    @Size(max = 100, message = "삭제는 한 번에 최대 100개까지 가능합니다.")
+    @Size(max = 1000, message = "삭제는 한 번에 최대 1000개까지 가능합니다.")
     private List<@Min(value = 1, message = "알림 ID는 1 이상이어야 합니다.") Long> deletedIds;
 
     /**
@@ -0,0 +1,118 @@
+package jaeik.bimillog.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h2>알림 아웃박스 엔티티</h2>
+ * <p>알림을 발생시킨 비즈니스 변경과 같은 트랜잭션에서 기록되는 알림 요청입니다.</p>
+ * <p>릴레이가 claimId로 배치를 선점해 notification으로 일괄 저장하고, SSE/FCM 전송 후 삭제합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_outbox_claim_id", columnList = "claim_id"),
+        @Index(name = "idx_outbox_digest_key", columnList = "digest_key")
+})
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(name = "related_member_name")
+    private String relatedMemberName;
+
+    @Column(name = "post_title")
+    private String postTitle;
+
+    @Column(name = "digest_key", length = 100)
+    private String digestKey;
+
+    @Column(name = "digest_count", nullable = false)
+    private int digestCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationOutboxStatus status;
+
+    @Column(name = "claim_id", length = 36)
+    private String claimId;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * <h3>아웃박스 행 생성</h3>
+     *
+     * @param memberId          알림 수신자 ID
+     * @param type              알림 유형
+     * @param content           알림 내용 (SSE 메시지)
+     * @param url               알림 클릭 시 이동할 URL
+     * @param relatedMemberName 댓글 작성자 또는 친구 요청 보낸 사람 이름 (COMMENT, FRIEND 타입만 사용)
+     * @param postTitle         게시글 제목 (POST_FEATURED 타입들만 사용)
+     */
+    public static NotificationOutbox create(Long memberId, NotificationType type, String content, String url,
+                                            String relatedMemberName, String postTitle) {
+        return NotificationOutbox.builder()
+                .memberId(memberId)
+                .notificationType(type)
+                .content(content)
+                .url(url)
+                .relatedMemberName(relatedMemberName)
+                .postTitle(postTitle)
+                .digestCount(1)
+                .status(NotificationOutboxStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * <h3>다이제스트 대상 아웃박스 행 생성</h3>
+     * <p>묶음의 첫 알림은 바로 전송되고, 그 뒤 다이제스트 창 안에 도착한 같은 digestKey의 행은 창이 닫힐 때 릴레이가 하나의 알림으로 합칩니다.</p>
+     *
+     * @param targetId    묶음 대상 ID (게시글 ID 등, 수신자 단위로 묶으면 null)
+     * @param digestCount 이 행이 대표하는 알림 수 (한 번에 저장된 롤링페이퍼 메시지 수 등)
+     */
+    public static NotificationOutbox createDigest(Long memberId, NotificationType type, String content, String url,
+                                                  String relatedMemberName, Long targetId, int digestCount) {
+        NotificationOutbox outbox = create(memberId, type, content, url, relatedMemberName, null);
+        outbox.digestKey = type + ":" + memberId + (targetId != null ? ":" + targetId : "");
+        outbox.digestCount = digestCount;
+        return outbox;
+    }
+
+    /**
+     * <h3>다이제스트 병합</h3>
+     * <p>같은 묶음의 다른 행을 흡수한 대표 행의 내용과 대표 알림 수를 갱신합니다.</p>
+     */
+    public void mergeDigest(String content, int digestCount) {
+        this.content = content;
+        this.digestCount = digestCount;
+    }
+}
@@ -0,0 +1,15 @@
+package jaeik.bimillog.domain.notification.entity;
+
+/**
+ * <h2>알림 아웃박스 처리 상태</h2>
+ * <p>PENDING: 릴레이 대기, PROCESSING: 릴레이가 선점, SAVED: notification 저장 완료 후 전송 대기</p>
+ * <p>전송이 끝난 행은 삭제되므로 완료 상태는 없습니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public enum NotificationOutboxStatus {
+    PENDING,
+    PROCESSING,
+    SAVED
+}
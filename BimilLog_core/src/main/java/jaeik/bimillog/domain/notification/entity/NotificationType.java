@@ -67,5 +67,28 @@ public enum NotificationType {
             }
         }
     }
-}
 
+    /**
+     * <h3>다이제스트 알림 메시지</h3>
+     * <p>여러 알림이 하나로 합쳐졌을 때의 알림 내용이며, FCM 제목으로도 사용합니다.</p>
+     *
+     * @param relatedMemberName 가장 최근 알림의 댓글 작성자/친구 요청자 이름
+     * @param count             합쳐진 알림 수
+     */
+    public String getDigestMessage(String relatedMemberName, int count) {
+        switch (this) {
+            case COMMENT -> {
+                return String.format("%s님 등이 남긴 새 댓글 %d개가 있어요!", relatedMemberName, count);
+            }
+            case MESSAGE -> {
+                return String.format("롤링페이퍼에 메시지 %d개가 작성되었어요!", count);
+            }
+            case FRIEND -> {
+                return String.format("%s님 등 새로운 친구 요청 %d건이 도착했어요!", relatedMemberName, count);
+            }
+            default -> {
+                return "";
+            }
+        }
+    }
+}
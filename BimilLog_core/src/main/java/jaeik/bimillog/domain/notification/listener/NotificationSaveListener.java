@@ -2,18 +2,12 @@ package jaeik.bimillog.domain.notification.listener;
 
 import jaeik.bimillog.domain.comment.event.CommentCreatedEvent;
 import jaeik.bimillog.domain.friend.event.FriendEvent.FriendRequestEvent;
+import jaeik.bimillog.domain.notification.outbox.NotificationOutboxRelay;
 import jaeik.bimillog.domain.notification.service.NotificationCommandService;
 import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
 import jaeik.bimillog.domain.post.event.PostEvent.PostFeaturedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessResourceFailureException;
-import org.springframework.dao.QueryTimeoutException;
-import org.springframework.dao.TransientDataAccessException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -23,9 +17,13 @@ import jaeik.bimillog.infrastructure.log.Log;
 /**
  * <h2>알림 저장 이벤트 리스너</h2>
  * <p>다양한 도메인 이벤트를 수신하여 알림을 저장합니다.</p>
+ * <p>이벤트를 발행한 트랜잭션의 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 알림 아웃박스에 기록하므로,
+ * 비즈니스 변경이 커밋되면 알림도 반드시 남고 롤백되면 함께 사라집니다.
+ * 저장과 SSE/FCM 전송은 {@link NotificationOutboxRelay}가 커밋 후 수행합니다.</p>
+ * <p>트랜잭션 밖에서 발행된 이벤트는 별도 트랜잭션으로 기록합니다.</p>
  *
  * @author Jaeik
- * @version 2.5.0
+ * @version 2.8.0
  */
 @Log(logResult = false, message = "알림 저장 이벤트")
 @Component
@@ -34,17 +32,7 @@ import jaeik.bimillog.infrastructure.log.Log;
 public class NotificationSaveListener {
     private final NotificationCommandService notificationCommandService;
 
-    @Async("saveNotificationExecutor")
-    @TransactionalEventListener(value = CommentCreatedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
-    @Retryable(
-            retryFor = {
-                    TransientDataAccessException.class,
-                    DataAccessResourceFailureException.class,
-                    QueryTimeoutException.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
+    @TransactionalEventListener(value = CommentCreatedEvent.class, phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleCommentCreatedEvent(CommentCreatedEvent event) {
         // 익명 게시글 또는 자기 글 댓글이면 알림 불필요
         if (event.postUserId() == null || event.postUserId().equals(event.commenterId())) {
@@ -57,35 +45,16 @@ public class NotificationSaveListener {
         );
     }
 
-    @Async("saveNotificationExecutor")
-    @TransactionalEventListener(value = RollingPaperEvent.class, phase = TransactionPhase.AFTER_COMMIT)
-    @Retryable(
-            retryFor = {
-                    TransientDataAccessException.class,
-                    DataAccessResourceFailureException.class,
-                    QueryTimeoutException.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
+    @TransactionalEventListener(value = RollingPaperEvent.class, phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleRollingPaperEvent(RollingPaperEvent event) {
         notificationCommandService.saveMessageNotification(
                 event.paperOwnerId(),
-                event.memberName()
+                event.memberName(),
+                event.messageCount()
         );
     }
 
-    @Async("saveNotificationExecutor")
-    @TransactionalEventListener(value = PostFeaturedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
-    @Retryable(
-            retryFor = {
-                    TransientDataAccessException.class,
-                    DataAccessResourceFailureException.class,
-                    QueryTimeoutException.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
+    @TransactionalEventListener(value = PostFeaturedEvent.class, phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handlePostFeaturedEvent(PostFeaturedEvent event) {
         notificationCommandService.savePopularNotification(
                 event.memberId(),
@@ -96,17 +65,7 @@ public class NotificationSaveListener {
         );
     }
 
-    @Async("saveNotificationExecutor")
-    @TransactionalEventListener(value = FriendRequestEvent.class, phase = TransactionPhase.AFTER_COMMIT)
-    @Retryable(
-            retryFor = {
-                    TransientDataAccessException.class,
-                    DataAccessResourceFailureException.class,
-                    QueryTimeoutException.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
+    @TransactionalEventListener(value = FriendRequestEvent.class, phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleFriendEvent(FriendRequestEvent event) {
         notificationCommandService.saveFriendNotification(
                 event.receiveMemberId(),
@@ -114,48 +73,4 @@ public class NotificationSaveListener {
                 event.senderName()
         );
     }
-
-    /**
-     * <h3>댓글 알림 저장 최종 실패 복구</h3>
-     *
-     * @param e 발생한 예외
-     * @param event 댓글 생성 이벤트
-     */
-    @Recover
-    public void recoverHandleCommentCreatedEvent(Exception e, CommentCreatedEvent event) {
-        log.error("댓글 알림 저장 최종 실패: postUserId={}, postId={}", event.postUserId(), event.postId(), e);
-    }
-
-    /**
-     * <h3>롤링페이퍼 알림 저장 최종 실패 복구</h3>
-     *
-     * @param e 발생한 예외
-     * @param event 롤링페이퍼 이벤트
-     */
-    @Recover
-    public void recoverHandleRollingPaperEvent(Exception e, RollingPaperEvent event) {
-        log.error("롤링페이퍼 알림 저장 최종 실패: paperOwnerId={}", event.paperOwnerId(), e);
-    }
-
-    /**
-     * <h3>인기글 알림 저장 최종 실패 복구</h3>
-     *
-     * @param e 발생한 예외
-     * @param event 인기글 선정 이벤트
-     */
-    @Recover
-    public void recoverHandlePostFeaturedEvent(Exception e, PostFeaturedEvent event) {
-        log.error("인기글 알림 저장 최종 실패: memberId={}, postId={}", event.memberId(), event.postId(), e);
-    }
-
-    /**
-     * <h3>친구 알림 저장 최종 실패 복구</h3>
-     *
-     * @param e 발생한 예외
-     * @param event 친구 이벤트
-     */
-    @Recover
-    public void recoverHandleFriendEvent(Exception e, FriendRequestEvent event) {
-        log.error("친구 알림 저장 최종 실패: receiveMemberId={}", event.receiveMemberId(), e);
-    }
 }
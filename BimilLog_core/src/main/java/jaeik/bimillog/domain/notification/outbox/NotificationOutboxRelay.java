@@ -0,0 +1,241 @@
+package jaeik.bimillog.domain.notification.outbox;
+
+import jaeik.bimillog.domain.notification.entity.NotificationOutbox;
+import jaeik.bimillog.domain.notification.repository.NotificationOutboxRepository;
+import jaeik.bimillog.domain.notification.service.FcmPushService;
+import jaeik.bimillog.domain.notification.service.SseService;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>알림 아웃박스 릴레이</h2>
+ * <p>아웃박스에 쌓인 알림을 배치로 선점하여 notification에 일괄 저장하고 SSE/FCM으로 전송합니다.</p>
+ * <p>배치마다 선점(UPDATE ... LIMIT) → 저장과 SAVED 전이(한 트랜잭션) → 전송 → 삭제 순으로 진행합니다.
+ * 저장은 claimId 기준으로 한 번만 일어나고, 전송 도중 종료되면 SAVED 행을 다시 선점해 전송하므로 전송은 최소 한 번 보장됩니다.</p>
+ * <p>다이제스트 대상 알림(같은 게시글의 댓글, 롤링페이퍼 메시지, 친구 요청)은 묶음의 첫 알림을 바로 전송하고,
+ * 전송 시점부터 다이제스트 창(notification.digest.window-seconds)을 엽니다. 창이 열린 동안 도착한 같은 묶음의 알림은
+ * 창이 닫힌 뒤 하나로 합쳐 전송하며, 이 전송이 다시 창을 엽니다.</p>
+ * <p>지연 트레이드오프: 한동안 조용하던 묶음의 첫 알림은 지연 없이 전송되지만, 창 안에 이어서 도착한 알림은
+ * 최대 창 길이에 주기(5초)를 더한 만큼 늦게 전송됩니다. 대신 연속된 알림은 창마다 한 번만 푸시됩니다.</p>
+ * <p>저장이 커밋되면 회원별 안 읽은 알림 수 카운터를 배치 단위로 한 번에 증가시킵니다.</p>
+ * <p>알림이 기록된 트랜잭션이 커밋되면 {@link #wakeUp()}으로 바로 실행되고,
+ * 깨우기를 놓친 알림과 만료된 선점은 주기 실행이 처리합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SseService sseService;
+    private final FcmPushService fcmPushService;
+    private final RedisNotificationUnreadCounter redisNotificationUnreadCounter;
+    private final Executor notificationRelayExecutor;
+    private final Executor fcmNotificationExecutor;
+    private final long digestWindowSeconds;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private static final int BATCH_SIZE = 500;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   SseService sseService,
+                                   FcmPushService fcmPushService,
+                                   RedisNotificationUnreadCounter redisNotificationUnreadCounter,
+                                   @Qualifier("notificationRelayExecutor") Executor notificationRelayExecutor,
+                                   @Qualifier("fcmNotificationExecutor") Executor fcmNotificationExecutor,
+                                   @Value("${notification.digest.window-seconds:30}") long digestWindowSeconds) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sseService = sseService;
+        this.fcmPushService = fcmPushService;
+        this.redisNotificationUnreadCounter = redisNotificationUnreadCounter;
+        this.notificationRelayExecutor = notificationRelayExecutor;
+        this.fcmNotificationExecutor = fcmNotificationExecutor;
+        this.digestWindowSeconds = digestWindowSeconds;
+    }
+
+    /**
+     * <h3>릴레이 깨우기</h3>
+     * <p>알림을 기록한 트랜잭션의 커밋 직후 호출됩니다. 아직 시작하지 않은 깨우기가 있으면 그 실행이 함께 처리하므로 합쳐집니다.</p>
+     * <p>실행기가 가득 차 거절되어도 알림은 아웃박스에 남아 있으므로 주기 실행이 처리합니다.</p>
+     */
+    public void wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            notificationRelayExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                relayPending();
+            });
+        } catch (RejectedExecutionException e) {
+            wakeUpPending.set(false);
+            log.warn("[알림 릴레이] 깨우기 거절, 주기 실행에서 처리: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * <h3>주기 실행</h3>
+     * <p>만료된 선점을 복구하고, 전송되지 않은 SAVED 알림을 다시 전송한 뒤 남은 PENDING 알림을 처리합니다.
+     * 다이제스트 창이 닫혀 모인 알림도 이때 선점됩니다.</p>
+     */
+    @Scheduled(fixedDelay = 5000L)
+    public void poll() {
+        try {
+            int released = notificationOutboxRepository.releaseStaleClaims(CLAIM_TIMEOUT.toSeconds());
+            if (released > 0) {
+                log.warn("[알림 릴레이] 만료된 선점 {}건 PENDING 복귀", released);
+            }
+            redeliverStaleSaved();
+            notificationOutboxRepository.deleteClosedDigestWindows();
+        } catch (Exception e) {
+            log.error("[알림 릴레이] 만료 선점 복구 실패", e);
+        }
+        relayPending();
+    }
+
+    /**
+     * <h3>PENDING 알림 처리</h3>
+     * <p>선점할 알림이 없을 때까지 배치를 반복합니다. 여러 스레드/인스턴스가 동시에 실행해도 선점이 겹치지 않습니다.</p>
+     */
+    public void relayPending() {
+        try {
+            while (true) {
+                String claimId = UUID.randomUUID().toString();
+                int claimed = notificationOutboxRepository.claimPending(claimId, BATCH_SIZE);
+                if (claimed == 0) break;
+                notificationOutboxRepository.claimDigestGroups(claimId);
+
+                List<NotificationOutbox> outboxes = transactionTemplate.execute(status -> {
+                    notificationOutboxRepository.openDigestWindows(claimId, digestWindowSeconds);
+                    List<NotificationOutbox> merged = mergeDigests(notificationOutboxRepository.findByClaimIdOrderByIdAsc(claimId));
+                    notificationOutboxRepository.insertNotificationsByClaimId(claimId);
+                    notificationOutboxRepository.markSavedByClaimId(claimId);
+                    return merged;
+                });
+                incrementUnreadCounts(outboxes);
+                dispatch(claimId, outboxes);
+
+                if (claimed < BATCH_SIZE) break;
+            }
+        } catch (Exception e) {
+            log.error("[알림 릴레이] 배치 처리 중단", e);
+        }
+    }
+
+    /**
+     * <h3>다이제스트 병합</h3>
+     * <p>같은 digest_key의 행을 가장 최근 행 하나로 합치고 나머지 행은 삭제합니다. 대표 행의 내용은 합쳐진 알림 수로 다시 만듭니다.</p>
+     * <p>저장과 같은 트랜잭션에서 실행되므로 저장이 실패하면 병합도 함께 롤백되어 만료 후 다시 선점됩니다.</p>
+     *
+     * @return 병합 후 저장/전송할 행 목록 (ID 순)
+     */
+    private List<NotificationOutbox> mergeDigests(List<NotificationOutbox> outboxes) {
+        Map<String, List<NotificationOutbox>> groups = outboxes.stream()
+                .filter(outbox -> outbox.getDigestKey() != null)
+                .collect(Collectors.groupingBy(NotificationOutbox::getDigestKey));
+
+        List<NotificationOutbox> absorbed = new ArrayList<>();
+        for (List<NotificationOutbox> group : groups.values()) {
+            if (group.size() < 2) continue;
+
+            NotificationOutbox latest = group.getLast();
+            int count = group.stream().mapToInt(NotificationOutbox::getDigestCount).sum();
+            latest.mergeDigest(latest.getNotificationType().getDigestMessage(latest.getRelatedMemberName(), count), count);
+            absorbed.addAll(group.subList(0, group.size() - 1));
+        }
+        if (absorbed.isEmpty()) {
+            return outboxes;
+        }
+
+        notificationOutboxRepository.deleteAllInBatch(absorbed);
+        log.debug("[알림 릴레이] 다이제스트 병합: {}건 → {}건", outboxes.size(), outboxes.size() - absorbed.size());
+        Set<NotificationOutbox> absorbedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        absorbedSet.addAll(absorbed);
+        return outboxes.stream().filter(outbox -> !absorbedSet.contains(outbox)).toList();
+    }
+
+    /**
+     * 저장된 배치만큼 회원별 안 읽은 알림 수 증가 (재전송 배치는 이미 반영되었으므로 호출하지 않음)
+     */
+    private void incrementUnreadCounts(List<NotificationOutbox> outboxes) {
+        Map<Long, Long> deltas = outboxes.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getMemberId, Collectors.counting()));
+        try {
+            redisNotificationUnreadCounter.add(deltas);
+        } catch (Exception e) {
+            log.warn("[알림 릴레이] 안 읽은 알림 수 증가 실패, TTL 후 재계산: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장은 끝났지만 전송 완료(삭제) 전에 멈춘 알림을 다시 전송
+     */
+    private void redeliverStaleSaved() {
+        while (true) {
+            String claimId = UUID.randomUUID().toString();
+            int reclaimed = notificationOutboxRepository.reclaimStaleSaved(claimId, CLAIM_TIMEOUT.toSeconds(), BATCH_SIZE);
+            if (reclaimed == 0) break;
+
+            log.warn("[알림 릴레이] 전송 미완료 알림 {}건 재전송", reclaimed);
+            dispatch(claimId, notificationOutboxRepository.findByClaimIdOrderByIdAsc(claimId));
+
+            if (reclaimed < BATCH_SIZE) break;
+        }
+    }
+
+    /**
+     * <h3>배치 전송</h3>
+     * <p>SSE는 연결별 대기열에 넣기만 하므로 릴레이 스레드에서 바로 보내고, FCM은 FCM 실행기에 나눠 보낸 뒤 모두 끝나면 삭제합니다.</p>
+     * <p>개별 전송 실패는 로그만 남깁니다. 배치를 다시 보내면 이미 받은 수신자에게 중복 전송되기 때문입니다.</p>
+     */
+    private void dispatch(String claimId, List<NotificationOutbox> outboxes) {
+        CompletableFuture<?>[] pushes = new CompletableFuture[outboxes.size()];
+        for (int i = 0; i < outboxes.size(); i++) {
+            NotificationOutbox outbox = outboxes.get(i);
+            try {
+                sseService.sendNotification(outbox.getMemberId(), outbox.getNotificationType(),
+                        outbox.getContent(), outbox.getUrl());
+            } catch (Exception e) {
+                log.warn("[알림 릴레이] SSE 전송 실패: memberId={}, type={}", outbox.getMemberId(), outbox.getNotificationType(), e);
+            }
+            pushes[i] = CompletableFuture.runAsync(() -> push(outbox), fcmNotificationExecutor)
+                    .exceptionally(e -> {
+                        log.warn("[알림 릴레이] FCM 전송 실패: memberId={}, type={}", outbox.getMemberId(), outbox.getNotificationType(), e);
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(pushes).join();
+        notificationOutboxRepository.deleteSentByClaimId(claimId);
+    }
+
+    /**
+     * 여러 알림을 대표하는 행은 다이제스트 메시지를 제목으로 보냄
+     */
+    private void push(NotificationOutbox outbox) {
+        if (outbox.getDigestCount() > 1) {
+            fcmPushService.sendDigestNotification(outbox.getNotificationType(), outbox.getMemberId(), outbox.getContent());
+        } else {
+            fcmPushService.sendNotification(outbox.getNotificationType(), outbox.getMemberId(),
+                    outbox.getRelatedMemberName(), outbox.getPostTitle());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package jaeik.bimillog.domain.notification.repository;
+
+import jaeik.bimillog.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * <h2>알림 아웃박스 레포지토리</h2>
+ * <p>릴레이의 상태 전이는 선점(claim) ID 기준 벌크 문장으로 수행합니다.</p>
+ * <p>notification 저장({@link #insertNotificationsByClaimId})과 SAVED 전이({@link #markSavedByClaimId})는
+ * 한 트랜잭션으로 묶여 실행되므로 같은 아웃박스 행이 두 번 저장되지 않습니다.</p>
+ * <p>claimed_at은 DB 시계로 기록하므로 선점 만료 판단도 DB 시계(CURRENT_TIMESTAMP) 기준으로 합니다.
+ * JVM 시각을 넘기면 JDBC 세션 시간대에 따라 살아 있는 선점이 만료로 보일 수 있습니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * <h3>PENDING 알림 배치 선점</h3>
+     * <p>PENDING 알림을 생성 순으로 최대 limit건 PROCESSING으로 변경하고 claimId를 기록합니다.
+     * 행 단위 잠금으로 선점되므로 여러 릴레이/인스턴스가 같은 알림을 중복 선점하지 않습니다.</p>
+     * <p>다이제스트 대상 알림은 digest_key의 다이제스트 창이 열려 있지 않을 때만 선점합니다.
+     * 묶음의 첫 알림은 열린 창이 없으므로 바로 선점되고, 창이 열린 동안 도착한 알림은 창이 닫힐 때 선점됩니다.</p>
+     *
+     * @param claimId 선점 ID
+     * @param limit   선점할 최대 개수
+     * @return 선점한 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'PROCESSING', claim_id = :claimId, claimed_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE status = 'PENDING' AND (digest_key IS NULL OR digest_key NOT IN (" +
+            "SELECT w.digest_key FROM notification_digest_window w WHERE w.window_end > CURRENT_TIMESTAMP(6))) " +
+            "ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    int claimPending(@Param("claimId") String claimId, @Param("limit") int limit);
+
+    /**
+     * <h3>다이제스트 묶음 선점</h3>
+     * <p>선점한 배치에 포함된 digest_key와 같은 PENDING 알림을 같은 claimId로 함께 선점하여 한 알림으로 합칩니다.</p>
+     *
+     * @param claimId 선점 ID
+     * @return 추가로 선점한 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'PROCESSING', claim_id = :claimId, claimed_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE status = 'PENDING' AND digest_key IN (SELECT digest_key FROM (" +
+            "SELECT DISTINCT digest_key FROM notification_outbox WHERE claim_id = :claimId AND digest_key IS NOT NULL) claimed)",
+            nativeQuery = true)
+    int claimDigestGroups(@Param("claimId") String claimId);
+
+    /**
+     * <h3>다이제스트 창 열기</h3>
+     * <p>선점 배치에 포함된 digest_key마다 지금부터 windowSeconds 뒤까지 창을 엽니다. 이미 있는 창은 종료 시각을 새로 씁니다.
+     * 창이 열린 동안 도착한 같은 묶음의 알림은 선점되지 않고 모였다가 창이 닫힌 뒤 하나로 합쳐집니다.</p>
+     *
+     * @param claimId       선점 ID
+     * @param windowSeconds 다이제스트 창 길이(초)
+     * @return 열거나 갱신한 창 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notification_digest_window (digest_key, window_end) " +
+            "SELECT DISTINCT digest_key, CURRENT_TIMESTAMP(6) + INTERVAL :windowSeconds SECOND " +
+            "FROM notification_outbox WHERE claim_id = :claimId AND digest_key IS NOT NULL " +
+            "ON DUPLICATE KEY UPDATE window_end = VALUES(window_end)", nativeQuery = true)
+    int openDigestWindows(@Param("claimId") String claimId, @Param("windowSeconds") long windowSeconds);
+
+    /**
+     * <h3>닫힌 다이제스트 창 삭제</h3>
+     * <p>닫힌 창은 선점에 영향이 없으므로 주기 실행에서 정리합니다. 창이 닫힌 뒤 모인 알림이 남아 있어도 바로 선점됩니다.</p>
+     *
+     * @return 삭제된 창 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notification_digest_window WHERE window_end <= CURRENT_TIMESTAMP(6)", nativeQuery = true)
+    int deleteClosedDigestWindows();
+
+    /**
+     * <h3>선점한 알림 조회</h3>
+     */
+    List<NotificationOutbox> findByClaimIdOrderByIdAsc(String claimId);
+
+    /**
+     * <h3>선점 배치 알림 일괄 저장</h3>
+     * <p>PROCESSING 상태인 선점 배치를 INSERT ... SELECT 한 문장으로 notification에 저장합니다.
+     * 그 사이 탈퇴한 회원의 알림은 member 조인으로 제외됩니다.</p>
+     * <p>같은 트랜잭션에서 병합한 다이제스트(대표 행 갱신, 흡수된 행 삭제)가 먼저 반영되도록 실행 전에 flush합니다.</p>
+     *
+     * @param claimId 선점 ID
+     * @return 저장된 알림 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO notification (member_id, notification_type, content, url, is_read, created_at, modified_at) " +
+            "SELECT o.member_id, o.notification_type, o.content, o.url, FALSE, o.created_at, o.created_at " +
+            "FROM notification_outbox o JOIN member m ON m.member_id = o.member_id " +
+            "WHERE o.claim_id = :claimId AND o.status = 'PROCESSING' ORDER BY o.id", nativeQuery = true)
+    int insertNotificationsByClaimId(@Param("claimId") String claimId);
+
+    /**
+     * <h3>선점 배치 저장 완료 처리</h3>
+     * <p>claimed_at을 갱신하여 전송 대기 시간을 저장 시점부터 계산합니다.</p>
+     *
+     * @return SAVED로 변경된 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'SAVED', claimed_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE claim_id = :claimId AND status = 'PROCESSING'", nativeQuery = true)
+    int markSavedByClaimId(@Param("claimId") String claimId);
+
+    /**
+     * <h3>전송 완료 알림 삭제</h3>
+     *
+     * @return 삭제된 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE claim_id = :claimId AND status = 'SAVED'", nativeQuery = true)
+    int deleteSentByClaimId(@Param("claimId") String claimId);
+
+    /**
+     * <h3>오래된 선점 해제</h3>
+     * <p>저장 전에 릴레이가 비정상 종료되어 PROCESSING으로 남은 알림을 PENDING으로 되돌립니다.
+     * 저장과 SAVED 전이는 한 트랜잭션이므로 PROCESSING 알림은 아직 저장되지 않은 상태입니다.</p>
+     *
+     * @param timeoutSeconds 선점 후 이 시간(초)이 지난 알림을 해제
+     * @return 해제된 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'PENDING', claim_id = NULL, claimed_at = NULL " +
+            "WHERE status = 'PROCESSING' AND claimed_at < CURRENT_TIMESTAMP(6) - INTERVAL :timeoutSeconds SECOND",
+            nativeQuery = true)
+    int releaseStaleClaims(@Param("timeoutSeconds") long timeoutSeconds);
+
+    /**
+     * <h3>전송 미완료 알림 재선점</h3>
+     * <p>저장 후 전송 중에 릴레이가 비정상 종료되어 SAVED로 남은 알림을 새 claimId로 선점합니다.
+     * notification은 다시 저장하지 않고 SSE/FCM 전송만 다시 수행합니다.</p>
+     *
+     * @param claimId        새 선점 ID
+     * @param timeoutSeconds 저장 후 이 시간(초)이 지난 알림을 재선점
+     * @param limit          재선점할 최대 개수
+     * @return 재선점한 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET claim_id = :claimId, claimed_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE status = 'SAVED' AND claimed_at < CURRENT_TIMESTAMP(6) - INTERVAL :timeoutSeconds SECOND " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    int reclaimStaleSaved(@Param("claimId") String claimId, @Param("timeoutSeconds") long timeoutSeconds,
+                          @Param("limit") int limit);
+}
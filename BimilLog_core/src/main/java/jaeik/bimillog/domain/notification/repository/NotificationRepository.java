@@ -1,17 +1,21 @@
 package jaeik.bimillog.domain.notification.repository;
 
+import jaeik.bimillog.domain.notification.dto.ExpiredNotificationDTO;
 import jaeik.bimillog.domain.notification.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
  * <h2>알림 기본 레포지토리</h2>
  * <p>알림 엔티티의 기본 CRUD 기능을 제공하는 레포지토리입니다.</p>
- * <p>더티체킹을 활용한 읽음 처리, 사용자별 알림 조회</p>
+ * <p>벌크 UPDATE/DELETE를 활용한 일괄 읽음/삭제, 사용자별 알림 커서 조회, 안 읽은 알림 수 조회</p>
  *
  * @author Jaeik
  * @version 2.0.0
@@ -20,28 +24,35 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * <h3>사용자 ID와 알림 ID 목록으로 알림 조회</h3>
-     * <p>특정 사용자의 알림 중에서 지정된 ID 목록에 해당하는 알림들을 조회합니다.</p>
-     * <p>더티체킹을 위한 엔티티 조회에 사용됩니다.</p>
+     * <h3>알림 일괄 읽음 처리</h3>
+     * <p>특정 사용자의 알림 중 지정된 ID 목록의 안 읽은 알림을 UPDATE 한 문장으로 읽음 처리합니다.</p>
+     * <p>이미 읽은 알림은 조건에서 제외되므로 반환값이 곧 새로 읽음 처리된(안 읽은 알림 수에서 빠질) 개수입니다.</p>
      *
-     * @param ids 조회할 알림 ID 목록
-     * @param memberId 사용자 ID
-     * @return 조회된 알림 엔티티 목록
-     * @author Jaeik
-     * @since 2.0.0
+     * @param ids      읽음 처리할 알림 ID 목록
+     * @param memberId 사용자 ID (소유자 검증)
+     * @param now      수정 시각 (벌크 UPDATE는 Auditing을 거치지 않음)
+     * @return 읽음 처리된 알림 수
      */
-    List<Notification> findAllByIdInAndMember_Id(List<Long> ids, Long memberId);
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.modifiedAt = :now " +
+            "WHERE n.id IN :ids AND n.member.id = :memberId AND n.isRead = false")
+    int markAsReadByIds(@Param("ids") List<Long> ids, @Param("memberId") Long memberId, @Param("now") Instant now);
 
     /**
-     * <h3>사용자 ID와 알림 ID 목록으로 알림 삭제</h3>
-     * <p>특정 사용자의 알림 중에서 지정된 ID 목록에 해당하는 알림들을 삭제합니다.</p>
+     * <h3>알림 일괄 삭제 (읽음 상태별)</h3>
+     * <p>특정 사용자의 알림 중 지정된 ID 목록에서 읽음 상태가 일치하는 알림을 DELETE 한 문장으로 삭제합니다.</p>
+     * <p>안 읽은 알림과 읽은 알림을 나눠 삭제하여 안 읽은 알림 수 보정량을 별도 조회 없이 얻습니다.</p>
+     * <p>트랜잭션 밖(보관 기간 정리 스케줄러)에서도 호출되므로 자체 트랜잭션을 가집니다.</p>
      *
-     * @param ids 삭제할 알림 ID 목록
-     * @param memberId 사용자 ID
-     * @author Jaeik
-     * @since 2.0.0
+     * @param ids      삭제할 알림 ID 목록
+     * @param memberId 사용자 ID (소유자 검증)
+     * @param read     삭제할 알림의 읽음 상태
+     * @return 삭제된 알림 수
      */
-    void deleteAllByIdInAndMember_Id(List<Long> ids, Long memberId);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids AND n.member.id = :memberId AND n.isRead = :read")
+    int deleteByIdsAndRead(@Param("ids") List<Long> ids, @Param("memberId") Long memberId, @Param("read") boolean read);
 
     /**
      * <h3>사용자 ID로 모든 알림 삭제</h3>
@@ -55,14 +66,47 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     void deleteAllByMemberId(Long memberId);
 
     /**
-     * <h3>알림 목록 조회</h3>
-     * <p>지정된 사용자의 알림 목록을 최신순으로 조회합니다.</p>
+     * <h3>최신 알림 조회</h3>
+     * <p>지정된 사용자의 알림을 ID 역순(최신순)으로 최대 limit건 조회합니다.</p>
+     * <p>(member_id, notification_id) 인덱스를 그대로 읽으므로 정렬 없이 limit건에서 멈춥니다.</p>
      *
      * @param memberId 사용자 ID
-     * @return 알림 엔티티 목록
-     * @author Jaeik
-     * @since 2.0.0
+     * @param limit    조회할 최대 개수
+     * @return 알림 엔티티 목록 (최신순)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId ORDER BY n.id DESC LIMIT :limit")
+    List<Notification> findLatest(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    /**
+     * <h3>커서 이전 알림 조회</h3>
+     * <p>커서(마지막으로 받은 알림 ID)보다 작은 ID의 알림을 최신순으로 최대 limit건 조회합니다.</p>
+     *
+     * @param memberId 사용자 ID
+     * @param cursor   마지막으로 받은 알림 ID
+     * @param limit    조회할 최대 개수
+     * @return 알림 엔티티 목록 (최신순)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId AND n.id < :cursor ORDER BY n.id DESC LIMIT :limit")
+    List<Notification> findBefore(@Param("memberId") Long memberId, @Param("cursor") Long cursor, @Param("limit") int limit);
+
+    /**
+     * <h3>안 읽은 알림 수 조회</h3>
+     * <p>Redis 카운터가 비어 있을 때 채우는 용도로 사용합니다.</p>
+     *
+     * @param memberId 사용자 ID
+     * @return 안 읽은 알림 수
+     */
+    long countByMember_IdAndIsReadFalse(Long memberId);
+
+    /**
+     * <h3>보관 기간이 지난 알림 조회</h3>
+     * <p>기준 시각 이전에 생성된 알림을 ID 순으로 최대 limit건 조회합니다. 삭제 후 안 읽은 알림 수 보정에 사용합니다.</p>
+     *
+     * @param createdBefore 이 시각 이전에 생성된 알림
+     * @param limit         조회할 최대 개수
+     * @return 만료 알림 목록
      */
-    @Query("SELECT n FROM Notification n JOIN FETCH n.member m WHERE m.id = :memberId ORDER BY n.createdAt DESC")
-    List<Notification> getNotificationList(@Param("memberId") Long memberId);
+    @Query("SELECT new jaeik.bimillog.domain.notification.dto.ExpiredNotificationDTO(n.id, n.member.id, n.isRead) " +
+            "FROM Notification n WHERE n.createdAt < :createdBefore ORDER BY n.id LIMIT :limit")
+    List<ExpiredNotificationDTO> findExpired(@Param("createdBefore") Instant createdBefore, @Param("limit") int limit);
 }
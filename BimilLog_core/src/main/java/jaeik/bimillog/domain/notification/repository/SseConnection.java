@@ -0,0 +1,136 @@
+package jaeik.bimillog.domain.notification.repository;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>SSE 연결</h2>
+ * <p>SseEmitterRegistry에 등록되는 연결 하나입니다. 같은 사용자·기기라도 구독마다 새 연결로 취급합니다.</p>
+ * <p>연결마다 전송 대기열을 가지며, 대기열은 {@link SseConnectionWriter}의 writer 스레드가 한 번에 하나만 비웁니다.
+ * 대기열 상태 변경은 이 객체의 모니터로 보호합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public final class SseConnection {
+    private final String emitterId;
+    private final Long memberId;
+    private final Long tokenId;
+    private final SseEmitter emitter;
+
+    private final ArrayDeque<SseEventBuilder> pending = new ArrayDeque<>();
+    private boolean scheduled;
+    private volatile boolean closed;
+
+    /**
+     * @param emitterId 이미터 ID (memberId_tokenId_timestamp)
+     * @param memberId  사용자 ID
+     * @param tokenId   토큰 ID (멀티 디바이스 구분용)
+     * @param emitter   SseEmitter
+     */
+    public SseConnection(String emitterId, Long memberId, Long tokenId, SseEmitter emitter) {
+        this.emitterId = emitterId;
+        this.memberId = memberId;
+        this.tokenId = tokenId;
+        this.emitter = emitter;
+    }
+
+    public String emitterId() {
+        return emitterId;
+    }
+
+    public Long memberId() {
+        return memberId;
+    }
+
+    public Long tokenId() {
+        return tokenId;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * 대기열 적재 결과
+     */
+    enum Offer {
+        /** 적재했고 writer 작업을 새로 예약해야 함 */
+        SCHEDULE,
+        /** 적재했고 이미 writer 작업이 예약되어 있음 */
+        QUEUED,
+        /** 적재하지 않음 (heartbeat를 대기 중인 전송에 합침) */
+        MERGED,
+        /** 대기열이 가득 참 */
+        OVERFLOW,
+        /** 이미 닫힌 연결 */
+        CLOSED
+    }
+
+    synchronized Offer offer(SseEventBuilder event, int maxBacklog) {
+        if (closed) {
+            return Offer.CLOSED;
+        }
+        if (pending.size() >= maxBacklog) {
+            return Offer.OVERFLOW;
+        }
+        pending.add(event);
+        return markScheduled();
+    }
+
+    /**
+     * 대기 중이거나 전송 중인 이벤트가 있으면 그 전송이 연결 유지 역할을 하므로 heartbeat를 추가하지 않습니다.
+     */
+    synchronized Offer offerHeartbeat(SseEventBuilder heartbeat) {
+        if (closed) {
+            return Offer.CLOSED;
+        }
+        if (scheduled) {
+            return Offer.MERGED;
+        }
+        pending.add(heartbeat);
+        return markScheduled();
+    }
+
+    private Offer markScheduled() {
+        if (scheduled) {
+            return Offer.QUEUED;
+        }
+        scheduled = true;
+        return Offer.SCHEDULE;
+    }
+
+    /**
+     * 최대 max개를 꺼냅니다. 비어 있으면 예약 상태를 해제하므로 다음 적재가 writer 작업을 다시 예약합니다.
+     */
+    synchronized List<SseEventBuilder> poll(int max) {
+        List<SseEventBuilder> events = new ArrayList<>(Math.min(max, pending.size()));
+        while (events.size() < max && !pending.isEmpty()) {
+            events.add(pending.poll());
+        }
+        if (events.isEmpty()) {
+            scheduled = false;
+        }
+        return events;
+    }
+
+    /**
+     * 연결을 닫고 대기 중인 이벤트를 버립니다.
+     */
+    synchronized void close() {
+        closed = true;
+        pending.clear();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    synchronized int backlog() {
+        return pending.size();
+    }
+}
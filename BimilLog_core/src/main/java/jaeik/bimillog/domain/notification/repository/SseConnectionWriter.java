@@ -0,0 +1,123 @@
+package jaeik.bimillog.domain.notification.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <h2>SSE 연결 writer</h2>
+ * <p>호출 스레드는 연결별 대기열에 이벤트를 넣기만 하고, 실제 소켓 쓰기는 sseWriterExecutor가 연결 단위로 수행합니다.
+ * 느린 클라이언트 하나가 소켓 쓰기에서 막혀도 그 연결의 writer 작업만 멈추고 다른 연결의 전송은 계속됩니다.</p>
+ * <p>대기 중인 이벤트는 한 번의 send로 묶어 쓰고(flush 1회), 전송이 대기 중이면 heartbeat는 생략합니다.</p>
+ * <p>대기열이 {@code sse.writer.max-backlog}를 넘은 연결은 느린 소비자로 보고 레지스트리에서 제거합니다.
+ * 막힌 소켓에 complete를 호출하면 호출 스레드도 함께 막히므로, 종료 처리는 해당 연결의 writer 작업이 깨어난 뒤 수행합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Slf4j
+@Component
+public class SseConnectionWriter {
+    private static final int MAX_EVENTS_PER_WRITE = 64;
+
+    private final Executor sseWriterExecutor;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final int maxBacklog;
+
+    public SseConnectionWriter(@Qualifier("sseWriterExecutor") Executor sseWriterExecutor,
+                               SseEmitterRegistry sseEmitterRegistry,
+                               @Value("${sse.writer.max-backlog:256}") int maxBacklog) {
+        this.sseWriterExecutor = sseWriterExecutor;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.maxBacklog = maxBacklog;
+    }
+
+    /**
+     * <h3>이벤트 전송 예약</h3>
+     */
+    public void send(SseConnection connection, SseEventBuilder event) {
+        handle(connection, connection.offer(event, maxBacklog));
+    }
+
+    /**
+     * <h3>heartbeat 전송 예약</h3>
+     * <p>전송할 이벤트가 이미 대기 중이면 그 전송으로 대신합니다.</p>
+     */
+    public void sendHeartbeat(SseConnection connection) {
+        handle(connection, connection.offerHeartbeat(SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void handle(SseConnection connection, SseConnection.Offer offer) {
+        switch (offer) {
+            case SCHEDULE -> schedule(connection);
+            case OVERFLOW -> {
+                log.warn("SSE 느린 소비자 연결 제거 - 이미터ID={}, 대기={}", connection.emitterId(), maxBacklog);
+                drop(connection);
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 거절되면 이 연결의 writer 작업이 없으므로 소켓 쓰기로 막힐 일이 없어 호출 스레드에서 바로 종료합니다.
+     * 이미터는 타임아웃이 없어 여기서 complete하지 않으면 클라이언트 연결이 열린 채로 남습니다.
+     */
+    private void schedule(SseConnection connection) {
+        try {
+            sseWriterExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            log.warn("SSE writer 포화로 연결 제거 - 이미터ID={}", connection.emitterId());
+            drop(connection);
+            complete(connection);
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 최대 MAX_EVENTS_PER_WRITE개씩 묶어 전송합니다.
+     */
+    private void drain(SseConnection connection) {
+        List<SseEventBuilder> events = connection.poll(MAX_EVENTS_PER_WRITE);
+        while (!events.isEmpty()) {
+            Set<DataWithMediaType> frames = new LinkedHashSet<>();
+            for (SseEventBuilder event : events) {
+                frames.addAll(event.build());
+            }
+            try {
+                connection.emitter().send(frames);
+            } catch (Exception e) {
+                log.debug("SSE 전송 실패, Emitter 정리: {} (이유: {})", connection.emitterId(), e.getMessage());
+                drop(connection);
+                complete(connection);
+                return;
+            }
+            events = connection.poll(MAX_EVENTS_PER_WRITE);
+        }
+        if (connection.isClosed()) {
+            complete(connection);
+        }
+    }
+
+    private void drop(SseConnection connection) {
+        sseEmitterRegistry.unregister(connection);
+        connection.close();
+    }
+
+    private void complete(SseConnection connection) {
+        try {
+            connection.emitter().complete();
+        } catch (Exception e) {
+            log.debug("SSE complete 처리 중 무시된 예외: {} ({})", connection.emitterId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package jaeik.bimillog.domain.notification.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * <h2>SSE 연결 레지스트리</h2>
+ * <p>SSE 연결을 사용자 ID별로 색인하여 보관합니다. 사용자별 조회/삭제는 전체 연결이 아닌 해당 사용자의 연결 수만큼만 비용이 듭니다.</p>
+ * <p>사용자 ID 해시로 SHARD_COUNT개의 샤드에 나누고 샤드마다 별도의 락을 사용하므로,
+ * 서로 다른 사용자의 구독/해제/전송이 같은 락을 두고 경합하지 않습니다.</p>
+ * <p>조회 결과는 복사본이므로 전송은 락 밖에서 수행합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+public class SseEmitterRegistry {
+    private static final int SHARD_COUNT = 16;
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+
+    public SseEmitterRegistry() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * <h3>연결 등록</h3>
+     */
+    public void register(SseConnection connection) {
+        Shard shard = shardOf(connection.memberId());
+        synchronized (shard) {
+            shard.connections.computeIfAbsent(connection.memberId(), id -> new ArrayList<>(2)).add(connection);
+            shard.size++;
+        }
+    }
+
+    /**
+     * <h3>연결 해제</h3>
+     * <p>같은 연결 객체만 제거합니다. 이미 제거된 연결이면 false를 반환합니다.</p>
+     */
+    public boolean unregister(SseConnection connection) {
+        Shard shard = shardOf(connection.memberId());
+        synchronized (shard) {
+            List<SseConnection> owned = shard.connections.get(connection.memberId());
+            if (owned == null || !owned.removeIf(candidate -> candidate == connection)) {
+                return false;
+            }
+            shard.size--;
+            if (owned.isEmpty()) {
+                shard.connections.remove(connection.memberId());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * <h3>사용자의 연결 조회</h3>
+     *
+     * @return 해당 사용자의 연결 복사본 (없으면 빈 목록)
+     */
+    public List<SseConnection> connectionsOf(Long memberId) {
+        Shard shard = shardOf(memberId);
+        synchronized (shard) {
+            List<SseConnection> owned = shard.connections.get(memberId);
+            return owned == null ? List.of() : List.copyOf(owned);
+        }
+    }
+
+    /**
+     * <h3>사용자의 연결 제거</h3>
+     *
+     * @param tokenId null이면 사용자의 모든 연결, 아니면 해당 기기의 연결만 제거
+     * @return 제거된 연결
+     */
+    public List<SseConnection> removeAll(Long memberId, Long tokenId) {
+        Predicate<SseConnection> target = tokenId == null
+                ? connection -> true
+                : connection -> tokenId.equals(connection.tokenId());
+        Shard shard = shardOf(memberId);
+        synchronized (shard) {
+            List<SseConnection> owned = shard.connections.get(memberId);
+            if (owned == null) {
+                return List.of();
+            }
+            List<SseConnection> removed = new ArrayList<>();
+            owned.removeIf(connection -> target.test(connection) && removed.add(connection));
+            shard.size -= removed.size();
+            if (owned.isEmpty()) {
+                shard.connections.remove(memberId);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * <h3>전체 연결 조회</h3>
+     * <p>샤드별로 복사하므로 한 번에 한 샤드의 락만 잡습니다. Heartbeat처럼 전체 연결이 필요한 작업에만 사용합니다.</p>
+     */
+    public List<SseConnection> snapshot() {
+        List<SseConnection> all = new ArrayList<>(size());
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.connections.values().forEach(all::addAll);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * <h3>연결이 있는 사용자 ID 조회</h3>
+     */
+    public List<Long> memberIds() {
+        List<Long> memberIds = new ArrayList<>();
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                memberIds.addAll(shard.connections.keySet());
+            }
+        }
+        return memberIds;
+    }
+
+    /**
+     * <h3>전체 연결 수</h3>
+     */
+    public int size() {
+        int total = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                total += shard.size;
+            }
+        }
+        return total;
+    }
+
+    private Shard shardOf(Long memberId) {
+        int hash = memberId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    /**
+     * 사용자 ID → 연결 목록. 대부분의 사용자는 기기 한두 대이므로 목록으로 충분합니다.
+     */
+    private static final class Shard {
+        private final Map<Long, List<SseConnection>> connections = new HashMap<>();
+        private int size;
+    }
+}
@@ -3,17 +3,15 @@ package jaeik.bimillog.domain.notification.repository;
 import jaeik.bimillog.domain.notification.controller.NotificationSseController;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
 import jaeik.bimillog.domain.notification.entity.SseMessage;
-import jaeik.bimillog.domain.notification.listener.NotificationSendListener;
+import jaeik.bimillog.domain.notification.service.SseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
 /**
  * <h2>SSE 저장소</h2>
@@ -24,22 +22,19 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>알림 메시지 브로드캐스팅</p>
  * <p>연결 실패 시 자동 정리</p>
  * <p>{@link NotificationSseController} - SSE 구독 요청</p>
- * <p>{@link NotificationSendListener} - 알림 이벤트 발생 시 전송</p>
+ * <p>{@link SseService} - 알림 아웃박스 릴레이가 알림 저장 후 전송</p>
  * <p>로그아웃, 회원 제재, 회원 탈퇴 시 연결 정리</p>
+ * <p>연결은 사용자 ID로 색인된 {@link SseEmitterRegistry}에 보관하므로 전송/정리는 해당 사용자의 연결만 확인합니다.</p>
  *
  * @author Jaeik
- * @version 2.3.0
+ * @version 2.8.0
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SseRepository {
-
-    /**
-     * SSE Emitter 저장소
-     * <p>키: EmitterId (memberId_tokenId_timestamp), 값: SseEmitter 객체</p>
-     */
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final SseConnectionWriter sseConnectionWriter;
 
     /**
      * <h3>SSE 구독</h3>
@@ -57,20 +52,21 @@ public class SseRepository {
         String emitterId = memberId + "_" + tokenId + "_" + System.currentTimeMillis();
         log.info("SSE 구독 요청됨 - 멤버id={}, 토큰ID={}, 이미터ID={}", memberId, tokenId, emitterId);
         SseEmitter sseEmitter = new SseEmitter(0L);
-        emitters.put(emitterId, sseEmitter);
+        SseConnection connection = new SseConnection(emitterId, memberId, tokenId, sseEmitter);
+        sseEmitterRegistry.register(connection);
 
         sseEmitter.onCompletion(() -> {
             log.info("SSE 연결 완료 - 이미터ID={}", emitterId);
-            emitters.remove(emitterId);
+            release(connection);
         });
         sseEmitter.onTimeout(() -> {
             log.warn("SSE 타임아웃 - 이미터ID={}", emitterId);
-            emitters.remove(emitterId);
+            release(connection);
         });
         sseEmitter.onError(throwable -> {
             log.warn("SSE 연결 오류 - 이미터ID={}, 메시지={}", emitterId,
                     throwable != null ? throwable.getMessage() : "원인불명", throwable);
-            emitters.remove(emitterId);
+            release(connection);
         });
 
         SseMessage initMessage = SseMessage.of(memberId, NotificationType.INITIATE,
@@ -85,7 +81,7 @@ public class SseRepository {
                     .reconnectTime(5000L)); // 5초 후 재연결 시도
         } catch (IOException e) {
             log.warn("SSE 초기화 전송 실패 - 이미터ID={}, 이유={}", emitterId, e.getMessage(), e);
-            emitters.remove(emitterId);
+            release(connection);
         }
 
         return sseEmitter;
@@ -94,25 +90,19 @@ public class SseRepository {
     /**
      * <h3>SSE 알림 전송</h3>
      * <p>해당 사용자의 모든 Emitter에 SSE 전송</p>
+     * <p>연결별 대기열에 넣기만 하고 소켓 쓰기는 {@link SseConnectionWriter}가 수행하므로 느린 연결이 호출 스레드를 막지 않습니다.</p>
      *
      * @param sseMessage SSE 메시지 (사용자ID, 타입, 내용, URL 포함)
      * @author Jaeik
      * @since 2.3.0
      */
     public void send(SseMessage sseMessage) {
-        String prefix = sseMessage.memberId() + "_";
-        emitters.forEach((emitterId, emitter) -> {
-            if (emitterId.startsWith(prefix)) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name(sseMessage.type().toString())
-                            .data(sseMessage.toJsonData()));
-                } catch (IOException | IllegalStateException e) {
-                    log.warn("SSE 전송 실패, Emitter 정리: {} (이유: {})", emitterId, e.getMessage());
-                    cleanup(emitterId, emitter);
-                }
-            }
-        });
+        String data = sseMessage.toJsonData();
+        for (SseConnection connection : sseEmitterRegistry.connectionsOf(sseMessage.memberId())) {
+            sseConnectionWriter.send(connection, SseEmitter.event()
+                    .name(sseMessage.type().toString())
+                    .data(data));
+        }
     }
 
     /**
@@ -128,11 +118,26 @@ public class SseRepository {
      * @since 2.3.0
      */
     public void deleteEmitters(Long memberId, Long tokenId) {
-        if (tokenId != null) {
-            emitters.entrySet().removeIf(entry -> entry.getKey().startsWith(memberId + "_" + tokenId + "_"));
-        } else {
-            emitters.entrySet().removeIf(entry -> entry.getKey().startsWith(memberId + "_"));
-        }
+        sseEmitterRegistry.removeAll(memberId, tokenId).forEach(SseConnection::close);
+    }
+
+    /**
+     * <h3>사용자 연결 여부 확인</h3>
+     *
+     * @param memberId 사용자 ID
+     * @return 이 인스턴스에 해당 사용자의 연결이 하나라도 있으면 true
+     */
+    public boolean hasConnections(Long memberId) {
+        return !sseEmitterRegistry.connectionsOf(memberId).isEmpty();
+    }
+
+    /**
+     * <h3>연결된 사용자 ID 조회</h3>
+     *
+     * @return 이 인스턴스에 연결이 있는 사용자 ID 목록
+     */
+    public List<Long> findConnectedMemberIds() {
+        return sseEmitterRegistry.memberIds();
     }
 
     /**
@@ -141,33 +146,20 @@ public class SseRepository {
      *
      * <p>Heartbeat는 SSE comment 형태로 전송되며, 클라이언트에서 별도 처리 불필요합니다.</p>
      * <p>전송 실패 시 해당 Emitter를 자동으로 정리</p>
+     * <p>전송이 대기 중인 연결은 heartbeat를 생략하며, 전송은 연결별 writer 작업으로 나뉘어 한 연결이 다른 연결을 기다리게 하지 않습니다.</p>
      *
      * @author Jaeik
      * @since 2.0.0
      */
     @Scheduled(fixedDelay = 30000L)
     public void sendHeartbeat() {
-        if (emitters.isEmpty()) return;
-
-        emitters.forEach((emitterId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event().comment("heartbeat"));
-            } catch (AsyncRequestNotUsableException | IllegalStateException e) {
-                log.debug("SSE 클라이언트 연결 종료 확인: {} ({})", emitterId, e.getMessage());
-                cleanup(emitterId, emitter);
-            } catch (Exception e) {
-                log.error("SSE 전송 중 예상치 못한 오류 발생: {}", emitterId, e);
-                cleanup(emitterId, emitter);
-            }
-        });
+        for (SseConnection connection : sseEmitterRegistry.snapshot()) {
+            sseConnectionWriter.sendHeartbeat(connection);
+        }
     }
 
-    private void cleanup(String emitterId, SseEmitter emitter) {
-        emitters.remove(emitterId);
-        try {
-            emitter.complete();
-        } catch (Exception e) {
-            log.debug("SSE complete 처리 중 무시된 예외: {} ({})", emitterId, e.getMessage());
-        }
+    private void release(SseConnection connection) {
+        sseEmitterRegistry.unregister(connection);
+        connection.close();
     }
 }
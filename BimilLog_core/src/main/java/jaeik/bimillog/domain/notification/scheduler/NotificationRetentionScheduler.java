@@ -0,0 +1,107 @@
+package jaeik.bimillog.domain.notification.scheduler;
+
+import jaeik.bimillog.domain.notification.dto.ExpiredNotificationDTO;
+import jaeik.bimillog.domain.notification.repository.NotificationRepository;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>알림 보관 기간 정리 스케줄러</h2>
+ * <p>보관 기간(notification.retention-days)이 지난 알림을 청크 단위로 삭제하여 알림 테이블이 무한히 커지지 않게 합니다.</p>
+ * <p>청크마다 짧은 DELETE로 끝나므로 잠금이 길게 잡히지 않습니다.</p>
+ * <p>스케줄러는 모든 인스턴스에서 실행되므로 같은 청크를 여러 인스턴스가 동시에 삭제할 수 있습니다.
+ * 안 읽은 알림은 회원별 DELETE의 영향 행 수만큼만 차감하므로, 실제로 행을 지운 인스턴스만 카운터를 차감합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+    private final NotificationRepository notificationRepository;
+    private final RedisNotificationUnreadCounter redisNotificationUnreadCounter;
+
+    @Value("${notification.retention-days:90}")
+    private int retentionDays;
+
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 1일마다 보관 기간이 지난 알림 삭제
+     */
+    @Scheduled(cron = "0 30 3 * * *") // 매일 새벽 3시 30분
+    public void deleteExpiredNotifications() {
+        Instant createdBefore = Instant.now().minus(Duration.ofDays(retentionDays));
+        int deleted = 0;
+        try {
+            while (true) {
+                List<ExpiredNotificationDTO> expired = notificationRepository.findExpired(createdBefore, CHUNK_SIZE);
+                if (expired.isEmpty()) break;
+
+                deleted += deleteChunk(expired);
+
+                if (expired.size() < CHUNK_SIZE) break;
+            }
+        } catch (Exception e) {
+            log.error("[알림 보관 정리] 실패: 삭제 {}건 후 중단", deleted, e);
+            return;
+        }
+        if (deleted > 0) {
+            log.info("[알림 보관 정리] {}일 지난 알림 {}건 삭제", retentionDays, deleted);
+        }
+    }
+
+    /**
+     * 읽은 알림은 ID로 한 번에 삭제하고, 안 읽은 알림은 회원별로 삭제하여 영향 행 수만큼 카운터 차감.
+     * 조회 후 읽음 처리되어 남은 알림은 다음 청크 조회에서 읽은 알림으로 다시 잡힌다.
+     */
+    private int deleteChunk(List<ExpiredNotificationDTO> expired) {
+        Map<Boolean, List<ExpiredNotificationDTO>> byRead = expired.stream()
+                .collect(Collectors.partitioningBy(ExpiredNotificationDTO::read));
+
+        int deleted = 0;
+        List<Long> readIds = byRead.get(true).stream().map(ExpiredNotificationDTO::id).toList();
+        if (!readIds.isEmpty()) {
+            notificationRepository.deleteAllByIdInBatch(readIds);
+            deleted += readIds.size();
+        }
+
+        Map<Long, List<Long>> unreadIdsByMember = byRead.get(false).stream()
+                .collect(Collectors.groupingBy(ExpiredNotificationDTO::memberId,
+                        Collectors.mapping(ExpiredNotificationDTO::id, Collectors.toList())));
+        Map<Long, Long> deltas = new HashMap<>();
+        unreadIdsByMember.forEach((memberId, ids) -> {
+            int unreadDeleted = notificationRepository.deleteByIdsAndRead(ids, memberId, false);
+            if (unreadDeleted > 0) {
+                deltas.put(memberId, (long) -unreadDeleted);
+            }
+        });
+        deleted += deltas.values().stream().mapToInt(delta -> (int) -delta).sum();
+
+        decrementUnreadCounters(deltas);
+        return deleted;
+    }
+
+    private void decrementUnreadCounters(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            redisNotificationUnreadCounter.add(deltas);
+        } catch (Exception e) {
+            log.warn("[알림 보관 정리] 안 읽은 알림 수 차감 실패, TTL 후 재계산: {}", e.getMessage());
+        }
+    }
+}
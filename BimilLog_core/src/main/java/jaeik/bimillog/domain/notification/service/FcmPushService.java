@@ -1,8 +1,10 @@
 package jaeik.bimillog.domain.notification.service;
 
+import jaeik.bimillog.domain.notification.adapter.NotificationToAuthAdapter;
 import jaeik.bimillog.domain.notification.adapter.NotificationToMemberAdapter;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
-import jaeik.bimillog.domain.notification.listener.NotificationSendListener;
+import jaeik.bimillog.domain.notification.outbox.NotificationOutboxRelay;
+import jaeik.bimillog.infrastructure.api.dto.FcmSendResultDTO;
 import jaeik.bimillog.infrastructure.api.fcm.FcmAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +17,7 @@ import java.util.List;
  * <p>FCM 토큰 관리와 푸시 알림 전송을 담당하는 서비스입니다.</p>
  *
  * @author Jaeik
- * @version 2.3.0
+ * @version 2.8.0
  */
 @Slf4j
 @Service
@@ -23,31 +25,60 @@ import java.util.List;
 public class FcmPushService {
     private final FcmAdapter fcmAdapter;
     private final NotificationToMemberAdapter notificationToMemberAdapter;
+    private final NotificationToAuthAdapter notificationToAuthAdapter;
+
+    private static final String DIGEST_BODY = "지금 확인해보세요!";
 
     /**
      * <h3>FCM 푸시 알림 전송</h3>
      * <p>FCM 푸시 알림을 전송합니다.</p>
      * <p>알림 수신 자격 검증을 거쳐 유효한 FCM 토큰에만 알림을 발송하며, 다음 발송을 진행.</p>
+     * <p>사용자의 모든 기기에 동시에 전송하고, FCM이 만료/미등록으로 거부한 토큰은 한 번에 해제합니다.</p>
+     * <p>전송 실패와 토큰 해제 실패는 로그만 남깁니다. 예외를 전파하면 재전송으로 이미 받은 기기에 중복 발송되기 때문입니다.</p>
      *
      * @author Jaeik
-     * @see NotificationSendListener
+     * @see NotificationOutboxRelay
      * @since 2.3.0
      */
     public void sendNotification(NotificationType type, Long memberId, String relatedMemberName, String postTitle) {
+        send(type, memberId, type.getFCMTitle(relatedMemberName), type.getFCMBody(relatedMemberName, postTitle));
+    }
+
+    /**
+     * <h3>다이제스트 FCM 푸시 알림 전송</h3>
+     * <p>여러 알림이 합쳐진 다이제스트 알림을 한 번만 전송합니다. 다이제스트 메시지를 제목으로 사용합니다.</p>
+     *
+     * @param digestMessage 합쳐진 알림 내용 ("새 댓글 N개" 등)
+     * @see NotificationType#getDigestMessage(String, int)
+     */
+    public void sendDigestNotification(NotificationType type, Long memberId, String digestMessage) {
+        send(type, memberId, digestMessage, DIGEST_BODY);
+    }
+
+    private void send(NotificationType type, Long memberId, String title, String body) {
         List<String> tokens = notificationToMemberAdapter.fcmEligibleFcmTokens(memberId, type);
         if (tokens.isEmpty()) {
             log.debug("전송할 토큰이 없습니다.");
             return;
         }
 
-        String title = type.getFCMTitle(relatedMemberName);
-        String body = type.getFCMBody(relatedMemberName, postTitle);
-
-        for (String token : tokens) {
+        FcmSendResultDTO result;
+        try {
+            result = fcmAdapter.sendEach(tokens, title, body);
+        } catch (Exception e) {
+            log.error("{} FCM 알림 전송 실패: 사용자 ID={}", type, memberId, e);
+            return;
+        }
+        if (result.failureCount() > 0) {
+            log.warn("{} FCM 알림 일부 전송 실패: 사용자 ID={}, 성공={}, 실패={}",
+                    type, memberId, result.successCount(), result.failureCount());
+        }
+        if (!result.deadTokens().isEmpty()) {
             try {
-                fcmAdapter.sendMessageTo(token, title, body);
+                int cleared = notificationToAuthAdapter.clearFcmTokens(result.deadTokens());
+                log.info("만료 FCM 토큰 해제: 사용자 ID={}, 토큰={}, 기기={}", memberId, result.deadTokens().size(), cleared);
             } catch (Exception e) {
-                log.error("{} FCM 알림 전송 실패: 사용자 ID={}", type, memberId, e);
+                log.warn("만료 FCM 토큰 해제 실패: 사용자 ID={}", memberId, e);
             }
         }
     }
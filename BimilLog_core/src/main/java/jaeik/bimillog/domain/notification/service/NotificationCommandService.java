@@ -1,28 +1,29 @@
 package jaeik.bimillog.domain.notification.service;
 
 import jaeik.bimillog.domain.global.listener.MemberWithdrawListener;
-import jaeik.bimillog.domain.member.entity.Member;
-import jaeik.bimillog.domain.notification.entity.Notification;
+import jaeik.bimillog.domain.notification.dto.NotificationUpdateResultDTO;
+import jaeik.bimillog.domain.notification.entity.NotificationOutbox;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
-import jaeik.bimillog.domain.notification.event.AlarmSendEvent;
+import jaeik.bimillog.domain.notification.outbox.NotificationOutboxRelay;
+import jaeik.bimillog.domain.notification.repository.NotificationOutboxRepository;
 import jaeik.bimillog.domain.notification.repository.NotificationRepository;
-import jaeik.bimillog.domain.notification.adapter.NotificationToMemberAdapter;
-import jaeik.bimillog.infrastructure.exception.CustomException;
-import jaeik.bimillog.infrastructure.exception.ErrorCode;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <h2>알림 명령 서비스</h2>
  * <p>알림 도메인의 명령 작업을 담당하는 서비스입니다.</p>
- * <p>알림 읽음 처리, 알림 삭제</p>
+ * <p>알림 읽음 처리, 알림 삭제, 알림 아웃박스 기록</p>
  *
  * @author Jaeik
  * @version 2.0.0
@@ -32,36 +33,52 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationCommandService {
     private final NotificationRepository notificationRepository;
-    private final NotificationToMemberAdapter notificationToMemberAdapter;
-    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxRelay notificationOutboxRelay;
+    private final RedisNotificationUnreadCounter redisNotificationUnreadCounter;
 
     @Value("${url}")
     private String baseUrl;
     private static final String POST_URL = "/board/post/";
     private static final String PAPER_URL = "/rolling-paper/";
     private static final String FRIEND_URL = "/friends?tab=received";
+    private static final int BULK_CHUNK_SIZE = 1000;
 
     /**
      * <h3>알림 일괄 업데이트</h3>
      * <p>여러 알림에 대해 읽음 처리 또는 삭제를 일괄 수행합니다.</p>
-     * <p>읽음 처리: isRead 상태를 true로 변경</p>
-     * <p>삭제: 알림을 완전 제거</p>
+     * <p>엔티티를 불러오지 않고 소유자 조건을 건 UPDATE/DELETE 문장으로 처리하며, ID 목록은 {@value #BULK_CHUNK_SIZE}개씩 나눠 실행합니다.</p>
+     * <p>읽음 처리: 안 읽은 알림만 isRead를 true로 변경</p>
+     * <p>삭제: 알림을 완전 제거 (안 읽은 알림과 읽은 알림을 나눠 삭제하여 보정량을 얻음)</p>
+     * <p>커밋 후 읽음 처리/삭제된 안 읽은 알림 수만큼 Redis 카운터를 한 번에 차감합니다.</p>
      *
      * @param memberId      현재 로그인한 사용자 ID
+     * @return 실제 반영된 읽음/삭제 개수
      * @author Jaeik
      * @since 2.0.0
      */
     @Transactional
-    public void batchUpdate(Long memberId, List<Long> readIds, List<Long> deletedIds) {
+    public NotificationUpdateResultDTO batchUpdate(Long memberId, List<Long> readIds, List<Long> deletedIds) {
+        int unreadDeleted = 0;
+        int readDeleted = 0;
+        for (int i = 0; i < deletedIds.size(); i += BULK_CHUNK_SIZE) {
+            List<Long> chunk = deletedIds.subList(i, Math.min(i + BULK_CHUNK_SIZE, deletedIds.size()));
+            unreadDeleted += notificationRepository.deleteByIdsAndRead(chunk, memberId, false);
+            readDeleted += notificationRepository.deleteByIdsAndRead(chunk, memberId, true);
+        }
 
-        if (!deletedIds.isEmpty()) {
-            notificationRepository.deleteAllByIdInAndMember_Id(deletedIds, memberId);
+        int read = 0;
+        Instant now = Instant.now();
+        for (int i = 0; i < readIds.size(); i += BULK_CHUNK_SIZE) {
+            List<Long> chunk = readIds.subList(i, Math.min(i + BULK_CHUNK_SIZE, readIds.size()));
+            read += notificationRepository.markAsReadByIds(chunk, memberId, now);
         }
 
-        if (!readIds.isEmpty()) {
-            List<Notification> notifications = notificationRepository.findAllByIdInAndMember_Id(readIds, memberId);
-            notifications.forEach(Notification::markAsRead);
+        long unreadRemoved = unreadDeleted + read;
+        if (unreadRemoved > 0) {
+            afterCommit(() -> adjustUnreadCount(memberId, -unreadRemoved));
         }
+        return new NotificationUpdateResultDTO(read, unreadDeleted + readDeleted);
     }
 
     /**
@@ -77,54 +94,52 @@ public class NotificationCommandService {
     @Transactional
     public void deleteAllNotification(Long memberId) {
         notificationRepository.deleteAllByMemberId(memberId);
+        afterCommit(() -> {
+            try {
+                redisNotificationUnreadCounter.delete(memberId);
+            } catch (Exception e) {
+                log.warn("[안 읽은 알림 수] 삭제 실패, TTL 후 만료: memberId={}", memberId, e);
+            }
+        });
     }
 
     /**
      * <h3>댓글 작성 알림 저장</h3>
-     * <p>댓글 작성 완료 시 DB에 알림을 저장하고 AlarmSendEvent를 발행합니다.</p>
+     * <p>댓글 작성 트랜잭션 안에서 알림 아웃박스에 기록합니다. 커밋 후 릴레이가 저장과 전송을 수행합니다.</p>
+     * <p>다이제스트 창 안에 같은 게시글에 달린 댓글 알림은 하나로 합쳐집니다.</p>
      *
      * @param postOwnerId 게시글 작성자 ID
      * @param commenterName 댓글 작성자 이름
      * @param postId 게시글 ID
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void saveCommentNotification(Long postOwnerId, String commenterName, Long postId) {
         String message = commenterName + "님이 댓글을 남겼습니다!";
         String url = baseUrl + POST_URL + postId;
-        Member member = notificationToMemberAdapter.findById(postOwnerId);
-
-        Notification notification = Notification.create(member, NotificationType.COMMENT, message, url);
-        notificationRepository.save(notification);
-
-        eventPublisher.publishEvent(
-                AlarmSendEvent.ofComment(member.getId(), message, url, commenterName)
-        );
+        enqueue(NotificationOutbox.createDigest(postOwnerId, NotificationType.COMMENT, message, url, commenterName, postId, 1));
     }
 
     /**
      * <h3>롤링페이퍼 메시지 알림 저장</h3>
-     * <p>롤링페이퍼 메시지 작성 완료 시 DB에 알림을 저장하고 AlarmSendEvent를 발행합니다.</p>
+     * <p>메시지 저장 트랜잭션 안에서 알림 아웃박스에 기록합니다. 커밋 후 릴레이가 저장과 전송을 수행합니다.</p>
+     * <p>한 배치로 저장된 여러 메시지는 "N개" 알림 하나로 합쳐지고, 다이제스트 창 안의 다른 배치와도 합쳐집니다.</p>
      *
      * @param paperOwnerId 롤링페이퍼 주인 ID
-     * @param memberName 작성자 이름
+     * @param memberName 롤링페이퍼 주인 이름 (URL에 사용)
+     * @param messageCount 함께 저장된 메시지 수
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveMessageNotification(Long paperOwnerId, String memberName) {
-        String message = "롤링페이퍼에 메시지가 작성되었어요!";
+    @Transactional
+    public void saveMessageNotification(Long paperOwnerId, String memberName, int messageCount) {
+        String message = messageCount > 1
+                ? "롤링페이퍼에 메시지 " + messageCount + "개가 작성되었어요!"
+                : "롤링페이퍼에 메시지가 작성되었어요!";
         String url = baseUrl + PAPER_URL + memberName;
-        Member member = notificationToMemberAdapter.findById(paperOwnerId);
-
-        Notification notification = Notification.create(member, NotificationType.MESSAGE, message, url);
-        notificationRepository.save(notification);
-
-        eventPublisher.publishEvent(
-                AlarmSendEvent.of(member.getId(), NotificationType.MESSAGE, message, url)
-        );
+        enqueue(NotificationOutbox.createDigest(paperOwnerId, NotificationType.MESSAGE, message, url, null, null, messageCount));
     }
 
     /**
      * <h3>인기글 선정 알림 저장</h3>
-     * <p>게시글 인기글 선정 시 DB에 알림을 저장하고 AlarmSendEvent를 발행합니다.</p>
+     * <p>알림 아웃박스에 기록합니다. 커밋 후 릴레이가 저장과 전송을 수행합니다.</p>
      *
      * @param memberId 사용자 ID
      * @param message SSE 메시지
@@ -132,37 +147,49 @@ public class NotificationCommandService {
      * @param notificationType 인기글 유형 (WEEKLY/LEGEND/REALTIME)
      * @param postTitle 게시글 제목 (FCM 알림 본문에 사용)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void savePopularNotification(Long memberId, String message, Long postId, NotificationType notificationType, String postTitle) {
         String url = baseUrl + POST_URL + postId;
-        Member member = notificationToMemberAdapter.findById(memberId);
-
-        Notification notification = Notification.create(member, notificationType, message, url);
-        notificationRepository.save(notification);
-
-        eventPublisher.publishEvent(
-                AlarmSendEvent.ofPostFeatured(member.getId(), notificationType, message, url, postTitle)
-        );
+        enqueue(NotificationOutbox.create(memberId, notificationType, message, url, null, postTitle));
     }
 
     /**
      * <h3>친구 요청 알림 저장</h3>
-     * <p>친구 요청 수신 시 DB에 알림을 저장하고 AlarmSendEvent를 발행합니다.</p>
+     * <p>친구 요청 트랜잭션 안에서 알림 아웃박스에 기록합니다. 커밋 후 릴레이가 저장과 전송을 수행합니다.</p>
+     * <p>다이제스트 창 안에 도착한 친구 요청 알림은 하나로 합쳐집니다.</p>
      *
      * @param receiveMemberId 수신자 ID
      * @param message SSE 메시지
      * @param senderName 친구 요청 보낸 사람 이름 (FCM 알림에 사용)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void saveFriendNotification(Long receiveMemberId, String message, String senderName) {
-        String url = baseUrl +FRIEND_URL;
-        Member member = notificationToMemberAdapter.findById(receiveMemberId);
+        String url = baseUrl + FRIEND_URL;
+        enqueue(NotificationOutbox.createDigest(receiveMemberId, NotificationType.FRIEND, message, url, senderName, null, 1));
+    }
 
-        Notification notification = Notification.create(member, NotificationType.FRIEND, message, url);
-        notificationRepository.save(notification);
+    /**
+     * 아웃박스에 기록하고 현재 트랜잭션이 커밋되면 릴레이를 깨웁니다.
+     */
+    private void enqueue(NotificationOutbox outbox) {
+        notificationOutboxRepository.save(outbox);
+        afterCommit(notificationOutboxRelay::wakeUp);
+    }
+
+    private void adjustUnreadCount(Long memberId, long delta) {
+        try {
+            redisNotificationUnreadCounter.add(Map.of(memberId, delta));
+        } catch (Exception e) {
+            log.warn("[안 읽은 알림 수] 차감 실패, TTL 후 재계산: memberId={}", memberId, e);
+        }
+    }
 
-        eventPublisher.publishEvent(
-                AlarmSendEvent.ofFriend(member.getId(), message, url, senderName)
-        );
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -1,11 +1,14 @@
 package jaeik.bimillog.domain.notification.service;
 
+import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.domain.global.entity.CustomUserDetails;
 import jaeik.bimillog.domain.notification.controller.NotificationController;
 import jaeik.bimillog.domain.notification.dto.NotificationDTO;
 import jaeik.bimillog.domain.notification.entity.Notification;
 import jaeik.bimillog.domain.notification.repository.NotificationRepository;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,20 +17,28 @@ import java.util.List;
 /**
  * <h2>알림 조회 서비스</h2>
  * <p>알림 도메인의 조회 작업을 담당하는 서비스입니다.</p>
- * <p>알림 목록 조회</p>
+ * <p>알림 목록 조회, 알림함 커서 조회, 안 읽은 알림 수 조회</p>
  *
  * @author Jaeik
  * @version 2.0.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationQueryService {
     private final NotificationRepository notificationRepository;
+    private final RedisNotificationUnreadCounter redisNotificationUnreadCounter;
+
+    /**
+     * 기존 목록 API가 반환하는 최신 알림 수
+     */
+    public static final int LIST_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 50;
 
     /**
      * <h3>알림 목록 조회</h3>
-     * <p>현재 로그인한 사용자의 모든 알림을 최신순으로 조회합니다.</p>
-     * <p>사용자 인증 정보가 유효하지 않은 경우 빈 목록을 반환합니다.</p>
+     * <p>현재 로그인한 사용자의 최신 알림 {@value #LIST_SIZE}건을 최신순으로 조회합니다.</p>
+     * <p>그 이전 알림은 {@link #getInbox}의 커서 조회로 이어서 받습니다.</p>
      * <p>{@link NotificationController}에서 사용자의 알림함 조회 API 요청 시 호출됩니다.</p>
      *
      * @param userDetails 현재 로그인한 사용자 정보
@@ -37,8 +48,70 @@ public class NotificationQueryService {
      */
     @Transactional(readOnly = true)
     public List<NotificationDTO> getNotificationList(CustomUserDetails userDetails) {
-         return notificationRepository.getNotificationList(userDetails.getMemberId()).stream()
+         return notificationRepository.findLatest(userDetails.getMemberId(), LIST_SIZE).stream()
                  .map(NotificationDTO::from)
                  .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * <h3>알림함 커서 조회</h3>
+     * <p>알림 ID 역순 키셋 페이지네이션으로 조회합니다. 깊은 페이지도 인덱스에서 커서 위치부터 size+1건만 읽습니다.</p>
+     *
+     * @param memberId 사용자 ID
+     * @param cursor   마지막으로 받은 알림 ID (null이면 처음부터)
+     * @param size     조회할 개수 (최대 {@value #MAX_PAGE_SIZE})
+     * @return CursorPageResponse 커서 기반 페이지 응답
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationDTO> getInbox(Long memberId, Long cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<Notification> notifications = cursor == null
+                ? notificationRepository.findLatest(memberId, pageSize + 1)
+                : notificationRepository.findBefore(memberId, cursor, pageSize + 1);
+
+        // 다음 페이지가 있는지 판단
+        boolean hasNext = notifications.size() > pageSize;
+        if (hasNext) {
+            notifications = notifications.subList(0, pageSize);
+        }
+
+        List<NotificationDTO> content = notifications.stream().map(NotificationDTO::from).toList();
+        Long nextCursor = hasNext ? content.getLast().getId() : null;
+        return CursorPageResponse.of(content, nextCursor);
+    }
+
+    /**
+     * <h3>안 읽은 알림 수 조회</h3>
+     * <p>Redis 카운터를 먼저 조회하고, 없으면 DB COUNT로 채웁니다.</p>
+     * <p>채우는 중 표시를 COUNT보다 먼저 기록하므로, COUNT 이후 커밋된 증감이 있으면 채우기가 취소되어
+     * 증감이 빠진 값이 캐시되지 않습니다. 다른 요청이 채우는 중이면 DB COUNT만 반환합니다.</p>
+     * <p>Redis 장애 시에는 DB COUNT 결과를 그대로 반환합니다.</p>
+     *
+     * @param memberId 사용자 ID
+     * @return 안 읽은 알림 수
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long memberId) {
+        boolean seeding;
+        try {
+            Long cached = redisNotificationUnreadCounter.get(memberId);
+            if (cached != null) {
+                return cached;
+            }
+            seeding = redisNotificationUnreadCounter.beginSeed(memberId);
+        } catch (Exception e) {
+            log.warn("[안 읽은 알림 수] Redis 조회 실패, DB 조회로 대체: {}", e.getMessage());
+            return notificationRepository.countByMember_IdAndIsReadFalse(memberId);
+        }
+
+        long count = notificationRepository.countByMember_IdAndIsReadFalse(memberId);
+        if (seeding) {
+            try {
+                redisNotificationUnreadCounter.completeSeed(memberId, count);
+            } catch (Exception e) {
+                log.warn("[안 읽은 알림 수] Redis 저장 실패: {}", e.getMessage());
+            }
+        }
+        return count;
+    }
+}
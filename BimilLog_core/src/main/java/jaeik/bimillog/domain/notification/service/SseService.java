@@ -1,31 +1,62 @@
 package jaeik.bimillog.domain.notification.service;
 
+import jaeik.bimillog.domain.notification.cluster.SseClusterBroker;
+import jaeik.bimillog.domain.notification.cluster.SseDisconnectCommand;
 import jaeik.bimillog.domain.notification.controller.NotificationSseController;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
 import jaeik.bimillog.domain.notification.entity.SseMessage;
 import jaeik.bimillog.domain.notification.repository.SseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * <h2>SSE 실시간 알림 서비스</h2>
  * <p>Server-Sent Events를 통한 실시간 알림을 담당하는 서비스입니다.</p>
  * <p>SSE 구독 관리, 연결 관리, 이벤트 기반 알림 전송</p>
+ * <p>여러 인스턴스로 운영할 때는 {@link SseClusterBroker}의 presence로 사용자가 연결된 노드를 찾아
+ * 해당 노드 채널로만 알림을 전달합니다. 이 인스턴스의 연결에는 브로커를 거치지 않고 바로 전송합니다.</p>
  *
  * @author Jaeik
- * @version 2.0.0
+ * @version 2.8.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SseService {
     private final SseRepository sseRepository;
+    private final SseClusterBroker sseClusterBroker;
+
+    /**
+     * 이 인스턴스의 노드 ID. 재시작하면 새 ID를 사용하고 이전 ID의 presence는 만료됩니다.
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * <h3>노드 채널 구독</h3>
+     * <p>다른 노드에서 전달된 알림을 이 인스턴스의 연결로 전송하고, 연결 정리 명령을 이 인스턴스의 연결에 적용합니다.</p>
+     */
+    @PostConstruct
+    public void subscribeNodeChannel() {
+        sseClusterBroker.subscribe(nodeId, sseRepository::send);
+        sseClusterBroker.subscribeDisconnect(nodeId,
+                command -> deleteLocalEmitters(command.memberId(), command.tokenId()));
+        log.info("SSE 노드 채널 구독 - nodeId={}", nodeId);
+    }
 
     /**
      * <h3>SSE 구독</h3>
      * <p>클라이언트의 SSE 구독 요청을 처리하여 실시간 알림 수신을 위한 SseEmitter를 생성합니다.</p>
      * <p>다중 기기 지원을 위해 사용자 ID와 토큰 ID 조합으로 고유한 연결 식별자를 관리합니다.</p>
      * <p>{@link NotificationSseController}에서 클라이언트의 SSE 구독 API 요청을 처리하기 위해 호출됩니다.</p>
+     * <p>presence 등록에 실패해도 이 인스턴스에서 발생한 알림은 전송되므로 연결은 유지합니다.</p>
      *
      * @param memberId 구독할 사용자 ID
      * @param tokenId 구독 토큰 ID (다중 기기 구분용)
@@ -34,7 +65,13 @@ public class SseService {
      * @since 2.0.0
      */
     public SseEmitter subscribe(Long memberId, Long tokenId) {
-        return sseRepository.subscribe(memberId, tokenId);
+        SseEmitter emitter = sseRepository.subscribe(memberId, tokenId);
+        try {
+            sseClusterBroker.addPresence(memberId, nodeId);
+        } catch (Exception e) {
+            log.warn("SSE presence 등록 실패 - memberId={}, nodeId={}: {}", memberId, nodeId, e.getMessage());
+        }
+        return emitter;
     }
 
     /**
@@ -42,6 +79,9 @@ public class SseService {
      * <p>tokenId가 null인 경우 모든 SSE 연결을 정리하고, 값이 있는 경우 특정 기기만 정리합니다.</p>
      * <p>사용자 탈퇴 시에는 tokenId를 null로 전달하여 모든 연결을 정리하고,</p>
      * <p>개별 기기 로그아웃 시에는 tokenId를 전달하여 해당 기기만 연결 해제합니다.</p>
+     * <p>연결은 다른 노드에 있을 수 있으므로 presence에 등록된 다른 노드로 연결 정리 명령을 발행합니다.
+     * 모든 연결을 정리하는 경우에는 사용자의 presence도 한 번에 제거하여, 명령이 유실된 노드로도 더 이상 알림을 보내지 않게 합니다.</p>
+     * <p>발행/제거 실패는 로그만 남깁니다. 남은 연결은 presence TTL 동안만 알림을 받을 수 있습니다.</p>
      *
      * @param memberId 사용자 ID
      * @param tokenId 토큰 ID (null인 경우 모든 연결 정리)
@@ -49,12 +89,81 @@ public class SseService {
      * @since 2.0.0
      */
     public void deleteEmitters(Long memberId, Long tokenId) {
-        sseRepository.deleteEmitters(memberId, tokenId);
+        deleteLocalEmitters(memberId, tokenId);
+
+        try {
+            SseDisconnectCommand command = new SseDisconnectCommand(memberId, tokenId);
+            for (String targetNodeId : sseClusterBroker.findNodes(memberId)) {
+                if (!targetNodeId.equals(nodeId)) {
+                    sseClusterBroker.publishDisconnect(targetNodeId, command);
+                }
+            }
+            if (tokenId == null) {
+                sseClusterBroker.clearPresence(memberId);
+            }
+        } catch (Exception e) {
+            log.warn("SSE 클러스터 연결 정리 실패 - memberId={}, tokenId={}: {}", memberId, tokenId, e.getMessage());
+        }
     }
 
+    /**
+     * 이 인스턴스의 연결을 정리하고, 남은 연결이 없으면 이 노드의 presence 제거
+     */
+    private void deleteLocalEmitters(Long memberId, Long tokenId) {
+        sseRepository.deleteEmitters(memberId, tokenId);
+        if (!sseRepository.hasConnections(memberId)) {
+            try {
+                sseClusterBroker.removePresence(List.of(memberId), nodeId);
+            } catch (Exception e) {
+                log.warn("SSE presence 제거 실패 - memberId={}, nodeId={}: {}", memberId, nodeId, e.getMessage());
+            }
+        }
+    }
 
+    /**
+     * <h3>SSE 알림 전송</h3>
+     * <p>이 인스턴스의 연결에 먼저 전송한 뒤, presence에 등록된 다른 노드 채널로 발행합니다.</p>
+     * <p>presence 조회/발행 실패는 로그만 남깁니다. 재시도 시 이미 전송된 로컬 연결에 중복 전송되지 않도록 예외를 전파하지 않습니다.</p>
+     */
     public void sendNotification(Long memberId, NotificationType type, String message, String url) {
         SseMessage sseMessage = SseMessage.of(memberId, type, message, url);
         sseRepository.send(sseMessage);
+
+        try {
+            for (String targetNodeId : sseClusterBroker.findNodes(memberId)) {
+                if (!targetNodeId.equals(nodeId)) {
+                    sseClusterBroker.publish(targetNodeId, sseMessage);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("SSE 클러스터 전달 실패 - memberId={}, type={}: {}", memberId, type, e.getMessage());
+        }
+    }
+
+    /**
+     * <h3>presence 갱신</h3>
+     * <p>presence TTL 안에 주기적으로 이 인스턴스에 연결된 사용자의 만료 시각을 연장합니다.
+     * 연결이 끊긴 사용자는 갱신되지 않아 TTL 후 제거됩니다.</p>
+     */
+    @Scheduled(fixedDelay = 30000L)
+    public void refreshPresence() {
+        try {
+            sseClusterBroker.refreshPresence(sseRepository.findConnectedMemberIds(), nodeId);
+        } catch (Exception e) {
+            log.warn("SSE presence 갱신 실패 - nodeId={}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * <h3>종료 시 presence 제거</h3>
+     * <p>TTL 만료를 기다리지 않고 다른 노드가 이 노드로 발행하지 않게 합니다.</p>
+     */
+    @PreDestroy
+    public void removePresence() {
+        try {
+            sseClusterBroker.removePresence(sseRepository.findConnectedMemberIds(), nodeId);
+        } catch (Exception e) {
+            log.warn("종료 시 SSE presence 제거 실패 - nodeId={}: {}", nodeId, e.getMessage());
+        }
     }
 }
@@ -0,0 +1,125 @@
+package jaeik.bimillog.domain.paper.async;
+
+import jaeik.bimillog.domain.paper.dto.PaperScoreIncrementDTO;
+import jaeik.bimillog.infrastructure.redis.paper.RedisPaperUpdateAdapter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>롤링페이퍼 인기 점수 누적기</h2>
+ * <p>리스너는 롤링페이퍼별 점수와 메시지 수 증감을 메모리에서 합산하기만 하고, 1초마다 한 묶음으로 Redis에 반영합니다.</p>
+ * <p>인기 롤링페이퍼에 몰리는 조회 이벤트가 초당 한 번의 ZINCRBY로 합쳐지며, 순위는 1분 주기 합산에서 반영되므로 지연은 무시할 수준입니다.</p>
+ * <p>대기 중인 롤링페이퍼 수는 MAX_PENDING_PAPERS로 제한됩니다. 종료 시 남은 증감을 반영합니다.</p>
+ * <p>반영 실패 시 꺼낸 증감을 누적에 되돌리지 않고 묶음 ID와 함께 그대로 보관하여, 다음 주기에 같은 묶음 ID로 먼저 재시도합니다.
+ * 묶음이 일부 또는 전부 적용된 뒤 응답만 실패한 경우에도 Redis가 묶음 ID로 이미 반영된 부분을 건너뛰므로 중복 누적되지 않습니다.
+ * 실패한 묶음이 남아 있는 동안 새 증감은 누적만 됩니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaperScoreAccumulator {
+    private static final int MAX_PENDING_PAPERS = 10_000;
+
+    private final RedisPaperUpdateAdapter redisPaperUpdateAdapter;
+
+    private final ConcurrentHashMap<Long, PendingScore> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 반영에 실패해 같은 묶음 ID로 재시도할 묶음. flush에서만 접근
+     */
+    private PendingBatch failedBatch;
+
+    /**
+     * <h3>점수 증감 누적</h3>
+     * <p>호출 스레드에서는 Redis 작업을 하지 않습니다.</p>
+     *
+     * @return 대기 중인 롤링페이퍼 수가 가득 차 새 롤링페이퍼를 누적하지 못하면 false
+     */
+    public boolean add(Long memberId, double score, int messageCount) {
+        if (pending.size() >= MAX_PENDING_PAPERS && !pending.containsKey(memberId)) {
+            return false;
+        }
+        pending.merge(memberId, new PendingScore(score, messageCount), PendingScore::plus);
+        return true;
+    }
+
+    /**
+     * <h3>누적 증감 반영</h3>
+     * <p>실패한 묶음이 있으면 먼저 재시도하고, 성공해야 새 증감을 꺼냅니다.
+     * 롤링페이퍼별로 꺼낸 증감은 새 묶음 ID로 반영합니다. 꺼내는 동안 들어온 증감은 다음 주기에 반영됩니다.</p>
+     */
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        if (failedBatch != null) {
+            if (!apply(failedBatch)) {
+                return;
+            }
+            failedBatch = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<PaperScoreIncrementDTO> increments = new ArrayList<>();
+        for (Long memberId : pending.keySet()) {
+            PendingScore score = pending.remove(memberId);
+            if (score != null) {
+                increments.add(new PaperScoreIncrementDTO(memberId, score.score(), score.messageCount()));
+            }
+        }
+
+        PendingBatch batch = new PendingBatch(UUID.randomUUID().toString(), increments);
+        if (!apply(batch)) {
+            failedBatch = batch;
+        }
+    }
+
+    private boolean apply(PendingBatch batch) {
+        try {
+            redisPaperUpdateAdapter.incrementRealtimePopularPaperScores(batch.id(), batch.increments());
+            return true;
+        } catch (Exception e) {
+            log.warn("롤링페이퍼 인기 점수 일괄 반영 실패, 다음 주기에 같은 묶음으로 재시도: batchId={}, {}건",
+                    batch.id(), batch.increments().size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 종료 시 실패한 묶음과 남은 증감을 반영합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        flush();
+        int lost = (failedBatch != null ? failedBatch.increments().size() : 0) + pending.size();
+        if (lost > 0) {
+            log.error("종료 시 롤링페이퍼 인기 점수 반영 실패, {}건 유실", lost);
+        }
+    }
+
+    /**
+     * 한 번에 반영하는 증감 묶음. 재시도 시 같은 ID를 사용한다.
+     */
+    record PendingBatch(String id, List<PaperScoreIncrementDTO> increments) {
+    }
+
+    /**
+     * 한 롤링페이퍼에 누적된 점수와 메시지 수 증감
+     */
+    record PendingScore(double score, int messageCount) {
+        PendingScore plus(PendingScore other) {
+            return new PendingScore(score + other.score, messageCount + other.messageCount);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package jaeik.bimillog.domain.paper.controller;
 
+import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.domain.global.entity.CustomUserDetails;
 import jaeik.bimillog.domain.paper.dto.MyPaperDTO;
+import jaeik.bimillog.domain.paper.dto.PaperRegion;
 import jaeik.bimillog.domain.paper.dto.VisitPaperDTO;
+import jaeik.bimillog.domain.paper.entity.PaperCell;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
 import jaeik.bimillog.domain.paper.service.PaperQueryService;
 import jaeik.bimillog.infrastructure.log.Log;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -18,9 +23,10 @@ import org.springframework.web.bind.annotation.RestController;
  * <p>롤링페이퍼 도메인의 조회 작업을 처리하는 컨트롤러입니다.</p>
  * <p>내 롤링페이퍼 조회</p>
  * <p>타인 롤링페이퍼 방문</p>
+ * <p>그리드 영역 조회</p>
  *
  * @author Jaeik
- * @version 2.6.0
+ * @version 2.8.0
  */
 @Log(level = Log.LogLevel.INFO,
         logExecutionTime = true,
@@ -58,4 +64,43 @@ public class PaperQueryController {
         VisitPaperDTO result = paperQueryService.visitPaper(memberName);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * <h3>내 롤링페이퍼 영역 조회 API</h3>
+     * <p>화면에 보이는 그리드 영역(양 끝 포함)의 메시지만 행 우선 순서로 조회합니다.</p>
+     *
+     * @param cursor 마지막으로 받은 칸 번호 (null이면 처음부터)
+     * @param size   조회할 개수 (기본값: 30)
+     * @return CursorPageResponse 커서 기반 페이지 응답
+     */
+    @GetMapping("/messages")
+    public ResponseEntity<CursorPageResponse<PaperMessage>> myPaperRegion(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "0") int minX, @RequestParam(defaultValue = "11") int maxX,
+            @RequestParam(defaultValue = "0") int minY, @RequestParam(defaultValue = "9") int maxY,
+            @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "30") int size) {
+        CursorPageResponse<PaperMessage> result = paperQueryService.getMyPaperRegion(
+                userDetails.getMemberId(), new PaperRegion(minX, maxX, minY, maxY), cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * <h3>다른 사용자 롤링페이퍼 영역 조회 API</h3>
+     * <p>방문자에게는 영역 안의 그리드 레이아웃 정보만 제공합니다.</p>
+     *
+     * @param memberName 방문할 롤링페이퍼 소유자의 사용자명
+     * @param cursor     마지막으로 받은 칸 번호 (null이면 처음부터)
+     * @param size       조회할 개수 (기본값: 30)
+     * @return CursorPageResponse 커서 기반 페이지 응답
+     */
+    @GetMapping("/{memberName}/messages")
+    public ResponseEntity<CursorPageResponse<PaperCell>> visitPaperRegion(
+            @PathVariable String memberName,
+            @RequestParam(defaultValue = "0") int minX, @RequestParam(defaultValue = "11") int maxX,
+            @RequestParam(defaultValue = "0") int minY, @RequestParam(defaultValue = "9") int maxY,
+            @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "30") int size) {
+        CursorPageResponse<PaperCell> result = paperQueryService.visitPaperRegion(
+                memberName, new PaperRegion(minX, maxX, minY, maxY), cursor, size);
+        return ResponseEntity.ok(result);
+    }
 }
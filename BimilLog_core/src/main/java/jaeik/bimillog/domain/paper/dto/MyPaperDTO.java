@@ -1,7 +1,7 @@
 package jaeik.bimillog.domain.paper.dto;
 
 import jaeik.bimillog.domain.paper.entity.DecoType;
-import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,7 +26,7 @@ public class MyPaperDTO {
     /**
      * 내 롤링페이퍼 DTO 생성
      */
-    public static MyPaperDTO createMyPaperDTO(Long memberId, List<Message> messageList) {
+    public static MyPaperDTO createMyPaperDTO(Long memberId, List<PaperMessage> messageList) {
         List<MyMessageDTO> myMessageDTOList = MyMessageDTO.getMyMessageDTOList(messageList);
         return new MyPaperDTO(memberId, myMessageDTOList);
     }
@@ -46,17 +46,17 @@ public class MyPaperDTO {
         /**
          * DTO 리스트 생성
          */
-        private static List<MyMessageDTO> getMyMessageDTOList(List<Message> messageList) {
+        private static List<MyMessageDTO> getMyMessageDTOList(List<PaperMessage> messageList) {
             List<MyMessageDTO> myMessageDTOS = new ArrayList<>();
-            for (Message message : messageList) {
+            for (PaperMessage message : messageList) {
                 myMessageDTOS.add(new MyMessageDTO(
-                        message.getId(),
-                        message.getDecoType(),
-                        message.getAnonymity(),
-                        message.getContent(),
-                        message.getX(),
-                        message.getY(),
-                        message.getCreatedAt()
+                        message.id(),
+                        message.decoType(),
+                        message.anonymity(),
+                        message.content(),
+                        message.x(),
+                        message.y(),
+                        message.createdAt()
                 ));
             }
             return myMessageDTOS;
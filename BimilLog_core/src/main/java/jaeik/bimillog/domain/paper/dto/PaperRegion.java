@@ -0,0 +1,15 @@
+package jaeik.bimillog.domain.paper.dto;
+
+/**
+ * <h2>롤링페이퍼 그리드 영역</h2>
+ * <p>클라이언트가 화면에 그리는 그리드 범위입니다. 양 끝 좌표를 포함합니다.</p>
+ *
+ * @param minX 시작 x (포함)
+ * @param maxX 끝 x (포함)
+ * @param minY 시작 y (포함)
+ * @param maxY 끝 y (포함)
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record PaperRegion(int minX, int maxX, int minY, int maxY) {
+}
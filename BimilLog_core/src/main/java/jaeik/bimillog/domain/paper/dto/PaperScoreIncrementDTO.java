@@ -0,0 +1,14 @@
+package jaeik.bimillog.domain.paper.dto;
+
+/**
+ * <h2>롤링페이퍼 인기 점수 증가 배치 항목</h2>
+ * <p>같은 롤링페이퍼에 대한 여러 조회/메시지 이벤트를 하나로 합친 결과입니다.</p>
+ *
+ * @param memberId     롤링페이퍼 소유자 ID
+ * @param score        합쳐진 점수 증감
+ * @param messageCount 합쳐진 메시지 수 증감
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record PaperScoreIncrementDTO(Long memberId, double score, int messageCount) {
+}
@@ -1,7 +1,7 @@
 package jaeik.bimillog.domain.paper.dto;
 
 import jaeik.bimillog.domain.paper.entity.DecoType;
-import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,7 +25,7 @@ public class VisitPaperDTO {
     /**
      * 방문 DTO 생성
      */
-    public static VisitPaperDTO createVisitPaperDTO(Long ownerId, List<Message> messageList) {
+    public static VisitPaperDTO createVisitPaperDTO(Long ownerId, List<PaperMessage> messageList) {
         List<VisitMessageDTO> visitMessageDtoList = VisitMessageDTO.getVisitMessageDtoList(messageList);
         return new VisitPaperDTO(ownerId, visitMessageDtoList);
     }
@@ -41,10 +41,10 @@ public class VisitPaperDTO {
         /**
          * DTO리스트 생성
          */
-        private static List<VisitMessageDTO> getVisitMessageDtoList(List<Message> messageList) {
+        private static List<VisitMessageDTO> getVisitMessageDtoList(List<PaperMessage> messageList) {
             List<VisitMessageDTO> visitMessageDTOS = new ArrayList<>();
-            for (Message message : messageList) {
-                VisitMessageDTO from = new VisitMessageDTO(message.getDecoType(), message.getX(), message.getY());
+            for (PaperMessage message : messageList) {
+                VisitMessageDTO from = new VisitMessageDTO(message.decoType(), message.x(), message.y());
                 visitMessageDTOS.add(from);
             }
             return visitMessageDTOS;
@@ -24,7 +24,8 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor
 @Table(name = "message", uniqueConstraints =
-        {@UniqueConstraint(name = "unique_member_x_y", columnNames = {"member_id", "x", "y"})})
+        {@UniqueConstraint(name = "unique_member_x_y", columnNames = {"member_id", "x", "y"})},
+        indexes = {@Index(name = "idx_message_member_y_x", columnList = "member_id, y, x")})
 public class Message extends BaseEntity {
 
     @Id
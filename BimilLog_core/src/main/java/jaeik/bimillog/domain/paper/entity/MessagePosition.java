@@ -0,0 +1,11 @@
+package jaeik.bimillog.domain.paper.entity;
+
+/**
+ * <h2>메시지 위치</h2>
+ * <p>롤링페이퍼 칸(x, y)을 차지한 메시지 ID입니다. 배치 저장 시 빈 칸 확인과 저장된 ID 조회에 사용합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record MessagePosition(Long messageId, int x, int y) {
+}
@@ -0,0 +1,11 @@
+package jaeik.bimillog.domain.paper.entity;
+
+/**
+ * <h2>롤링페이퍼 그리드 칸</h2>
+ * <p>방문자에게 제공하는 메시지 배치 정보입니다. 내용을 포함하지 않으므로 복호화가 필요 없습니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record PaperCell(DecoType decoType, int x, int y) {
+}
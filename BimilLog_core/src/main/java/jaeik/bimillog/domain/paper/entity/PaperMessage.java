@@ -0,0 +1,19 @@
+package jaeik.bimillog.domain.paper.entity;
+
+import java.time.Instant;
+
+/**
+ * <h2>복호화된 롤링페이퍼 메시지</h2>
+ * <p>롤링페이퍼 스냅샷 캐시에 보관되는 메시지 읽기 모델입니다. content는 평문입니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record PaperMessage(Long id, DecoType decoType, String anonymity, String content,
+                           int x, int y, Instant createdAt) {
+
+    public static PaperMessage from(Message message) {
+        return new PaperMessage(message.getId(), message.getDecoType(), message.getAnonymity(),
+                message.getContent(), message.getX(), message.getY(), message.getCreatedAt());
+    }
+}
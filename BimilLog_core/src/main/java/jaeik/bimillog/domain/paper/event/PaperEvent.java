@@ -1,5 +1,7 @@
 package jaeik.bimillog.domain.paper.event;
 
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
+
 /**
  * <h2>롤링페이퍼 도메인 이벤트</h2>
  * <p>롤링페이퍼 도메인에서 발생하는 모든 이벤트를 정의합니다.</p>
@@ -22,19 +24,33 @@ public interface PaperEvent {
      * <h3>롤링페이퍼 메시지 삭제 이벤트</h3>
      * <p>롤링페이퍼 메시지가 삭제되었을 때 발생하는 비동기 이벤트</p>
      * <p>RealtimePaperPopularScoreListener에서 수신하여 실시간 인기 점수를 5점 감소시킵니다.</p>
+     * <p>PaperSnapshotCacheListener에서 수신하여 커밋 후 스냅샷에서 해당 메시지를 제거합니다.</p>
      *
      * @param paperOwnerId 롤링페이퍼 소유자 ID (점수를 감소시킬 대상)
+     * @param messageId    삭제된 메시지 ID
+     */
+    record MessageDeletedEvent(Long paperOwnerId, Long messageId) implements PaperEvent {}
+
+    /**
+     * <h3>롤링페이퍼 메시지 저장 이벤트</h3>
+     * <p>메시지가 저장되었을 때 발생하는 이벤트</p>
+     * <p>PaperSnapshotCacheListener에서 수신하여 커밋 후 스냅샷에 평문 메시지를 추가합니다.</p>
+     *
+     * @param paperOwnerId 롤링페이퍼 주인 ID
+     * @param message      저장된 메시지 (복호화된 형태)
      */
-    record MessageDeletedEvent(Long paperOwnerId) implements PaperEvent {}
+    record MessageSavedEvent(Long paperOwnerId, PaperMessage message) implements PaperEvent {}
 
     /**
      * <h3>롤링페이퍼 메시지 작성 이벤트</h3>
      * <p>다른 사용자가 롤링페이퍼에 메시지를 남겼을 때 발생하는 이벤트</p>
+     * <p>같은 롤링페이퍼에 한 배치로 저장된 메시지는 하나의 이벤트로 합쳐 발행됩니다.</p>
      * <p>NotificationSaveListener에서 수신하여 SSE와 FCM 알림을 트리거합니다.</p>
-     * <p>RealtimePaperPopularScoreListener에서 수신하여 실시간 인기 점수를 5점 증가시킵니다.</p>
+     * <p>RealtimePaperPopularScoreListener에서 수신하여 실시간 인기 점수를 메시지당 5점 증가시킵니다.</p>
      *
      * @param paperOwnerId 롤링페이퍼 주인 ID (알림을 받을 사용자)
-     * @param memberName   메시지 작성자 닉네임
+     * @param memberName   롤링페이퍼 주인 닉네임 (알림 URL에 사용)
+     * @param messageCount 함께 저장된 메시지 수
      */
-    record RollingPaperEvent(Long paperOwnerId, String memberName) implements PaperEvent {}
+    record RollingPaperEvent(Long paperOwnerId, String memberName, int messageCount) implements PaperEvent {}
 }
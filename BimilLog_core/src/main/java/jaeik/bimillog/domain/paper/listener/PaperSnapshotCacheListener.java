@@ -0,0 +1,31 @@
+package jaeik.bimillog.domain.paper.listener;
+
+import jaeik.bimillog.domain.paper.event.PaperEvent.MessageDeletedEvent;
+import jaeik.bimillog.domain.paper.event.PaperEvent.MessageSavedEvent;
+import jaeik.bimillog.domain.paper.repository.PaperSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <h2>롤링페이퍼 스냅샷 캐시 패치 리스너</h2>
+ * <p>커밋된 메시지 저장/삭제를 스냅샷 캐시에 그 자리에서 반영합니다. 메모리 연산이므로 동기로 처리합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PaperSnapshotCacheListener {
+    private final PaperSnapshotCache paperSnapshotCache;
+
+    @TransactionalEventListener
+    public void handleMessageSaved(MessageSavedEvent event) {
+        paperSnapshotCache.addMessage(event.paperOwnerId(), event.message());
+    }
+
+    @TransactionalEventListener
+    public void handleMessageDeleted(MessageDeletedEvent event) {
+        paperSnapshotCache.removeMessage(event.paperOwnerId(), event.messageId());
+    }
+}
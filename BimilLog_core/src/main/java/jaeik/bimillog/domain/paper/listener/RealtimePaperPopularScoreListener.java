@@ -1,17 +1,12 @@
 package jaeik.bimillog.domain.paper.listener;
 
+import jaeik.bimillog.domain.paper.async.PaperScoreAccumulator;
 import jaeik.bimillog.domain.paper.event.PaperEvent.MessageDeletedEvent;
 import jaeik.bimillog.domain.paper.event.PaperEvent.PaperViewedEvent;
 import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
-import jaeik.bimillog.infrastructure.redis.paper.RedisPaperUpdateAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import jaeik.bimillog.infrastructure.log.Log;
@@ -20,17 +15,19 @@ import jaeik.bimillog.infrastructure.log.Log;
  * <h2>실시간 인기 롤링페이퍼 점수 업데이트 리스너</h2>
  * <p>롤링페이퍼 조회, 메시지 작성, 메시지 삭제 이벤트를 수신하여 실시간 인기 롤링페이퍼 점수를 업데이트합니다.</p>
  * <p>조회: +2점, 메시지 작성: +5점, 메시지 삭제: -5점</p>
- * <p>비동기 처리를 통해 이벤트 발행자와 독립적으로 실행됩니다.</p>
+ * <p>메시지 작성/삭제는 최근 24시간 메시지 수 버킷도 함께 증감합니다.</p>
+ * <p>증감은 {@link PaperScoreAccumulator}에 메모리로 합산되고 Redis 반영은 누적기가 주기적으로 일괄 처리하므로,
+ * 리스너는 비동기 실행기 없이 이벤트 발행 스레드에서 바로 실행됩니다.</p>
  *
  * @author Jaeik
- * @version 2.5.0
+ * @version 2.8.0
  */
 @Log(logResult = false, level = Log.LogLevel.DEBUG, message = "실시간 롤링페이퍼 점수")
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RealtimePaperPopularScoreListener {
-    private final RedisPaperUpdateAdapter redisPaperUpdateAdapter;
+    private final PaperScoreAccumulator paperScoreAccumulator;
 
     private static final double VIEW_SCORE = 2.0;
     private static final double MESSAGE_SCORE = 5.0;
@@ -38,75 +35,48 @@ public class RealtimePaperPopularScoreListener {
     /**
      * <h3>롤링페이퍼 조회 이벤트 처리</h3>
      * <p>롤링페이퍼 조회 시 실시간 인기 롤링페이퍼 점수를 2점 증가시킵니다.</p>
-     * <p>PaperViewedEvent 발행 시 비동기로 호출됩니다.</p>
      *
      * @param event 롤링페이퍼 조회 이벤트
      * @author Jaeik
      * @since 2.0.0
      */
     @EventListener
-    @Async("realtimeEventExecutor")
-    @Retryable(
-            retryFor = RedisConnectionFailureException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
     public void handlePaperViewed(PaperViewedEvent event) {
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(event.memberId(), VIEW_SCORE);
-    }
-
-    @Recover
-    public void recoverPaperViewed(Exception e, PaperViewedEvent event) {
-        log.error("실시간 인기 롤링페이퍼 점수 증가 최종 실패 (조회): memberId={}", event.memberId(), e);
+        accumulate(event.memberId(), VIEW_SCORE, 0);
     }
 
     /**
      * <h3>메시지 작성 이벤트 처리</h3>
-     * <p>메시지 작성 시 해당 롤링페이퍼의 실시간 인기 점수를 5점 증가시킵니다.</p>
-     * <p>RollingPaperEvent 발행 시 비동기로 호출됩니다.</p>
+     * <p>메시지 작성 시 해당 롤링페이퍼의 실시간 인기 점수를 메시지당 5점 증가시킵니다.</p>
      *
      * @param event 메시지 작성 이벤트
      * @author Jaeik
      * @since 2.0.0
      */
     @EventListener
-    @Async("realtimeEventExecutor")
-    @Retryable(
-            retryFor = RedisConnectionFailureException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
     public void handleMessageCreated(RollingPaperEvent event) {
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(event.paperOwnerId(), MESSAGE_SCORE);
-    }
-
-    @Recover
-    public void recoverMessageCreated(Exception e, RollingPaperEvent event) {
-        log.error("실시간 인기 롤링페이퍼 점수 증가 최종 실패 (메시지 작성): memberId={}", event.paperOwnerId(), e);
+        accumulate(event.paperOwnerId(), MESSAGE_SCORE * event.messageCount(), event.messageCount());
     }
 
     /**
      * <h3>메시지 삭제 이벤트 처리</h3>
      * <p>메시지 삭제 시 해당 롤링페이퍼의 실시간 인기 점수를 5점 감소시킵니다.</p>
-     * <p>MessageDeletedEvent 발행 시 비동기로 호출됩니다.</p>
      *
      * @param event 메시지 삭제 이벤트
      * @author Jaeik
      * @since 2.0.0
      */
     @EventListener
-    @Async("realtimeEventExecutor")
-    @Retryable(
-            retryFor = RedisConnectionFailureException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 1.5)
-    )
     public void handleMessageDeleted(MessageDeletedEvent event) {
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(event.paperOwnerId(), -MESSAGE_SCORE);
+        accumulate(event.paperOwnerId(), -MESSAGE_SCORE, -1);
     }
 
-    @Recover
-    public void recoverMessageDeleted(Exception e, MessageDeletedEvent event) {
-        log.error("실시간 인기 롤링페이퍼 점수 감소 최종 실패 (메시지 삭제): memberId={}", event.paperOwnerId(), e);
+    /**
+     * 누적기가 가득 찬 경우 요청 경로를 막지 않도록 증감을 버립니다. 인기 점수는 순위용 보조 지표입니다.
+     */
+    private void accumulate(Long memberId, double score, int messageCount) {
+        if (!paperScoreAccumulator.add(memberId, score, messageCount)) {
+            log.warn("롤링페이퍼 인기 점수 누적기 가득 참, 증감 버림: memberId={}, score={}", memberId, score);
+        }
     }
 }
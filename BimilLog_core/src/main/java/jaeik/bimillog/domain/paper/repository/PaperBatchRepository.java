@@ -0,0 +1,74 @@
+package jaeik.bimillog.domain.paper.repository;
+
+import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.infrastructure.security.EncryptionUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * <h2>메시지 배치 저장 리포지터리</h2>
+ * <p>같은 롤링페이퍼에 모인 메시지를 다중 행 INSERT 한 문장으로 저장합니다.</p>
+ * <p>IDENTITY 전략에서는 Hibernate 배치 INSERT가 동작하지 않으므로 네이티브 쿼리를 사용하며,
+ * 내용 암호화는 MessageEncryptConverter와 같은 EncryptionUtil로 직접 수행합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaperBatchRepository {
+    private static final String INSERT_PREFIX =
+            "INSERT INTO message (member_id, deco_type, anonymity, content, x, y, created_at, modified_at) VALUES ";
+    private static final int COLUMN_COUNT = 8;
+
+    private final EntityManager entityManager;
+    private final EncryptionUtil encryptionUtil;
+
+    /**
+     * <h3>메시지 다중 행 저장</h3>
+     * <p>칸 중복은 UNIQUE(member_id, x, y) 제약으로 DataIntegrityViolationException이 되어 문장 전체가 실패합니다.</p>
+     *
+     * @param messages  저장할 메시지 (저장 전 엔티티)
+     * @param createdAt 생성/수정 시각
+     */
+    public void insertMessages(List<Message> messages, Instant createdAt) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < messages.size(); i++) {
+            int base = i * COLUMN_COUNT;
+            sql.append(i == 0 ? "" : ", ").append('(');
+            for (int column = 1; column <= COLUMN_COUNT; column++) {
+                sql.append(column == 1 ? "" : ", ").append('?').append(base + column);
+            }
+            sql.append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            int base = i * COLUMN_COUNT;
+            query.setParameter(base + 1, message.getMember().getId());
+            query.setParameter(base + 2, message.getDecoType().name());
+            query.setParameter(base + 3, message.getAnonymity());
+            query.setParameter(base + 4, encrypt(message.getContent()));
+            query.setParameter(base + 5, message.getX());
+            query.setParameter(base + 6, message.getY());
+            query.setParameter(base + 7, createdAt);
+            query.setParameter(base + 8, createdAt);
+        }
+        query.executeUpdate();
+    }
+
+    private String encrypt(String content) {
+        try {
+            return encryptionUtil.encrypt(content);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("메시지 암호화 실패", e);
+        }
+    }
+}
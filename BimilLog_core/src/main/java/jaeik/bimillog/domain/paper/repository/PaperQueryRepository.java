@@ -1,25 +1,25 @@
 package jaeik.bimillog.domain.paper.repository;
 
-import com.querydsl.core.Tuple;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jaeik.bimillog.domain.paper.dto.PaperRegion;
 import jaeik.bimillog.domain.paper.entity.Message;
-
+import jaeik.bimillog.domain.paper.entity.MessagePosition;
+import jaeik.bimillog.domain.paper.entity.PaperCell;
 import jaeik.bimillog.domain.paper.entity.QMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
-
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * <h2>롤링페이퍼 조회 리포지터리</h2>
  * <p>롤링페이퍼 도메인의 조회 작업을 담당하는 리포지터리.</p>
  *
  * @author Jaeik
- * @version 2.6.0
+ * @version 2.8.0
  */
 @Repository
 @RequiredArgsConstructor
@@ -41,30 +41,64 @@ public class PaperQueryRepository {
     }
 
     /**
-     * <h3>회원별 최근 메시지 수 조회</h3>
-     * <p>지정된 시간 이후에 작성된 메시지 수를 회원별로 집계하여 반환합니다.</p>
+     * <h3>그리드 영역 메시지 조회 (Keyset)</h3>
+     * <p>(member_id, y, x) 인덱스 범위 스캔으로 영역 안의 메시지를 행 우선 순서로 조회합니다.
+     * 읽는 행 수와 복호화 횟수가 페이퍼 전체가 아닌 영역 크기에 비례합니다.</p>
      *
-     * @param memberIds 조회 대상 회원 ID 목록
-     * @param since 이 시점 이후의 메시지만 카운트
-     * @return Map&lt;memberId, messageCount&gt;
+     * @param afterY 마지막으로 받은 칸의 y (null이면 처음부터)
+     * @param afterX 마지막으로 받은 칸의 x
+     * @param limit  최대 조회 개수
+     */
+    public List<Message> getMessagesInRegion(Long memberId, PaperRegion region, Integer afterY, Integer afterX, int limit) {
+        return jpaQueryFactory.select(message)
+                .from(message)
+                .where(regionConditions(memberId, region, afterY, afterX))
+                .orderBy(message.y.asc(), message.x.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * <h3>그리드 영역 칸 조회 (Keyset)</h3>
+     * <p>방문자용 조회로 content 컬럼을 읽지 않습니다.</p>
      */
-    public Map<Long, Integer> enrichPopularPaperInfos(List<Long> memberIds, Instant twentyFourHoursAgo) {
+    public List<PaperCell> getCellsInRegion(Long memberId, PaperRegion region, Integer afterY, Integer afterX, int limit) {
+        return jpaQueryFactory
+                .select(Projections.constructor(PaperCell.class, message.decoType, message.x, message.y))
+                .from(message)
+                .where(regionConditions(memberId, region, afterY, afterX))
+                .orderBy(message.y.asc(), message.x.asc())
+                .limit(limit)
+                .fetch();
+    }
 
-        List<Tuple> results = jpaQueryFactory
-                .select(message.member.id, message.count())
+    /**
+     * <h3>칸 목록의 메시지 위치 조회</h3>
+     * <p>주어진 메시지들의 (x, y) 칸 중 이미 메시지가 있는 칸과 그 메시지 ID를 유니크 인덱스로 조회합니다.</p>
+     *
+     * @param memberId 롤링페이퍼 주인 ID
+     * @param messages 칸을 확인할 메시지 (저장 전 엔티티)
+     */
+    public List<MessagePosition> findMessagePositions(Long memberId, List<Message> messages) {
+        BooleanBuilder cells = new BooleanBuilder();
+        for (Message candidate : messages) {
+            cells.or(message.x.eq(candidate.getX()).and(message.y.eq(candidate.getY())));
+        }
+        return jpaQueryFactory
+                .select(Projections.constructor(MessagePosition.class, message.id, message.x, message.y))
                 .from(message)
-                .where(
-                        message.member.id.in(memberIds),
-                        message.createdAt.goe(twentyFourHoursAgo)
-                )
-                .groupBy(message.member.id)
+                .where(message.member.id.eq(memberId), cells)
                 .fetch();
+    }
 
-        return results.stream()
-                .collect(Collectors.toMap(
-                        tuple -> tuple.get(message.member.id),
-                        tuple -> tuple.get(message.count()).intValue(),
-                        (existing, replacement) -> existing
-                ));
+    private BooleanExpression[] regionConditions(Long memberId, PaperRegion region, Integer afterY, Integer afterX) {
+        BooleanExpression keyset = afterY == null ? null
+                : message.y.gt(afterY).or(message.y.eq(afterY).and(message.x.gt(afterX)));
+        return new BooleanExpression[]{
+                message.member.id.eq(memberId),
+                message.y.between(region.minY(), region.maxY()),
+                message.x.between(region.minX(), region.maxX()),
+                keyset
+        };
     }
-}
\ No newline at end of file
+}
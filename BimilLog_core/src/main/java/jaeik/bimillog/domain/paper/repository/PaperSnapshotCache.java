@@ -0,0 +1,133 @@
+package jaeik.bimillog.domain.paper.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h2>롤링페이퍼 스냅샷 로컬 캐시</h2>
+ * <p>소유자별로 복호화된 메시지 목록(작성일 내림차순)을 보관하여 조회 시 DB 접근과 AES 복호화를 생략합니다.</p>
+ * <p>메시지 저장/삭제 이벤트로 캐시를 무효화하지 않고 해당 메시지만 교체하며, DB의 암호화 저장 방식은 그대로입니다.
+ * 스냅샷은 불변이며 Caffeine의 키 단위 원자 연산(computeIfPresent)으로 교체됩니다.</p>
+ * <p>엔트리는 평문 크기 기준 가중치로 메모리 예산(MAX_WEIGHT_BYTES)을 넘으면 축출되고,
+ * 다른 인스턴스에서 발생한 변경은 적재 시점 기준 TTL(패치로 연장되지 않음)로 오래된 정도를 제한합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PaperSnapshotCache {
+    private static final long MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+    private static final int SNAPSHOT_OVERHEAD_BYTES = 64;
+    private static final int MESSAGE_OVERHEAD_BYTES = 96;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final PaperQueryRepository paperQueryRepository;
+
+    private final Cache<Long, List<PaperMessage>> cache = Caffeine.newBuilder()
+            .maximumWeight(MAX_WEIGHT_BYTES)
+            .weigher((Long ownerId, List<PaperMessage> messages) -> weigh(messages))
+            .expireAfter(new Expiry<Long, List<PaperMessage>>() {
+                @Override
+                public long expireAfterCreate(Long key, List<PaperMessage> value, long currentTime) {
+                    return TTL.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Long key, List<PaperMessage> value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Long key, List<PaperMessage> value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    /**
+     * <h3>롤링페이퍼 스냅샷 조회</h3>
+     * <p>캐시 미스 시 소유자의 메시지 전체를 한 번 조회하여 복호화된 상태로 적재합니다.</p>
+     */
+    public List<PaperMessage> getMessages(Long ownerId) {
+        return cache.get(ownerId, this::load);
+    }
+
+    /**
+     * <h3>메시지 저장 반영</h3>
+     * <p>스냅샷이 캐시되어 있을 때만 가장 앞(최신)에 추가합니다. 이미 있는 메시지면 무시합니다.</p>
+     */
+    public void addMessage(Long ownerId, PaperMessage message) {
+        cache.asMap().computeIfPresent(ownerId, (id, messages) -> {
+            if (indexOf(messages, message.id()) >= 0) {
+                return messages;
+            }
+            List<PaperMessage> next = new ArrayList<>(messages.size() + 1);
+            next.add(message);
+            next.addAll(messages);
+            return List.copyOf(next);
+        });
+    }
+
+    /**
+     * <h3>메시지 삭제 반영</h3>
+     */
+    public void removeMessage(Long ownerId, Long messageId) {
+        cache.asMap().computeIfPresent(ownerId, (id, messages) -> {
+            int index = indexOf(messages, messageId);
+            if (index < 0) {
+                return messages;
+            }
+            List<PaperMessage> next = new ArrayList<>(messages);
+            next.remove(index);
+            return List.copyOf(next);
+        });
+    }
+
+    /**
+     * <h3>소유자 스냅샷 제거</h3>
+     * <p>회원 탈퇴로 메시지가 일괄 삭제된 경우 사용합니다.</p>
+     */
+    public void evict(Long ownerId) {
+        cache.invalidate(ownerId);
+    }
+
+    private List<PaperMessage> load(Long ownerId) {
+        List<Message> messages = paperQueryRepository.getMessageList(ownerId);
+        List<PaperMessage> snapshot = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            snapshot.add(PaperMessage.from(message));
+        }
+        return List.copyOf(snapshot);
+    }
+
+    private static int indexOf(List<PaperMessage> messages, Long messageId) {
+        for (int i = 0; i < messages.size(); i++) {
+            if (Objects.equals(messages.get(i).id(), messageId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 평문 문자열(UTF-16) 크기와 객체 오버헤드를 합한 대략적인 바이트 수
+     */
+    private static int weigh(List<PaperMessage> messages) {
+        int bytes = SNAPSHOT_OVERHEAD_BYTES;
+        for (PaperMessage message : messages) {
+            bytes += MESSAGE_OVERHEAD_BYTES + 2 * (message.content().length() + message.anonymity().length());
+        }
+        return bytes;
+    }
+}
@@ -1,28 +1,33 @@
 package jaeik.bimillog.domain.paper.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jaeik.bimillog.domain.paper.entity.PopularPaperInfo;
-import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
 import jaeik.bimillog.domain.paper.adapter.PaperToMemberAdapter;
 import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.infrastructure.log.Log;
 import jaeik.bimillog.infrastructure.redis.paper.RedisPaperQueryAdapter;
+import jaeik.bimillog.infrastructure.redis.paper.RedisPaperUpdateAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_SNAPSHOT_KEY;
+import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_SNAPSHOT_SIZE;
+
 /**
  * <h2>롤링페이퍼 캐시 서비스</h2>
  * <p>롤링페이퍼 캐시 관리 관련 비즈니스 로직을 오케스트레이션합니다.</p>
  * <p>실시간 인기 롤링페이퍼 조회</p>
- * <p>Redis Sorted Set에서 점수 기반 순위 조회 후 DB 데이터를 결합하여 제공</p>
+ * <p>상위 100개는 회원 이름과 최근 메시지 수가 채워진 스냅샷으로
+ * 합산 주기마다 한 번 만들어 Redis에 저장하고, 조회는 로컬 캐시 또는 GET 한 번으로 처리합니다.
+ * 스냅샷이 없거나 범위를 벗어난 페이지만 Redis Sorted Set 순위에 회원 이름과 메시지 수를 결합하여 제공합니다.</p>
  *
  * @author Jaeik
  * @version 2.8.0
@@ -32,13 +37,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class PaperCacheService {
+    private static final Duration LOCAL_SNAPSHOT_TTL = Duration.ofSeconds(5);
+
     private final RedisPaperQueryAdapter redisPaperQueryAdapter;
-    private final PaperQueryRepository paperQueryRepository;
+    private final RedisPaperUpdateAdapter redisPaperUpdateAdapter;
     private final PaperToMemberAdapter paperToMemberAdapter;
 
+    private final Cache<String, List<PopularPaperInfo>> localSnapshot = Caffeine.newBuilder()
+            .maximumSize(1)
+            .expireAfterWrite(LOCAL_SNAPSHOT_TTL)
+            .build();
+
     /**
      * <h3>실시간 인기 롤링페이퍼 조회 (커서 기반)</h3>
-     * <p>Redis Sorted Set에서 점수 기반 순위를 조회하고 DB에서 추가 정보를 보강하여 반환합니다.</p>
+     * <p>요청 범위가 스냅샷 안에 있으면 스냅샷을 잘라 반환하고, 아니면 Redis Sorted Set에서 점수 기반 순위를 조회하고
+     * 회원 이름과 최근 메시지 수를 보강하여 반환합니다.</p>
      * <p>커서는 마지막으로 조회한 rank(순위)이며, null이면 처음부터 조회합니다.</p>
      *
      * @param cursor 마지막으로 조회한 순위 (null이면 처음부터)
@@ -50,39 +63,78 @@ public class PaperCacheService {
         int start = (cursor == null) ? 0 : cursor.intValue();
         int end = start + size; // size + 1개 조회하여 다음 페이지 존재 여부 판단
 
-        // 2. Redis에서 지정된 범위로 조회 (memberId, rank, popularityScore)
+        // 2. 스냅샷으로 응답 가능한 범위면 그대로 잘라서 반환
+        List<PopularPaperInfo> snapshot = getSnapshot();
+        if (snapshot != null && (snapshot.size() < REALTIME_PAPER_SNAPSHOT_SIZE || end < snapshot.size())) {
+            return toCursorPage(snapshot.subList(Math.min(start, snapshot.size()), Math.min(end + 1, snapshot.size())), size);
+        }
+
+        // 3. Redis에서 지정된 범위로 조회 (memberId, rank, popularityScore)
         List<PopularPaperInfo> popularPapers = redisPaperQueryAdapter.getRealtimePopularPapersWithRankAndScore(start, end);
 
         if (popularPapers.isEmpty()) {
             return CursorPageResponse.of(Collections.emptyList(), null);
         }
 
-        // 3. 다음 페이지 존재 여부 판단
+        // 4. 다음 페이지 존재 여부 판단
         boolean hasNext = popularPapers.size() > size;
         if (hasNext) {
             popularPapers = popularPapers.subList(0, size);
         }
 
-        // 4. memberIds 추출 및 memberName 주입
+        // 5. memberName, 최근 메시지 수 주입
+        enrich(popularPapers);
+
+        // 6. 다음 커서 계산 (마지막 항목의 rank)
+        Long nextCursor = hasNext ? (long) popularPapers.getLast().getRank() : null;
+        return CursorPageResponse.of(popularPapers, nextCursor);
+    }
+
+    /**
+     * <h3>실시간 인기 롤링페이퍼 스냅샷 갱신</h3>
+     * <p>합산된 순위 상위 목록에 회원 이름과 최근 메시지 수를 채워 Redis에 저장합니다.
+     * 순위는 버킷 합산 시에만 바뀌므로 PaperScheduledService가 합산 직후 호출합니다.</p>
+     */
+    public void refreshPopularSnapshot() {
+        List<PopularPaperInfo> popularPapers =
+                redisPaperQueryAdapter.getRealtimePopularPapersWithRankAndScore(0, REALTIME_PAPER_SNAPSHOT_SIZE - 1);
+        if (!popularPapers.isEmpty()) {
+            enrich(popularPapers);
+        }
+        redisPaperUpdateAdapter.saveRealtimePopularSnapshot(popularPapers);
+        localSnapshot.put(REALTIME_PAPER_SNAPSHOT_KEY, List.copyOf(popularPapers));
+    }
+
+    /**
+     * 로컬 캐시의 스냅샷, 없으면 Redis GET 결과. Redis에도 없으면 null
+     */
+    private List<PopularPaperInfo> getSnapshot() {
+        return localSnapshot.get(REALTIME_PAPER_SNAPSHOT_KEY,
+                key -> redisPaperQueryAdapter.getRealtimePopularSnapshot().map(List::copyOf).orElse(null));
+    }
+
+    private CursorPageResponse<PopularPaperInfo> toCursorPage(List<PopularPaperInfo> papers, int size) {
+        if (papers.size() > size) {
+            List<PopularPaperInfo> content = papers.subList(0, size);
+            return CursorPageResponse.of(content, (long) content.getLast().getRank());
+        }
+        return CursorPageResponse.of(papers, null);
+    }
+
+    private void enrich(List<PopularPaperInfo> popularPapers) {
         List<Long> memberIds = popularPapers.stream()
                 .map(PopularPaperInfo::getMemberId)
                 .collect(Collectors.toList());
 
         Map<Long, String> memberNameMap = paperToMemberAdapter.findMemberNamesByIds(memberIds);
-
         popularPapers.forEach(info ->
                 info.setMemberName(memberNameMap.getOrDefault(info.getMemberId(), ""))
         );
 
-        // 5. DB에서 24시간 이내 메시지 수 조회 후 채우기
-        Instant twentyFourHoursAgo = Instant.now().minus(24, ChronoUnit.HOURS);
-        Map<Long, Integer> messageCountMap = paperQueryRepository.enrichPopularPaperInfos(memberIds, twentyFourHoursAgo);
+        // 시간 버킷 합산 결과에서 24시간 이내 메시지 수 조회 후 채우기
+        Map<Long, Integer> messageCountMap = redisPaperQueryAdapter.getRecentMessageCounts(memberIds);
         popularPapers.forEach(info ->
                 info.setRecentMessageCount(messageCountMap.getOrDefault(info.getMemberId(), 0))
         );
-
-        // 6. 다음 커서 계산 (마지막 항목의 rank)
-        Long nextCursor = hasNext ? (long) popularPapers.getLast().getRank() : null;
-        return CursorPageResponse.of(popularPapers, nextCursor);
     }
 }
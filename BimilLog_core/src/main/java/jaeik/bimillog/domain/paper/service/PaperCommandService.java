@@ -5,8 +5,10 @@ import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.paper.dto.MessageWriteDTO;
 import jaeik.bimillog.domain.paper.entity.Message;
 import jaeik.bimillog.domain.paper.event.PaperEvent.MessageDeletedEvent;
-import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
 import jaeik.bimillog.domain.paper.repository.PaperRepository;
+import jaeik.bimillog.domain.paper.repository.PaperSnapshotCache;
+import jaeik.bimillog.domain.paper.write.PaperWriteBatcher;
+import jaeik.bimillog.domain.paper.write.PaperWriteRateLimiter;
 import jaeik.bimillog.domain.paper.adapter.PaperToMemberAdapter;
 import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
@@ -15,14 +17,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * <h2>롤링페이퍼 명령 서비스</h2>
  * <p>롤링페이퍼 도메인의 명령 작업을 담당하는 서비스입니다.</p>
  * <p>메시지 작성, 메시지 삭제</p>
+ * <p>작성/삭제는 이벤트로 롤링페이퍼 스냅샷 캐시에 반영됩니다.</p>
+ * <p>작성은 롤링페이퍼 주인별 속도 제한을 거쳐 PaperWriteBatcher가 묶어서 저장합니다.</p>
  *
  * @author Jaeik
- * @version 2.7.0
+ * @version 2.8.0
  */
 @Service
 @RequiredArgsConstructor
@@ -31,12 +37,15 @@ public class PaperCommandService {
     private final PaperToMemberAdapter paperToMemberAdapter;
     private final ApplicationEventPublisher eventPublisher;
     private final RedisPaperDeleteAdapter redisPaperDeleteAdapter;
+    private final PaperSnapshotCache paperSnapshotCache;
+    private final PaperWriteRateLimiter paperWriteRateLimiter;
+    private final PaperWriteBatcher paperWriteBatcher;
 
     /**
      * <h3>롤링페이퍼 메시지 작성</h3>
      * <p>특정 사용자의 롤링페이퍼에 메시지를 작성.</p>
+     * <p>대기 중 커넥션을 잡지 않도록 트랜잭션은 배치 저장 시점에만 엽니다.</p>
      */
-    @Transactional
     public void writeMessage(Long memberId, MessageWriteDTO messageWriteDTO) {
         Member member = paperToMemberAdapter.getMemberById(messageWriteDTO.getOwnerId());
 
@@ -45,13 +54,11 @@ public class PaperCommandService {
             eventPublisher.publishEvent(new CheckBlacklistEvent(memberId, member.getId())); // 블랙리스트는 작성 불가
         }
 
-        Message message = messageWriteDTO.convertDtoToEntity(member);
-        paperRepository.save(message);
+        if (!paperWriteRateLimiter.tryAcquire(member.getId())) {
+            throw new CustomException(ErrorCode.PAPER_WRITE_RATE_LIMITED);
+        }
 
-        eventPublisher.publishEvent(new RollingPaperEvent(
-                member.getId(),
-                member.getMemberName()
-        ));
+        paperWriteBatcher.write(member, messageWriteDTO.convertDtoToEntity(member));
     }
 
     /**
@@ -68,19 +75,30 @@ public class PaperCommandService {
         }
 
         paperRepository.deleteById(messageId);
-        eventPublisher.publishEvent(new MessageDeletedEvent(memberId));
+        eventPublisher.publishEvent(new MessageDeletedEvent(memberId, messageId));
     }
 
     /**
      * <h3>회원탈퇴시 롤링페이퍼 메시지 전체 삭제</h3>
+     * <p>스냅샷 캐시는 커밋 후 비웁니다. 커밋 전에 비우면 그 사이 조회가 삭제 전 메시지로 캐시를 다시 채울 수 있습니다.</p>
      */
     @Transactional
     public void deleteAllMessageWhenWithdraw(Long memberId) {
         paperRepository.deleteAllByMember_Id(memberId);
+        afterCommit(() -> paperSnapshotCache.evict(memberId));
         try {
             redisPaperDeleteAdapter.removeMemberIdFromRealtimeScore(memberId);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.PAPER_REDIS_DELETE_ERROR, e);
         }
     }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
\ No newline at end of file
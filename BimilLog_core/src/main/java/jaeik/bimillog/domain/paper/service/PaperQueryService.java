@@ -1,31 +1,43 @@
 package jaeik.bimillog.domain.paper.service;
 
+import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.paper.dto.MyPaperDTO;
+import jaeik.bimillog.domain.paper.dto.PaperRegion;
 import jaeik.bimillog.domain.paper.dto.VisitPaperDTO;
 import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.PaperCell;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
 import jaeik.bimillog.domain.paper.event.PaperEvent.PaperViewedEvent;
 import jaeik.bimillog.domain.paper.adapter.PaperToMemberAdapter;
 import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
+import jaeik.bimillog.domain.paper.repository.PaperSnapshotCache;
 import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * <h2>롤링페이퍼 조회 서비스</h2>
  * <p>롤링페이퍼 도메인의 조회 작업을 담당하는 서비스입니다.</p>
- * <p>내 롤링페이퍼 조회, 타인 롤링페이퍼 방문</p>
+ * <p>내 롤링페이퍼 조회, 타인 롤링페이퍼 방문, 그리드 영역 조회</p>
+ * <p>메시지는 소유자별 복호화 스냅샷 캐시에서 읽으므로 캐시 적중 시 DB 조회와 복호화가 발생하지 않습니다.</p>
  *
  * @author Jaeik
- * @version 2.6.0
+ * @version 2.8.0
  */
 @Service
 @RequiredArgsConstructor
 public class PaperQueryService {
+    private static final int GRID_WIDTH = 12;
+    private static final int GRID_HEIGHT = 10;
+
+    private final PaperSnapshotCache paperSnapshotCache;
     private final PaperQueryRepository paperQueryRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final PaperToMemberAdapter paperToMemberAdapter;
@@ -35,7 +47,7 @@ public class PaperQueryService {
      * <p>사용자 ID를 통해 자신의 롤링페이퍼에 작성된 모든 메시지를 조회합니다.</p>
      */
     public MyPaperDTO getMyPaper(Long memberId) {
-        List<Message> messageDetails = paperQueryRepository.getMessageList(memberId);
+        List<PaperMessage> messageDetails = paperSnapshotCache.getMessages(memberId);
         return MyPaperDTO.createMyPaperDTO(memberId, messageDetails);
     }
 
@@ -54,9 +66,78 @@ public class PaperQueryService {
         Member member = paperToMemberAdapter.findByMemberName(memberName)
                 .orElseThrow(() -> new CustomException(ErrorCode.PAPER_USERNAME_NOT_FOUND));
 
-        List<Message> messages = paperQueryRepository.getMessageList(member.getId());
+        List<PaperMessage> messages = paperSnapshotCache.getMessages(member.getId());
         VisitPaperDTO visitPaperDTO = VisitPaperDTO.createVisitPaperDTO(member.getId(), messages);
         eventPublisher.publishEvent(new PaperViewedEvent(member.getId()));
         return visitPaperDTO;
     }
-}
\ No newline at end of file
+
+    /**
+     * <h3>내 롤링페이퍼 영역 조회</h3>
+     * <p>화면에 보이는 그리드 영역의 메시지만 (y, x) 순서로 커서 페이지네이션하여 조회합니다.</p>
+     *
+     * @param cursor 마지막으로 받은 칸 번호 (y * 12 + x, null이면 처음부터)
+     */
+    public CursorPageResponse<PaperMessage> getMyPaperRegion(Long memberId, PaperRegion region, Long cursor, int size) {
+        validateRegion(region, cursor, size);
+        List<Message> messages = paperQueryRepository.getMessagesInRegion(
+                memberId, region, cursorY(cursor), cursorX(cursor), size + 1);
+
+        List<PaperMessage> content = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            content.add(PaperMessage.from(message));
+        }
+        return toCursorPage(content, size, PaperMessage::x, PaperMessage::y);
+    }
+
+    /**
+     * <h3>다른 사용자 롤링페이퍼 영역 조회</h3>
+     * <p>방문자용 영역 조회로 메시지 내용은 읽지 않습니다.</p>
+     * <p>같은 방문 중 화면 이동마다 호출되므로 PaperViewedEvent는 발행하지 않습니다. 조회수는 visitPaper에서만 집계합니다.</p>
+     */
+    public CursorPageResponse<PaperCell> visitPaperRegion(String memberName, PaperRegion region, Long cursor, int size) {
+        if (memberName == null || memberName.trim().isEmpty()) {
+            throw new CustomException(ErrorCode.PAPER_INVALID_INPUT_VALUE);
+        }
+        validateRegion(region, cursor, size);
+
+        Member member = paperToMemberAdapter.findByMemberName(memberName)
+                .orElseThrow(() -> new CustomException(ErrorCode.PAPER_USERNAME_NOT_FOUND));
+
+        List<PaperCell> cells = paperQueryRepository.getCellsInRegion(
+                member.getId(), region, cursorY(cursor), cursorX(cursor), size + 1);
+        return toCursorPage(cells, size, PaperCell::x, PaperCell::y);
+    }
+
+    private void validateRegion(PaperRegion region, Long cursor, int size) {
+        boolean invalid = region.minX() < 0 || region.maxX() >= GRID_WIDTH || region.minX() > region.maxX()
+                || region.minY() < 0 || region.maxY() >= GRID_HEIGHT || region.minY() > region.maxY()
+                || size < 1 || size > GRID_WIDTH * GRID_HEIGHT
+                || (cursor != null && (cursor < 0 || cursor >= GRID_WIDTH * GRID_HEIGHT));
+        if (invalid) {
+            throw new CustomException(ErrorCode.PAPER_INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static Integer cursorY(Long cursor) {
+        return cursor == null ? null : (int) (cursor / GRID_WIDTH);
+    }
+
+    private static Integer cursorX(Long cursor) {
+        return cursor == null ? null : (int) (cursor % GRID_WIDTH);
+    }
+
+    /**
+     * size + 1개 조회 결과로 다음 페이지 여부를 판단하고, 마지막 칸 번호를 다음 커서로 사용
+     */
+    private static <T> CursorPageResponse<T> toCursorPage(List<T> rows, int size, ToIntFunction<T> x, ToIntFunction<T> y) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        Long nextCursor = null;
+        if (hasNext) {
+            T last = content.getLast();
+            nextCursor = (long) y.applyAsInt(last) * GRID_WIDTH + x.applyAsInt(last);
+        }
+        return CursorPageResponse.of(content, nextCursor);
+    }
+}
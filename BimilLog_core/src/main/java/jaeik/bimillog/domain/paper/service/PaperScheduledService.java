@@ -8,16 +8,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * <h2>롤링페이퍼 스케줄러 서비스</h2>
+ * <p>실시간 인기 롤링페이퍼 시간 버킷을 주기적으로 합산합니다. 감쇠는 합산 가중치와 버킷 만료로 적용됩니다.</p>
+ * <p>합산 직후 인기 목록 스냅샷을 다시 만들어 조회가 GET 한 번으로 처리되게 합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaperScheduledService {
     private final RedisPaperUpdateAdapter redisPaperUpdateAdapter;
+    private final PaperCacheService paperCacheService;
 
-    @Scheduled(fixedRate = 60000 * 10) // 10분
-    public void applyRealtimeScoreDecay() {
+    @Scheduled(fixedRate = 60000) // 1분
+    public void aggregateRealtimeScores() {
         try {
-            redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay();
+            redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+            paperCacheService.refreshPopularSnapshot();
         } catch (Exception e) {
             throw new CustomException(ErrorCode.PAPER_REDIS_WRITE_ERROR, e);
         }
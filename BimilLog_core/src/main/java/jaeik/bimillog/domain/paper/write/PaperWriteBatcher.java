@@ -0,0 +1,231 @@
+package jaeik.bimillog.domain.paper.write;
+
+import jaeik.bimillog.domain.member.entity.Member;
+import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.MessagePosition;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
+import jaeik.bimillog.domain.paper.event.PaperEvent.MessageSavedEvent;
+import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
+import jaeik.bimillog.domain.paper.repository.PaperBatchRepository;
+import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
+import jaeik.bimillog.infrastructure.exception.CustomException;
+import jaeik.bimillog.infrastructure.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>롤링페이퍼 메시지 배치 저장기</h2>
+ * <p>같은 롤링페이퍼에 동시에 들어온 메시지 작성을 그룹 커밋 방식으로 묶어 저장합니다.
+ * 롤링페이퍼마다 저장 중인 요청 스레드(리더)는 하나뿐이고, 그동안 도착한 요청은 대기열에서 기다렸다가
+ * 다음 리더가 최대 MAX_BATCH_SIZE개를 한 트랜잭션, 다중 행 INSERT 한 문장으로 저장합니다.</p>
+ * <p>경합이 없으면 대기 없이 바로 저장되고, 몰릴 때만 배치가 커지므로 한 롤링페이퍼가 사용하는 커넥션은 최대 하나입니다.
+ * 배치마다 알림/인기 점수 이벤트(RollingPaperEvent)는 메시지 수를 담아 한 번만 발행합니다.</p>
+ * <p>요청 스레드는 자신의 메시지가 저장되거나 실패할 때까지 기다리므로 응답 의미(성공/칸 중복)는 그대로입니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaperWriteBatcher {
+    private static final int MAX_BATCH_SIZE = 32;
+    private static final int MAX_WAITING = 256;
+
+    private final PaperBatchRepository paperBatchRepository;
+    private final PaperQueryRepository paperQueryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 롤링페이퍼별 대기열. 키가 있으면 리더가 저장 중이며, 대기열에는 아직 배치에 포함되지 않은 요청만 있습니다.
+     */
+    private final ConcurrentHashMap<Long, ArrayDeque<PendingWrite>> queues = new ConcurrentHashMap<>();
+
+    /**
+     * <h3>메시지 저장</h3>
+     * <p>리더가 없으면 바로 저장하고, 있으면 리더의 배치에 포함되거나 다음 리더로 지정될 때까지 기다립니다.</p>
+     *
+     * @param owner   롤링페이퍼 주인
+     * @param message 저장할 메시지 (저장 전 엔티티)
+     * @throws CustomException 칸이 이미 찼거나(PAPER_MESSAGE_POSITION_TAKEN) 대기열이 가득 찬 경우(PAPER_WRITE_RATE_LIMITED)
+     */
+    public void write(Member owner, Message message) {
+        PendingWrite write = new PendingWrite(message);
+        boolean[] leader = {false};
+        boolean[] rejected = {false};
+
+        queues.compute(owner.getId(), (ownerId, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                leader[0] = true;
+            } else if (queue.size() >= MAX_WAITING) {
+                rejected[0] = true;
+                return queue;
+            }
+            queue.add(write);
+            return queue;
+        });
+
+        if (rejected[0]) {
+            throw new CustomException(ErrorCode.PAPER_WRITE_RATE_LIMITED);
+        }
+        if (leader[0] || write.awaitTurn()) {
+            lead(owner);
+        }
+        write.throwIfFailed();
+    }
+
+    /**
+     * 대기열에서 배치를 꺼내 저장하고, 남은 요청이 있으면 맨 앞 요청을 다음 리더로 지정합니다.
+     */
+    private void lead(Member owner) {
+        List<PendingWrite> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        queues.computeIfPresent(owner.getId(), (ownerId, queue) -> {
+            while (batch.size() < MAX_BATCH_SIZE && !queue.isEmpty()) {
+                batch.add(queue.poll());
+            }
+            return queue;
+        });
+
+        try {
+            flush(owner, batch);
+        } finally {
+            queues.computeIfPresent(owner.getId(), (ownerId, queue) -> {
+                PendingWrite next = queue.peek();
+                if (next == null) {
+                    return null;
+                }
+                next.promote();
+                return queue;
+            });
+            batch.forEach(PendingWrite::finish);
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 저장합니다. 다른 인스턴스와 칸이 겹쳐 문장 전체가 실패하면 한 건씩 다시 저장합니다.
+     */
+    private void flush(Member owner, List<PendingWrite> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(owner, batch));
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().fail(new CustomException(ErrorCode.PAPER_MESSAGE_POSITION_TAKEN));
+                return;
+            }
+            log.info("롤링페이퍼 배치 저장 중 칸 충돌, 한 건씩 재시도: ownerId={}, size={}", owner.getId(), batch.size());
+            for (PendingWrite write : batch) {
+                if (!write.isFailed()) {
+                    flush(owner, List.of(write));
+                }
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(write -> write.fail(e));
+        }
+    }
+
+    private void save(Member owner, List<PendingWrite> batch) {
+        Set<Cell> taken = new HashSet<>();
+        for (MessagePosition position : paperQueryRepository.findMessagePositions(owner.getId(), messagesOf(batch))) {
+            taken.add(new Cell(position.x(), position.y()));
+        }
+
+        List<PendingWrite> accepted = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            if (taken.add(Cell.of(write.message()))) {
+                accepted.add(write);
+            } else {
+                write.fail(new CustomException(ErrorCode.PAPER_MESSAGE_POSITION_TAKEN));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Message> messages = messagesOf(accepted);
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        paperBatchRepository.insertMessages(messages, createdAt);
+
+        Map<Cell, Long> ids = new HashMap<>();
+        for (MessagePosition position : paperQueryRepository.findMessagePositions(owner.getId(), messages)) {
+            ids.put(new Cell(position.x(), position.y()), position.messageId());
+        }
+        for (Message message : messages) {
+            PaperMessage saved = new PaperMessage(ids.get(Cell.of(message)), message.getDecoType(), message.getAnonymity(),
+                    message.getContent(), message.getX(), message.getY(), createdAt);
+            eventPublisher.publishEvent(new MessageSavedEvent(owner.getId(), saved));
+        }
+        eventPublisher.publishEvent(new RollingPaperEvent(owner.getId(), owner.getMemberName(), messages.size()));
+    }
+
+    private static List<Message> messagesOf(List<PendingWrite> writes) {
+        List<Message> messages = new ArrayList<>(writes.size());
+        for (PendingWrite write : writes) {
+            messages.add(write.message());
+        }
+        return messages;
+    }
+
+    private record Cell(int x, int y) {
+        static Cell of(Message message) {
+            return new Cell(message.getX(), message.getY());
+        }
+    }
+
+    /**
+     * <h3>대기 중인 작성 요청</h3>
+     * <p>turn은 다음 리더로 지정되면 true, 다른 리더의 배치로 처리가 끝나면 false로 완료됩니다.</p>
+     */
+    private static final class PendingWrite {
+        private final Message message;
+        private final CompletableFuture<Boolean> turn = new CompletableFuture<>();
+        private volatile RuntimeException failure;
+
+        private PendingWrite(Message message) {
+            this.message = message;
+        }
+
+        Message message() {
+            return message;
+        }
+
+        boolean awaitTurn() {
+            return turn.join();
+        }
+
+        void promote() {
+            turn.complete(true);
+        }
+
+        void finish() {
+            turn.complete(false);
+        }
+
+        void fail(RuntimeException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+
+        boolean isFailed() {
+            return failure != null;
+        }
+
+        void throwIfFailed() {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package jaeik.bimillog.domain.paper.write;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <h2>롤링페이퍼 작성 속도 제한기</h2>
+ * <p>롤링페이퍼 주인별 토큰 버킷으로 메시지 작성 요청을 제한합니다. 최대 BURST_CAPACITY개까지 몰아서 허용하고,
+ * 이후에는 초당 REFILL_PER_SECOND개씩 채워집니다.</p>
+ * <p>버킷은 인스턴스 로컬이며 일정 시간 사용되지 않으면 제거됩니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+public class PaperWriteRateLimiter {
+    private static final int BURST_CAPACITY = 20;
+    private static final double REFILL_PER_SECOND = 5.0;
+    private static final int MAX_OWNERS = 100_000;
+    private static final Duration IDLE_TTL = Duration.ofMinutes(1);
+
+    private final Cache<Long, TokenBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_OWNERS)
+            .expireAfterAccess(IDLE_TTL)
+            .build();
+
+    /**
+     * <h3>작성 토큰 획득</h3>
+     *
+     * @param ownerId 롤링페이퍼 주인 ID
+     * @return 토큰이 없어 요청을 거부해야 하면 false
+     */
+    public boolean tryAcquire(Long ownerId) {
+        return buckets.get(ownerId, id -> new TokenBucket(System.nanoTime())).tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * 마지막 확인 이후 경과 시간만큼 토큰을 채운 뒤 하나를 꺼냅니다.
+     */
+    private static final class TokenBucket {
+        private double tokens = BURST_CAPACITY;
+        private long lastRefillNanos;
+
+        private TokenBucket(long nowNanos) {
+            this.lastRefillNanos = nowNanos;
+        }
+
+        synchronized boolean tryAcquire(long nowNanos) {
+            double refill = (nowNanos - lastRefillNanos) / 1_000_000_000.0 * REFILL_PER_SECOND;
+            tokens = Math.min(BURST_CAPACITY, tokens + refill);
+            lastRefillNanos = nowNanos;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package jaeik.bimillog.infrastructure.api.dto;
+
+import java.util.List;
+
+/**
+ * <h2>FCM 다중 전송 결과 DTO</h2>
+ * <p>토큰별 응답을 집계한 결과입니다. 만료/미등록 토큰은 deadTokens로 모아 호출 측에서 일괄 삭제합니다.</p>
+ *
+ * @param successCount 전송 성공 수
+ * @param failureCount 전송 실패 수 (만료 토큰 포함)
+ * @param deadTokens   FCM이 UNREGISTERED 등으로 거부한 토큰
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record FcmSendResultDTO(int successCount, int failureCount, List<String> deadTokens) {
+}
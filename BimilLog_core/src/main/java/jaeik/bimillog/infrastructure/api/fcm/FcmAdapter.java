@@ -1,62 +1,127 @@
 package jaeik.bimillog.infrastructure.api.fcm;
 
-import com.google.auth.oauth2.GoogleCredentials;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
 import jaeik.bimillog.infrastructure.api.dto.FcmMessageDTO;
-import lombok.RequiredArgsConstructor;
+import jaeik.bimillog.infrastructure.api.dto.FcmSendResultDTO;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * <h2>FCM 어댑터</h2>
  * <p>Firebase Cloud Messaging 연동을 담당하는 어댑터입니다.</p>
  * <p>FCM 메시지 전송</p>
+ * <p>HTTP v1 API는 토큰 하나당 요청 하나이므로, 다중 전송은 MULTICAST_BATCH_SIZE개씩 나눈 토큰을
+ * fcmDispatchExecutor에서 동시에 전송합니다. 동시 요청 수는 실행기 풀 크기로 제한됩니다.</p>
  *
  * @author Jaeik
- * @version 2.1.0
+ * @version 2.8.0
  */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class FcmAdapter {
     private final FcmApiClient fcmApiClient;
+    private final FcmCredentialManager fcmCredentialManager;
+    private final ObjectMapper objectMapper;
+    private final Executor fcmDispatchExecutor;
 
-    private static final String FIREBASE_CONFIG_PATH = "firebase/growfarm-6cd79-firebase-adminsdk-fbsvc-ad2bc92194.json";
-    private static final String FCM_SCOPE = "https://www.googleapis.com/auth/firebase.messaging";
     private static final String BEARER_PREFIX = "Bearer ";
 
     /**
-     * <h3>FCM 메시지 전송</h3>
-     * <p>Firebase Cloud Messaging API를 통해 모바일 기기로 푸시 알림을 전송합니다.</p>
-     * <p>NotificationGenerateListener에서 도메인 이벤트 처리 시 호출되어 실시간 알림을 제공합니다.</p>
-     *
-     * @throws IOException Firebase API 호출 중 발생할 수 있는 IO 예외
+     * FCM multicast 한 번에 허용되는 토큰 수와 같게 맞춥니다. 배치 단위로 결과를 모으므로 대기 중인 요청 수의 상한이기도 합니다.
      */
-    public void sendMessageTo(String token, String title, String body) throws IOException {
-        FcmMessageDTO fcmMessageDto = createFcmMessageDTO(token, title, body);
-        String accessToken = getAccessToken();
-        
-        fcmApiClient.sendMessage(BEARER_PREFIX + accessToken, MediaType.APPLICATION_JSON_VALUE, fcmMessageDto);
+    private static final int MULTICAST_BATCH_SIZE = 500;
+
+    public FcmAdapter(FcmApiClient fcmApiClient,
+                      FcmCredentialManager fcmCredentialManager,
+                      ObjectMapper objectMapper,
+                      @Qualifier("fcmDispatchExecutor") Executor fcmDispatchExecutor) {
+        this.fcmApiClient = fcmApiClient;
+        this.fcmCredentialManager = fcmCredentialManager;
+        this.objectMapper = objectMapper;
+        this.fcmDispatchExecutor = fcmDispatchExecutor;
     }
 
     /**
-     * <h3>액세스 토큰 획득</h3>
-     * <p>Firebase 서비스 계정 자격 증명을 사용하여 FCM API 호출에 필요한 액세스 토큰을 획득합니다.</p>
+     * <h3>FCM 다중 전송</h3>
+     * <p>같은 알림을 여러 토큰에 동시에 전송하고 토큰별 결과를 집계합니다.</p>
+     * <p>액세스 토큰은 {@link FcmCredentialManager}의 캐시에서 전송 전에 한 번만 읽습니다. 개별 토큰 실패는 결과에 집계하고 예외로 전파하지 않습니다.</p>
      *
-     * @return FCM API 호출에 사용될 액세스 토큰
-     * @throws IOException Firebase 구성 파일 읽기 중 발생할 수 있는 IO 예외
+     * @return 성공/실패 수와 삭제 대상 토큰
+     * @throws IOException 액세스 토큰 발급 실패
      */
-    private String getAccessToken() throws IOException {
-        GoogleCredentials googleCredentials = GoogleCredentials
-                .fromStream(new ClassPathResource(FIREBASE_CONFIG_PATH).getInputStream())
-                .createScoped(List.of(FCM_SCOPE));
+    public FcmSendResultDTO sendEach(List<String> tokens, String title, String body) throws IOException {
+        String authorization = BEARER_PREFIX + fcmCredentialManager.getAccessToken();
+
+        int successCount = 0;
+        List<String> deadTokens = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += MULTICAST_BATCH_SIZE) {
+            List<String> batch = tokens.subList(from, Math.min(from + MULTICAST_BATCH_SIZE, tokens.size()));
+            List<CompletableFuture<SendStatus>> results = batch.stream()
+                    .map(token -> CompletableFuture.supplyAsync(() -> send(authorization, token, title, body), fcmDispatchExecutor))
+                    .toList();
+            for (int i = 0; i < batch.size(); i++) {
+                switch (results.get(i).join()) {
+                    case SENT -> successCount++;
+                    case DEAD -> deadTokens.add(batch.get(i));
+                    case FAILED -> {
+                    }
+                }
+            }
+        }
+        return new FcmSendResultDTO(successCount, tokens.size() - successCount, deadTokens);
+    }
+
+    private SendStatus send(String authorization, String token, String title, String body) {
+        try {
+            fcmApiClient.sendMessage(authorization, MediaType.APPLICATION_JSON_VALUE, createFcmMessageDTO(token, title, body));
+            return SendStatus.SENT;
+        } catch (FeignException e) {
+            if (isDeadToken(e)) {
+                return SendStatus.DEAD;
+            }
+            log.warn("FCM 전송 실패: status={}, message={}", e.status(), e.getMessage());
+            return SendStatus.FAILED;
+        } catch (RuntimeException e) {
+            log.warn("FCM 전송 실패: {}", e.getMessage());
+            return SendStatus.FAILED;
+        }
+    }
 
-        googleCredentials.refreshIfExpired();
-        return googleCredentials.getAccessToken().getTokenValue();
+    /**
+     * <h3>만료 토큰 판별</h3>
+     * <p>FCM 오류 응답의 details[].errorCode로 판별합니다. UNREGISTERED는 앱 삭제/토큰 만료이고,
+     * INVALID_ARGUMENT는 메시지 오류일 수도 있으므로 오류 메시지가 등록 토큰을 가리킬 때만 만료로 봅니다.</p>
+     */
+    private boolean isDeadToken(FeignException e) {
+        if (e.status() != 400 && e.status() != 404) {
+            return false;
+        }
+        try {
+            JsonNode error = objectMapper.readTree(e.contentUTF8()).path("error");
+            for (JsonNode detail : error.path("details")) {
+                String errorCode = detail.path("errorCode").asText();
+                if ("UNREGISTERED".equals(errorCode)) {
+                    return true;
+                }
+                if ("INVALID_ARGUMENT".equals(errorCode)
+                        && error.path("message").asText().toLowerCase().contains("registration token")) {
+                    return true;
+                }
+            }
+        } catch (IOException ignored) {
+            // 응답 본문이 JSON이 아니면 만료 여부를 알 수 없으므로 일반 실패로 처리
+        }
+        return false;
     }
 
     /**
@@ -75,4 +140,8 @@ public class FcmAdapter {
                 .validateOnly(false)
                 .build();
     }
+
+    private enum SendStatus {
+        SENT, DEAD, FAILED
+    }
 }
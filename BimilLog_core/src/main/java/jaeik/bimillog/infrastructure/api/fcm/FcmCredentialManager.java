@@ -0,0 +1,126 @@
+package jaeik.bimillog.infrastructure.api.fcm;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2>FCM 자격 증명 관리자</h2>
+ * <p>서비스 계정 JSON은 처음 한 번만 읽고, 발급한 액세스 토큰을 만료 전까지 재사용합니다.
+ * 전송 시에는 캐시된 토큰을 읽기만 하므로 파일 I/O나 토큰 엔드포인트 호출이 없습니다.</p>
+ * <p>만료 REFRESH_MARGIN 전(인스턴스마다 최대 REFRESH_JITTER만큼 앞당김)에 스케줄러가 미리 갱신합니다.
+ * 갱신은 한 번에 하나만 수행하며, 만료가 임박한 상태에서 동시에 들어온 전송은 진행 중인 갱신 결과를 함께 사용합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Slf4j
+@Component
+public class FcmCredentialManager {
+    private static final String FIREBASE_CONFIG_PATH = "firebase/growfarm-6cd79-firebase-adminsdk-fbsvc-ad2bc92194.json";
+    private static final String FCM_SCOPE = "https://www.googleapis.com/auth/firebase.messaging";
+
+    /**
+     * 만료까지 남은 시간이 이보다 짧으면 백그라운드 갱신 대상입니다.
+     */
+    private static final Duration REFRESH_MARGIN = Duration.ofMinutes(5);
+
+    /**
+     * 여러 인스턴스가 같은 시각에 갱신하지 않도록 갱신 시각을 무작위로 앞당기는 최대 폭입니다.
+     */
+    private static final Duration REFRESH_JITTER = Duration.ofMinutes(2);
+
+    /**
+     * 만료까지 남은 시간이 이보다 짧으면 캐시를 쓰지 않고 전송 스레드에서 바로 갱신합니다.
+     */
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private GoogleCredentials credentials;
+    private volatile CachedToken cachedToken;
+
+    /**
+     * <h3>액세스 토큰 조회</h3>
+     * <p>캐시된 토큰이 유효하면 그대로 반환하고, 없거나 만료가 임박한 경우에만 갱신합니다.</p>
+     *
+     * @return FCM API 호출에 사용할 액세스 토큰
+     * @throws IOException 서비스 계정 파일 읽기 또는 토큰 발급 실패
+     */
+    public String getAccessToken() throws IOException {
+        CachedToken token = cachedToken;
+        if (token != null && System.currentTimeMillis() < token.expiresAt() - EXPIRY_SKEW.toMillis()) {
+            return token.value();
+        }
+
+        refreshLock.lock();
+        try {
+            token = cachedToken;
+            if (token != null && System.currentTimeMillis() < token.expiresAt() - EXPIRY_SKEW.toMillis()) {
+                return token.value();
+            }
+            return refresh().value();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * <h3>액세스 토큰 선제 갱신</h3>
+     * <p>갱신 시각이 지난 토큰을 만료 전에 미리 갱신합니다. 아직 한 번도 발급하지 않았다면 첫 전송 때 발급하므로 건너뜁니다.</p>
+     * <p>다른 스레드가 갱신 중이면 기다리지 않고 다음 주기로 넘깁니다. 실패해도 기존 토큰은 만료 전까지 계속 사용합니다.</p>
+     */
+    @Scheduled(fixedDelay = 30000L)
+    public void refreshIfDue() {
+        CachedToken token = cachedToken;
+        if (token == null || System.currentTimeMillis() < token.refreshAt()) {
+            return;
+        }
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (cachedToken == token) {
+                refresh();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("FCM 액세스 토큰 선제 갱신 실패: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * refreshLock을 잡은 상태에서만 호출합니다.
+     */
+    private CachedToken refresh() throws IOException {
+        if (credentials == null) {
+            try (InputStream serviceAccount = new ClassPathResource(FIREBASE_CONFIG_PATH).getInputStream()) {
+                credentials = GoogleCredentials.fromStream(serviceAccount).createScoped(List.of(FCM_SCOPE));
+            }
+        }
+        credentials.refresh();
+        AccessToken accessToken = credentials.getAccessToken();
+
+        long expiresAt = accessToken.getExpirationTime().getTime();
+        long jitter = ThreadLocalRandom.current().nextLong(REFRESH_JITTER.toMillis() + 1);
+        CachedToken token = new CachedToken(accessToken.getTokenValue(), expiresAt,
+                expiresAt - REFRESH_MARGIN.toMillis() - jitter);
+        cachedToken = token;
+        log.debug("FCM 액세스 토큰 갱신: 만료까지 {}초", (expiresAt - System.currentTimeMillis()) / 1000);
+        return token;
+    }
+
+    private record CachedToken(String value, long expiresAt, long refreshAt) {
+    }
+}
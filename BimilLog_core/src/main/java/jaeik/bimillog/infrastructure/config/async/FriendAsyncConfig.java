@@ -10,6 +10,9 @@ import java.util.concurrent.ThreadPoolExecutor;
 /**
  * <h2>친구 관련 비동기 스레드 풀 설정</h2>
  * <p>친구 관계 업데이트, 재구축 프로듀서/컨슈머, 상호작용 점수 스레드 풀을 정의합니다.</p>
+ * <p>상호작용 점수 실시간 반영은 전용 단일 워커(interactionIngestExecutor)가 버퍼를 비우며 처리하고,
+ * 버퍼 초과분의 DLQ 저장은 별도 워커(interactionOverflowExecutor)가 처리합니다.</p>
+ * <p>DLQ 재처리는 슬롯별 워커(friendDlqExecutor)가 배치를 선점하여 병렬로 처리합니다.</p>
  *
  * @author Jaeik
  * @version 2.8.0
@@ -18,7 +21,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 public class FriendAsyncConfig {
 
     /**
-     * 친구 관계 추가 친구 상호작용 점수 전용 스레드 풀
+     * 친구 관계 추가/삭제 전용 스레드 풀
      */
     @Bean(name = "friendUpdateExecutor")
     public Executor friendUpdateExecutor() {
@@ -34,6 +37,59 @@ public class FriendAsyncConfig {
         return executor;
     }
 
+    /**
+     * 상호작용 점수 수집 워커 스레드 풀
+     * <p>FriendInteractionIngestor의 버퍼를 비우는 단일 워커 전용입니다. 요청 스레드로 Redis 작업이 넘어가지 않도록
+     * CallerRunsPolicy를 사용하지 않습니다.</p>
+     */
+    @Bean(name = "interactionIngestExecutor")
+    public Executor interactionIngestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("interaction-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 상호작용 수집 버퍼 초과분 DLQ 저장 스레드 풀
+     * <p>버퍼가 가득 차 적재하지 못한 이벤트를 요청 스레드 대신 DLQ에 저장합니다. 요청 스레드가 DB에 접근하지 않도록
+     * CallerRunsPolicy를 사용하지 않으며, 이 대기열마저 가득 차면 이벤트를 버리고 수집기가 버린 건수를 기록합니다.</p>
+     */
+    @Bean(name = "interactionOverflowExecutor")
+    public Executor interactionOverflowExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(5_000);
+        executor.setThreadNamePrefix("interaction-overflow-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 친구 이벤트 DLQ 재처리 워커 스레드 풀
+     * <p>FriendEventDlqScheduler가 슬롯 수만큼 워커를 동시에 실행합니다. (DB 선점 + Redis 파이프라인)</p>
+     */
+    @Bean(name = "friendDlqExecutor")
+    public Executor friendDlqExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("friend-dlq-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * 친구 관계 재구축 프로듀서 스레드 풀
      * <p>DB 배치 조회를 병렬 수행합니다. (IO-bound)</p>
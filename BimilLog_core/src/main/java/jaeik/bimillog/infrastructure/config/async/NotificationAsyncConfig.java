@@ -1,14 +1,17 @@
 package jaeik.bimillog.infrastructure.config.async;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * <h2>알림 관련 비동기 스레드 풀 설정</h2>
- * <p>SSE 알림, FCM 푸시, 알림 DB 저장 스레드 풀을 정의합니다.</p>
+ * <p>FCM 푸시, 알림 아웃박스 릴레이, SSE 전송 스레드 풀을 정의합니다.</p>
  *
  * @author Jaeik
  * @version 2.8.0
@@ -17,15 +20,35 @@ import java.util.concurrent.Executor;
 public class NotificationAsyncConfig {
 
     /**
-     * SSE 알림 전용 스레드 풀
+     * FCM 알림 전용 스레드 풀
+     * <p>알림 릴레이가 배치의 수신자별 푸시를 제출합니다. 대기열이 차면 릴레이 스레드가 직접 전송하여 속도를 맞춥니다.</p>
      */
-    @Bean(name = "sseNotificationExecutor")
-    public Executor sseNotificationExecutor() {
+    @Bean(name = "fcmNotificationExecutor")
+    public Executor fcmNotificationExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);
+        executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(10);
-        executor.setThreadNamePrefix("sse-notification-");
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("fcm-notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * FCM 토큰별 전송 전용 스레드 풀
+     * <p>풀 크기가 FCM 동시 요청 수의 상한입니다. 대기열이 차면 호출 스레드(fcm-notification)가 직접 전송하여 속도를 맞춥니다.</p>
+     */
+    @Bean(name = "fcmDispatchExecutor")
+    public Executor fcmDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("fcm-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         executor.initialize();
@@ -33,33 +56,61 @@ public class NotificationAsyncConfig {
     }
 
     /**
-     * FCM 알림 전용 스레드 풀
+     * 알림 아웃박스 릴레이 전용 스레드 풀
+     * <p>커밋 직후 깨우기 요청을 처리합니다. 깨우기는 대기 중인 요청이 있으면 합쳐지므로 대기열이 작아도 됩니다.</p>
      */
-    @Bean(name = "fcmNotificationExecutor")
-    public Executor fcmNotificationExecutor() {
+    @Bean(name = "notificationRelayExecutor")
+    public Executor notificationRelayExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
+        executor.setMaxPoolSize(2);
         executor.setQueueCapacity(10);
-        executor.setThreadNamePrefix("fcm-notification-");
+        executor.setThreadNamePrefix("notification-relay-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(30);
         executor.initialize();
         return executor;
     }
 
     /**
-     * 알림 저장 전용 스레드 풀
+     * SSE 클러스터 채널 수신 전용 스레드 풀
+     * <p>다른 노드에서 전달된 알림을 로컬 연결로 전송합니다.</p>
      */
-    @Bean(name = "saveNotificationExecutor")
-    public Executor saveNotificationExecutor() {
+    @Bean(name = "sseClusterExecutor")
+    public Executor sseClusterExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(10);
-        executor.setThreadNamePrefix("save-notification-");
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("sse-cluster-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(30);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 연결 writer 전용 실행기
+     * <p>연결별 대기열을 비우며 소켓 쓰기를 수행합니다. 연결마다 작업은 최대 하나만 대기합니다.</p>
+     * <p>기본(플랫폼 스레드): 소켓이 막힌 연결은 쓰기 타임아웃까지 스레드 하나를 점유하므로,
+     * 동시에 막힐 수 있는 연결 수보다 크게 잡습니다.</p>
+     * <p>{@code sse.writer.virtual-threads=true}: writer 작업마다 가상 스레드를 사용하여 대기 중인 writer 작업이 풀 크기에 묶이지 않습니다.
+     * 단, JDK 21에서는 {@code ResponseBodyEmitter.send}가 synchronized이므로 소켓 쓰기가 막히면 가상 스레드가 carrier 스레드를 점유(pinning)합니다.
+     * 따라서 동시에 막힐 수 있는 쓰기는 carrier 스레드 수(기본값: CPU 코어 수)만큼이며, 그 이상은 carrier가 풀릴 때까지 진행되지 않습니다.</p>
+     */
+    @Bean(name = "sseWriterExecutor")
+    public Executor sseWriterExecutor(@Value("${sse.writer.virtual-threads:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-writer-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100000);
+        executor.setThreadNamePrefix("sse-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
         executor.initialize();
         return executor;
     }
@@ -63,6 +63,8 @@ public enum ErrorCode {
     PAPER_MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "메시지를 찾을 수 없습니다.", LogLevel.INFO),
     PAPER_MESSAGE_DELETE_FORBIDDEN(HttpStatus.FORBIDDEN, "본인 롤링페이퍼의 메시지만 삭제할 수 있습니다.", LogLevel.INFO),
     PAPER_INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "유효하지 않은 입력 값입니다.", LogLevel.WARN),
+    PAPER_MESSAGE_POSITION_TAKEN(HttpStatus.CONFLICT, "이미 메시지가 있는 위치입니다.", LogLevel.INFO),
+    PAPER_WRITE_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "메시지 작성 요청이 많습니다. 잠시 후 다시 시도해주세요.", LogLevel.INFO),
     PAPER_REDIS_READ_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "레디스 읽기 중 오류가 발생했습니다.", LogLevel.ERROR),
     PAPER_REDIS_WRITE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "레디스 쓰기 중 오류가 발생했습니다.", LogLevel.ERROR),
     PAPER_REDIS_DELETE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "레디스 삭제 중 오류가 발생했습니다.", LogLevel.ERROR),
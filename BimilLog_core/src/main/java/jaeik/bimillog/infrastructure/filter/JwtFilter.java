@@ -7,6 +7,7 @@ import jaeik.bimillog.domain.global.entity.CustomUserDetails;
 import jaeik.bimillog.infrastructure.adapter.AuthTokenAdapter;
 import jaeik.bimillog.infrastructure.exception.ErrorResponse;
 import jaeik.bimillog.infrastructure.web.HTTPCookie;
+import jaeik.bimillog.infrastructure.web.JwtClaims;
 import jaeik.bimillog.infrastructure.web.JwtFactory;
 import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.member.repository.MemberRepository;
@@ -31,6 +32,7 @@ import java.util.Optional;
 /**
  * <h2>JWT 필터</h2>
  * <p>JWT 토큰을 검증하고 인증 정보를 설정하는 필터</p>
+ * <p>각 토큰은 요청당 한 번만 파싱하고, 검증된 {@link JwtClaims}를 인증 정보 설정과 리프레시 토큰 갱신 판단에 재사용합니다.</p>
  *
  * @author Jaeik
  * @version 2.5.0
@@ -98,21 +100,23 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 리프레시 토큰 미유효
-        if (!jwtFactory.validateToken(refreshToken)) {
+        Optional<JwtClaims> refreshClaims = jwtFactory.parse(refreshToken);
+        if (refreshClaims.isEmpty()) {
             setErrorResponse(response, "다시 로그인 해주세요.");
             return;
         }
 
         // 액세스 토큰 유효
-        if (jwtFactory.validateToken(accessToken)) {
-            setAuthentication(accessToken);
+        Optional<JwtClaims> accessClaims = jwtFactory.parse(accessToken);
+        if (accessClaims.isPresent()) {
+            setAuthentication(jwtFactory.getUserInfo(accessClaims.get()));
             filterChain.doFilter(request, response);
             return;
         }
 
         // 액세스 토큰 미유효 그리고 리프레시 토큰 유효만 남음
         // 리프레시 토큰에서 authTokenId 추출
-        Long authTokenId = jwtFactory.getTokenIdFromToken(refreshToken);
+        Long authTokenId = refreshClaims.get().subjectId();
 
         // DB에서 AuthToken 엔티티 조회
         Optional<AuthToken> optionalAuthToken = authTokenAdapter.findById(authTokenId);
@@ -147,10 +151,10 @@ public class JwtFilter extends OncePerRequestFilter {
         response.setHeader("Set-Cookie", accessCookie.toString());
 
         // 리프레시토큰 로테이션
-        rotateRefreshToken(response, refreshToken, userDetails, authTokenId);
+        rotateRefreshToken(response, refreshClaims.get(), userDetails, authTokenId);
 
-        // 인증 정보 설정
-        setAuthentication(newAccessToken);
+        // 인증 정보 설정 (방금 발급한 토큰과 같은 정보이므로 다시 파싱하지 않음)
+        setAuthentication(userDetails);
         filterChain.doFilter(request, response);
     }
 
@@ -166,8 +170,8 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
     // RefreshToken Rotation (15일 이하 남았을 때)
-    private void rotateRefreshToken(HttpServletResponse response, String refreshToken, CustomUserDetails userDetails, Long authTokenId) {
-        if (jwtFactory.shouldRefreshToken(refreshToken, 15)) {
+    private void rotateRefreshToken(HttpServletResponse response, JwtClaims refreshClaims, CustomUserDetails userDetails, Long authTokenId) {
+        if (refreshClaims.expiresWithin(15)) {
             String newRefreshToken = jwtFactory.generateRefreshToken(userDetails);
 
             // DB 업데이트
@@ -182,13 +186,12 @@ public class JwtFilter extends OncePerRequestFilter {
     /**
      * <h3>인증 정보 설정</h3>
      * <p>
-     * JWT 엑세스 토큰 에서 사용자 정보를 추출하여 인증 정보를 설정합니다.
+     * JWT 엑세스 토큰에서 추출한 사용자 정보로 인증 정보를 설정합니다.
      * </p>
      *
-     * @param jwtAccessToken JWT 엑세스 토큰
+     * @param userDetails 사용자 정보
      */
-    private void setAuthentication(String jwtAccessToken) {
-        CustomUserDetails userDetails = jwtFactory.getUserInfoFromToken(jwtAccessToken);
+    private void setAuthentication(CustomUserDetails userDetails) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userDetails,
                 null,
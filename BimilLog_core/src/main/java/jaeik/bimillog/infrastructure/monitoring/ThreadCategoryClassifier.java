@@ -37,9 +37,8 @@ public class ThreadCategoryClassifier {
      */
     private static final Set<String> ASYNC_PREFIXES = Set.of(
             "task-",
-            "sse-notification-",
             "fcm-notification-",
-            "save-notification-",
+            "notification-relay-",
             "member-event-",
             "friend-update-",
             "realtime-event-",
@@ -50,7 +49,12 @@ public class ThreadCategoryClassifier {
             "rebuild-consumer-",
             "interaction-producer-",
             "interaction-consumer-",
-            "circuit-sync-"
+            "interaction-ingest-",
+            "friend-dlq-",
+            "circuit-sync-",
+            "sse-cluster-",
+            "sse-writer-",
+            "fcm-dispatch-"
     );
 
     public ThreadCategory classify(String threadName, StackTraceElement[] stack) {
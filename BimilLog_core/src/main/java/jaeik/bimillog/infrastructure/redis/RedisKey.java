@@ -1,12 +1,13 @@
 package jaeik.bimillog.infrastructure.redis;
 
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * Redis 키 & TTL 중앙 관리
  *
  * @author jaeik
- * @version 2.7.0
+ * @version 2.8.0
  */
 public final class RedisKey {
     public static final int PIPELINE_BATCH_SIZE = 1000;
@@ -14,6 +15,7 @@ public final class RedisKey {
     public static final Double INTERACTION_SCORE_DEFAULT = 0.5;
     public static final Double INTERACTION_SCORE_LIMIT = 9.5;
     public static final Double INTERACTION_SCORE_DECAY_RATE = 0.95;
+    public static final Instant INTERACTION_SCORE_DECAY_EPOCH = Instant.parse("2025-01-01T00:00:00Z");
 
     // ==================== 공통 TTL ====================
 
@@ -40,11 +42,27 @@ public final class RedisKey {
     public static final long VIEW_TTL_SECONDS = DEFAULT_CACHE_TTL.toSeconds();
 
     // ==================== 롤링페이퍼 : 실시간 (ZSet) ====================
-    // key: paper:realtime:score
+    // key: paper:realtime:score                  (최근 24시간 점수 버킷 가중 합산 결과, 조회 전용)
+    // key: paper:realtime:score:{epochHour}      (시간별 점수 버킷, TTL 25시간)
+    // key: paper:realtime:msgcount               (최근 24시간 메시지 수 합산 결과, 조회 전용)
+    // key: paper:realtime:msgcount:{epochHour}   (시간별 메시지 수 버킷, TTL 25시간)
+    // key: paper:realtime:snapshot              (이름·메시지 수가 포함된 상위 N개 인기 목록 JSON, String)
+    // key: paper:realtime:bucket-seeded         (버킷 도입 전 점수 ZSet을 현재 버킷으로 옮겼는지 표시, String, TTL 없음)
+    // key: paper:realtime:applied:{batchId}:{chunk} (증감 묶음 반영 완료 표시, 재시도 시 중복 반영 방지, String, TTL 1시간)
+    // 감쇠는 버킷 나이별 ZUNIONSTORE 가중치(10분당 0.97)와 버킷 만료로 적용된다.
 
     public static final String REALTIME_PAPER_SCORE_KEY = "paper:realtime:score";
+    public static final String REALTIME_PAPER_MESSAGE_COUNT_KEY = "paper:realtime:msgcount";
     public static final double REALTIME_PAPER_SCORE_DECAY_RATE = 0.97;
     public static final double REALTIME_PAPER_SCORE_THRESHOLD = 1.0;
+    public static final int REALTIME_PAPER_BUCKET_COUNT = 24;
+    public static final Duration REALTIME_PAPER_BUCKET_TTL = Duration.ofHours(REALTIME_PAPER_BUCKET_COUNT + 1);
+    public static final String REALTIME_PAPER_BUCKET_SEEDED_KEY = "paper:realtime:bucket-seeded";
+    public static final String REALTIME_PAPER_APPLIED_PREFIX = "paper:realtime:applied:";
+    public static final Duration REALTIME_PAPER_APPLIED_TTL = Duration.ofHours(1);
+    public static final String REALTIME_PAPER_SNAPSHOT_KEY = "paper:realtime:snapshot";
+    public static final int REALTIME_PAPER_SNAPSHOT_SIZE = 100;
+    public static final Duration REALTIME_PAPER_SNAPSHOT_TTL = Duration.ofMinutes(5);
 
     // ==================== 인증 : JWT블랙리스트 (String) ====================
     // key: TemporaryToken:blacklist:{tokenHash}
@@ -64,12 +82,46 @@ public final class RedisKey {
     public static final String FRIENDSHIP_PREFIX = "friend:";
 
     // ==================== 친구 : 상호작용 점수 (ZSet + String) ====================
-    // key: interaction:{memberId}  (TTL 없음 - 감쇠로 관리)
+    // key: interaction:{memberId}  (TTL 없음 - 점수는 ln Σ e^(λ·t_event) 형태로 저장, 조회 시 정규화)
     // 멱등성 키: {idempotencyKey}  (SET NX EX)
 
     public static final String INTERACTION_PREFIX = "interaction:";
     public static final long IDEMPOTENCY_TTL_SECONDS = 60 * 60L;
 
+    // ==================== 친구 : 상호작용 역인덱스 (Set) ====================
+    // key: interaction_rev:{memberId}  (TTL 없음 - 나를 interaction ZSet 멤버로 가진 회원 ID 집합)
+    // interaction:* SCAN 패턴에 걸리지 않도록 별도 접두사를 사용한다.
+
+    public static final String INTERACTION_REVERSE_PREFIX = "interaction_rev:";
+
+    // ==================== 친구 : 상호작용 멱등성 (Set) ====================
+    // key: idempotency:interaction:{epochHour}  (TTL 2시간 - 현재/직전 시간 버킷으로 1시간 이상 중복 차단)
+
+    public static final String INTERACTION_IDEMPOTENCY_PREFIX = "idempotency:interaction:";
+
+    // ==================== 친구 : 상호작용 점수 형식 전환 (String) ====================
+    // key: interaction_format_log  (TTL 없음 - 이전 형식 점수를 로그 저장 형태로 전환 완료한 시각)
+    // 지수 형식 전환 기록(interaction_format)과 구분하여 로그 형식 전환을 기동 시 한 번 다시 수행한다.
+    // interaction:* SCAN 패턴에 걸리지 않도록 콜론 없이 둔다.
+
+    public static final String INTERACTION_FORMAT_KEY = "interaction_format_log";
+
+    // ==================== 알림 : SSE 클러스터 (ZSet + Pub/Sub) ====================
+    // key: sse:presence:{memberId}  (member: 연결을 가진 노드 ID, score: 만료 시각 epoch ms, 키 TTL = presence TTL)
+    // channel: sse:node:{nodeId}    (노드별 Pub/Sub 채널, SseMessage JSON)
+    // channel: sse:node:{nodeId}:disconnect  (노드별 연결 정리 채널, SseDisconnectCommand JSON)
+
+    public static final String SSE_PRESENCE_PREFIX = "sse:presence:";
+    public static final String SSE_NODE_CHANNEL_PREFIX = "sse:node:";
+    public static final String SSE_NODE_DISCONNECT_CHANNEL_SUFFIX = ":disconnect";
+    public static final Duration SSE_PRESENCE_TTL = Duration.ofSeconds(90);
+
+    // ==================== 알림 : 안 읽은 알림 수 (String) ====================
+    // key: notification:unread:{memberId}  (안 읽은 알림 수, 없으면 DB COUNT로 한 번 채움, 키 TTL = 재계산 주기)
+
+    public static final String NOTIFICATION_UNREAD_PREFIX = "notification:unread:";
+    public static final Duration NOTIFICATION_UNREAD_TTL = Duration.ofHours(24);
+
     public static String createFriendKey(Long memberId) {
         return FRIENDSHIP_PREFIX + memberId;
     }
@@ -81,4 +133,44 @@ public final class RedisKey {
     public static String createAllInteractionKey() {
         return INTERACTION_PREFIX + "*";
     }
+
+    public static String createInteractionReverseKey(Long memberId) {
+        return INTERACTION_REVERSE_PREFIX + memberId;
+    }
+
+    public static String createAllInteractionReverseKey() {
+        return INTERACTION_REVERSE_PREFIX + "*";
+    }
+
+    public static String createInteractionIdempotencyKey(long epochHour) {
+        return INTERACTION_IDEMPOTENCY_PREFIX + epochHour;
+    }
+
+    public static String createPaperScoreBucketKey(long epochHour) {
+        return REALTIME_PAPER_SCORE_KEY + ":" + epochHour;
+    }
+
+    public static String createPaperAppliedKey(String batchId, int chunk) {
+        return REALTIME_PAPER_APPLIED_PREFIX + batchId + ":" + chunk;
+    }
+
+    public static String createPaperMessageCountBucketKey(long epochHour) {
+        return REALTIME_PAPER_MESSAGE_COUNT_KEY + ":" + epochHour;
+    }
+
+    public static String createSsePresenceKey(Long memberId) {
+        return SSE_PRESENCE_PREFIX + memberId;
+    }
+
+    public static String createSseNodeChannel(String nodeId) {
+        return SSE_NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    public static String createSseNodeDisconnectChannel(String nodeId) {
+        return SSE_NODE_CHANNEL_PREFIX + nodeId + SSE_NODE_DISCONNECT_CHANNEL_SUFFIX;
+    }
+
+    public static String createNotificationUnreadKey(Long memberId) {
+        return NOTIFICATION_UNREAD_PREFIX + memberId;
+    }
 }
@@ -0,0 +1,76 @@
+package jaeik.bimillog.infrastructure.redis.friend;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
+
+/**
+ * <h2>상호작용 점수 지연 감쇠 계산기</h2>
+ * <p>상호작용 점수는 감쇠가 반영되지 않은 합 Σ e^(λ·t_event)의 로그 ln Σ e^(λ·t_event)로 저장하고,
+ * 조회 시점에 λ·now를 빼고 지수를 취해 현재 점수로 정규화합니다.</p>
+ * <p>λ = -ln(0.95) / 1일 이므로 기존 "매일 0.95배" 감쇠와 동일한 곡선을 연속적으로 적용합니다.</p>
+ * <p>t는 기준 시각(INTERACTION_SCORE_DECAY_EPOCH)으로부터 경과한 일수입니다. 가중치 e^(λ·t)를 그대로 저장하면
+ * 기준 시각 이후 약 38년에 double 범위(약 1e308)를 넘으므로 로그로 저장합니다. 로그 값은 하루에 약 0.05씩만 커지므로
+ * 기준 시각을 옮기는 재조정 없이 사용할 수 있습니다.</p>
+ * <p>로그 값끼리는 더할 수 없으므로 점수 증가는 Lua 스크립트에서 log-sum-exp로 계산해 ZADD합니다.
+ * 로그는 단조 증가이므로 ZSet 순서, 임계값 정리(ZREMRANGEBYSCORE), 상한 비교는 그대로 저장 값으로 수행합니다.</p>
+ * <p>저장 값의 범위로 형식을 판별합니다. 전환 이전에 매일 0.95배로 감쇠하며 저장하던 점수는
+ * {@link #LEGACY_SCORE_CEILING} 이하이고, 지수 형식 e^(λ·t)로 저장하던 점수는 {@link #EXPONENT_SCORE_FLOOR} 이상입니다.
+ * 로그 형식 점수는 현재 약 30 이상이며 수백 년 동안 {@link #EXPONENT_SCORE_FLOOR}에 닿지 않습니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public final class InteractionScoreDecay {
+    private static final double LAMBDA_PER_DAY = -Math.log(INTERACTION_SCORE_DECAY_RATE);
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    /**
+     * 기존 형식(감쇠 반영 현재 점수)으로 저장된 값의 상한
+     */
+    public static final double LEGACY_SCORE_CEILING = INTERACTION_SCORE_LIMIT + INTERACTION_SCORE_DEFAULT;
+
+    /**
+     * 지수 형식(Σ e^(λ·t_event))으로 저장된 값의 하한
+     */
+    public static final double EXPONENT_SCORE_FLOOR = 1e6;
+
+    /**
+     * 로그 형식 점수용 Lua 함수
+     * <p>logAdd(a, b): 두 점수의 합 ln(e^a + e^b) (a가 nil이면 b). 큰 값을 기준으로 계산하여 지수가 double 범위를 넘지 않게 합니다.</p>
+     * <p>scoreArg(v): ZADD 인자. Lua 숫자의 기본 문자열 변환(유효숫자 14자리) 대신 17자리로 넘겨 정밀도를 유지합니다.</p>
+     */
+    static final String LOG_SCORE_FUNCTIONS =
+            "local function logAdd(a, b) " +
+            "    if a == nil then return b end " +
+            "    if a < b then a, b = b, a end " +
+            "    return a + math.log(1 + math.exp(b - a)) " +
+            "end " +
+            "local function scoreArg(v) return string.format('%.17g', v) end ";
+
+    private InteractionScoreDecay() {
+    }
+
+    /**
+     * <h3>시각 t의 로그 가중치 λ·t</h3>
+     */
+    public static double logWeightAt(Instant at) {
+        double days = (at.toEpochMilli() - INTERACTION_SCORE_DECAY_EPOCH.toEpochMilli()) / MILLIS_PER_DAY;
+        return LAMBDA_PER_DAY * days;
+    }
+
+    /**
+     * <h3>시각 at에 발생한 점수를 저장 형태(로그)로 변환</h3>
+     */
+    public static double toStored(double score, Instant at) {
+        return Math.log(score) + logWeightAt(at);
+    }
+
+    /**
+     * <h3>저장된 점수를 now 시점의 현재 점수로 정규화</h3>
+     */
+    public static double toCurrent(double storedScore, Instant now) {
+        return Math.exp(storedScore - logWeightAt(now));
+    }
+}
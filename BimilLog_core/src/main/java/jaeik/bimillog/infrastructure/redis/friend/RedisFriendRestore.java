@@ -6,6 +6,7 @@ import jaeik.bimillog.domain.friend.entity.jpa.FriendEventDlq;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.ScanOptions;
@@ -16,6 +17,8 @@ import org.springframework.data.redis.connection.zset.DefaultTuple;
 import org.springframework.data.redis.connection.zset.Tuple;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,15 @@ import static jaeik.bimillog.infrastructure.redis.RedisKey.createInteractionKey;
 @RequiredArgsConstructor
 @Slf4j
 public class RedisFriendRestore {
+    /**
+     * 양방향 로그 형식 점수 증가. KEYS: 회원 키, 대상 키 / ARGV: 대상 ID, 회원 ID, 저장 형태 증가량
+     */
+    private static final byte[] SCORE_UP_SCRIPT = (InteractionScoreDecay.LOG_SCORE_FUNCTIONS +
+            "local increment = tonumber(ARGV[3]) " +
+            "redis.call('ZADD', KEYS[1], scoreArg(logAdd(tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1])), increment)), ARGV[1]) " +
+            "redis.call('ZADD', KEYS[2], scoreArg(logAdd(tonumber(redis.call('ZSCORE', KEYS[2], ARGV[2])), increment)), ARGV[2]) " +
+            "return 1").getBytes(StandardCharsets.UTF_8);
+
     private final StringRedisTemplate stringRedisTemplate;
 
     /**
@@ -65,33 +77,45 @@ public class RedisFriendRestore {
 
     /**
      * DLQ 파이프라인 복구 — 상호작용 점수 증가
+     * <p>이벤트가 DLQ에 적재된 시각 기준으로 저장 형태 점수를 계산하여 재처리 지연만큼 감쇠가 반영됩니다.</p>
+     * <p>저장 형태가 로그이므로 ZINCRBY 대신 양방향 증가 스크립트를 파이프라인에 넣습니다.</p>
      */
     public void processScoreUp(RedisConnection connection, FriendEventDlq event) {
-        double increment = event.getScore() != null ? event.getScore() : INTERACTION_SCORE_DEFAULT;
+        double score = event.getScore() != null ? event.getScore() : INTERACTION_SCORE_DEFAULT;
+        Instant occurredAt = event.getCreatedAt() != null
+                ? event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                : Instant.now();
+        double increment = InteractionScoreDecay.toStored(score, occurredAt);
 
-        connection.zSetCommands().zIncrBy(
+        connection.scriptingCommands().eval(SCORE_UP_SCRIPT, ReturnType.INTEGER, 2,
                 createInteractionKey(event.getMemberId()).getBytes(StandardCharsets.UTF_8),
-                increment,
-                event.getTargetId().toString().getBytes(StandardCharsets.UTF_8));
-        connection.zSetCommands().zIncrBy(
                 createInteractionKey(event.getTargetId()).getBytes(StandardCharsets.UTF_8),
-                increment,
+                event.getTargetId().toString().getBytes(StandardCharsets.UTF_8),
+                event.getMemberId().toString().getBytes(StandardCharsets.UTF_8),
+                String.valueOf(increment).getBytes(StandardCharsets.UTF_8));
+        connection.setCommands().sAdd(
+                createInteractionReverseKey(event.getTargetId()).getBytes(StandardCharsets.UTF_8),
                 event.getMemberId().toString().getBytes(StandardCharsets.UTF_8));
+        connection.setCommands().sAdd(
+                createInteractionReverseKey(event.getMemberId()).getBytes(StandardCharsets.UTF_8),
+                event.getTargetId().toString().getBytes(StandardCharsets.UTF_8));
     }
 
     /**
      * <h3>상호작용 점수 Redis 키 전체 삭제</h3>
-     * <p>SCAN으로 interaction:* 키를 순회하며 배치 삭제합니다.</p>
+     * <p>SCAN으로 interaction:* 키와 역인덱스 interaction_rev:* 키를 순회하며 배치 삭제합니다.</p>
      * <p>스트리밍 재구축 시 삽입 전 한 번만 호출합니다.</p>
      */
     public void deleteAllInteractionKeys() {
         List<String> keysToDelete = new ArrayList<>();
-        try (Cursor<String> cursor = stringRedisTemplate.scan(
-                ScanOptions.scanOptions()
-                        .match(createAllInteractionKey())
-                        .count(100)
-                        .build())) {
-            cursor.forEachRemaining(keysToDelete::add);
+        for (String pattern : List.of(createAllInteractionKey(), createAllInteractionReverseKey())) {
+            try (Cursor<String> cursor = stringRedisTemplate.scan(
+                    ScanOptions.scanOptions()
+                            .match(pattern)
+                            .count(100)
+                            .build())) {
+                cursor.forEachRemaining(keysToDelete::add);
+            }
         }
         if (!keysToDelete.isEmpty()) {
             for (int i = 0; i < keysToDelete.size(); i += PIPELINE_BATCH_SIZE) {
@@ -144,18 +168,26 @@ public class RedisFriendRestore {
     /**
      * <h3>상호작용 점수 파이프라인 배치 Redis 삽입</h3>
      * <p>여러 멤버의 상호작용 점수를 파이프라인 한 번으로 ZADD 처리합니다.</p>
-     * <p>각 멤버별로 (targetId, score) 쌍을 ZADD합니다.</p>
+     * <p>각 멤버별로 (targetId, score) 쌍을 재구축 시각 기준 저장 형태 점수로 ZADD합니다.</p>
+     * <p>탈퇴 정리용 역인덱스(interaction_rev:{targetId})에도 memberId를 SADD합니다.</p>
      */
     public void rebuildInteractionPipelineBatch(List<InteractionRebuildDTO> batch) {
+        Instant now = Instant.now();
         stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
             for (InteractionRebuildDTO dto : batch) {
                 byte[] key = createInteractionKey(dto.getMemberId()).getBytes(StandardCharsets.UTF_8);
                 Set<Tuple> tuples = dto.getScores().entrySet().stream()
                         .map(e -> (Tuple) new DefaultTuple(
                                 String.valueOf(e.getKey()).getBytes(StandardCharsets.UTF_8),
-                                e.getValue()))
+                                InteractionScoreDecay.toStored(e.getValue(), now)))
                         .collect(Collectors.toSet());
                 connection.zSetCommands().zAdd(key, tuples);
+
+                byte[] memberIdBytes = String.valueOf(dto.getMemberId()).getBytes(StandardCharsets.UTF_8);
+                for (Long targetId : dto.getScores().keySet()) {
+                    connection.setCommands().sAdd(
+                            createInteractionReverseKey(targetId).getBytes(StandardCharsets.UTF_8), memberIdBytes);
+                }
             }
             return null;
         });
@@ -1,11 +1,13 @@
 package jaeik.bimillog.infrastructure.redis.friend;
 
+import jaeik.bimillog.domain.friend.dto.InteractionIncrementDTO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.*;
-
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
@@ -17,14 +19,47 @@ import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
 /**
  * <h2>상호작용 점수 Redis 캐시 저장소 (ZSet 기반)</h2>
  * <p>Redis ZSet을 사용하여 회원 간 상호작용 점수를 캐싱합니다.</p>
- * <p>Key: interaction:{memberId}, Member: targetId, Score: 점수</p>
+ * <p>Key: interaction:{memberId}, Member: targetId, Score: ln Σ e^(λ·t_event) 형태의 감쇠 전 점수</p>
+ * <p>감쇠는 조회 시 {@link InteractionScoreDecay}로 정규화하여 암묵적으로 적용됩니다.</p>
+ * <p>역인덱스 Key: interaction_rev:{targetId}, Member: targetId를 ZSet에 가진 memberId (탈퇴 정리용)</p>
  *
  * @author Jaeik
- * @version 2.7.0
+ * @version 2.8.0
  */
 @Repository
 @RequiredArgsConstructor
 public class RedisInteractionScoreRepository {
+    private static final int INCREMENT_CHUNK_SIZE = 200;
+
+    /**
+     * 회원 쌍마다 양방향으로 "현재 점수가 상한 이하이면 증가"를 count번 적용한 점수를 ZADD하고 역인덱스를 갱신.
+     * KEYS: 쌍마다 (회원 키, 대상 키, 대상 역인덱스, 회원 역인덱스) / ARGV: 저장 형태 증가량, 저장 형태 상한, 이후 회원·대상·횟수 반복
+     */
+    private static final DefaultRedisScript<Long> CAPPED_INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            InteractionScoreDecay.LOG_SCORE_FUNCTIONS +
+            "local increment = tonumber(ARGV[1]) " +
+            "local maxScore = tonumber(ARGV[2]) " +
+            "local function cappedIncrBy(key, member, count) " +
+            "    local current = tonumber(redis.call('ZSCORE', key, member)) " +
+            "    local applied = false " +
+            "    for n = 1, count do " +
+            "        if current ~= nil and current > maxScore then break end " +
+            "        current = logAdd(current, increment) " +
+            "        applied = true " +
+            "    end " +
+            "    if applied then redis.call('ZADD', key, scoreArg(current), member) end " +
+            "end " +
+            "for p = 0, (#ARGV - 2) / 3 - 1 do " +
+            "    local memberId = ARGV[3 + p * 3] " +
+            "    local targetId = ARGV[4 + p * 3] " +
+            "    local count = tonumber(ARGV[5 + p * 3]) " +
+            "    cappedIncrBy(KEYS[1 + p * 4], targetId, count) " +
+            "    cappedIncrBy(KEYS[2 + p * 4], memberId, count) " +
+            "    redis.call('SADD', KEYS[3 + p * 4], memberId) " +
+            "    redis.call('SADD', KEYS[4 + p * 4], targetId) " +
+            "end " +
+            "return 1", Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
 
@@ -34,6 +69,8 @@ public class RedisInteractionScoreRepository {
      * 상호작용 점수 추가 (멱등성 보장)
      * <p>비즈니스 키 기반 이벤트 ID를 사용하여 중복 처리를 방지합니다.</p>
      * <p>동일한 이벤트가 여러 번 호출되어도 점수는 한 번만 증가합니다.</p>
+     * <p>증가량과 상한은 현재 시각의 로그 가중치 λ·now를 더한 저장 형태로 전달하고, 스크립트에서 log-sum-exp로 더합니다.</p>
+     * <p>같은 스크립트에서 역인덱스(interaction_rev:*)도 함께 갱신합니다.</p>
      *
      * @param memberId            회원 ID
      * @param interactionMemberId 상호작용 대상 회원 ID
@@ -41,10 +78,12 @@ public class RedisInteractionScoreRepository {
      * @return true: 점수 증가됨, false: 이미 처리된 이벤트
      */
     public boolean addInteractionScore(Long memberId, Long interactionMemberId, String idempotencyKey) {
-        final String INTERACTION_SCORE_ADD_SCRIPT = """
+        final String INTERACTION_SCORE_ADD_SCRIPT = InteractionScoreDecay.LOG_SCORE_FUNCTIONS + """
                     local key1 = KEYS[1]
                     local key2 = KEYS[2]
                     local idempotencyKey = KEYS[3]
+                    local reverseKey1 = KEYS[4]
+                    local reverseKey2 = KEYS[5]
                 
                     local member1 = tostring(ARGV[1])
                     local member2 = tostring(ARGV[2])
@@ -58,89 +97,218 @@ public class RedisInteractionScoreRepository {
                     end
                 
                     -- 점수 증가 (ZSet)
-                    local current1 = redis.call('ZSCORE', key1, member1)
-                    if not current1 or tonumber(current1) <= maxScore then
-                        redis.call('ZINCRBY', key1, increment, member1)
+                    local current1 = tonumber(redis.call('ZSCORE', key1, member1))
+                    if current1 == nil or current1 <= maxScore then
+                        redis.call('ZADD', key1, scoreArg(logAdd(current1, increment)), member1)
                     end
                 
-                    local current2 = redis.call('ZSCORE', key2, member2)
-                    if not current2 or tonumber(current2) <= maxScore then
-                        redis.call('ZINCRBY', key2, increment, member2)
+                    local current2 = tonumber(redis.call('ZSCORE', key2, member2))
+                    if current2 == nil or current2 <= maxScore then
+                        redis.call('ZADD', key2, scoreArg(logAdd(current2, increment)), member2)
                     end
                 
+                    -- 역인덱스 갱신 (member1을 가진 key2의 소유자, member2를 가진 key1의 소유자)
+                    redis.call('SADD', reverseKey1, member2)
+                    redis.call('SADD', reverseKey2, member1)
+                
                     return 1
                 """;
         DefaultRedisScript<Long> addScript = new DefaultRedisScript<>(INTERACTION_SCORE_ADD_SCRIPT, Long.class);
+        Instant now = Instant.now();
         Long result = stringRedisTemplate.execute(
                 addScript,
-                List.of(createInteractionKey(memberId), createInteractionKey(interactionMemberId), idempotencyKey), // 각각 KEYS[1],[2],[3]
+                List.of(createInteractionKey(memberId), createInteractionKey(interactionMemberId), idempotencyKey,
+                        createInteractionReverseKey(interactionMemberId), createInteractionReverseKey(memberId)), // 각각 KEYS[1]~[5]
                 interactionMemberId.toString(), // ARGV[1]
                 memberId.toString(), // ARGV[2]
-                String.valueOf(INTERACTION_SCORE_DEFAULT), // ARGV[3]
-                String.valueOf(INTERACTION_SCORE_LIMIT), // ARGV[4]
+                String.valueOf(InteractionScoreDecay.toStored(INTERACTION_SCORE_DEFAULT, now)), // ARGV[3]
+                String.valueOf(InteractionScoreDecay.toStored(INTERACTION_SCORE_LIMIT, now)), // ARGV[4]
                 String.valueOf(IDEMPOTENCY_TTL_SECONDS) // ARGV[5]
         );
         return result == 1;
     }
 
     /**
-     * 모든 상호작용 점수에 지수 감쇠 적용
-     * <p>SCAN으로 모든 interaction:* 키를 찾아 Lua 스크립트로 점수 감쇠 적용</p>
-     * <p>임계값(0.1) 이하의 점수는 삭제</p>
+     * 상호작용 이벤트 멱등성 일괄 확인 및 기록
+     * <p>이벤트마다 키를 만들지 않고 시간 버킷 Set 하나(idempotency:interaction:{epochHour})에 SADD하여 기록합니다.</p>
+     * <p>현재 버킷에 새로 추가되었고 직전 버킷에도 없으면 새 이벤트로 판단합니다.</p>
+     *
+     * @param idempotencyKeys 이벤트 멱등성 키 목록
+     * @return 키 순서와 동일한 신규 여부 목록 (true: 처음 처리, false: 이미 처리된 이벤트)
+     */
+    public List<Boolean> markInteractionEvents(List<String> idempotencyKeys) {
+        long epochHour = Instant.now().getEpochSecond() / 3600;
+        byte[] currentKey = createInteractionIdempotencyKey(epochHour).getBytes(StandardCharsets.UTF_8);
+        byte[] previousKey = createInteractionIdempotencyKey(epochHour - 1).getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String idempotencyKey : idempotencyKeys) {
+                byte[] member = idempotencyKey.getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(currentKey, member);
+                connection.setCommands().sIsMember(previousKey, member);
+            }
+            connection.keyCommands().expire(currentKey, IDEMPOTENCY_TTL_SECONDS * 2);
+            return null;
+        });
+
+        List<Boolean> fresh = new ArrayList<>(idempotencyKeys.size());
+        for (int i = 0; i < idempotencyKeys.size(); i++) {
+            boolean added = results.get(i * 2) instanceof Long count && count > 0;
+            boolean seenBefore = Boolean.TRUE.equals(results.get(i * 2 + 1));
+            fresh.add(added && !seenBefore);
+        }
+        return fresh;
+    }
+
+    /**
+     * 합쳐진 상호작용 점수 일괄 증가
+     * <p>회원 쌍마다 양방향 ZSCORE 확인, 상한까지 증가한 점수의 ZADD, 역인덱스 SADD를 Lua 스크립트 하나에서 원자적으로 수행합니다.
+     * 여러 인스턴스의 워커가 같은 쌍을 동시에 반영해도 확인과 증가 사이에 다른 증가가 끼어들지 않으므로 상한을 넘지 않습니다.</p>
+     * <p>상한 규칙은 이벤트별 스크립트와 동일하게 "현재 점수가 상한 이하이면 증가"를 count번 적용한 결과입니다.</p>
+     * <p>스크립트 하나가 Redis를 오래 점유하지 않도록 {@value #INCREMENT_CHUNK_SIZE}쌍씩 나누어 실행합니다.</p>
+     *
+     * @param increments 회원 쌍별로 합쳐진 증가 목록
+     */
+    public void addInteractionScoreBatch(List<InteractionIncrementDTO> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        String storedIncrement = String.valueOf(InteractionScoreDecay.toStored(INTERACTION_SCORE_DEFAULT, now));
+        String storedLimit = String.valueOf(InteractionScoreDecay.toStored(INTERACTION_SCORE_LIMIT, now));
+
+        for (int from = 0; from < increments.size(); from += INCREMENT_CHUNK_SIZE) {
+            List<InteractionIncrementDTO> chunk = increments.subList(from, Math.min(from + INCREMENT_CHUNK_SIZE, increments.size()));
+
+            List<String> keys = new ArrayList<>(chunk.size() * 4);
+            Object[] args = new Object[2 + chunk.size() * 3];
+            args[0] = storedIncrement;
+            args[1] = storedLimit;
+            int i = 2;
+            for (InteractionIncrementDTO increment : chunk) {
+                keys.add(createInteractionKey(increment.memberId()));
+                keys.add(createInteractionKey(increment.targetId()));
+                keys.add(createInteractionReverseKey(increment.targetId()));
+                keys.add(createInteractionReverseKey(increment.memberId()));
+                args[i++] = String.valueOf(increment.memberId());
+                args[i++] = String.valueOf(increment.targetId());
+                args[i++] = String.valueOf(increment.count());
+            }
+            stringRedisTemplate.execute(CAPPED_INCREMENT_SCRIPT, keys, args);
+        }
+    }
+
+    /**
+     * 이전 형식 상호작용 점수를 저장 형태(로그)로 전환
+     * <p>{@link InteractionScoreDecay#LEGACY_SCORE_CEILING} 이하인 멤버는 감쇠 반영 현재 점수이므로
+     * 로그를 취하고 현재 시각의 로그 가중치 λ·now를 더합니다. 0 이하의 값은 점수가 없는 것이므로 삭제합니다.</p>
+     * <p>{@link InteractionScoreDecay#EXPONENT_SCORE_FLOOR} 이상인 멤버는 지수 형식 Σ e^(λ·t_event)이므로 로그만 취합니다.</p>
+     * <p>키마다 스크립트 한 번으로 조회와 ZADD를 원자적으로 수행하므로 동시에 들어온 증가를 덮어쓰지 않고,
+     * 전환된 값은 두 범위 사이에 있으므로 여러 번, 여러 인스턴스에서 실행해도 결과가 같습니다.</p>
      *
+     * @return 전환한 멤버 수
      */
-    public void applyInteractionScoreDecay() {
-        final String INTERACTION_SCORE_DECAY_SCRIPT = """
-                local members = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
-                local decayRate = tonumber(ARGV[1])
-                local threshold = tonumber(ARGV[2])
-                for i = 1, #members, 2 do
-                    local member = members[i]
-                    local score = tonumber(members[i + 1])
-                    local newScore = score * decayRate
-                    if newScore <= threshold then
-                        redis.call('ZREM', KEYS[1], member)
-                    else
-                        redis.call('ZADD', KEYS[1], newScore, member)
+    public long convertLegacyInteractionScores() {
+        final String CONVERT_LEGACY_SCRIPT = InteractionScoreDecay.LOG_SCORE_FUNCTIONS + """
+                    local logWeight = tonumber(ARGV[3])
+                    local legacy = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES')
+                    for i = 1, #legacy, 2 do
+                        local score = tonumber(legacy[i + 1])
+                        if score > 0 then
+                            redis.call('ZADD', KEYS[1], scoreArg(math.log(score) + logWeight), legacy[i])
+                        else
+                            redis.call('ZREM', KEYS[1], legacy[i])
+                        end
+                    end
+                    local exponent = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[2], '+inf', 'WITHSCORES')
+                    for i = 1, #exponent, 2 do
+                        redis.call('ZADD', KEYS[1], scoreArg(math.log(tonumber(exponent[i + 1]))), exponent[i])
                     end
-                end
+                    return (#legacy + #exponent) / 2
                 """;
-        List<String> keys = new ArrayList<>();
+        byte[] script = CONVERT_LEGACY_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] ceiling = String.valueOf(InteractionScoreDecay.LEGACY_SCORE_CEILING).getBytes(StandardCharsets.UTF_8);
+        byte[] floor = String.valueOf(InteractionScoreDecay.EXPONENT_SCORE_FLOOR).getBytes(StandardCharsets.UTF_8);
+        byte[] logWeight = String.valueOf(InteractionScoreDecay.logWeightAt(Instant.now())).getBytes(StandardCharsets.UTF_8);
 
-        try (Cursor<String> cursor = stringRedisTemplate.scan(
-                ScanOptions.scanOptions()
-                        .match(createAllInteractionKey())
-                        .count(500)
-                        .build())) {
-            cursor.forEachRemaining(keys::add);
+        List<String> keys = scanInteractionKeys();
+        long converted = 0;
+        for (int i = 0; i < keys.size(); i += PIPELINE_BATCH_SIZE) {
+            List<String> batch = keys.subList(i, Math.min(i + PIPELINE_BATCH_SIZE, keys.size()));
+
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : batch) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                            key.getBytes(StandardCharsets.UTF_8), ceiling, floor, logWeight);
+                }
+                return null;
+            });
+            for (Object result : results) {
+                if (result instanceof Long count) {
+                    converted += count;
+                }
+            }
         }
+        return converted;
+    }
 
-        byte[] scriptBytes = INTERACTION_SCORE_DECAY_SCRIPT.getBytes(StandardCharsets.UTF_8);
-        byte[] decayRateBytes = String.valueOf(INTERACTION_SCORE_DECAY_RATE).getBytes(StandardCharsets.UTF_8);
-        byte[] thresholdBytes = String.valueOf(INTERACTION_SCORE_THRESHOLD).getBytes(StandardCharsets.UTF_8);
+    /**
+     * 기존 형식 점수 전환 완료 여부
+     */
+    public boolean isLegacyConversionDone() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(INTERACTION_FORMAT_KEY));
+    }
 
-        int decayBatchSize = 500;
-        for (int i = 0; i < keys.size(); i += decayBatchSize) {
-            List<String> batch = keys.subList(i, Math.min(i + decayBatchSize, keys.size()));
+    /**
+     * 기존 형식 점수 전환 완료 기록
+     */
+    public void markLegacyConversionDone() {
+        stringRedisTemplate.opsForValue().set(INTERACTION_FORMAT_KEY, Instant.now().toString());
+    }
+
+    /**
+     * 감쇠되어 임계값 이하가 된 상호작용 점수 정리
+     * <p>점수는 조회 시 정규화되므로 감쇠 자체는 별도 쓰기가 필요 없고, 임계값 이하로 떨어진 항목만 제거합니다.</p>
+     * <p>키마다 ZREMRANGEBYSCORE 한 번으로 처리하여 ZSet 멤버 전체를 다시 쓰지 않습니다.</p>
+     * <p>{@link InteractionScoreDecay#LEGACY_SCORE_CEILING} 이하의 기존 형식 값은 아직 전환되지 않은 점수이므로 삭제 범위에서 제외합니다.
+     * 전환되지 않은 지수 형식 값은 로그 형식 임계값보다 크므로 삭제 범위에 들지 않습니다.</p>
+     */
+    public void pruneDecayedInteractionScores() {
+        List<String> keys = scanInteractionKeys();
+
+        double storedThreshold = InteractionScoreDecay.toStored(INTERACTION_SCORE_THRESHOLD, Instant.now());
+        Range<Double> pruneRange = Range.of(
+                Range.Bound.exclusive(InteractionScoreDecay.LEGACY_SCORE_CEILING),
+                Range.Bound.inclusive(storedThreshold));
+
+        for (int i = 0; i < keys.size(); i += PIPELINE_BATCH_SIZE) {
+            List<String> batch = keys.subList(i, Math.min(i + PIPELINE_BATCH_SIZE, keys.size()));
 
             stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
                 for (String key : batch) {
-                    connection.scriptingCommands().eval(
-                            scriptBytes,
-                            ReturnType.VALUE,
-                            1,
-                            key.getBytes(StandardCharsets.UTF_8),
-                            decayRateBytes,
-                            thresholdBytes
-                    );
+                    connection.zSetCommands().zRemRangeByScore(key.getBytes(StandardCharsets.UTF_8), pruneRange);
                 }
                 return null;
             });
         }
     }
 
+    private List<String> scanInteractionKeys() {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(
+                ScanOptions.scanOptions()
+                        .match(createAllInteractionKey())
+                        .count(500)
+                        .build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
     /**
      * 회원의 상호작용 점수 상위 N개 조회 (점수 내림차순)
+     * <p>저장된 점수를 현재 시각 기준으로 정규화하여 반환합니다. 정규화는 순서를 바꾸지 않습니다.</p>
      *
      * @param memberId 기준 회원 ID
      * @param limit    조회할 개수
@@ -148,11 +316,22 @@ public class RedisInteractionScoreRepository {
      */
     public Set<TypedTuple<Object>> getTopInteractionScores(Long memberId, int limit) {
         Set<TypedTuple<Object>> result = redisTemplate.opsForZSet().reverseRangeWithScores(createInteractionKey(memberId), 0, limit - 1);
-        return result != null ? result : Collections.emptySet();
+        if (result == null || result.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Instant now = Instant.now();
+        Set<TypedTuple<Object>> normalized = new LinkedHashSet<>();
+        for (TypedTuple<Object> tuple : result) {
+            double score = tuple.getScore() != null ? InteractionScoreDecay.toCurrent(tuple.getScore(), now) : 0.0;
+            normalized.add(new DefaultTypedTuple<>(tuple.getValue(), score));
+        }
+        return normalized;
     }
 
     /**
      * 후보자들의 상호작용 점수만 파이프라인으로 일괄 조회
+     * <p>저장된 점수를 현재 시각 기준으로 정규화하여 반환합니다.</p>
      *
      * @param memberId  기준 회원 ID
      * @param targetIds 점수를 조회할 대상(후보자) ID 목록
@@ -160,6 +339,7 @@ public class RedisInteractionScoreRepository {
      */
     public List<Object> getInteractionScoresBatch(Long memberId, List<Long> targetIds) {
         List<Object> allResults = new ArrayList<>();
+        Instant now = Instant.now();
 
         for (int i = 0; i < targetIds.size(); i += PIPELINE_BATCH_SIZE) {
             List<Long> batch = targetIds.subList(i, Math.min(i + PIPELINE_BATCH_SIZE, targetIds.size()));
@@ -173,29 +353,52 @@ public class RedisInteractionScoreRepository {
                 return null;
             });
 
-            allResults.addAll(batchResults);
+            for (Object raw : batchResults) {
+                allResults.add(raw != null ? InteractionScoreDecay.toCurrent(Double.parseDouble(raw.toString()), now) : null);
+            }
         }
         return allResults;
     }
 
     /**
      * 회원 탈퇴 시 상호작용 데이터 삭제
-     * <p>SCAN 패턴 매칭으로 모든 상호작용 ZSet에서 탈퇴 회원 제거</p>
+     * <p>역인덱스와 탈퇴 회원 자신의 ZSet 멤버로 정리 대상 키를 찾아 파이프라인으로 ZREM합니다.</p>
+     * <p>전체 interaction:* 키를 SCAN하지 않으므로 비용이 탈퇴 회원의 상호작용 상대 수에 비례합니다.</p>
+     * <p>역인덱스는 정리(prune)된 항목을 지우지 않는 상위 집합이므로 없는 멤버에 대한 ZREM은 무시됩니다.</p>
      */
     public void deleteInteractionKeyByWithdraw(Long withdrawMemberId) {
-        // 1. 탈퇴 회원의 상호작용 ZSet 삭제
-        stringRedisTemplate.delete(createInteractionKey(withdrawMemberId));
+        String interactionKey = createInteractionKey(withdrawMemberId);
+        String reverseKey = createInteractionReverseKey(withdrawMemberId);
 
-        // 2. SCAN으로 모든 interaction 키 조회 후, 탈퇴 회원 데이터 제거
-        try (Cursor<String> cursor = stringRedisTemplate.scan(
-                ScanOptions.scanOptions()
-                        .match(createAllInteractionKey())
-                        .count(100)
-                        .build())) {
-            while (cursor.hasNext()) {
-                String key = cursor.next();
-                stringRedisTemplate.opsForZSet().remove(key, String.valueOf(withdrawMemberId));
-            }
+        // 1. 나를 가진 키(역인덱스) + 내가 가진 상대(상호작용은 양방향으로 기록됨)를 정리 대상으로 수집
+        Set<String> ownerIds = new HashSet<>();
+        Set<String> reverseMembers = stringRedisTemplate.opsForSet().members(reverseKey);
+        if (reverseMembers != null) {
+            ownerIds.addAll(reverseMembers);
+        }
+        Set<String> targetIds = stringRedisTemplate.opsForZSet().range(interactionKey, 0, -1);
+        if (targetIds != null) {
+            ownerIds.addAll(targetIds);
+        }
+
+        // 2. 대상 키에서 탈퇴 회원 제거 + 상대 역인덱스에서 탈퇴 회원 제거
+        byte[] withdrawMemberBytes = String.valueOf(withdrawMemberId).getBytes(StandardCharsets.UTF_8);
+        List<String> ownerIdList = new ArrayList<>(ownerIds);
+        for (int i = 0; i < ownerIdList.size(); i += PIPELINE_BATCH_SIZE) {
+            List<String> batch = ownerIdList.subList(i, Math.min(i + PIPELINE_BATCH_SIZE, ownerIdList.size()));
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String ownerId : batch) {
+                    connection.zSetCommands().zRem(
+                            (INTERACTION_PREFIX + ownerId).getBytes(StandardCharsets.UTF_8), withdrawMemberBytes);
+                    connection.setCommands().sRem(
+                            (INTERACTION_REVERSE_PREFIX + ownerId).getBytes(StandardCharsets.UTF_8), withdrawMemberBytes);
+                }
+                return null;
+            });
         }
+
+        // 3. 탈퇴 회원의 상호작용 ZSet과 역인덱스 삭제
+        stringRedisTemplate.delete(List.of(interactionKey, reverseKey));
     }
 }
@@ -0,0 +1,125 @@
+package jaeik.bimillog.infrastructure.redis.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
+
+/**
+ * <h2>안 읽은 알림 수 Redis 카운터</h2>
+ * <p>회원별 안 읽은 알림 수를 String 카운터로 보관합니다. 키가 없으면 DB COUNT 결과로 한 번 채우고,
+ * 이후에는 알림 저장/읽음/삭제 시 증감만 반영합니다.</p>
+ * <p>채우기는 DB COUNT 전에 채우는 중 표시({@value #SEED_SENTINEL})를 먼저 기록하고({@link #beginSeed}),
+ * COUNT 후 표시가 그대로일 때만 값을 기록합니다({@link #completeSeed}). 그 사이 커밋된 증감이 표시를 만나면 키를 삭제하므로
+ * COUNT에 빠진 증감이 있는 값은 기록되지 않고 다음 조회에서 다시 채워집니다.</p>
+ * <p>증감은 키가 없으면 건너뛰므로 채워지지 않은 카운터가 0부터 잘못 세어지지 않습니다.
+ * 키 TTL은 증감으로 연장되지 않아, 어긋난 값이 있어도 TTL마다 DB 기준으로 다시 채워집니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisNotificationUnreadCounter {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 채우는 중 표시 값과 수명. 채우는 인스턴스가 멈춰도 수명이 지나면 다음 조회가 다시 채운다.
+     */
+    static final String SEED_SENTINEL = "seeding";
+    private static final Duration SEED_TTL = Duration.ofSeconds(10);
+
+    /**
+     * 키가 없으면 건너뜀, 채우는 중이면 키를 삭제하여 채우기를 취소, 숫자면 INCRBY.
+     * 결과가 음수면 어긋난 값이므로 삭제하여 다음 조회에서 다시 채움
+     */
+    private static final byte[] ADD_IF_PRESENT_SCRIPT = (
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return -1 end " +
+            "if current == ARGV[2] then redis.call('DEL', KEYS[1]) return -1 end " +
+            "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if count < 0 then redis.call('DEL', KEYS[1]) return -1 end " +
+            "return count").getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 채우는 중 표시가 그대로일 때만 값 기록
+     */
+    private static final DefaultRedisScript<Long> COMPLETE_SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1", Long.class);
+
+    /**
+     * <h3>안 읽은 알림 수 조회</h3>
+     *
+     * @return 캐시된 개수, 키가 없거나 채우는 중이면 null
+     */
+    public Long get(Long memberId) {
+        String value = stringRedisTemplate.opsForValue().get(createNotificationUnreadKey(memberId));
+        return value != null && !SEED_SENTINEL.equals(value) ? Long.valueOf(value) : null;
+    }
+
+    /**
+     * <h3>안 읽은 알림 수 채우기 시작</h3>
+     * <p>DB COUNT 전에 호출합니다. 키가 없을 때만 채우는 중 표시를 기록합니다.</p>
+     *
+     * @return 이 호출이 채우기를 맡았으면 true (이미 값이 있거나 다른 요청이 채우는 중이면 false)
+     */
+    public boolean beginSeed(Long memberId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(createNotificationUnreadKey(memberId), SEED_SENTINEL, SEED_TTL));
+    }
+
+    /**
+     * <h3>안 읽은 알림 수 채우기 완료</h3>
+     * <p>채우는 중 표시가 남아 있을 때만 DB COUNT 결과를 기록합니다.
+     * 그 사이 증감이 반영되어 표시가 지워졌으면 기록하지 않습니다.</p>
+     *
+     * @return 기록했으면 true
+     */
+    public boolean completeSeed(Long memberId, long count) {
+        Long result = stringRedisTemplate.execute(COMPLETE_SEED_SCRIPT,
+                List.of(createNotificationUnreadKey(memberId)),
+                SEED_SENTINEL, String.valueOf(count), String.valueOf(NOTIFICATION_UNREAD_TTL.toSeconds()));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * <h3>안 읽은 알림 수 일괄 증감 (파이프라인)</h3>
+     * <p>회원별 증감량을 한 번의 왕복으로 반영합니다. 증감량이 0인 회원은 건너뜁니다.</p>
+     *
+     * @param deltas 회원 ID별 증감량
+     */
+    public void add(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        byte[] sentinel = SEED_SENTINEL.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((memberId, delta) -> {
+                if (delta == 0) return;
+                connection.scriptingCommands().eval(ADD_IF_PRESENT_SCRIPT, ReturnType.INTEGER, 1,
+                        createNotificationUnreadKey(memberId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8), sentinel);
+            });
+            return null;
+        });
+    }
+
+    /**
+     * <h3>안 읽은 알림 수 삭제</h3>
+     * <p>다음 조회에서 DB COUNT로 다시 채워집니다.</p>
+     */
+    public void delete(Long memberId) {
+        stringRedisTemplate.delete(createNotificationUnreadKey(memberId));
+    }
+}
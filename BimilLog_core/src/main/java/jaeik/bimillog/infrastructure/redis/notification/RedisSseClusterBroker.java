@@ -0,0 +1,170 @@
+package jaeik.bimillog.infrastructure.redis.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jaeik.bimillog.domain.notification.cluster.SseClusterBroker;
+import jaeik.bimillog.domain.notification.cluster.SseDisconnectCommand;
+import jaeik.bimillog.domain.notification.entity.SseMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
+
+/**
+ * <h2>Redis SSE 클러스터 브로커</h2>
+ * <p>노드 채널은 Redis Pub/Sub, presence는 사용자별 ZSet(member: 노드 ID, score: 만료 시각)으로 구현합니다.</p>
+ * <p>presence 항목은 노드별로 만료되므로 한 노드가 갱신을 멈춰도 다른 노드의 항목은 유지됩니다.
+ * 키 자체에도 TTL을 걸어 연결이 모두 사라진 사용자의 키가 남지 않게 합니다.</p>
+ * <p>Pub/Sub은 전달을 보장하지 않으므로 수신 노드가 잠시 끊긴 동안의 알림은 유실되며, 이는 기존 SSE 전송과 같은 수준입니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.cluster.broker", havingValue = "redis", matchIfMissing = true)
+public class RedisSseClusterBroker implements SseClusterBroker {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+    private final Executor sseClusterExecutor;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public RedisSseClusterBroker(StringRedisTemplate stringRedisTemplate,
+                                 RedisConnectionFactory redisConnectionFactory,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("sseClusterExecutor") Executor sseClusterExecutor) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.objectMapper = objectMapper;
+        this.sseClusterExecutor = sseClusterExecutor;
+    }
+
+    /**
+     * <h3>노드 채널 구독</h3>
+     * <p>첫 구독 시 리스너 컨테이너를 시작합니다. 메시지 처리는 sseClusterExecutor에서 수행합니다.</p>
+     */
+    @Override
+    public void subscribe(String nodeId, Consumer<SseMessage> handler) {
+        listen(createSseNodeChannel(nodeId), SseMessage.class, handler);
+    }
+
+    @Override
+    public void publish(String nodeId, SseMessage message) {
+        send(createSseNodeChannel(nodeId), message);
+    }
+
+    @Override
+    public void subscribeDisconnect(String nodeId, Consumer<SseDisconnectCommand> handler) {
+        listen(createSseNodeDisconnectChannel(nodeId), SseDisconnectCommand.class, handler);
+    }
+
+    @Override
+    public void publishDisconnect(String nodeId, SseDisconnectCommand command) {
+        send(createSseNodeDisconnectChannel(nodeId), command);
+    }
+
+    private synchronized <T> void listen(String channel, Class<T> type, Consumer<T> handler) {
+        if (listenerContainer == null) {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(redisConnectionFactory);
+            listenerContainer.setTaskExecutor(sseClusterExecutor);
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                handler.accept(objectMapper.readValue(message.getBody(), type));
+            } catch (IOException e) {
+                log.warn("SSE 클러스터 메시지 역직렬화 실패: channel={}", channel, e);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    private void send(String channel, Object message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 클러스터 메시지 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public void addPresence(Long memberId, String nodeId) {
+        refreshPresence(List.of(memberId), nodeId);
+    }
+
+    @Override
+    public void removePresence(Collection<Long> memberIds, String nodeId) {
+        List<Long> ids = new ArrayList<>(memberIds);
+        for (int from = 0; from < ids.size(); from += PIPELINE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, ids.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+                StringRedisConnection c = (StringRedisConnection) conn;
+                for (Long memberId : batch) {
+                    c.zRem(createSsePresenceKey(memberId), nodeId);
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void clearPresence(Long memberId) {
+        stringRedisTemplate.delete(createSsePresenceKey(memberId));
+    }
+
+    /**
+     * <h3>접속 위치 일괄 갱신</h3>
+     * <p>ZADD(만료 시각)와 EXPIRE를 PIPELINE_BATCH_SIZE 단위 파이프라인으로 전송하고, 만료된 노드 항목은 함께 정리합니다.</p>
+     */
+    @Override
+    public void refreshPresence(Collection<Long> memberIds, String nodeId) {
+        long now = System.currentTimeMillis();
+        double expireAt = now + SSE_PRESENCE_TTL.toMillis();
+        long ttlSeconds = SSE_PRESENCE_TTL.toSeconds();
+        List<Long> ids = new ArrayList<>(memberIds);
+        for (int from = 0; from < ids.size(); from += PIPELINE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, ids.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+                StringRedisConnection c = (StringRedisConnection) conn;
+                for (Long memberId : batch) {
+                    String key = createSsePresenceKey(memberId);
+                    c.zAdd(key, expireAt, nodeId);
+                    c.zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                    c.expire(key, ttlSeconds);
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public Set<String> findNodes(Long memberId) {
+        Set<String> nodes = stringRedisTemplate.opsForZSet()
+                .rangeByScore(createSsePresenceKey(memberId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return nodes == null ? Set.of() : nodes;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+}
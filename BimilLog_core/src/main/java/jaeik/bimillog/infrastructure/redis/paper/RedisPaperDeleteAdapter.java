@@ -3,10 +3,14 @@ package jaeik.bimillog.infrastructure.redis.paper;
 import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
-import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_SCORE_KEY;
+import java.time.Instant;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
 
 /**
  * <h2>롤링페이퍼 캐시 삭제 어댑터</h2>
@@ -14,7 +18,7 @@ import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_SCORE_
  * <p>실시간 인기 롤링페이퍼 목록에서 특정 회원의 롤링페이퍼 제거</p>
  *
  * @author Jaeik
- * @version 2.0.0
+ * @version 2.8.0
  */
 @Component
 @RequiredArgsConstructor
@@ -24,12 +28,30 @@ public class RedisPaperDeleteAdapter {
 
     /**
      * <h3>실시간 인기 롤링페이퍼 목록에서 회원 제거</h3>
-     * <p>Redis Sorted Set에서 특정 회원의 롤링페이퍼를 제거합니다.</p>
+     * <p>합산 결과와 최근 24개 시간 버킷 모두에서 특정 회원을 제거합니다. 버킷에 남기면 다음 합산에서 다시 나타납니다.
+     * 인기 목록 스냅샷도 삭제하여 다음 갱신 전까지 ZSet 기반 경로로 조회되게 합니다.</p>
      * <p>회원 탈퇴 또는 롤링페이퍼 삭제 시 호출됩니다.</p>
      *
      * @param memberId 제거할 회원 ID
      */
     public void removeMemberIdFromRealtimeScore(Long memberId) {
-        redisTemplate.opsForZSet().remove(REALTIME_PAPER_SCORE_KEY, memberId.toString());
+        String member = memberId.toString();
+        long currentHour = Instant.now().getEpochSecond() / 3600;
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForZSet().remove(REALTIME_PAPER_SCORE_KEY, member);
+                ops.opsForZSet().remove(REALTIME_PAPER_MESSAGE_COUNT_KEY, member);
+                ops.delete(REALTIME_PAPER_SNAPSHOT_KEY);
+                for (int age = 0; age < REALTIME_PAPER_BUCKET_COUNT; age++) {
+                    ops.opsForZSet().remove(createPaperScoreBucketKey(currentHour - age), member);
+                    ops.opsForZSet().remove(createPaperMessageCountBucketKey(currentHour - age), member);
+                }
+                return null;
+            }
+        });
     }
 }
@@ -1,35 +1,41 @@
 package jaeik.bimillog.infrastructure.redis.paper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jaeik.bimillog.domain.paper.entity.PopularPaperInfo;
 import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
+import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_MESSAGE_COUNT_KEY;
 import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_SCORE_KEY;
+import static jaeik.bimillog.infrastructure.redis.RedisKey.REALTIME_PAPER_SNAPSHOT_KEY;
 
 /**
  * <h2>롤링페이퍼 캐시 조회 어댑터</h2>
  * <p>롤링페이퍼 캐시 조회 포트의 Redis 구현체입니다.</p>
- * <p>실시간 인기 롤링페이퍼 목록 조회</p>
+ * <p>실시간 인기 롤링페이퍼 목록 조회, 최근 24시간 메시지 수 조회, 인기 목록 스냅샷 조회</p>
  *
  * @author Jaeik
- * @version 2.0.0
+ * @version 2.8.0
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisPaperQueryAdapter {
+    private static final TypeReference<List<PopularPaperInfo>> SNAPSHOT_TYPE = new TypeReference<>() {};
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
 
 
     /**
@@ -66,4 +72,51 @@ public class RedisPaperQueryAdapter {
         }
         return result;
     }
+
+    /**
+     * <h3>최근 24시간 메시지 수 조회</h3>
+     * <p>시간 버킷 합산 결과에서 ZMSCORE 한 번으로 여러 회원의 메시지 수를 조회합니다.</p>
+     *
+     * @param memberIds 조회 대상 회원 ID 목록
+     * @return Map&lt;memberId, messageCount&gt; (집계되지 않은 회원은 포함되지 않음)
+     */
+    public Map<Long, Integer> getRecentMessageCounts(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Object[] members = memberIds.stream().map(String::valueOf).toArray();
+        List<Double> counts = redisTemplate.opsForZSet().score(REALTIME_PAPER_MESSAGE_COUNT_KEY, members);
+        if (counts == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            Double count = counts.get(i);
+            if (count != null) {
+                result.put(memberIds.get(i), Math.max(0, count.intValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <h3>실시간 인기 롤링페이퍼 스냅샷 조회</h3>
+     * <p>GET 한 번으로 이름과 메시지 수가 채워진 상위 목록을 조회합니다.</p>
+     *
+     * @return 스냅샷 목록 (키가 없으면 빈 Optional)
+     */
+    public Optional<List<PopularPaperInfo>> getRealtimePopularSnapshot() {
+        String json = stringRedisTemplate.opsForValue().get(REALTIME_PAPER_SNAPSHOT_KEY);
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(json, SNAPSHOT_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("[PAPER_SNAPSHOT] JSON 파싱 실패", e);
+        }
+    }
 }
@@ -1,11 +1,20 @@
 package jaeik.bimillog.infrastructure.redis.paper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jaeik.bimillog.domain.paper.dto.PaperScoreIncrementDTO;
+import jaeik.bimillog.domain.paper.entity.PopularPaperInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
@@ -13,59 +22,150 @@ import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
 /**
  * <h2>롤링페이퍼 캐시 갱신 어댑터</h2>
  * <p>롤링페이퍼 캐시 갱신 포트의 Redis 구현체입니다.</p>
- * <p>실시간 인기 롤링페이퍼 점수 증가 및 감쇠 처리</p>
+ * <p>점수와 메시지 수는 현재 시간 버킷에만 누적하고, 주기적으로 최근 24개 버킷을 ZUNIONSTORE로 합산하여 조회용 ZSet을 만듭니다.</p>
+ * <p>감쇠는 버킷 나이에 따른 가중치(10분당 0.97 → 시간당 0.97^6)로 적용되며, 24시간이 지난 버킷은 합산에서 빠지고 TTL로 만료됩니다.
+ * 전체 멤버를 순회하며 ZADD 하던 감쇠 Lua 스크립트와 요청마다 실행하던 24시간 메시지 수 쿼리를 대체합니다.</p>
+ * <p>합산 결과로 만든 인기 목록 스냅샷(JSON)을 String 키 하나에 저장합니다.</p>
+ * <p>버킷 도입 전에는 점수를 조회용 ZSet에 직접 누적했으므로, 첫 합산 전에 그 ZSet을 현재 버킷으로 한 번 옮겨
+ * 배포 직후 합산이 기존 순위를 비우지 않게 합니다.</p>
  *
  * @author Jaeik
- * @version 2.0.0
+ * @version 2.8.0
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisPaperUpdateAdapter {
+    private static final double HOURLY_DECAY_WEIGHT = Math.pow(REALTIME_PAPER_SCORE_DECAY_RATE, 6);
+    private static final int APPLY_CHUNK_SIZE = 1000;
+
+    /**
+     * 반영 완료 표시가 없을 때만 (멤버, 점수, 메시지 수) 묶음을 버킷에 ZINCRBY.
+     * KEYS: 완료 표시, 점수 버킷, 메시지 수 버킷 / ARGV: 버킷 TTL, 완료 표시 TTL, 이후 멤버·점수·메시지 수 반복
+     */
+    private static final DefaultRedisScript<Long> APPLY_INCREMENTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[2]) == false then return 0 end " +
+            "local countChanged = false " +
+            "for i = 3, #ARGV, 3 do " +
+            "    local score = tonumber(ARGV[i + 1]) " +
+            "    local count = tonumber(ARGV[i + 2]) " +
+            "    if score ~= 0 then redis.call('ZINCRBY', KEYS[2], score, ARGV[i]) end " +
+            "    if count ~= 0 then redis.call('ZINCRBY', KEYS[3], count, ARGV[i]) countChanged = true end " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "if countChanged then redis.call('EXPIRE', KEYS[3], ARGV[1]) end " +
+            "return 1", Long.class);
+
+    /**
+     * 표시가 없을 때만 기존 점수 ZSet을 현재 버킷에 더하고 표시를 남김. 그 사이 현재 버킷에 누적된 점수는 유지
+     */
+    private static final DefaultRedisScript<Long> SEED_CURRENT_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], '1', 'NX') == false then return 0 end " +
+            "if redis.call('EXISTS', KEYS[3]) == 0 then return 0 end " +
+            "redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
 
     /**
-     * <h3>실시간 인기 롤링페이퍼 점수 증가</h3>
-     * <p>Redis Sorted Set에서 특정 롤링페이퍼의 점수를 증가시킵니다.</p>
-     * <p>이벤트 리스너에서 메시지 작성 또는 방문 이벤트 발생 시 호출됩니다.</p>
+     * <h3>실시간 인기 롤링페이퍼 점수 일괄 증가</h3>
+     * <p>롤링페이퍼별로 합쳐진 점수와 메시지 수 증감을 현재 시간 버킷에 반영하고 버킷 TTL을 설정합니다.</p>
+     * <p>APPLY_CHUNK_SIZE개씩 Lua 스크립트 하나로 반영하며, 조각마다 반영 완료 표시를 SET NX로 함께 남깁니다.
+     * 응답을 받지 못해 같은 batchId로 다시 호출해도 이미 반영된 조각은 건너뛰므로 중복 누적되지 않습니다.</p>
+     * <p>PaperScoreAccumulator가 주기적으로 호출합니다. 조회 순위에는 다음 합산 시 반영됩니다.</p>
      *
-     * @param memberId 점수를 증가시킬 회원 ID (롤링페이퍼 소유자)
-     * @param score    증가시킬 점수
+     * @param batchId    증감 묶음 ID (재시도 시 같은 값 사용)
+     * @param increments 롤링페이퍼별 증감 목록
      */
-    public void incrementRealtimePopularPaperScore(Long memberId, double score) {
-        redisTemplate.opsForZSet().incrementScore(REALTIME_PAPER_SCORE_KEY, memberId.toString(), score);
-        log.info("{}의 롤링 페이퍼{}점 증가", memberId, score);
+    public void incrementRealtimePopularPaperScores(String batchId, List<PaperScoreIncrementDTO> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        long currentHour = currentEpochHour();
+        List<String> bucketKeys = List.of(createPaperScoreBucketKey(currentHour), createPaperMessageCountBucketKey(currentHour));
+
+        for (int from = 0, chunk = 0; from < increments.size(); from += APPLY_CHUNK_SIZE, chunk++) {
+            List<PaperScoreIncrementDTO> part = increments.subList(from, Math.min(from + APPLY_CHUNK_SIZE, increments.size()));
+            Object[] args = new Object[2 + part.size() * 3];
+            args[0] = REALTIME_PAPER_BUCKET_TTL.toSeconds();
+            args[1] = REALTIME_PAPER_APPLIED_TTL.toSeconds();
+            int i = 2;
+            for (PaperScoreIncrementDTO increment : part) {
+                // 멤버는 ZSet 조회와 같은 직렬화를 쓰도록 redisTemplate으로 전달
+                args[i++] = increment.memberId().toString();
+                args[i++] = increment.score();
+                args[i++] = increment.messageCount();
+            }
+            List<String> keys = List.of(createPaperAppliedKey(batchId, chunk), bucketKeys.get(0), bucketKeys.get(1));
+            redisTemplate.execute(APPLY_INCREMENTS_SCRIPT, keys, args);
+        }
+        log.debug("롤링페이퍼 인기 점수 {}건 일괄 반영: batchId={}", increments.size(), batchId);
     }
 
     /**
-     * <h3>실시간 인기 롤링페이퍼 전체 점수 지수감쇠 적용</h3>
-     * <p>Redis Sorted Set의 모든 롤링페이퍼 점수에 0.97를 곱하고, 임계값(1점) 이하의 롤링페이퍼를 제거합니다.</p>
-     * <p>PaperScheduledService 스케줄러에서 주기적으로 호출됩니다.</p>
+     * <h3>실시간 인기 롤링페이퍼 버킷 합산</h3>
+     * <p>최근 24개 점수 버킷을 나이별 가중치로, 메시지 수 버킷을 가중치 1로 합산하여 조회용 ZSet을 교체합니다.
+     * 합산 후 임계값(1점) 이하의 롤링페이퍼를 점수 ZSet에서 제거합니다.</p>
+     * <p>PaperScheduledService 스케줄러에서 주기적으로 호출됩니다. 여러 인스턴스가 동시에 실행해도 결과는 같습니다.</p>
      */
-    public void applyRealtimePopularPaperScoreDecay() {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(
-                "local members = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') " +
-                        "for i = 1, #members, 2 do " +
-                        "    local member = members[i] " +
-                        "    local score = tonumber(members[i + 1]) " +
-                        "    local newScore = score * tonumber(ARGV[1]) " +
-                        "    redis.call('ZADD', KEYS[1], newScore, member) " +
-                        "end " +
-                        "return 1"
-        );
-        script.setResultType(Long.class);
-        // 1. 모든 항목의 점수에 0.97 곱하기 (Lua 스크립트 사용)
-        redisTemplate.execute(
-                script,
-                List.of(REALTIME_PAPER_SCORE_KEY),
-                REALTIME_PAPER_SCORE_DECAY_RATE
-        );
-
-        // 2. 임계값(1점) 이하의 롤링페이퍼 제거
+    public void aggregateRealtimePopularPapers() {
+        long currentHour = currentEpochHour();
+        seedCurrentBucketOnce(currentHour);
+
+        List<String> scoreKeys = new ArrayList<>(REALTIME_PAPER_BUCKET_COUNT);
+        List<String> countKeys = new ArrayList<>(REALTIME_PAPER_BUCKET_COUNT);
+        double[] scoreWeights = new double[REALTIME_PAPER_BUCKET_COUNT];
+        double[] countWeights = new double[REALTIME_PAPER_BUCKET_COUNT];
+
+        for (int age = 0; age < REALTIME_PAPER_BUCKET_COUNT; age++) {
+            scoreKeys.add(createPaperScoreBucketKey(currentHour - age));
+            countKeys.add(createPaperMessageCountBucketKey(currentHour - age));
+            scoreWeights[age] = Math.pow(HOURLY_DECAY_WEIGHT, age);
+            countWeights[age] = 1.0;
+        }
+
+        redisTemplate.opsForZSet().unionAndStore(scoreKeys.getFirst(), scoreKeys.subList(1, scoreKeys.size()),
+                REALTIME_PAPER_SCORE_KEY, Aggregate.SUM, Weights.of(scoreWeights));
         redisTemplate.opsForZSet().removeRangeByScore(REALTIME_PAPER_SCORE_KEY, 0, REALTIME_PAPER_SCORE_THRESHOLD);
 
+        redisTemplate.opsForZSet().unionAndStore(countKeys.getFirst(), countKeys.subList(1, countKeys.size()),
+                REALTIME_PAPER_MESSAGE_COUNT_KEY, Aggregate.SUM, Weights.of(countWeights));
     }
-}
 
+    /**
+     * 버킷 도입 전 점수 ZSet을 현재 버킷으로 한 번만 옮깁니다. 표시 설정과 복사는 하나의 스크립트로 원자적으로 수행되어
+     * 여러 인스턴스가 동시에 합산해도 한 번만 더해집니다. 이미 감쇠가 적용된 점수이므로 이후 버킷 나이에 따라 감쇠됩니다.
+     */
+    private void seedCurrentBucketOnce(long currentHour) {
+        Long seeded = stringRedisTemplate.execute(SEED_CURRENT_BUCKET_SCRIPT,
+                List.of(REALTIME_PAPER_BUCKET_SEEDED_KEY, createPaperScoreBucketKey(currentHour), REALTIME_PAPER_SCORE_KEY),
+                String.valueOf(REALTIME_PAPER_BUCKET_TTL.toSeconds()));
+        if (Long.valueOf(1L).equals(seeded)) {
+            log.info("[PAPER_SCORE] 기존 점수 ZSet을 현재 버킷으로 이전: bucket={}", currentHour);
+        }
+    }
+
+    /**
+     * <h3>실시간 인기 롤링페이퍼 스냅샷 저장</h3>
+     * <p>회원 이름과 최근 메시지 수가 채워진 상위 목록을 JSON 배열로 직렬화하여 SET 합니다.
+     * 갱신이 멈추면 TTL 후 사라져 조회는 ZSet 기반 경로로 돌아갑니다.</p>
+     *
+     * @param papers 순위순 인기 롤링페이퍼 목록
+     */
+    public void saveRealtimePopularSnapshot(List<PopularPaperInfo> papers) {
+        try {
+            stringRedisTemplate.opsForValue().set(REALTIME_PAPER_SNAPSHOT_KEY,
+                    objectMapper.writeValueAsString(papers), REALTIME_PAPER_SNAPSHOT_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("[PAPER_SNAPSHOT] JSON 직렬화 실패", e);
+        }
+    }
+
+    private static long currentEpochHour() {
+        return Instant.now().getEpochSecond() / 3600;
+    }
+}
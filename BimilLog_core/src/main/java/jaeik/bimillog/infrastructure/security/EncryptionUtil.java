@@ -1,55 +1,148 @@
 package jaeik.bimillog.infrastructure.security;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Base64;
 
 /**
  * <h2>암호화 유틸리티 클래스</h2>
  * <p>메시지를 AES 알고리즘을 사용하여 암호화하고 복호화하는 기능을 제공하는 클래스</p>
+ * <p>GCM 암호문은 버전 헤더("g1:")를 붙여 저장합니다: g1: + Base64(IV 12바이트 | 암호문 | 태그 16바이트).
+ * 헤더가 없는 값은 기존 AES/ECB 암호문으로 보고 그대로 복호화하므로 기존 행은 마이그레이션 없이 읽힙니다.
+ * Base64 알파벳에는 ':'이 없어 두 형식이 겹치지 않습니다.</p>
+ * <p>복호화는 항상 두 형식을 모두 읽고, 암호화 형식은 message.encryption.gcm-write-enabled로 고릅니다.
+ * 롤링 배포 중 이전 버전 인스턴스는 g1: 값을 읽지 못하므로, 먼저 꺼진 상태(기존 형식 쓰기)로 모든 인스턴스에 배포한 뒤
+ * 다음 배포에서 켭니다.</p>
+ * <p>Cipher 인스턴스와 출력 버퍼는 스레드별로 재사용하여 호출마다 발생하던 프로바이더 조회와 버퍼 할당을 없앱니다.
+ * 키는 초기화 시 한 번만 만듭니다.</p>
  *
  * @author Jaeik
- * @since 1.0.0
+ * @version 2.8.0
  */
 @Component
 public class EncryptionUtil {
+    private static final String GCM_PREFIX = "g1:";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     @Value("${message.secret}")
     private String KEY;
 
+    @Value("${message.encryption.gcm-write-enabled:false}")
+    private boolean gcmWriteEnabled;
+
+    private SecretKeySpec keySpec;
+
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> newCipher("AES/GCM/NoPadding"));
+    private final ThreadLocal<Cipher> legacyEncryptCipher = ThreadLocal.withInitial(() -> newLegacyCipher(Cipher.ENCRYPT_MODE));
+    private final ThreadLocal<Cipher> legacyDecryptCipher = ThreadLocal.withInitial(() -> newLegacyCipher(Cipher.DECRYPT_MODE));
+    private final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    @PostConstruct
+    public void init() {
+        keySpec = new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES");
+    }
+
     /**
      * <h3>메시지 암호화</h3>
-     * <p>주어진 메시지를 AES 알고리즘을 사용하여 암호화하고 Base64로 인코딩하여 반환</p>
+     * <p>GCM 쓰기가 켜져 있으면 AES-GCM으로 암호화하고 버전 헤더와 함께 Base64로 인코딩하여 반환하고,
+     * 꺼져 있으면 기존 AES/ECB 형식으로 반환</p>
      *
      * @param message 암호화할 메시지
-     * @return 암호화된 메시지 (Base64 인코딩)
-     * @throws Exception 암호화 과정에서 발생할 수 있는 예외
+     * @return 암호화된 메시지 (g1: + Base64 또는 기존 형식 Base64)
+     * @throws GeneralSecurityException 암호화 과정에서 발생할 수 있는 예외
      */
-    public String encrypt(String message) throws Exception {
-        SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(), "AES");
-        Cipher cipher = Cipher.getInstance("AES");
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-        byte[] encrypted = cipher.doFinal(message.getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(encrypted);
+    public String encrypt(String message) throws GeneralSecurityException {
+        byte[] plain = message.getBytes(StandardCharsets.UTF_8);
+        if (!gcmWriteEnabled) {
+            Cipher cipher = legacyEncryptCipher.get();
+            byte[] out = buffer(cipher.getOutputSize(plain.length));
+            int length = cipher.doFinal(plain, 0, plain.length, out, 0);
+            ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(out, 0, length));
+            return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
+
+        Cipher cipher = gcmCipher.get();
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_BITS, iv));
+
+        byte[] out = buffer(GCM_IV_LENGTH + cipher.getOutputSize(plain.length));
+        System.arraycopy(iv, 0, out, 0, GCM_IV_LENGTH);
+        int length = GCM_IV_LENGTH + cipher.doFinal(plain, 0, plain.length, out, GCM_IV_LENGTH);
+
+        ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(out, 0, length));
+        return GCM_PREFIX + new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
     }
 
     /**
      * <h3>메시지 복호화</h3>
-     * <p>주어진 Base64로 인코딩된 암호화된 메시지를 AES 알고리즘을 사용하여 복호화하고 원래 메시지를 반환</p>
+     * <p>버전 헤더가 있으면 AES-GCM, 없으면 기존 AES/ECB 형식으로 복호화하여 원래 메시지를 반환</p>
      *
-     * @param encrypted 암호화된 메시지 (Base64 인코딩)
+     * @param encrypted 암호화된 메시지
      * @return 복호화된 원래 메시지
-     * @throws Exception 복호화 과정에서 발생할 수 있는 예외
+     * @throws GeneralSecurityException 복호화 과정에서 발생할 수 있는 예외 (GCM 태그 불일치 포함)
+     */
+    public String decrypt(String encrypted) throws GeneralSecurityException {
+        if (encrypted.startsWith(GCM_PREFIX)) {
+            byte[] data = Base64.getDecoder().decode(encrypted.substring(GCM_PREFIX.length()));
+            Cipher cipher = gcmCipher.get();
+            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_BITS, data, 0, GCM_IV_LENGTH));
+            byte[] out = buffer(cipher.getOutputSize(data.length - GCM_IV_LENGTH));
+            int length = cipher.doFinal(data, GCM_IV_LENGTH, data.length - GCM_IV_LENGTH, out, 0);
+            return new String(out, 0, length, StandardCharsets.UTF_8);
+        }
+
+        byte[] data = Base64.getDecoder().decode(encrypted);
+        Cipher cipher = legacyDecryptCipher.get();
+        byte[] out = buffer(cipher.getOutputSize(data.length));
+        int length = cipher.doFinal(data, 0, data.length, out, 0);
+        return new String(out, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 현재 스레드의 재사용 버퍼. 부족하면 두 배씩 늘린다.
+     */
+    private byte[] buffer(int size) {
+        byte[] current = buffer.get();
+        if (current.length >= size) {
+            return current;
+        }
+        byte[] grown = new byte[Math.max(size, current.length * 2)];
+        buffer.set(grown);
+        return grown;
+    }
+
+    /**
+     * 기존 형식 Cipher. ECB는 IV가 없어 doFinal 후에도 초기화 상태가 유지되므로 한 번만 init한다.
      */
-    public String decrypt(String encrypted) throws Exception {
-        SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(), "AES");
-        Cipher cipher = Cipher.getInstance("AES");
-        cipher.init(Cipher.DECRYPT_MODE, keySpec);
-        byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encrypted));
-        return new String(decrypted, StandardCharsets.UTF_8);
+    private Cipher newLegacyCipher(int mode) {
+        Cipher cipher = newCipher("AES/ECB/PKCS5Padding");
+        try {
+            cipher.init(mode, keySpec);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES Cipher 초기화 실패", e);
+        }
+        return cipher;
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 생성 실패: " + transformation, e);
+        }
     }
 }
@@ -102,7 +102,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/post/{postId}/like").authenticated()
                         .requestMatchers("/api/post/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                        .requestMatchers("/api/paper/{userName}", "/api/paper/popular", "/api/paper/write").permitAll()
+                        .requestMatchers("/api/paper/messages").authenticated()
+                        .requestMatchers("/api/paper/{userName}", "/api/paper/{userName}/messages", "/api/paper/popular", "/api/paper/write").permitAll()
                         .requestMatchers("/api/member/suggestion", "/api/member/username/check", "/api/member/report").permitAll()
                         .requestMatchers("/actuator/**").permitAll()  // ALB에서 외부 접근 차단됨
                         .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
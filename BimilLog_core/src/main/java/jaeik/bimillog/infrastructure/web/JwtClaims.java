@@ -0,0 +1,52 @@
+package jaeik.bimillog.infrastructure.web;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * <h2>검증된 JWT 클레임</h2>
+ * <p>{@link JwtFactory#parse}가 서명과 만료를 검증한 뒤 반환하는 결과입니다.</p>
+ * <p>한 요청에서 같은 토큰을 여러 번 파싱하지 않도록 {@code JwtFilter}는 이 객체를 검증, 인증 정보 설정,
+ * 리프레시 토큰 갱신 판단에 그대로 넘겨 사용합니다.</p>
+ *
+ * @param subject    토큰 subject (액세스 토큰은 회원 ID, 리프레시 토큰은 AuthToken ID)
+ * @param expiration 만료 시각
+ * @param claims     전체 클레임
+ * @author Jaeik
+ * @version 2.8.0
+ */
+public record JwtClaims(String subject, Date expiration, Claims claims) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(claims.getSubject(), claims.getExpiration(), claims);
+    }
+
+    /**
+     * <h3>subject를 ID로 변환</h3>
+     *
+     * @return subject에 담긴 ID
+     */
+    public Long subjectId() {
+        return Long.parseLong(subject);
+    }
+
+    /**
+     * <h3>만료 임박 여부</h3>
+     * <p>남은 만료 시간이 지정된 임계값(일수) 이하인지 확인합니다.</p>
+     *
+     * @param thresholdDays 임계값(일수)
+     * @return 남은 시간이 임계값 이하이면 true
+     */
+    public boolean expiresWithin(long thresholdDays) {
+        if (expiration == null) {
+            return false;
+        }
+        long remainingTime = expiration.getTime() - System.currentTimeMillis();
+        return remainingTime <= thresholdDays * 24 * 3600000L;
+    }
+
+    <T> T get(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+}
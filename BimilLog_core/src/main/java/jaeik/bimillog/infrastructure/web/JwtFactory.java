@@ -20,11 +20,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * <h2>JWT 처리 핸들러</h2>
  *
  * <p>JWT 토큰의 생성, 검증, 정보 추출 등 순수한 JWT 관련 로직을 담당합니다.</p>
+ * <p>서명 키로 만든 {@link JwtParser}는 불변이고 스레드 안전하므로 초기화 시 한 번만 생성하여 재사용합니다.</p>
  *
  * @author Jaeik
  * @version 2.0.0
@@ -36,10 +38,11 @@ public class JwtFactory {
     @Value("${jwt.secret}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser;
 
     /**
      * <h3>초기화 메소드</h3>
-     * <p>JWT 비밀 키를 디코딩하여 서명 키로 사용될 Key 객체를 초기화합니다.</p>
+     * <p>JWT 비밀 키를 디코딩하여 서명 키로 사용될 Key 객체와 토큰 파서를 초기화합니다.</p>
      *
      * @author Jaeik
      * @since 2.0.0
@@ -48,6 +51,9 @@ public class JwtFactory {
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
@@ -98,6 +104,25 @@ public class JwtFactory {
                 .compact();
     }
 
+    /**
+     * <h3>JWT 토큰 검증 및 파싱</h3>
+     *
+     * <p>서명과 만료를 검증하고 클레임을 한 번에 추출합니다.</p>
+     * <p>한 요청에서 같은 토큰을 검증과 정보 추출에 반복 파싱하지 않도록 결과를 넘겨 재사용합니다.</p>
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임, 유효하지 않은 토큰이면 빈 Optional
+     * @author Jaeik
+     * @since 2.8.0
+     */
+    public Optional<JwtClaims> parse(String token) {
+        try {
+            return Optional.of(JwtClaims.from(jwtParser.parseClaimsJws(token).getBody()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * <h3>JWT 토큰 유효성 검사</h3>
      *
@@ -109,16 +134,7 @@ public class JwtFactory {
      * @since 2.0.0
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException | ExpiredJwtException | UnsupportedJwtException
-                 | IllegalArgumentException e) {
-            return false;
-        }
+        return parse(token).isPresent();
     }
 
     /**
@@ -132,14 +148,26 @@ public class JwtFactory {
      * @since 3.0.0
      */
     public CustomUserDetails getUserInfoFromToken(String jwtAccessToken) {
-        Claims claims = getClaims(jwtAccessToken);
+        return getUserInfo(JwtClaims.from(getClaims(jwtAccessToken)));
+    }
 
+    /**
+     * <h3>검증된 클레임에서 사용자 정보 추출</h3>
+     *
+     * <p>{@link #parse}로 검증한 액세스 토큰 클레임을 CustomUserDetails로 변환합니다.</p>
+     *
+     * @param claims 검증된 액세스 토큰 클레임
+     * @return CustomUserDetails 사용자 상세 정보
+     * @author Jaeik
+     * @since 2.8.0
+     */
+    public CustomUserDetails getUserInfo(JwtClaims claims) {
         String provider = claims.get("provider", String.class);
         String role = claims.get("role", String.class);
         MemberRole memberRole = role != null ? MemberRole.valueOf(role) : null;
 
         return CustomUserDetails.builder()
-                .memberId(Long.parseLong(claims.getSubject()))
+                .memberId(claims.subjectId())
                 .socialId(claims.get("socialId", String.class))
                 .provider(provider != null ? SocialProvider.valueOf(provider) : null)
                 .socialNickname(claims.get("socialNickname", String.class))
@@ -181,9 +209,7 @@ public class JwtFactory {
      * @since 2.0.0
      */
     public Long getTokenIdFromToken(String jwtRefreshToken) {
-        Claims claims = getClaims(jwtRefreshToken);
-
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(getClaims(jwtRefreshToken).getSubject());
     }
 
     /**
@@ -199,17 +225,9 @@ public class JwtFactory {
      * @since 2.0.0
      */
     public boolean shouldRefreshToken(String token, long thresholdDays) {
-        try {
-            Claims claims = getClaims(token);
-            Date expiration = claims.getExpiration();
-            long now = System.currentTimeMillis();
-            long remainingTime = expiration.getTime() - now;
-            long thresholdMillis = thresholdDays * 24 * 3600000L; // 일수를 밀리초로 변환
-            
-            return remainingTime <= thresholdMillis;
-        } catch (Exception e) {
-            return false;
-        }
+        return parse(token)
+                .map(claims -> claims.expiresWithin(thresholdDays))
+                .orElse(false);
     }
 
     /**
@@ -251,11 +269,7 @@ public class JwtFactory {
      * @since 2.0.0
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
 
@@ -0,0 +1,8 @@
+-- Friend Event DLQ 배치 선점(claim) 재처리 지원
+-- 워커가 UPDATE ... LIMIT으로 PENDING 이벤트를 PROCESSING으로 선점하고 claim_id 기준으로 일괄 상태를 갱신한다.
+
+ALTER TABLE `friend_event_dlq`
+    MODIFY COLUMN `status` ENUM('PENDING', 'PROCESSING', 'PROCESSED', 'FAILED') NOT NULL DEFAULT 'PENDING' COMMENT '처리 상태',
+    ADD COLUMN `claim_id` VARCHAR(36) NULL COMMENT '재처리 워커 선점 ID',
+    ADD COLUMN `claimed_at` TIMESTAMP(6) NULL COMMENT '선점 시각',
+    ADD INDEX `idx_dlq_claim_id` (`claim_id`);
@@ -0,0 +1,81 @@
+-- ============================================
+-- V2.27: 친구 관계 정규화 쌍 키 + 회원별 인접 목록 프로젝션
+-- ============================================
+-- 배경:
+--   - friendship / friend_request 조회가 (a,b) OR (b,a) 조건이라 복합 인덱스를 타지 못함
+--   - 친구 목록 페이지가 member_id OR friend_id 조건이라 index merge 또는 풀스캔 발생
+--
+-- 변경:
+--   - (LEAST, GREATEST) VIRTUAL 생성 컬럼 + 유니크 인덱스 → 존재 확인은 유니크 키 단건 조회
+--     VIRTUAL 컬럼 추가는 INSTANT, 인덱스 생성은 INPLACE/LOCK=NONE으로 테이블 재작성 없음
+--   - friend_adjacency: friendship 1건당 양방향 2행, PK (member_id, friendship_id)
+--     → 회원별 친구 목록은 클러스터드 인덱스 범위 스캔 한 번
+--
+-- 주의:
+--   - Step 1 DELETE와 Step 4 INSERT ... SELECT는 friendship 행에 잠금을 걸어 실행 동안 friendship 쓰기가 대기함
+--     (온라인 작업 아님) → 트래픽이 적은 시간에 배포
+--   - 롤링 배포 중 이전 버전 인스턴스가 만든 친구 관계는 인접 목록 행이 없으므로,
+--     새 버전 인스턴스가 기동 후 보정 기간 동안 자동으로 채운다 (FriendAdjacencyReconcileScheduler)
+-- ============================================
+
+-- Step 1: 양방향 중복 쌍 정리 (유니크 인덱스 생성 전, 나중에 생성된 행 삭제)
+DELETE f2 FROM friendship f1
+    INNER JOIN friendship f2
+        ON f1.member_id = f2.friend_id AND f1.friend_id = f2.member_id AND f1.friendship_id < f2.friendship_id;
+
+DELETE r2 FROM friend_request r1
+    INNER JOIN friend_request r2
+        ON r1.sender_id = r2.receiver_id AND r1.receiver_id = r2.sender_id AND r1.friend_request_id < r2.friend_request_id;
+
+-- Step 2: 정규화 쌍 키 생성 컬럼
+ALTER TABLE `friendship`
+    ADD COLUMN `pair_min_id` BIGINT AS (LEAST(`member_id`, `friend_id`)) VIRTUAL COMMENT '정규화 쌍 키 (작은 ID)',
+    ADD COLUMN `pair_max_id` BIGINT AS (GREATEST(`member_id`, `friend_id`)) VIRTUAL COMMENT '정규화 쌍 키 (큰 ID)',
+    ALGORITHM=INSTANT;
+
+ALTER TABLE `friendship`
+    ADD UNIQUE INDEX `uk_friendship_pair` (`pair_min_id`, `pair_max_id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE `friend_request`
+    ADD COLUMN `pair_min_id` BIGINT AS (LEAST(`sender_id`, `receiver_id`)) VIRTUAL COMMENT '정규화 쌍 키 (작은 ID)',
+    ADD COLUMN `pair_max_id` BIGINT AS (GREATEST(`sender_id`, `receiver_id`)) VIRTUAL COMMENT '정규화 쌍 키 (큰 ID)',
+    ALGORITHM=INSTANT;
+
+ALTER TABLE `friend_request`
+    ADD UNIQUE INDEX `uk_friend_request_pair` (`pair_min_id`, `pair_max_id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- Step 3: 회원별 인접 목록 프로젝션
+CREATE TABLE IF NOT EXISTS `friend_adjacency` (
+    `member_id` BIGINT NOT NULL
+        COMMENT '조회 기준 회원 ID',
+
+    `friendship_id` BIGINT NOT NULL
+        COMMENT '친구 관계 ID',
+
+    `friend_id` BIGINT NOT NULL
+        COMMENT '상대 회원 ID',
+
+    `created_at` TIMESTAMP(6) NOT NULL
+        COMMENT '친구 관계 생성 일시',
+
+    PRIMARY KEY (`member_id`, `friendship_id`),
+
+    INDEX `idx_friend_adjacency_friendship` (`friendship_id`),
+
+    -- friendship 삭제(회원 탈퇴 CASCADE 포함) 시 함께 삭제
+    CONSTRAINT `fk_friend_adjacency_friendship`
+        FOREIGN KEY (`friendship_id`)
+        REFERENCES `friendship` (`friendship_id`)
+        ON DELETE CASCADE
+        ON UPDATE RESTRICT
+
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='회원별 친구 인접 목록 (friendship 양방향 프로젝션)';
+
+-- Step 4: 백필 (friendship 전체를 읽으며 공유 잠금을 걸므로 그동안 friendship 쓰기가 대기함)
+INSERT INTO `friend_adjacency` (`member_id`, `friendship_id`, `friend_id`, `created_at`)
+SELECT `member_id`, `friendship_id`, `friend_id`, `created_at` FROM `friendship`
+UNION ALL
+SELECT `friend_id`, `friendship_id`, `member_id`, `created_at` FROM `friendship`;
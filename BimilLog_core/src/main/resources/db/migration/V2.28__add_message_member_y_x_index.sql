@@ -0,0 +1,15 @@
+-- ============================================
+-- V2.28: 롤링페이퍼 그리드 영역 조회용 인덱스
+-- ============================================
+-- 배경:
+--   - 롤링페이퍼 조회가 회원의 메시지 전체를 읽어 화면에 보이지 않는 칸까지 전송/복호화
+--
+-- 변경:
+--   - (member_id, y, x) 복합 인덱스 → 영역 조회와 (y, x) Keyset 페이지네이션을 인덱스 범위 스캔으로 처리
+--     기존 unique_member_x_y는 x 우선 정렬이라 행 단위 영역/커서 조건에 맞지 않음
+--   - INPLACE/LOCK=NONE으로 온라인 생성
+-- ============================================
+
+ALTER TABLE `message`
+    ADD INDEX `idx_message_member_y_x` (`member_id`, `y`, `x`),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,29 @@
+-- 알림 트랜잭션 아웃박스
+-- 알림을 발생시킨 비즈니스 변경(댓글, 롤링페이퍼, 친구 요청, 인기글 선정)과 같은 트랜잭션에서 기록한다.
+-- 릴레이가 배치로 선점(claim)하여 notification 테이블에 일괄 저장(SAVED)한 뒤 SSE/FCM을 전송하고 행을 삭제한다.
+
+CREATE TABLE `notification_outbox` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `member_id` BIGINT NOT NULL COMMENT '알림 수신자 ID',
+    `notification_type` ENUM(
+        'COMMENT',
+        'COMMENT_FEATURED',
+        'MESSAGE',
+        'POST_FEATURED_WEEKLY',
+        'POST_FEATURED_LEGEND',
+        'POST_FEATURED_REALTIME',
+        'ADMIN',
+        'INITIATE',
+        'FRIEND'
+    ) NOT NULL COMMENT '알림 유형',
+    `content` VARCHAR(255) NOT NULL COMMENT '알림 내용',
+    `url` VARCHAR(255) NOT NULL COMMENT '알림 클릭 시 이동 URL',
+    `related_member_name` VARCHAR(255) NULL COMMENT '댓글 작성자/친구 요청자 이름 (FCM 메시지용)',
+    `post_title` VARCHAR(255) NULL COMMENT '게시글 제목 (인기글 FCM 메시지용)',
+    `status` ENUM('PENDING', 'PROCESSING', 'SAVED') NOT NULL DEFAULT 'PENDING' COMMENT '처리 상태',
+    `claim_id` VARCHAR(36) NULL COMMENT '릴레이 선점 ID',
+    `claimed_at` TIMESTAMP(6) NULL COMMENT '선점 시각',
+    `created_at` TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일',
+    INDEX `idx_outbox_status_created` (`status`, `created_at`),
+    INDEX `idx_outbox_claim_id` (`claim_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='알림 아웃박스';
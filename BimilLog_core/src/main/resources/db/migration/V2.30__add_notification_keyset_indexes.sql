@@ -0,0 +1,29 @@
+-- V2.30: 알림함 키셋 페이지네이션/보관 기간 정리용 인덱스
+-- 알림함은 notification_id 역순 커서로 조회하므로 (member_id, notification_id) 인덱스로 정렬 없이 읽는다.
+-- 보관 기간 정리 배치는 created_at 범위로 만료 알림을 찾는다.
+-- 기존 (member_id, created_at) 인덱스는 member_id FK를 새 인덱스가 커버한 뒤 제거한다.
+
+CREATE INDEX `idx_notification_member_id` ON `notification` (`member_id`, `notification_id` DESC);
+CREATE INDEX `idx_notification_created` ON `notification` (`created_at`);
+
+DROP PROCEDURE IF EXISTS _v2_30_drop_index_if_exists;
+
+CREATE PROCEDURE _v2_30_drop_index_if_exists(p_table VARCHAR(64), p_index VARCHAR(64))
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.STATISTICS
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = p_table
+          AND INDEX_NAME = p_index
+    ) THEN
+        SET @sql = CONCAT('DROP INDEX `', p_index, '` ON `', p_table, '`');
+        PREPARE stmt FROM @sql;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END;
+
+-- 컬럼 이름 변경(user_id → member_id) 전후 환경 모두 같은 인덱스 이름을 사용
+CALL _v2_30_drop_index_if_exists('notification', 'idx_notification_user_created');
+
+DROP PROCEDURE IF EXISTS _v2_30_drop_index_if_exists;
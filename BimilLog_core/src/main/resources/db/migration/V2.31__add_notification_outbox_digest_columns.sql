@@ -0,0 +1,8 @@
+-- V2.31: 알림 다이제스트
+-- 같은 수신자/유형/대상(게시글, 롤링페이퍼, 친구 요청함)의 알림은 digest_key가 같고,
+-- 릴레이가 다이제스트 창이 지난 뒤 한 번에 선점해 하나의 알림("새 댓글 N개")으로 합쳐 저장/전송한다.
+
+ALTER TABLE `notification_outbox`
+    ADD COLUMN `digest_key` VARCHAR(100) NULL COMMENT '다이제스트 묶음 키 (NULL이면 합치지 않음)' AFTER `post_title`,
+    ADD COLUMN `digest_count` INT NOT NULL DEFAULT 1 COMMENT '이 행이 대표하는 알림 수' AFTER `digest_key`,
+    ADD INDEX `idx_outbox_digest_key` (`digest_key`);
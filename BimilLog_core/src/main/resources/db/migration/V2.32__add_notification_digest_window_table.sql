@@ -0,0 +1,9 @@
+-- V2.32: 알림 다이제스트 창
+-- 묶음의 첫 알림은 바로 전송하고, 전송한 시점부터 다이제스트 창이 닫힐 때까지 도착한 같은 묶음의 알림만 모아 창이 닫힐 때 하나로 합친다.
+-- 릴레이가 digest_key의 알림을 전송할 때마다 창 종료 시각을 기록하며, 열린 창이 없는 digest_key의 알림은 바로 선점한다.
+
+CREATE TABLE `notification_digest_window` (
+    `digest_key` VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '다이제스트 묶음 키',
+    `window_end` TIMESTAMP(6) NOT NULL COMMENT '창 종료 시각 (이후 도착분까지 모아 전송)',
+    INDEX `idx_digest_window_end` (`window_end`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='알림 다이제스트 창';
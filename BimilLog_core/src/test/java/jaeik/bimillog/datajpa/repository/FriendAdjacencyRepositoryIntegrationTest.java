@@ -0,0 +1,118 @@
+package jaeik.bimillog.datajpa.repository;
+
+import jaeik.bimillog.BimilLogApplication;
+import jaeik.bimillog.domain.friend.entity.jpa.FriendAdjacency;
+import jaeik.bimillog.domain.friend.entity.jpa.Friendship;
+import jaeik.bimillog.domain.friend.repository.FriendAdjacencyRepository;
+import jaeik.bimillog.domain.member.entity.Member;
+import jaeik.bimillog.testutil.TestFixtures;
+import jaeik.bimillog.testutil.TestMembers;
+import jaeik.bimillog.testutil.config.H2TestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>FriendAdjacencyRepository 통합 테스트</h2>
+ * <p>배포 후 인접 목록 보정 쿼리가 누락된 방향만 범위 단위로 채우는지 검증</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DataJpaTest(
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = BimilLogApplication.class
+        )
+)
+@Tag("datajpa-h2")
+@ActiveProfiles("h2test")
+@Import({H2TestConfiguration.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FriendAdjacencyRepositoryIntegrationTest {
+
+    @Autowired
+    private FriendAdjacencyRepository friendAdjacencyRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Member member1;
+    private Member member2;
+    private Member member3;
+
+    @BeforeEach
+    void setUp() {
+        member1 = persistMember("adj1");
+        member2 = persistMember("adj2");
+        member3 = persistMember("adj3");
+    }
+
+    private Member persistMember(String prefix) {
+        Member member = TestMembers.createUniqueWithPrefix(prefix);
+        testEntityManager.persist(member.getSetting());
+        return testEntityManager.persist(member);
+    }
+
+    private Friendship persistFriendship(Member member, Member friend) {
+        Friendship friendship = Friendship.createFriendship(member, friend);
+        TestFixtures.setFieldValue(friendship, "createdAt", Instant.now());
+        return testEntityManager.persistAndFlush(friendship);
+    }
+
+    @Test
+    @DisplayName("이전 버전이 만든 친구 관계의 누락 방향만 채우고 다시 실행하면 아무것도 추가하지 않음")
+    void shouldInsertOnlyMissingDirections() {
+        // Given - f1은 새 버전이 양방향 행을 기록, f2는 이전 버전이 만들어 행이 없음
+        Friendship f1 = persistFriendship(member1, member2);
+        FriendAdjacency.createBothDirections(f1).forEach(testEntityManager::persist);
+        Friendship f2 = persistFriendship(member1, member3);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        long maxId = friendAdjacencyRepository.findMaxFriendshipId();
+
+        // When
+        int inserted = friendAdjacencyRepository.insertMissingInRange(0, maxId);
+        int insertedAgain = friendAdjacencyRepository.insertMissingInRange(0, maxId);
+
+        // Then
+        assertThat(maxId).isEqualTo(f2.getId());
+        assertThat(inserted).isEqualTo(2);
+        assertThat(insertedAgain).isZero();
+        assertThat(friendAdjacencyRepository.count()).isEqualTo(4);
+        assertThat(friendAdjacencyRepository.findById(new FriendAdjacency.FriendAdjacencyId(member3.getId(), f2.getId())))
+                .get().extracting(FriendAdjacency::getFriendId).isEqualTo(member1.getId());
+    }
+
+    @Test
+    @DisplayName("범위 밖 친구 관계는 채우지 않음")
+    void shouldRespectFriendshipIdRange() {
+        // Given
+        Friendship f1 = persistFriendship(member1, member2);
+        Friendship f2 = persistFriendship(member2, member3);
+        testEntityManager.clear();
+
+        // When - (f1, f2] 범위만 보정
+        int inserted = friendAdjacencyRepository.insertMissingInRange(f1.getId(), f2.getId());
+
+        // Then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(friendAdjacencyRepository.findAll())
+                .extracting(FriendAdjacency::getFriendshipId)
+                .containsOnly(f2.getId());
+    }
+}
@@ -0,0 +1,196 @@
+package jaeik.bimillog.datajpa.repository;
+
+import jaeik.bimillog.domain.friend.async.MemberIdRangeCursor;
+import jaeik.bimillog.domain.friend.entity.jpa.Friendship;
+import jaeik.bimillog.domain.friend.repository.FriendAdminQueryRepository;
+import jaeik.bimillog.domain.member.entity.Member;
+import jaeik.bimillog.domain.post.entity.jpa.Post;
+import jaeik.bimillog.domain.post.entity.jpa.PostLike;
+import jaeik.bimillog.testutil.TestFixtures;
+import jaeik.bimillog.testutil.TestMembers;
+import jaeik.bimillog.testutil.builder.CommentTestDataBuilder;
+import jaeik.bimillog.testutil.builder.PostTestDataBuilder;
+import jaeik.bimillog.testutil.config.H2TestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.INTERACTION_SCORE_DEFAULT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>FriendAdminQueryRepository 통합 테스트</h2>
+ * <p>재구축 커서가 발급한 memberId 범위를 따라 친구 관계와 상호작용 점수를 조회할 때
+ * 청크 경계를 넘는 관계, 희소한 ID, 빈 마지막 청크에서 누락이나 중복이 없는지 검증</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DataJpaTest
+@Tag("datajpa-h2")
+@ActiveProfiles("h2test")
+@Import({FriendAdminQueryRepository.class, H2TestConfiguration.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FriendAdminQueryRepositoryIntegrationTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private FriendAdminQueryRepository friendAdminQueryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Member member1;
+    private Member member2;
+    private Member member3;
+    private Member member4;
+    private Member member5;
+
+    @BeforeEach
+    void setUp() {
+        // member2와 member3 사이에 탈퇴 회원을 두어 ID 간격을 만듦
+        member1 = persistMember("admin1");
+        member2 = persistMember("admin2");
+        Member withdrawn = persistMember("adminGap");
+        member3 = persistMember("admin3");
+        member4 = persistMember("admin4");
+        member5 = persistMember("admin5");
+        testEntityManager.remove(withdrawn);
+        testEntityManager.flush();
+    }
+
+    private Member persistMember(String prefix) {
+        Member member = TestMembers.createUniqueWithPrefix(prefix);
+        testEntityManager.persist(member.getSetting());
+        return testEntityManager.persist(member);
+    }
+
+    private void persistFriendship(Member member, Member friend) {
+        Friendship friendship = Friendship.createFriendship(member, friend);
+        TestFixtures.setFieldValue(friendship, "createdAt", Instant.now());
+        testEntityManager.persist(friendship);
+    }
+
+    /**
+     * 이 테스트에서 만든 회원 이후의 ID만 순회하도록 member1 직전부터 시작하는 커서로 범위를 모두 발급
+     */
+    private List<MemberIdRangeCursor.Range> drainRanges() {
+        List<MemberIdRangeCursor.Range> ranges = new ArrayList<>();
+        long lastId = member1.getId() - 1;
+        List<Long> chunk;
+        while (!(chunk = friendAdminQueryRepository.getMemberIdChunk(lastId, CHUNK_SIZE)).isEmpty()) {
+            ranges.add(new MemberIdRangeCursor.Range(chunk.getFirst(), chunk.getLast(), chunk.size()));
+            lastId = chunk.getLast();
+        }
+        return ranges;
+    }
+
+    @Test
+    @DisplayName("keyset 청크 - 삭제된 ID를 건너뛰고, 마지막 회원 이후의 청크는 비어 있음")
+    void shouldPageMemberIdsAcrossGapsUntilEmptyChunk() {
+        // When
+        List<Long> first = friendAdminQueryRepository.getMemberIdChunk(member1.getId() - 1, CHUNK_SIZE);
+        List<Long> second = friendAdminQueryRepository.getMemberIdChunk(first.getLast(), CHUNK_SIZE);
+        List<Long> third = friendAdminQueryRepository.getMemberIdChunk(second.getLast(), CHUNK_SIZE);
+        List<Long> afterLast = friendAdminQueryRepository.getMemberIdChunk(member5.getId(), CHUNK_SIZE);
+
+        // Then
+        assertThat(first).containsExactly(member1.getId(), member2.getId());
+        assertThat(second).containsExactly(member3.getId(), member4.getId());
+        assertThat(third).containsExactly(member5.getId());
+        assertThat(afterLast).isEmpty();
+    }
+
+    @Test
+    @DisplayName("청크 경계를 넘는 친구 관계 - 범위별 결과를 합치면 양쪽 회원에 정확히 한 번씩 포함")
+    void shouldLoadFriendshipsSpanningChunkEdgesExactlyOnce() {
+        // Given - [member1, member2], [member3, member4], [member5] 세 범위
+        persistFriendship(member1, member2); // 같은 청크
+        persistFriendship(member2, member3); // 인접 청크 경계 (ID 간격 포함)
+        persistFriendship(member5, member1); // 첫 청크와 마지막 청크
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<MemberIdRangeCursor.Range> ranges = drainRanges();
+
+        // When
+        Map<Long, Set<Long>> merged = new HashMap<>();
+        for (MemberIdRangeCursor.Range range : ranges) {
+            Map<Long, Set<Long>> batch = friendAdminQueryRepository.getMemberFriendBatch(range.startId(), range.endId());
+            batch.keySet().forEach(memberId -> {
+                assertThat(memberId).isBetween(range.startId(), range.endId());
+                assertThat(merged).doesNotContainKey(memberId);
+            });
+            merged.putAll(batch);
+        }
+
+        // Then
+        assertThat(ranges).extracting(MemberIdRangeCursor.Range::count).containsExactly(2, 2, 1);
+        assertThat(merged).containsOnlyKeys(member1.getId(), member2.getId(), member3.getId(), member5.getId());
+        assertThat(merged.get(member1.getId())).containsExactlyInAnyOrder(member2.getId(), member5.getId());
+        assertThat(merged.get(member2.getId())).containsExactlyInAnyOrder(member1.getId(), member3.getId());
+        assertThat(merged.get(member3.getId())).containsExactly(member2.getId());
+        assertThat(merged.get(member5.getId())).containsExactly(member1.getId());
+    }
+
+    @Test
+    @DisplayName("청크 경계를 넘는 상호작용 - 행위자가 속한 범위에서만 집계되고 대상은 범위와 무관")
+    void shouldAggregateInteractionsByActorRange() {
+        // Given - member4(두 번째 청크)의 글에 member1(첫 청크)이 댓글 2개와 추천, member5(마지막 청크)가 댓글 1개
+        //         member4 자신의 댓글은 집계하지 않음
+        Post post = testEntityManager.persist(PostTestDataBuilder.createPost(member4, "제목", "내용"));
+        testEntityManager.persist(CommentTestDataBuilder.createComment(post, member1, "댓글1"));
+        testEntityManager.persist(CommentTestDataBuilder.createComment(post, member1, "댓글2"));
+        testEntityManager.persist(CommentTestDataBuilder.createComment(post, member4, "자기 댓글"));
+        testEntityManager.persist(PostLike.builder().member(member1).post(post).build());
+        testEntityManager.persist(CommentTestDataBuilder.createComment(post, member5, "댓글3"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<MemberIdRangeCursor.Range> ranges = drainRanges();
+
+        // When
+        List<Map<Long, Map<Long, Double>>> batches = ranges.stream()
+                .map(range -> friendAdminQueryRepository.getInteractionScore(range.startId(), range.endId()))
+                .toList();
+
+        // Then
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0)).containsOnlyKeys(member1.getId());
+        assertThat(batches.get(0).get(member1.getId()))
+                .containsExactlyEntriesOf(Map.of(member4.getId(), 3 * INTERACTION_SCORE_DEFAULT));
+        assertThat(batches.get(1)).isEmpty();
+        assertThat(batches.get(2)).containsOnlyKeys(member5.getId());
+        assertThat(batches.get(2).get(member5.getId()))
+                .containsExactlyEntriesOf(Map.of(member4.getId(), INTERACTION_SCORE_DEFAULT));
+    }
+
+    @Test
+    @DisplayName("회원이 없는 ID 범위는 빈 결과")
+    void shouldReturnEmptyForRangeWithoutMembers() {
+        // Given
+        persistFriendship(member1, member2);
+        testEntityManager.flush();
+
+        long beyond = member5.getId() + 1;
+
+        // When & Then
+        assertThat(friendAdminQueryRepository.getMemberFriendBatch(beyond, beyond + 1_000)).isEmpty();
+        assertThat(friendAdminQueryRepository.getInteractionScore(beyond, beyond + 1_000)).isEmpty();
+    }
+}
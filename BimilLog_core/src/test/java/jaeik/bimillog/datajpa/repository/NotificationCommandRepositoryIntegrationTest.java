@@ -21,8 +21,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,7 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * <h2>NotificationRepository 통합 테스트 - 일괄 업데이트</h2>
  * <p>알림 Repository의 데이터베이스 연동 동작 검증</p>
- * <p>H2 데이터베이스를 사용하여 알림 CRUD 작업 테스트</p>
+ * <p>H2 데이터베이스를 사용하여 소유자 조건 벌크 UPDATE/DELETE와 반영 개수를 테스트</p>
  *
  * @author Jaeik
  * @version 2.0.0
@@ -91,15 +91,15 @@ class NotificationCommandRepositoryIntegrationTest {
 
         List<Long> deleteIds = Arrays.asList(notification1.getId(), notification3.getId());
 
-        // When: 일괄 삭제 실행 (batchUpdate 로직을 직접 구현)
-        if (deleteIds != null && !deleteIds.isEmpty()) {
-            notificationRepository.deleteAllByIdInAndMember_Id(deleteIds, testMemberId);
-        }
+        // When: 일괄 삭제 실행 (안 읽은 알림 → 읽은 알림 순)
+        int unreadDeleted = notificationRepository.deleteByIdsAndRead(deleteIds, testMemberId, false);
+        int readDeleted = notificationRepository.deleteByIdsAndRead(deleteIds, testMemberId, true);
 
         testEntityManager.flush();
         testEntityManager.clear();
 
         // Then: 지정된 알림들이 삭제되고 나머지는 유지되는지 검증
+        assertThat(unreadDeleted + readDeleted).isEqualTo(2);
         List<Notification> remainingNotifications = notificationRepository.findAll();
         assertThat(remainingNotifications).hasSize(1);
         assertThat(remainingNotifications.getFirst().getId()).isEqualTo(notification2.getId());
@@ -124,16 +124,14 @@ class NotificationCommandRepositoryIntegrationTest {
 
         List<Long> readIds = Arrays.asList(notification1.getId(), notification2.getId());
 
-        // When: 일괄 읽음 처리 실행 (batchUpdate 로직을 직접 구현)
-        if (readIds != null && !readIds.isEmpty()) {
-            List<Notification> notificationsToUpdate = notificationRepository.findAllByIdInAndMember_Id(readIds, testMemberId);
-            notificationsToUpdate.forEach(Notification::markAsRead);
-        }
+        // When: 일괄 읽음 처리 실행
+        int read = notificationRepository.markAsReadByIds(readIds, testMemberId, Instant.now());
 
         testEntityManager.flush();
         testEntityManager.clear();
 
         // Then: 지정된 알림들이 읽음 상태로 변경되는지 검증
+        assertThat(read).isEqualTo(2);
         List<Notification> updatedNotifications = notificationRepository.findAll();
         assertThat(updatedNotifications).hasSize(3);
 
@@ -169,14 +167,10 @@ class NotificationCommandRepositoryIntegrationTest {
         List<Long> deleteIds = Arrays.asList(notification1.getId(), notification2.getId());
         List<Long> readIds = Arrays.asList(notification3.getId(), notification4.getId());
 
-        // When: 일괄 삭제 및 읽음 처리 실행 (batchUpdate 로직을 직접 구현)
-        if (deleteIds != null && !deleteIds.isEmpty()) {
-            notificationRepository.deleteAllByIdInAndMember_Id(deleteIds, testMemberId);
-        }
-        if (readIds != null && !readIds.isEmpty()) {
-            List<Notification> notificationsToUpdate = notificationRepository.findAllByIdInAndMember_Id(readIds, testMemberId);
-            notificationsToUpdate.forEach(Notification::markAsRead);
-        }
+        // When: 일괄 삭제 및 읽음 처리 실행
+        notificationRepository.deleteByIdsAndRead(deleteIds, testMemberId, false);
+        notificationRepository.deleteByIdsAndRead(deleteIds, testMemberId, true);
+        notificationRepository.markAsReadByIds(readIds, testMemberId, Instant.now());
 
         testEntityManager.flush();
         testEntityManager.clear();
@@ -192,9 +186,30 @@ class NotificationCommandRepositoryIntegrationTest {
     }
 
     @Test
-    @DisplayName("경계 케이스 - 빈/null ID 목록으로 일괄 업데이트")
+    @DisplayName("경계 케이스 - 이미 읽은 알림과 없는 ID는 반영 개수에서 제외")
     @Transactional
-    void shouldDoNothing_WhenEmptyOrNullIdsProvided() {
+    void shouldCountOnlyAffectedRows_WhenAlreadyReadOrMissing() {
+        // Given: 읽은 알림 1개, 안 읽은 알림 1개
+        Notification alreadyRead = testEntityManager.persistAndFlush(
+                NotificationTestDataBuilder.aCommentNotification(testMember, 1L).asRead().build());
+        Notification unread = testEntityManager.persistAndFlush(
+                NotificationTestDataBuilder.aPaperMessageNotification(testMember).asUnread().build());
+        testEntityManager.clear();
+
+        // When: 없는 ID를 섞어 읽음 처리 후 다시 같은 요청 실행
+        List<Long> readIds = Arrays.asList(alreadyRead.getId(), unread.getId(), 999_999L);
+        int firstRead = notificationRepository.markAsReadByIds(readIds, testMemberId, Instant.now());
+        int secondRead = notificationRepository.markAsReadByIds(readIds, testMemberId, Instant.now());
+
+        // Then: 새로 읽음 처리된 알림만 센다 (재요청은 0)
+        assertThat(firstRead).isEqualTo(1);
+        assertThat(secondRead).isZero();
+    }
+
+    @Test
+    @DisplayName("경계 케이스 - 일치하는 알림이 없으면 아무것도 바뀌지 않음")
+    @Transactional
+    void shouldDoNothing_WhenNoIdsMatch() {
         // Given: 테스트용 알림 저장
         testEntityManager.persistAndFlush(
                 NotificationTestDataBuilder.aCommentNotification(testMember, 1L).build()
@@ -203,29 +218,16 @@ class NotificationCommandRepositoryIntegrationTest {
         testEntityManager.flush();
         long beforeCount = notificationRepository.count();
 
-        // When: 빈 목록으로 일괄 업데이트 실행 (batchUpdate 로직을 직접 구현)
-        List<Long> emptyDeleteIds = Collections.emptyList();
-        List<Long> emptyReadIds = Collections.emptyList();
-        if (emptyDeleteIds != null && !emptyDeleteIds.isEmpty()) {
-            notificationRepository.deleteAllByIdInAndMember_Id(emptyDeleteIds, testMemberId);
-        }
-        if (emptyReadIds != null && !emptyReadIds.isEmpty()) {
-            List<Notification> notifications = notificationRepository.findAllByIdInAndMember_Id(emptyReadIds, testMemberId);
-            notifications.forEach(Notification::markAsRead);
-        }
-
-        // When: null 목록으로 일괄 업데이트 실행
-        List<Long> nullDeleteIds = null;
-        List<Long> nullReadIds = null;
-        if (nullDeleteIds != null && !nullDeleteIds.isEmpty()) {
-            notificationRepository.deleteAllByIdInAndMember_Id(nullDeleteIds, testMemberId);
-        }
-        if (nullReadIds != null && !nullReadIds.isEmpty()) {
-            List<Notification> notifications = notificationRepository.findAllByIdInAndMember_Id(nullReadIds, testMemberId);
-            notifications.forEach(Notification::markAsRead);
-        }
+        // When: 없는 ID로 일괄 업데이트 실행
+        List<Long> missingIds = List.of(999_999L);
+        int deleted = notificationRepository.deleteByIdsAndRead(missingIds, testMemberId, false)
+                + notificationRepository.deleteByIdsAndRead(missingIds, testMemberId, true);
+        int read = notificationRepository.markAsReadByIds(missingIds, testMemberId, Instant.now());
 
         testEntityManager.flush();
+        testEntityManager.clear();
+        assertThat(deleted).isZero();
+        assertThat(read).isZero();
 
         // Then: 아무 변화가 없어야 함
         long afterCount = notificationRepository.count();
@@ -268,10 +270,11 @@ class NotificationCommandRepositoryIntegrationTest {
 
         List<Long> deleteIds = Arrays.asList(myNotification.getId(), otherNotification.getId());
 
-        // When: 현재 사용자가 다른 사용자의 알림까지 포함해서 삭제 시도 (batchUpdate 로직을 직접 구현)
-        if (deleteIds != null && !deleteIds.isEmpty()) {
-            notificationRepository.deleteAllByIdInAndMember_Id(deleteIds, testMemberId);
-        }
+        // When: 현재 사용자가 다른 사용자의 알림까지 포함해서 삭제/읽음 처리 시도
+        notificationRepository.deleteByIdsAndRead(deleteIds, testMemberId, false);
+        notificationRepository.deleteByIdsAndRead(deleteIds, testMemberId, true);
+        int read = notificationRepository.markAsReadByIds(List.of(otherNotification.getId()), testMemberId, Instant.now());
+        assertThat(read).isZero();
 
         testEntityManager.flush();
         testEntityManager.clear();
@@ -281,6 +284,7 @@ class NotificationCommandRepositoryIntegrationTest {
         assertThat(remainingNotifications).hasSize(1);
         assertThat(remainingNotifications.getFirst().getId()).isEqualTo(otherNotification.getId());
         assertThat(remainingNotifications.getFirst().getMember().getId()).isEqualTo(otherMember.getId());
+        assertThat(remainingNotifications.getFirst().isRead()).isFalse();
     }
 
 
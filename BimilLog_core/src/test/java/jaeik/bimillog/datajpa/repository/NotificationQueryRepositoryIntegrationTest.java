@@ -1,6 +1,7 @@
 package jaeik.bimillog.datajpa.repository;
 
 import jaeik.bimillog.domain.member.entity.Member;
+import jaeik.bimillog.domain.notification.dto.ExpiredNotificationDTO;
 import jaeik.bimillog.domain.notification.entity.Notification;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
 import jaeik.bimillog.domain.notification.repository.NotificationRepository;
@@ -21,14 +22,16 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * <h2>NotificationRepository 통합 테스트 - 알림 조회</h2>
- * <p>알림 조회 쿼리의 정렬 및 사용자 필터링 동작을 검증합니다.</p>
+ * <p>알림 조회 쿼리의 정렬, 커서 경계, 사용자 필터링 동작을 검증합니다.</p>
  */
 @DataJpaTest(
         excludeFilters = @ComponentScan.Filter(
@@ -79,8 +82,8 @@ class NotificationQueryRepositoryIntegrationTest {
     }
 
     @Test
-    @DisplayName("사용자 알림이 생성일 역순으로 조회된다")
-    void shouldReturnNotificationsOrderedByCreatedAtDesc() {
+    @DisplayName("사용자 알림이 최신순(ID 역순)으로 조회된다")
+    void shouldReturnLatestNotificationsOrderedByIdDesc() {
         Notification older = NotificationTestDataBuilder.aCommentNotification(targetMember, 1L).build();
         Notification newest = NotificationTestDataBuilder.aPaperMessageNotification(targetMember).build();
         Notification middle = NotificationTestDataBuilder.aLikeNotification(targetMember, 3L).build();
@@ -102,7 +105,7 @@ class NotificationQueryRepositoryIntegrationTest {
         testEntityManager.flush();
         testEntityManager.clear();
 
-        List<Notification> notifications = notificationRepository.getNotificationList(targetMember.getId());
+        List<Notification> notifications = notificationRepository.findLatest(targetMember.getId(), 10);
 
         assertThat(notifications)
                 .extracting(Notification::getNotificationType)
@@ -113,4 +116,58 @@ class NotificationQueryRepositoryIntegrationTest {
                 );
     }
 
+    @Test
+    @DisplayName("커서보다 작은 ID의 알림만 limit건 조회되고, 이어 받은 페이지는 겹치지 않는다")
+    void shouldReturnNotificationsBeforeCursor() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(testEntityManager.persist(NotificationTestDataBuilder.aPaperMessageNotification(targetMember).build()).getId());
+        }
+        testEntityManager.persist(NotificationTestDataBuilder.anAdminNotification(otherMember, "관리자 메시지").build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Notification> firstPage = notificationRepository.findLatest(targetMember.getId(), 2);
+        List<Notification> secondPage = notificationRepository.findBefore(targetMember.getId(), firstPage.getLast().getId(), 2);
+        List<Notification> lastPage = notificationRepository.findBefore(targetMember.getId(), secondPage.getLast().getId(), 2);
+
+        assertThat(firstPage).extracting(Notification::getId).containsExactly(ids.get(4), ids.get(3));
+        assertThat(secondPage).extracting(Notification::getId).containsExactly(ids.get(2), ids.get(1));
+        assertThat(lastPage).extracting(Notification::getId).containsExactly(ids.get(0));
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수는 해당 사용자의 읽지 않은 알림만 센다")
+    void shouldCountUnreadNotificationsOfMember() {
+        testEntityManager.persist(NotificationTestDataBuilder.aPaperMessageNotification(targetMember).asUnread().build());
+        testEntityManager.persist(NotificationTestDataBuilder.aPaperMessageNotification(targetMember).asUnread().build());
+        testEntityManager.persist(NotificationTestDataBuilder.aPaperMessageNotification(targetMember).asRead().build());
+        testEntityManager.persist(NotificationTestDataBuilder.anAdminNotification(otherMember, "관리자 메시지").asUnread().build());
+        testEntityManager.flush();
+
+        assertThat(notificationRepository.countByMember_IdAndIsReadFalse(targetMember.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 알림만 ID 순으로 조회된다")
+    void shouldFindExpiredNotifications() {
+        Instant now = Instant.now();
+        Notification expiredUnread = testEntityManager.persist(
+                NotificationTestDataBuilder.aPaperMessageNotification(targetMember).asUnread().build());
+        Notification expiredRead = testEntityManager.persist(
+                NotificationTestDataBuilder.anAdminNotification(otherMember, "관리자 메시지").asRead().build());
+        Notification recent = testEntityManager.persist(
+                NotificationTestDataBuilder.aPaperMessageNotification(targetMember).build());
+        TestFixtures.setFieldValue(expiredUnread, "createdAt", now.minus(Duration.ofDays(100)));
+        TestFixtures.setFieldValue(expiredRead, "createdAt", now.minus(Duration.ofDays(91)));
+        TestFixtures.setFieldValue(recent, "createdAt", now);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<ExpiredNotificationDTO> expired = notificationRepository.findExpired(now.minus(Duration.ofDays(90)), 10);
+
+        assertThat(expired).containsExactly(
+                new ExpiredNotificationDTO(expiredUnread.getId(), targetMember.getId(), false),
+                new ExpiredNotificationDTO(expiredRead.getId(), otherMember.getId(), true));
+    }
 }
@@ -2,13 +2,16 @@ package jaeik.bimillog.datajpa.service;
 
 import jaeik.bimillog.BimilLogApplication;
 import jaeik.bimillog.domain.auth.entity.AuthToken;
+import jaeik.bimillog.domain.auth.service.AuthTokenService;
 import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.member.entity.Setting;
 import jaeik.bimillog.domain.member.repository.MemberQueryRepository;
 import jaeik.bimillog.domain.member.service.MemberQueryService;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.adapter.NotificationToAuthAdapter;
 import jaeik.bimillog.domain.notification.adapter.NotificationToMemberAdapter;
 import jaeik.bimillog.domain.notification.service.FcmPushService;
+import jaeik.bimillog.infrastructure.api.dto.FcmSendResultDTO;
 import jaeik.bimillog.infrastructure.api.fcm.FcmAdapter;
 import jaeik.bimillog.testutil.TestMembers;
 import jaeik.bimillog.testutil.config.H2TestConfiguration;
@@ -29,13 +32,16 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 /**
  * <h2>FcmPushService 통합 테스트</h2>
  * <p>FCM 토큰이 없는 경우 서비스 레벨에서 empty 체크가 정상 동작하는지 검증</p>
  * <p>H2 데이터베이스를 사용하여 실제 DB 조회 로직과 통합 테스트</p>
+ * <p>FCM이 거부한 만료 토큰이 DB에서 해제되는지 검증</p>
  *
  * @author Jaeik
  * @version 2.0.0
@@ -51,6 +57,8 @@ import static org.mockito.Mockito.*;
                 classes = {
                         FcmPushService.class,
                         NotificationToMemberAdapter.class,
+                        NotificationToAuthAdapter.class,
+                        AuthTokenService.class,
                         MemberQueryService.class,
                         MemberQueryRepository.class
                 }
@@ -155,7 +163,36 @@ class FcmPushServiceIntegrationTest {
         );
 
         // Then: fcmAdapter가 호출되지 않음 (알림 비활성화)
-        verify(fcmAdapter, never()).sendMessageTo(anyString(), anyString(), anyString());
+        verify(fcmAdapter, never()).sendEach(anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("만료 FCM 토큰 - 한 번의 UPDATE로 해당 기기의 FCM 토큰 해제")
+    void shouldClearDeadTokens_WhenFcmRejectsThem() throws Exception {
+        // Given: 기기 2대 중 1대의 토큰이 만료
+        Member member = testEntityManager.find(Member.class, testMemberId);
+        AuthToken deadDevice = testEntityManager.persistAndFlush(AuthToken.builder()
+                .member(member)
+                .refreshToken("dead-refresh-token")
+                .fcmRegistrationToken("dead-fcm-token")
+                .build());
+        AuthToken liveDevice = testEntityManager.persistAndFlush(AuthToken.builder()
+                .member(member)
+                .refreshToken("live-refresh-token")
+                .fcmRegistrationToken("live-fcm-token")
+                .build());
+        testEntityManager.clear();
+
+        given(fcmAdapter.sendEach(anyList(), anyString(), anyString()))
+                .willReturn(new FcmSendResultDTO(1, 1, List.of("dead-fcm-token")));
+
+        // When
+        fcmPushService.sendNotification(NotificationType.COMMENT, testMemberId, "테스터", null);
+        testEntityManager.clear();
+
+        // Then: 만료 토큰만 해제되고 세션(AuthToken)은 유지
+        assertThat(testEntityManager.find(AuthToken.class, deadDevice.getId()).getFcmRegistrationToken()).isNull();
+        assertThat(testEntityManager.find(AuthToken.class, liveDevice.getId()).getFcmRegistrationToken()).isEqualTo("live-fcm-token");
     }
 
 }
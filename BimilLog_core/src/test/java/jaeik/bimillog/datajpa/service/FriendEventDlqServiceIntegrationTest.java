@@ -0,0 +1,76 @@
+package jaeik.bimillog.datajpa.service;
+
+import jaeik.bimillog.domain.friend.entity.jpa.FriendEventType;
+import jaeik.bimillog.domain.friend.entity.jpa.FriendEventDlq;
+import jaeik.bimillog.domain.friend.rebuild.FriendEventDlqService;
+import jaeik.bimillog.domain.friend.repository.FriendEventDlqRepository;
+import jaeik.bimillog.testutil.config.H2TestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * <h2>FriendEventDlqService 통합 테스트</h2>
+ * <p>상호작용 점수 DLQ 저장이 호출자의 트랜잭션과 분리되어, 중복 이벤트가 호출자의 커밋을 실패시키지 않는지 검증</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("FriendEventDlqService 통합 테스트")
+@DataJpaTest
+@Tag("datajpa-h2")
+@ActiveProfiles("h2test")
+@Import({FriendEventDlqService.class, H2TestConfiguration.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FriendEventDlqServiceIntegrationTest {
+
+    @Autowired
+    private FriendEventDlqService friendEventDlqService;
+
+    @Autowired
+    private FriendEventDlqRepository friendEventDlqRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        friendEventDlqRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("호출자 트랜잭션 안에서 중복 점수 이벤트를 저장해도 호출자 트랜잭션은 rollback-only가 되지 않고 커밋됨")
+    void saveScoreUp_shouldNotMarkCallerTransactionRollbackOnly() {
+        // Given - 추천/댓글 트랜잭션처럼 자기 작업을 가진 호출자 트랜잭션
+        TransactionTemplate callerTransaction = new TransactionTemplate(transactionManager);
+        boolean[] rollbackOnly = {true};
+
+        // When
+        assertThatCode(() -> callerTransaction.executeWithoutResult(status -> {
+            friendEventDlqService.saveFriendAdd(1L, 2L);
+            friendEventDlqService.saveScoreUp("POST_LIKE:1:3", 3L, 2L, 0.5);
+            friendEventDlqService.saveScoreUp("POST_LIKE:1:3", 3L, 2L, 0.5);
+            rollbackOnly[0] = status.isRollbackOnly();
+        })).doesNotThrowAnyException();
+
+        // Then - 호출자의 작업과 점수 이벤트 한 건이 모두 커밋됨
+        assertThat(rollbackOnly[0]).isFalse();
+        assertThat(friendEventDlqRepository.findAll())
+                .extracting(FriendEventDlq::getType)
+                .containsExactlyInAnyOrder(FriendEventType.FRIEND_ADD, FriendEventType.SCORE_UP);
+    }
+}
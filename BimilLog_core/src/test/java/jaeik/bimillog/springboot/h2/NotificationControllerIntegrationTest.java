@@ -1,5 +1,6 @@
 package jaeik.bimillog.springboot.h2;
 
+import com.jayway.jsonpath.JsonPath;
 import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
 import jaeik.bimillog.domain.notification.repository.NotificationRepository;
@@ -16,6 +17,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -112,6 +114,39 @@ class NotificationControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[?(@.read == false)]").exists());
     }
 
+    @Test
+    @DisplayName("알림함 커서 조회 - 커서를 따라가면 전체 알림을 겹치지 않게 받는다")
+    void getInbox_FollowCursor_Success() throws Exception {
+        // When & Then - 첫 페이지 (5개 중 2개)
+        String firstPage = mockMvc.perform(get("/api/notification/inbox")
+                        .param("size", "2")
+                        .with(user(testUserDetails)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNumber())
+                .andReturn().getResponse().getContentAsString();
+        long cursor = ((Number) JsonPath.read(firstPage, "$.nextCursor")).longValue();
+
+        // 두 번째 페이지
+        String secondPage = mockMvc.perform(get("/api/notification/inbox")
+                        .param("cursor", String.valueOf(cursor))
+                        .param("size", "2")
+                        .with(user(testUserDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andReturn().getResponse().getContentAsString();
+        cursor = ((Number) JsonPath.read(secondPage, "$.nextCursor")).longValue();
+
+        // 마지막 페이지는 커서 없음
+        mockMvc.perform(get("/api/notification/inbox")
+                        .param("cursor", String.valueOf(cursor))
+                        .param("size", "2")
+                        .with(user(testUserDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
 
     /**
      * 테스트용 알림들 생성
@@ -52,6 +52,7 @@ public class FriendPerformanceRedisCleanup {
 
         deleteRedisByPattern("friend:*");
         deleteRedisByPattern("interaction:*");
+        deleteRedisByPattern("interaction_rev:*");
 
         log.info("=== Redis 초기화 완료 ===");
     }
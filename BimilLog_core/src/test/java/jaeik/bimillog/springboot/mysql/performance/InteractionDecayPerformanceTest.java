@@ -20,7 +20,7 @@ import java.util.List;
 import static jaeik.bimillog.infrastructure.redis.RedisKey.createInteractionKey;
 
 /**
- * <h2>상호작용 점수 지수 감쇠 Lua 스크립트 성능 테스트</h2>
+ * <h2>상호작용 점수 감쇠 정리(ZREMRANGEBYSCORE) 성능 테스트</h2>
  * <p>다양한 규모의 시드 데이터로 감쇠 실행 시간을 측정합니다.</p>
  * <p>실행: LOCAL_MYSQL_PASSWORD=변수 gradlew localIntegrationTest --tests "*.InteractionDecayPerformanceTest"</p>
  *
@@ -94,7 +94,7 @@ class InteractionDecayPerformanceTest {
         List<Long> times = new ArrayList<>();
         for (int i = 1; i <= 3; i++) {
             long start = System.currentTimeMillis();
-            redisInteractionScoreRepository.applyInteractionScoreDecay();
+            redisInteractionScoreRepository.pruneDecayedInteractionScores();
             long elapsed = System.currentTimeMillis() - start;
             times.add(elapsed);
             log.info("  {}회차 감쇠: {}ms", i, format(elapsed));
@@ -1,5 +1,7 @@
 package jaeik.bimillog.springboot.mysql.redis;
 
+import jaeik.bimillog.domain.friend.dto.InteractionIncrementDTO;
+import jaeik.bimillog.infrastructure.redis.friend.InteractionScoreDecay;
 import jaeik.bimillog.infrastructure.redis.friend.RedisInteractionScoreRepository;
 import jaeik.bimillog.testutil.RedisTestHelper;
 import org.junit.jupiter.api.*;
@@ -7,13 +9,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * <h2>RedisInteractionScoreRepository ZSet 변환 검증 테스트</h2>
@@ -39,12 +49,17 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     private static final Long MEMBER_1 = 1001L;
     private static final Long MEMBER_2 = 1002L;
     private static final Long MEMBER_3 = 1003L;
     private static final Double INTERACTION_SCORE_DEFAULT = 0.5; // 상호 작용 점수 증가 기본 값
     private static final Double INTERACTION_SCORE_DECAY_RATE = 0.95; // 상호 작용 점수 지수 감쇠율 (1일마다 0.95)
+    private static final Double INTERACTION_SCORE_THRESHOLD = 0.2; // 상호 작용 점수 정리 임계값
     private static final String INTERACTION_PREFIX = "interaction:"; // 상호 작용 점수 테이블(ZSet) 키 접두사
+    private static final String INTERACTION_REVERSE_PREFIX = "interaction_rev:"; // 상호 작용 역인덱스(Set) 키 접두사
 
 
 
@@ -53,6 +68,21 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
         RedisTestHelper.flushRedis(redisTemplate);
     }
 
+    /**
+     * 현재 시각 기준 점수를 저장 형태(ln Σ e^(λ·t))로 시딩
+     */
+    private void seedScore(String key, Long target, double currentScore) {
+        redisTemplate.opsForZSet().add(key, target, InteractionScoreDecay.toStored(currentScore, Instant.now()));
+    }
+
+    /**
+     * 저장된 점수를 현재 시각 기준으로 정규화하여 조회
+     */
+    private Double currentScore(String key, Long target) {
+        Double stored = redisTemplate.opsForZSet().score(key, target);
+        return stored == null ? null : InteractionScoreDecay.toCurrent(stored, Instant.now());
+    }
+
     @Test
     @DisplayName("addInteractionScore - ZSet에 양방향으로 점수 저장")
     void shouldAddInteractionScoreBidirectionally() {
@@ -69,11 +99,11 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
         String key1 = INTERACTION_PREFIX + MEMBER_1;
         String key2 = INTERACTION_PREFIX + MEMBER_2;
 
-        Double score1 = redisTemplate.opsForZSet().score(key1, MEMBER_2);
-        Double score2 = redisTemplate.opsForZSet().score(key2, MEMBER_1);
+        Double score1 = currentScore(key1, MEMBER_2);
+        Double score2 = currentScore(key2, MEMBER_1);
 
-        assertThat(score1).isNotNull().isEqualTo(INTERACTION_SCORE_DEFAULT);
-        assertThat(score2).isNotNull().isEqualTo(INTERACTION_SCORE_DEFAULT);
+        assertThat(score1).isNotNull().isCloseTo(INTERACTION_SCORE_DEFAULT, within(0.001));
+        assertThat(score2).isNotNull().isCloseTo(INTERACTION_SCORE_DEFAULT, within(0.001));
     }
 
     @Test
@@ -92,8 +122,8 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
 
         // 점수는 한 번만 증가해야 함
         String key1 = INTERACTION_PREFIX + MEMBER_1;
-        Double score = redisTemplate.opsForZSet().score(key1, MEMBER_2);
-        assertThat(score).isEqualTo(INTERACTION_SCORE_DEFAULT);
+        Double score = currentScore(key1, MEMBER_2);
+        assertThat(score).isCloseTo(INTERACTION_SCORE_DEFAULT, within(0.001));
     }
 
     @Test
@@ -109,8 +139,8 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
 
         // Then
         String key1 = INTERACTION_PREFIX + MEMBER_1;
-        Double score = redisTemplate.opsForZSet().score(key1, MEMBER_2);
-        assertThat(score).isEqualTo(INTERACTION_SCORE_DEFAULT * 2);
+        Double score = currentScore(key1, MEMBER_2);
+        assertThat(score).isCloseTo(INTERACTION_SCORE_DEFAULT * 2, within(0.001));
     }
 
     @Test
@@ -118,16 +148,16 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
     void shouldGetScoresBatchFromZSet() {
         // Given - ZSet에 직접 데이터 시딩
         String key = INTERACTION_PREFIX + MEMBER_1;
-        redisTemplate.opsForZSet().add(key, MEMBER_2, 2.5);
-        redisTemplate.opsForZSet().add(key, MEMBER_3, 1.0);
+        seedScore(key, MEMBER_2, 2.5);
+        seedScore(key, MEMBER_3, 1.0);
 
         // When
         List<Object> results = repository.getInteractionScoresBatch(MEMBER_1, List.of(MEMBER_2, MEMBER_3, 9999L));
 
         // Then
         assertThat(results).hasSize(3);
-        assertThat(Double.parseDouble(results.get(0).toString())).isEqualTo(2.5);
-        assertThat(Double.parseDouble(results.get(1).toString())).isEqualTo(1.0);
+        assertThat(Double.parseDouble(results.get(0).toString())).isCloseTo(2.5, within(0.001));
+        assertThat(Double.parseDouble(results.get(1).toString())).isCloseTo(1.0, within(0.001));
         assertThat(results.get(2)).isNull(); // 존재하지 않는 멤버
     }
 
@@ -136,8 +166,8 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
     void shouldGetTopInteractionScoresFromZSet() {
         // Given - ZSet에 직접 데이터 시딩
         String key = INTERACTION_PREFIX + MEMBER_1;
-        redisTemplate.opsForZSet().add(key, MEMBER_2, 3.0);
-        redisTemplate.opsForZSet().add(key, MEMBER_3, 1.5);
+        seedScore(key, MEMBER_2, 3.0);
+        seedScore(key, MEMBER_3, 1.5);
 
         // When
         Set<ZSetOperations.TypedTuple<Object>> results = repository.getTopInteractionScores(MEMBER_1, 10);
@@ -147,8 +177,8 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
 
         // 점수 내림차순 확인 (3.0 > 1.5)
         var resultList = results.stream().toList();
-        assertThat(resultList.get(0).getScore()).isEqualTo(3.0);
-        assertThat(resultList.get(1).getScore()).isEqualTo(1.5);
+        assertThat(resultList.get(0).getScore()).isCloseTo(3.0, within(0.001));
+        assertThat(resultList.get(1).getScore()).isCloseTo(1.5, within(0.001));
     }
 
     @Test
@@ -166,11 +196,11 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
     void shouldReturnOnlyLimitedResults() {
         // Given - 5개 데이터 시딩
         String key = INTERACTION_PREFIX + MEMBER_1;
-        redisTemplate.opsForZSet().add(key, 100L, 5.0);
-        redisTemplate.opsForZSet().add(key, 101L, 4.0);
-        redisTemplate.opsForZSet().add(key, 102L, 3.0);
-        redisTemplate.opsForZSet().add(key, 103L, 2.0);
-        redisTemplate.opsForZSet().add(key, 104L, 1.0);
+        seedScore(key, 100L, 5.0);
+        seedScore(key, 101L, 4.0);
+        seedScore(key, 102L, 3.0);
+        seedScore(key, 103L, 2.0);
+        seedScore(key, 104L, 1.0);
 
         // When - 상위 3개만 조회
         Set<ZSetOperations.TypedTuple<Object>> results = repository.getTopInteractionScores(MEMBER_1, 3);
@@ -179,53 +209,86 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
         assertThat(results).hasSize(3);
 
         var resultList = results.stream().toList();
-        assertThat(resultList.get(0).getScore()).isEqualTo(5.0);
-        assertThat(resultList.get(1).getScore()).isEqualTo(4.0);
-        assertThat(resultList.get(2).getScore()).isEqualTo(3.0);
+        assertThat(resultList.get(0).getScore()).isCloseTo(5.0, within(0.001));
+        assertThat(resultList.get(1).getScore()).isCloseTo(4.0, within(0.001));
+        assertThat(resultList.get(2).getScore()).isCloseTo(3.0, within(0.001));
     }
 
     @Test
-    @DisplayName("applyInteractionScoreDecay - 지수 감쇠 적용")
-    void shouldApplyDecayToAllScores() {
-        // Given - 여러 회원의 상호작용 데이터 시딩
-        String key1 = INTERACTION_PREFIX + MEMBER_1;
-        String key2 = INTERACTION_PREFIX + MEMBER_2;
-
-        redisTemplate.opsForZSet().add(key1, MEMBER_2, 5.0);
-        redisTemplate.opsForZSet().add(key1, MEMBER_3, 2.0);
-        redisTemplate.opsForZSet().add(key2, MEMBER_1, 3.0);
+    @DisplayName("getTopInteractionScores - 하루 전 상호작용은 0.95배로 감쇠되어 조회")
+    void shouldApplyLazyDecayOnRead() {
+        // Given - 하루 전에 발생한 상호작용을 저장 형태로 시딩
+        String key = INTERACTION_PREFIX + MEMBER_1;
+        Instant oneDayAgo = Instant.now().minus(Duration.ofDays(1));
+        redisTemplate.opsForZSet().add(key, MEMBER_2, InteractionScoreDecay.toStored(5.0, oneDayAgo));
 
         // When
-        repository.applyInteractionScoreDecay();
+        var resultList = repository.getTopInteractionScores(MEMBER_1, 10).stream().toList();
 
-        // Then
-        // 점수가 0.95 곱해졌는지 확인
-        Double score1 = redisTemplate.opsForZSet().score(key1, MEMBER_2);
-        Double score2 = redisTemplate.opsForZSet().score(key1, MEMBER_3);
-        Double score3 = redisTemplate.opsForZSet().score(key2, MEMBER_1);
-
-        assertThat(score1).isCloseTo(5.0 * INTERACTION_SCORE_DECAY_RATE, org.assertj.core.api.Assertions.within(0.001));
-        assertThat(score2).isCloseTo(2.0 * INTERACTION_SCORE_DECAY_RATE, org.assertj.core.api.Assertions.within(0.001));
-        assertThat(score3).isCloseTo(3.0 * INTERACTION_SCORE_DECAY_RATE, org.assertj.core.api.Assertions.within(0.001));
+        // Then - 별도 감쇠 작업 없이 조회 시점에 감쇠가 반영됨
+        assertThat(resultList).hasSize(1);
+        assertThat(resultList.get(0).getScore()).isCloseTo(5.0 * INTERACTION_SCORE_DECAY_RATE, within(0.001));
     }
 
     @Test
-    @DisplayName("applyInteractionScoreDecay - 임계값 이하 점수 삭제")
-    void shouldRemoveScoresBelowThreshold() {
-        // Given - 임계값(0.1) 이하의 낮은 점수 시딩
+    @DisplayName("pruneDecayedInteractionScores - 임계값 이하로 감쇠된 점수만 삭제")
+    void shouldPruneScoresBelowThreshold() {
+        // Given - 현재 기준 임계값 이하 점수와 이상 점수 시딩
         String key = INTERACTION_PREFIX + MEMBER_1;
-        redisTemplate.opsForZSet().add(key, MEMBER_2, 0.05); // 임계값 이하
-        redisTemplate.opsForZSet().add(key, MEMBER_3, 1.0);  // 임계값 이상
+        seedScore(key, MEMBER_2, INTERACTION_SCORE_THRESHOLD / 2); // 임계값 이하
+        seedScore(key, MEMBER_3, 1.0);  // 임계값 이상
+        Double keptStoredBefore = redisTemplate.opsForZSet().score(key, MEMBER_3);
 
         // When
-        repository.applyInteractionScoreDecay();
+        repository.pruneDecayedInteractionScores();
 
         // Then
         Double removedScore = redisTemplate.opsForZSet().score(key, MEMBER_2);
         Double keptScore = redisTemplate.opsForZSet().score(key, MEMBER_3);
 
         assertThat(removedScore).isNull(); // 삭제됨
-        assertThat(keptScore).isNotNull(); // 유지됨
+        assertThat(keptScore).isEqualTo(keptStoredBefore); // 저장된 점수는 다시 쓰지 않음
+    }
+
+    @Test
+    @DisplayName("convertLegacyInteractionScores - 이전 형식 점수만 저장 형태로 전환하고 다시 실행해도 결과가 같다")
+    void shouldConvertLegacyScoresIdempotently() {
+        // Given - 감쇠 반영 현재 점수 3.0, 지수 형식 점수 2.0 · e^(λ·now), 저장 형태 점수 1.0
+        String key = INTERACTION_PREFIX + MEMBER_1;
+        Long member4 = 1004L;
+        stringRedisTemplate.opsForZSet().add(key, String.valueOf(MEMBER_2), 3.0);
+        stringRedisTemplate.opsForZSet().add(key, String.valueOf(member4),
+                2.0 * Math.exp(InteractionScoreDecay.logWeightAt(Instant.now())));
+        seedScore(key, MEMBER_3, 1.0);
+        Double storedBefore = stringRedisTemplate.opsForZSet().score(key, String.valueOf(MEMBER_3));
+
+        // When
+        long converted = repository.convertLegacyInteractionScores();
+        long convertedAgain = repository.convertLegacyInteractionScores();
+
+        // Then - 이전 형식 점수는 현재 점수 그대로 조회되고, 저장 형태 점수는 바뀌지 않음
+        assertThat(converted).isEqualTo(2);
+        assertThat(convertedAgain).isZero();
+        assertThat(stringRedisTemplate.opsForZSet().score(key, String.valueOf(MEMBER_3))).isEqualTo(storedBefore);
+
+        List<Object> scores = repository.getInteractionScoresBatch(MEMBER_1, List.of(MEMBER_2, MEMBER_3, member4));
+        assertThat((Double) scores.get(0)).isCloseTo(3.0, within(0.001));
+        assertThat((Double) scores.get(1)).isCloseTo(1.0, within(0.001));
+        assertThat((Double) scores.get(2)).isCloseTo(2.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("pruneDecayedInteractionScores - 아직 전환되지 않은 기존 형식 점수는 삭제하지 않음")
+    void shouldNotPruneLegacyScores() {
+        // Given
+        String key = INTERACTION_PREFIX + MEMBER_1;
+        stringRedisTemplate.opsForZSet().add(key, String.valueOf(MEMBER_2), 3.0);
+
+        // When
+        repository.pruneDecayedInteractionScores();
+
+        // Then
+        assertThat(stringRedisTemplate.opsForZSet().score(key, String.valueOf(MEMBER_2))).isEqualTo(3.0);
     }
 
     @Test
@@ -256,4 +319,74 @@ class RedisInteractionScoreRepositoryLocalIntegrationTest {
         assertThat(score1).isNull();
         assertThat(score2).isNull();
     }
+
+    @Test
+    @DisplayName("addInteractionScore - 역인덱스에 양방향으로 기록")
+    void shouldMaintainReverseIndexOnAdd() {
+        // When
+        repository.addInteractionScore(MEMBER_1, MEMBER_2, "POST_LIKE:100:" + MEMBER_2);
+
+        // Then - interaction:1001에 1002가 있으므로 interaction_rev:1002에 1001이 기록됨
+        assertThat(stringRedisTemplate.opsForSet().members(INTERACTION_REVERSE_PREFIX + MEMBER_2))
+                .containsExactly(String.valueOf(MEMBER_1));
+        assertThat(stringRedisTemplate.opsForSet().members(INTERACTION_REVERSE_PREFIX + MEMBER_1))
+                .containsExactly(String.valueOf(MEMBER_2));
+    }
+
+    @Test
+    @DisplayName("deleteInteractionKeyByWithdraw - 역인덱스로 단방향 상호작용 키까지 정리")
+    void shouldDeleteWithdrawnMemberUsingReverseIndex() {
+        // Given - 재구축처럼 단방향으로만 기록된 상호작용 (MEMBER_1 -> MEMBER_3)
+        String key1 = INTERACTION_PREFIX + MEMBER_1;
+        stringRedisTemplate.opsForZSet().add(key1, String.valueOf(MEMBER_3), 2.0);
+        stringRedisTemplate.opsForSet().add(INTERACTION_REVERSE_PREFIX + MEMBER_3, String.valueOf(MEMBER_1));
+
+        // When
+        repository.deleteInteractionKeyByWithdraw(MEMBER_3);
+
+        // Then
+        assertThat(stringRedisTemplate.opsForZSet().score(key1, String.valueOf(MEMBER_3))).isNull();
+        assertThat(stringRedisTemplate.hasKey(INTERACTION_REVERSE_PREFIX + MEMBER_3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("addInteractionScoreBatch - 상한 이하일 때만 count번 증가하고 역인덱스를 양방향으로 기록")
+    void shouldCapBatchIncrementAndMaintainReverseIndex() {
+        // Given - MEMBER_1 -> MEMBER_2는 9.0점, 반대 방향은 점수 없음 (상한 9.5)
+        seedScore(INTERACTION_PREFIX + MEMBER_1, MEMBER_2, 9.0);
+
+        // When - 5회 합산 반영
+        repository.addInteractionScoreBatch(List.of(new InteractionIncrementDTO(MEMBER_1, MEMBER_2, 5)));
+
+        // Then - 9.0 -> 9.5 -> 10.0에서 상한 초과로 중단, 반대 방향은 0.5 x 5
+        assertThat(currentScore(INTERACTION_PREFIX + MEMBER_1, MEMBER_2)).isCloseTo(10.0, within(0.001));
+        assertThat(currentScore(INTERACTION_PREFIX + MEMBER_2, MEMBER_1)).isCloseTo(2.5, within(0.001));
+        assertThat(stringRedisTemplate.opsForSet().members(INTERACTION_REVERSE_PREFIX + MEMBER_2))
+                .containsExactly(String.valueOf(MEMBER_1));
+        assertThat(stringRedisTemplate.opsForSet().members(INTERACTION_REVERSE_PREFIX + MEMBER_1))
+                .containsExactly(String.valueOf(MEMBER_2));
+    }
+
+    @Test
+    @DisplayName("addInteractionScoreBatch - 여러 워커가 같은 쌍을 동시에 반영해도 상한을 한 번 넘는 값 이상으로 증가하지 않음")
+    void shouldNotExceedCapUnderConcurrentBatches() throws Exception {
+        // Given
+        seedScore(INTERACTION_PREFIX + MEMBER_1, MEMBER_2, 9.0);
+        seedScore(INTERACTION_PREFIX + MEMBER_2, MEMBER_1, 9.0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When - 인스턴스 여러 대의 워커처럼 동시에 1회씩 200번 반영
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> repository.addInteractionScoreBatch(
+                            List.of(new InteractionIncrementDTO(MEMBER_1, MEMBER_2, 1))), executor))
+                    .toArray(CompletableFuture[]::new)).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then - 상한(9.5) 이하에서 마지막 한 번만 증가할 수 있으므로 최대 10.0
+        assertThat(currentScore(INTERACTION_PREFIX + MEMBER_1, MEMBER_2)).isCloseTo(10.0, within(0.001));
+        assertThat(currentScore(INTERACTION_PREFIX + MEMBER_2, MEMBER_1)).isCloseTo(10.0, within(0.001));
+    }
 }
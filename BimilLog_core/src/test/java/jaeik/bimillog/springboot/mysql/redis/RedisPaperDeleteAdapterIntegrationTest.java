@@ -15,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 
@@ -73,6 +74,31 @@ class RedisPaperDeleteAdapterIntegrationTest {
         assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "3")).isEqualTo(60.0);
     }
 
+    @Test
+    @DisplayName("정상 케이스 - 시간 버킷과 최근 메시지 수에서도 회원 제거")
+    void shouldRemoveMemberFromBuckets_WhenMemberIdProvided() {
+        // Given: 현재/3시간 전 점수 버킷, 메시지 수 버킷, 합산 결과
+        long currentHour = Instant.now().getEpochSecond() / 3600;
+        String currentBucket = RedisKey.createPaperScoreBucketKey(currentHour);
+        String olderBucket = RedisKey.createPaperScoreBucketKey(currentHour - 3);
+        String countBucket = RedisKey.createPaperMessageCountBucketKey(currentHour);
+        redisTemplate.opsForZSet().add(currentBucket, "1", 10.0);
+        redisTemplate.opsForZSet().add(currentBucket, "2", 20.0);
+        redisTemplate.opsForZSet().add(olderBucket, "1", 30.0);
+        redisTemplate.opsForZSet().add(countBucket, "1", 2.0);
+        redisTemplate.opsForZSet().add(RedisKey.REALTIME_PAPER_MESSAGE_COUNT_KEY, "1", 2.0);
+
+        // When
+        redisPaperDeleteAdapter.removeMemberIdFromRealtimeScore(1L);
+
+        // Then: 다음 합산에서 다시 나타나지 않도록 모든 버킷에서 제거
+        assertThat(redisTemplate.opsForZSet().score(currentBucket, "1")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(olderBucket, "1")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(countBucket, "1")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(RedisKey.REALTIME_PAPER_MESSAGE_COUNT_KEY, "1")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(currentBucket, "2")).isEqualTo(20.0);
+    }
+
     @Test
     @DisplayName("정상 케이스 - 존재하지 않는 회원 제거 시도")
     void shouldDoNothing_WhenMemberDoesNotExist() {
@@ -1,5 +1,6 @@
 package jaeik.bimillog.springboot.mysql.redis;
 
+import jaeik.bimillog.domain.paper.dto.PaperScoreIncrementDTO;
 import jaeik.bimillog.infrastructure.redis.RedisKey;
 import jaeik.bimillog.infrastructure.redis.paper.RedisPaperUpdateAdapter;
 import jaeik.bimillog.testutil.RedisTestHelper;
@@ -16,18 +17,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * <h2>RedisPaperUpdateAdapter 통합 테스트</h2>
  * <p>로컬 Redis 환경에서 롤링페이퍼 캐시 갱신 어댑터의 핵심 기능을 검증합니다.</p>
+ * <p>점수는 시간 버킷에 누적되고 합산(aggregateRealtimePopularPapers) 후 조회용 ZSet에 반영됩니다.</p>
  *
  * @author Jaeik
- * @version 2.0.0
+ * @version 2.8.0
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @Tag("local-integration")
@@ -42,37 +48,54 @@ class RedisPaperUpdateAdapterIntegrationTest {
     private RedisTemplate<String, Object> redisTemplate;
 
     private static final String SCORE_KEY = RedisKey.REALTIME_PAPER_SCORE_KEY;
+    private static final String COUNT_KEY = RedisKey.REALTIME_PAPER_MESSAGE_COUNT_KEY;
+    private static final double HOURLY_WEIGHT = Math.pow(RedisKey.REALTIME_PAPER_SCORE_DECAY_RATE, 6);
 
     @BeforeEach
     void setUp() {
         RedisTestHelper.flushRedis(redisTemplate);
     }
 
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / 3600;
+    }
+
+    private void increment(Long memberId, double score, int messageCount) {
+        redisPaperUpdateAdapter.incrementRealtimePopularPaperScores(UUID.randomUUID().toString(),
+                List.of(new PaperScoreIncrementDTO(memberId, score, messageCount)));
+    }
+
+    private void addToBucket(int age, String memberId, double score) {
+        redisTemplate.opsForZSet().add(RedisKey.createPaperScoreBucketKey(currentHour() - age), memberId, score);
+    }
+
     @Test
-    @DisplayName("정상 케이스 - 실시간 인기 롤링페이퍼 점수 증가")
-    void shouldIncrementScore_WhenMemberIdAndScoreProvided() {
+    @DisplayName("정상 케이스 - 점수 증가는 현재 시간 버킷에 누적되고 TTL이 설정됨")
+    void shouldIncrementCurrentBucket_WhenMemberIdAndScoreProvided() {
         // Given
         Long memberId = 1L;
-        double score = 5.0; // 메시지 작성 점수
+        String bucketKey = RedisKey.createPaperScoreBucketKey(currentHour());
 
         // When: 점수 증가
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, score);
+        increment(memberId, 5.0, 0);
 
-        // Then: Sorted Set에서 점수 확인
-        Double currentScore = redisTemplate.opsForZSet().score(SCORE_KEY, memberId.toString());
-        assertThat(currentScore).isEqualTo(5.0);
+        // Then: 버킷에 반영, 합산 전에는 조회용 ZSet에 없음
+        assertThat(redisTemplate.opsForZSet().score(bucketKey, memberId.toString())).isEqualTo(5.0);
+        assertThat(redisTemplate.getExpire(bucketKey)).isPositive();
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, memberId.toString())).isNull();
     }
 
     @Test
-    @DisplayName("정상 케이스 - 실시간 인기 롤링페이퍼 점수 누적")
+    @DisplayName("정상 케이스 - 실시간 인기 롤링페이퍼 점수 누적 후 합산")
     void shouldAccumulateScore_WhenMultipleIncrementsOccur() {
         // Given
         Long memberId = 1L;
 
-        // When: 여러 번 점수 증가 (조회 2점 + 메시지 5점 + 조회 2점)
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, 2.0); // 조회
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, 5.0); // 메시지 작성
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, 2.0); // 조회
+        // When: 여러 번 점수 증가 (조회 2점 + 메시지 5점 + 조회 2점) 후 합산
+        increment(memberId, 2.0, 0); // 조회
+        increment(memberId, 5.0, 0); // 메시지 작성
+        increment(memberId, 2.0, 0); // 조회
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
         // Then: 누적 점수 확인
         Double currentScore = redisTemplate.opsForZSet().score(SCORE_KEY, memberId.toString());
@@ -82,103 +105,132 @@ class RedisPaperUpdateAdapterIntegrationTest {
     @Test
     @DisplayName("정상 케이스 - 음수 점수 증가 (메시지 삭제)")
     void shouldDecrementScore_WhenNegativeScoreProvided() {
-        // Given: 초기 점수 10점
+        // Given: 현재 버킷 10점
         Long memberId = 1L;
-        redisTemplate.opsForZSet().add(SCORE_KEY, memberId.toString(), 10.0);
+        addToBucket(0, memberId.toString(), 10.0);
 
-        // When: 메시지 삭제로 -5점
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, -5.0);
+        // When: 메시지 삭제로 -5점 후 합산
+        increment(memberId, -5.0, 0);
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
         // Then: 점수 감소 확인
-        Double currentScore = redisTemplate.opsForZSet().score(SCORE_KEY, memberId.toString());
-        assertThat(currentScore).isEqualTo(5.0); // 10 - 5
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, memberId.toString())).isEqualTo(5.0); // 10 - 5
+    }
+
+    @Test
+    @DisplayName("정상 케이스 - 한 번의 일괄 반영으로 여러 롤링페이퍼 점수와 메시지 수 증가")
+    void shouldApplyBatchInOnePipeline() {
+        // When
+        redisPaperUpdateAdapter.incrementRealtimePopularPaperScores("batch-1", List.of(
+                new PaperScoreIncrementDTO(1L, 12.0, 2),
+                new PaperScoreIncrementDTO(2L, 4.0, 0)));
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+
+        // Then
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "1")).isEqualTo(12.0);
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "2")).isEqualTo(4.0);
+        assertThat(redisTemplate.opsForZSet().score(COUNT_KEY, "1")).isEqualTo(2.0);
+        assertThat(redisTemplate.opsForZSet().score(COUNT_KEY, "2")).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 - 같은 묶음 ID로 다시 반영해도 중복 누적되지 않음")
+    void shouldNotDoubleCount_WhenSameBatchRetried() {
+        // Given: 1,001건이라 두 조각으로 나뉨
+        List<PaperScoreIncrementDTO> increments = java.util.stream.LongStream.rangeClosed(1, 1001)
+                .mapToObj(id -> new PaperScoreIncrementDTO(id, 3.0, 1))
+                .toList();
+        String bucketKey = RedisKey.createPaperScoreBucketKey(currentHour());
+        String countBucketKey = RedisKey.createPaperMessageCountBucketKey(currentHour());
+
+        // When: 응답 유실 후 같은 묶음으로 재시도
+        redisPaperUpdateAdapter.incrementRealtimePopularPaperScores("batch-retry", increments);
+        redisPaperUpdateAdapter.incrementRealtimePopularPaperScores("batch-retry", increments);
+
+        // Then
+        assertThat(redisTemplate.opsForZSet().score(bucketKey, "1")).isEqualTo(3.0);
+        assertThat(redisTemplate.opsForZSet().score(bucketKey, "1001")).isEqualTo(3.0);
+        assertThat(redisTemplate.opsForZSet().score(countBucketKey, "1001")).isEqualTo(1.0);
+        assertThat(redisTemplate.getExpire(RedisKey.createPaperAppliedKey("batch-retry", 1))).isPositive();
     }
 
     @Test
     @DisplayName("정상 케이스 - 여러 롤링페이퍼 동시 점수 증가")
     void shouldIncrementScoresIndependently_WhenMultipleMembersUpdated() {
-        // Given
-        Long memberId1 = 1L;
-        Long memberId2 = 2L;
-        Long memberId3 = 3L;
-
-        // When: 여러 롤링페이퍼에 점수 증가
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId1, 5.0);
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId2, 3.0);
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId3, 7.0);
+        // When: 여러 롤링페이퍼에 점수 증가 후 합산
+        increment(1L, 5.0, 0);
+        increment(2L, 3.0, 0);
+        increment(3L, 7.0, 0);
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
         // Then: 각각 독립적으로 점수 증가
-        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, memberId1.toString())).isEqualTo(5.0);
-        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, memberId2.toString())).isEqualTo(3.0);
-        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, memberId3.toString())).isEqualTo(7.0);
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "1")).isEqualTo(5.0);
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "2")).isEqualTo(3.0);
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "3")).isEqualTo(7.0);
     }
 
     @Test
-    @DisplayName("정상 케이스 - 실시간 인기 롤링페이퍼 점수 감쇠 적용 (Lua 스크립트)")
-    void shouldApplyDecay_WhenScoreDecayInvoked() {
-        // Given: 여러 롤링페이퍼에 초기 점수 설정
-        redisTemplate.opsForZSet().add(SCORE_KEY, "1", 10.0);
-        redisTemplate.opsForZSet().add(SCORE_KEY, "2", 5.0);
-        redisTemplate.opsForZSet().add(SCORE_KEY, "3", 2.0);
+    @DisplayName("정상 케이스 - 버킷 나이별 감쇠 가중치 적용 (시간당 0.97^6)")
+    void shouldApplyDecayWeightByBucketAge() {
+        // Given: 현재, 1시간 전, 3시간 전 버킷
+        addToBucket(0, "1", 10.0);
+        addToBucket(1, "1", 100.0);
+        addToBucket(3, "2", 100.0);
+
+        // When
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+
+        // Then
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "1")).isCloseTo(10.0 + 100.0 * HOURLY_WEIGHT, within(0.0001));
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "2")).isCloseTo(100.0 * Math.pow(HOURLY_WEIGHT, 3), within(0.0001));
+    }
 
-        // When: 감쇠 적용 (0.95배)
-        redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay();
+    @Test
+    @DisplayName("정상 케이스 - 24시간이 지난 버킷은 합산에서 제외")
+    void shouldIgnoreBucketsOutsideWindow() {
+        // Given
+        addToBucket(RedisKey.REALTIME_PAPER_BUCKET_COUNT, "1", 1000.0);
+        addToBucket(0, "2", 5.0);
 
-        // Then: 점수가 0.95배로 감소
-        Double score1 = redisTemplate.opsForZSet().score(SCORE_KEY, "1");
-        Double score2 = redisTemplate.opsForZSet().score(SCORE_KEY, "2");
-        Double score3 = redisTemplate.opsForZSet().score(SCORE_KEY, "3");
+        // When
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
-        assertThat(score1).isEqualTo(9.7);  // 10 * 0.97
-        assertThat(score2).isEqualTo(4.85); // 5 * 0.97
-        assertThat(score3).isEqualTo(1.94);  // 2 * 0.97
+        // Then
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "1")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "2")).isEqualTo(5.0);
     }
 
     @ParameterizedTest
-    @MethodSource("provideDecayScenarios")
-    @DisplayName("정상 케이스 - 점수 감쇠 후 임계값 검증 (다양한 데이터 크기)")
-    void shouldHandleDecay_VariousScenarios(Map<String, Double> initialScores, int expectedRemaining, Set<String> expectedRemainingIds) {
-        // Given: 초기 점수 설정
-        initialScores.forEach((id, score) ->
-            redisTemplate.opsForZSet().add(SCORE_KEY, id, score)
-        );
-
-        // 초기 크기 확인
-        Long initialSize = redisTemplate.opsForZSet().size(SCORE_KEY);
-        assertThat(initialSize).isEqualTo(initialScores.size());
+    @MethodSource("provideThresholdScenarios")
+    @DisplayName("정상 케이스 - 합산 후 임계값 이하 제거 (다양한 데이터 크기)")
+    void shouldRemoveBelowThreshold_VariousScenarios(Map<String, Double> currentBucketScores, int expectedRemaining, Set<String> expectedRemainingIds) {
+        // Given: 현재 버킷 점수 설정
+        currentBucketScores.forEach((id, score) -> addToBucket(0, id, score));
 
-        // When: 감쇠 적용
-        redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay();
+        // When: 합산
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
         // Then: 예상된 수만큼 남아있음
         Long finalSize = redisTemplate.opsForZSet().size(SCORE_KEY);
         assertThat(finalSize).isEqualTo(expectedRemaining);
 
-        // 남아있는 항목 확인
         if (expectedRemaining > 0) {
             Set<Object> remainingPapers = redisTemplate.opsForZSet().range(SCORE_KEY, 0, -1);
             assertThat(remainingPapers).containsExactlyInAnyOrderElementsOf(expectedRemainingIds);
         }
-
-        // 제거된 항목 확인
-        initialScores.keySet().stream()
-            .filter(id -> !expectedRemainingIds.contains(id))
-            .forEach(removedId ->
-                assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, removedId)).isNull()
-            );
     }
 
-    static Stream<Arguments> provideDecayScenarios() {
+    static Stream<Arguments> provideThresholdScenarios() {
         return Stream.of(
             // 4개 점수, 2개 남음 (10.0, 1.5 유지)
             Arguments.of(
-                Map.of("1", 10.0, "2", 1.5, "3", 1.03, "4", 0.8),
+                Map.of("1", 10.0, "2", 1.5, "3", 1.0, "4", 0.8),
                 2,
                 Set.of("1", "2")
             ),
             // 3개 점수, 모두 제거
             Arguments.of(
-                Map.of("1", 1.03, "2", 0.9, "3", 0.8),
+                Map.of("1", 0.95, "2", 0.9, "3", 0.8),
                 0,
                 Set.of()
             ),
@@ -192,47 +244,63 @@ class RedisPaperUpdateAdapterIntegrationTest {
     }
 
     @Test
-    @DisplayName("정상 케이스 - 빈 Sorted Set에 감쇠 적용")
-    void shouldHandleEmptySet_WhenDecayApplied() {
-        // Given: 빈 Sorted Set
-
-        // When: 감쇠 적용
-        redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay();
+    @DisplayName("정상 케이스 - 버킷이 없을 때 합산")
+    void shouldHandleEmptyBuckets_WhenAggregated() {
+        // When
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
         // Then: 에러 없이 정상 처리
-        Long finalSize = redisTemplate.opsForZSet().size(SCORE_KEY);
-        assertThat(finalSize).isZero();
+        assertThat(redisTemplate.opsForZSet().size(SCORE_KEY)).isZero();
     }
 
     @Test
-    @DisplayName("정상 케이스 - 여러 번 감쇠 적용")
-    void shouldApplyDecayMultipleTimes_WhenCalledRepeatedly() {
-        // Given: 초기 점수 100점
-        redisTemplate.opsForZSet().add(SCORE_KEY, "1", 100.0);
+    @DisplayName("정상 케이스 - 합산 결과는 매번 교체되어 중복 누적되지 않음")
+    void shouldReplaceAggregate_WhenCalledRepeatedly() {
+        // Given
+        addToBucket(0, "1", 100.0);
 
-        // When: 3번 감쇠 적용
-        redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay(); // 100 * 0.97 = 97
-        redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay(); // 97 * 0.97 = 94.09
-        redisPaperUpdateAdapter.applyRealtimePopularPaperScoreDecay(); // 94.09 * 0.97 = 91.2673
+        // When: 3번 합산
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
 
-        // Then: 점수가 지속적으로 감소
-        Double finalScore = redisTemplate.opsForZSet().score(SCORE_KEY, "1");
-        assertThat(finalScore).isCloseTo(91.2673, org.assertj.core.data.Offset.offset(0.0001));
+        // Then
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "1")).isEqualTo(100.0);
     }
 
     @Test
-    @DisplayName("정상 케이스 - 0점 이하로 감소한 경우")
-    void shouldAllowNegativeScore_WhenMultipleDeletesOccur() {
-        // Given: 초기 점수 3점
-        Long memberId = 1L;
-        redisTemplate.opsForZSet().add(SCORE_KEY, memberId.toString(), 3.0);
-
-        // When: 2번 메시지 삭제 (-5점씩)
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, -5.0);
-        redisPaperUpdateAdapter.incrementRealtimePopularPaperScore(memberId, -5.0);
+    @DisplayName("배포 직후 - 버킷 도입 전 점수 ZSet을 현재 버킷으로 한 번만 옮겨 순위를 유지")
+    void shouldSeedCurrentBucketFromLegacyScores_Once() {
+        // Given: 이전 버전이 직접 누적한 점수, 첫 합산 전에 들어온 새 점수
+        redisTemplate.opsForZSet().add(SCORE_KEY, "1", 50.0);
+        redisTemplate.opsForZSet().add(SCORE_KEY, "2", 20.0);
+        increment(2L, 5.0, 0);
+
+        // When
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+
+        // Then: 기존 점수와 새 점수가 합쳐지고, 두 번째 합산에서 다시 더해지지 않음
+        String bucketKey = RedisKey.createPaperScoreBucketKey(currentHour());
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "1")).isEqualTo(50.0);
+        assertThat(redisTemplate.opsForZSet().score(SCORE_KEY, "2")).isEqualTo(25.0);
+        assertThat(redisTemplate.opsForZSet().score(bucketKey, "2")).isEqualTo(25.0);
+        assertThat(redisTemplate.getExpire(bucketKey)).isPositive();
+    }
 
-        // Then: 음수 점수 허용 (3 - 5 - 5 = -7)
-        Double currentScore = redisTemplate.opsForZSet().score(SCORE_KEY, memberId.toString());
-        assertThat(currentScore).isEqualTo(-7.0);
+    @Test
+    @DisplayName("정상 케이스 - 최근 메시지 수는 버킷 합산으로 집계")
+    void shouldAggregateRecentMessageCount() {
+        // Given: 현재 버킷 +2 -1, 23시간 전 버킷 +3, 24시간 전 버킷 +10 (제외)
+        increment(1L, 0, 2);
+        increment(1L, 0, -1);
+        redisTemplate.opsForZSet().add(RedisKey.createPaperMessageCountBucketKey(currentHour() - 23), "1", 3.0);
+        redisTemplate.opsForZSet().add(RedisKey.createPaperMessageCountBucketKey(currentHour() - 24), "1", 10.0);
+
+        // When
+        redisPaperUpdateAdapter.aggregateRealtimePopularPapers();
+
+        // Then
+        assertThat(redisTemplate.opsForZSet().score(COUNT_KEY, "1")).isEqualTo(4.0);
     }
 }
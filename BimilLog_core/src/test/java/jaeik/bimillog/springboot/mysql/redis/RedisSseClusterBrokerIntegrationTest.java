@@ -0,0 +1,134 @@
+package jaeik.bimillog.springboot.mysql.redis;
+
+import jaeik.bimillog.domain.notification.cluster.SseDisconnectCommand;
+import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.entity.SseMessage;
+import jaeik.bimillog.infrastructure.redis.RedisKey;
+import jaeik.bimillog.infrastructure.redis.notification.RedisSseClusterBroker;
+import jaeik.bimillog.testutil.RedisTestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>RedisSseClusterBroker 통합 테스트</h2>
+ * <p>로컬 Redis 환경에서 노드별 presence 등록/만료/제거와 노드 채널, 연결 정리 채널 Pub/Sub 전달을 검증합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Tag("local-integration")
+@ActiveProfiles("local-integration")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RedisSseClusterBrokerIntegrationTest {
+
+    @Autowired
+    private RedisSseClusterBroker redisSseClusterBroker;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RedisTestHelper.flushRedis(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("presence - 노드별로 등록되고 연결을 정리한 노드만 제거")
+    void shouldTrackPresencePerNode() {
+        // Given
+        redisSseClusterBroker.addPresence(1L, "node-a");
+        redisSseClusterBroker.addPresence(1L, "node-b");
+
+        // When
+        redisSseClusterBroker.removePresence(List.of(1L), "node-a");
+
+        // Then
+        assertThat(redisSseClusterBroker.findNodes(1L)).containsExactly("node-b");
+        assertThat(stringRedisTemplate.getExpire(RedisKey.createSsePresenceKey(1L))).isPositive();
+    }
+
+    @Test
+    @DisplayName("presence - 모든 연결 정리 시 노드와 관계없이 제거")
+    void shouldClearPresenceOfAllNodes() {
+        // Given
+        redisSseClusterBroker.addPresence(1L, "node-a");
+        redisSseClusterBroker.addPresence(1L, "node-b");
+
+        // When
+        redisSseClusterBroker.clearPresence(1L);
+
+        // Then
+        assertThat(redisSseClusterBroker.findNodes(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("presence - 갱신이 멈춘 노드 항목은 조회에서 제외하고 다음 갱신 때 정리")
+    void shouldIgnoreExpiredNode() {
+        // Given: node-a는 이미 만료된 항목
+        String key = RedisKey.createSsePresenceKey(1L);
+        stringRedisTemplate.opsForZSet().add(key, "node-a", System.currentTimeMillis() - 1_000);
+
+        // When
+        redisSseClusterBroker.refreshPresence(List.of(1L), "node-b");
+
+        // Then
+        assertThat(redisSseClusterBroker.findNodes(1L)).containsExactly("node-b");
+        assertThat(stringRedisTemplate.opsForZSet().score(key, "node-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("노드 채널 - 해당 노드로 발행한 메시지만 수신")
+    void shouldDeliverMessageToSubscribedNode() throws Exception {
+        // Given
+        CompletableFuture<SseMessage> received = new CompletableFuture<>();
+        CompletableFuture<SseMessage> otherNode = new CompletableFuture<>();
+        redisSseClusterBroker.subscribe("node-a", received::complete);
+        redisSseClusterBroker.subscribe("node-b", otherNode::complete);
+        TimeUnit.MILLISECONDS.sleep(500); // 구독 등록 대기
+        SseMessage message = SseMessage.of(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // When
+        redisSseClusterBroker.publish("node-a", message);
+
+        // Then
+        assertThat(received.get(5, TimeUnit.SECONDS)).isEqualTo(message);
+        assertThat(otherNode).isNotDone();
+    }
+
+    @Test
+    @DisplayName("연결 정리 채널 - 해당 노드로 발행한 명령만 수신하고 알림 채널과 섞이지 않음")
+    void shouldDeliverDisconnectCommandToSubscribedNode() throws Exception {
+        // Given
+        CompletableFuture<SseDisconnectCommand> received = new CompletableFuture<>();
+        CompletableFuture<SseMessage> messageChannel = new CompletableFuture<>();
+        redisSseClusterBroker.subscribeDisconnect("node-a", received::complete);
+        redisSseClusterBroker.subscribe("node-a", messageChannel::complete);
+        TimeUnit.MILLISECONDS.sleep(500); // 구독 등록 대기
+        SseDisconnectCommand command = new SseDisconnectCommand(1L, 100L);
+
+        // When
+        redisSseClusterBroker.publishDisconnect("node-a", command);
+
+        // Then
+        assertThat(received.get(5, TimeUnit.SECONDS)).isEqualTo(command);
+        assertThat(messageChannel).isNotDone();
+    }
+}
@@ -5,6 +5,7 @@ import jaeik.bimillog.domain.auth.service.AuthTokenService;
 import jaeik.bimillog.domain.auth.service.SocialLogoutService;
 import jaeik.bimillog.domain.auth.service.SocialTokenService;
 import jaeik.bimillog.domain.comment.service.CommentCommandService;
+import jaeik.bimillog.domain.friend.service.FriendshipCommandService;
 import jaeik.bimillog.domain.global.listener.MemberWithdrawListener;
 import jaeik.bimillog.domain.member.entity.SocialProvider;
 import jaeik.bimillog.domain.member.event.MemberWithdrawnEvent;
@@ -97,6 +98,9 @@ class MemberWithdrawListenerRetryTest {
     @MockitoBean
     private RedisFriendshipRepository redisFriendshipRepository;
 
+    @MockitoBean
+    private FriendshipCommandService friendshipCommandService;
+
     private static final int MAX_ATTEMPTS = 3;
 
     @BeforeEach
@@ -104,7 +108,8 @@ class MemberWithdrawListenerRetryTest {
         Mockito.reset(socialLogoutService, sseService, notificationCommandUseCase,
                 commentCommandService, postCommandService, authTokenService,
                 paperCommandService, adminCommandService, memberAccountService,
-                socialTokenService, redisInteractionScoreRepository, redisFriendshipRepository);
+                socialTokenService, redisInteractionScoreRepository, redisFriendshipRepository,
+                friendshipCommandService);
     }
 
     @ParameterizedTest(name = "{0} 발생 시 3회 재시도")
@@ -0,0 +1,116 @@
+package jaeik.bimillog.unit.domain.friend;
+
+import jaeik.bimillog.domain.friend.rebuild.FriendAdminService;
+import jaeik.bimillog.domain.friend.repository.FriendAdjacencyRepository;
+import jaeik.bimillog.domain.friend.scheduler.FriendAdjacencyReconcileScheduler;
+import jaeik.bimillog.testutil.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * <h2>FriendAdjacencyReconcileScheduler 단위 테스트</h2>
+ * <p>기동 시 전체 보정, 보정 기간 동안의 범위 보정, 기간 종료 후 중단을 검증</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("FriendAdjacencyReconcileScheduler 단위 테스트")
+@Tag("unit")
+class FriendAdjacencyReconcileSchedulerTest extends BaseUnitTest {
+
+    @Mock
+    private FriendAdminService friendAdminService;
+
+    @Mock
+    private FriendAdjacencyRepository friendAdjacencyRepository;
+
+    @InjectMocks
+    private FriendAdjacencyReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "reconcileOnStartup", true);
+        ReflectionTestUtils.setField(scheduler, "reconcileWindowMinutes", 120L);
+    }
+
+    @Test
+    @DisplayName("기동 시 전체를 보정하고, 이후에는 두 번 전 보정의 최대 ID 이후부터 보정")
+    void shouldReconcileFullyOnStartupThenRecentRanges() {
+        // Given - 보정할 때마다 최대 friendship ID가 늘어남
+        given(friendAdjacencyRepository.findMaxFriendshipId()).willReturn(100L, 150L, 180L, 200L);
+
+        // When
+        scheduler.reconcileOnStartup();
+        scheduler.reconcileDuringRollout();
+        scheduler.reconcileDuringRollout();
+        scheduler.reconcileDuringRollout();
+
+        // Then
+        InOrder order = inOrder(friendAdminService);
+        order.verify(friendAdminService).reconcileFriendAdjacency(0L, 100L);
+        order.verify(friendAdminService).reconcileFriendAdjacency(0L, 150L);
+        order.verify(friendAdminService).reconcileFriendAdjacency(100L, 180L);
+        order.verify(friendAdminService).reconcileFriendAdjacency(150L, 200L);
+    }
+
+    @Test
+    @DisplayName("보정 기간이 지나면 마지막으로 한 번 보정한 뒤 더 이상 실행하지 않음")
+    void shouldStopAfterWindowEnds() {
+        // Given - 기동 시점에 이미 끝난 보정 기간
+        ReflectionTestUtils.setField(scheduler, "reconcileWindowMinutes", -1L);
+        given(friendAdjacencyRepository.findMaxFriendshipId()).willReturn(100L, 120L, 140L);
+
+        // When
+        scheduler.reconcileOnStartup();
+        scheduler.reconcileDuringRollout();
+        scheduler.reconcileDuringRollout();
+
+        // Then
+        verify(friendAdminService).reconcileFriendAdjacency(0L, 100L);
+        verify(friendAdminService).reconcileFriendAdjacency(0L, 120L);
+        verify(friendAdminService, never()).reconcileFriendAdjacency(100L, 140L);
+    }
+
+    @Test
+    @DisplayName("보정 실패 시 기준 ID를 옮기지 않아 다음 보정에서 같은 범위를 다시 확인")
+    void shouldRetrySameRangeAfterFailure() {
+        // Given
+        given(friendAdjacencyRepository.findMaxFriendshipId()).willReturn(100L, 150L);
+        given(friendAdminService.reconcileFriendAdjacency(0L, 100L)).willThrow(new RuntimeException("DB 오류"));
+
+        // When
+        scheduler.reconcileOnStartup();
+        scheduler.reconcileDuringRollout();
+
+        // Then
+        verify(friendAdminService).reconcileFriendAdjacency(0L, 150L);
+    }
+
+    @Test
+    @DisplayName("기동 시 보정이 꺼져 있으면 아무것도 하지 않음")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(scheduler, "reconcileOnStartup", false);
+
+        // When
+        scheduler.reconcileOnStartup();
+        scheduler.reconcileDuringRollout();
+
+        // Then
+        verifyNoInteractions(friendAdjacencyRepository);
+        verify(friendAdminService, never()).reconcileFriendAdjacency(anyLong(), anyLong());
+    }
+}
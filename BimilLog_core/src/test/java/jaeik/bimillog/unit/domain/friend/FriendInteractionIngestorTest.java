@@ -0,0 +1,218 @@
+package jaeik.bimillog.unit.domain.friend;
+
+import jaeik.bimillog.domain.comment.event.CommentCreatedEvent;
+import jaeik.bimillog.domain.friend.async.FriendInteractionIngestor;
+import jaeik.bimillog.domain.friend.dto.InteractionIncrementDTO;
+import jaeik.bimillog.domain.friend.listener.FriendInteractionListener;
+import jaeik.bimillog.domain.friend.rebuild.FriendEventDlqService;
+import jaeik.bimillog.domain.friend.rebuild.FriendRebuildFlag;
+import jaeik.bimillog.domain.global.event.FriendInteractionEvent;
+import jaeik.bimillog.domain.post.event.PostLikedEvent;
+import jaeik.bimillog.infrastructure.redis.friend.RedisInteractionScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static jaeik.bimillog.domain.friend.listener.FriendInteractionListener.INTERACTION_SCORE_DEFAULT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>FriendInteractionIngestor 단위 테스트</h2>
+ * <p>상호작용 이벤트 버퍼 적재, 멱등성 필터링, 회원 쌍별 합산, 실패 시 DLQ 저장을 검증합니다.</p>
+ * <p>워커 스레드는 시작하지 않고 flush를 직접 호출하여 배치 처리 로직만 테스트</p>
+ */
+@DisplayName("FriendInteractionIngestor 단위 테스트")
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class FriendInteractionIngestorTest {
+
+    @Mock
+    private RedisInteractionScoreRepository redisInteractionScoreRepository;
+
+    @Mock
+    private FriendEventDlqService friendEventDlqService;
+
+    @Mock
+    private FriendRebuildFlag friendRebuildFlag;
+
+    private FriendInteractionIngestor ingestor;
+
+    /**
+     * 버퍼 초과분 DLQ 저장 워커에 넘겨진 작업. 테스트가 직접 실행합니다.
+     */
+    private final List<Runnable> overflowTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ingestor = new FriendInteractionIngestor(redisInteractionScoreRepository, friendEventDlqService, friendRebuildFlag,
+                task -> { }, overflowTasks::add);
+    }
+
+    private void fillBuffer() {
+        // 워커가 돌지 않으므로 버퍼 용량(10,000)만큼 채움
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(ingestor.offer(PostLikedEvent.of(i, 2L, 3L))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 회원 쌍의 이벤트는 방향과 무관하게 하나로 합산")
+    void flush_shouldCoalesceEventsPerPair() {
+        // Given - 3 -> 2 좋아요 2회, 2 -> 3 댓글 1회
+        PostLikedEvent like1 = PostLikedEvent.of(1L, 2L, 3L);
+        PostLikedEvent like2 = PostLikedEvent.of(2L, 2L, 3L);
+        CommentCreatedEvent comment = CommentCreatedEvent.of(3L, "작성자", 2L, 10L);
+        given(redisInteractionScoreRepository.markInteractionEvents(anyList())).willReturn(List.of(true, true, true));
+
+        // When
+        ingestor.flush(List.of(like1, like2, comment));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InteractionIncrementDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisInteractionScoreRepository).addInteractionScoreBatch(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().getFirst().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 이벤트와 배치 내 중복 이벤트는 반영하지 않음")
+    void flush_shouldSkipAlreadyProcessedEvents() {
+        // Given
+        PostLikedEvent processed = PostLikedEvent.of(1L, 2L, 3L);
+        PostLikedEvent fresh = PostLikedEvent.of(2L, 4L, 3L);
+        given(redisInteractionScoreRepository.markInteractionEvents(anyList())).willReturn(List.of(false, true));
+
+        // When - processed 이벤트가 배치 안에 두 번 들어온 경우
+        ingestor.flush(List.of(processed, processed, fresh));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(redisInteractionScoreRepository).markInteractionEvents(keyCaptor.capture());
+        assertThat(keyCaptor.getValue()).containsExactly(processed.getIdempotencyKey(), fresh.getIdempotencyKey());
+
+        verify(redisInteractionScoreRepository).addInteractionScoreBatch(List.of(new InteractionIncrementDTO(3L, 4L, 1)));
+    }
+
+    @Test
+    @DisplayName("Redis 반영 실패 시 배치 이벤트를 DLQ에 저장")
+    void flush_shouldSaveToDlqOnRedisFailure() {
+        // Given
+        PostLikedEvent event = PostLikedEvent.of(1L, 2L, 3L);
+        given(redisInteractionScoreRepository.markInteractionEvents(anyList())).willReturn(List.of(true));
+        willThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+                .given(redisInteractionScoreRepository).addInteractionScoreBatch(anyList());
+
+        // When
+        ingestor.flush(List.of(event));
+
+        // Then
+        verify(friendEventDlqService).saveScoreUp(event.getIdempotencyKey(), 3L, 2L, INTERACTION_SCORE_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("재구축 중에는 Redis에 반영하지 않고 DLQ에 저장")
+    void flush_shouldSaveToDlqWhileRebuilding() {
+        // Given
+        PostLikedEvent event = PostLikedEvent.of(1L, 2L, 3L);
+        given(friendRebuildFlag.isRebuilding()).willReturn(true);
+
+        // When
+        ingestor.flush(List.of(event));
+
+        // Then
+        verifyNoInteractions(redisInteractionScoreRepository);
+        verify(friendEventDlqService).saveScoreUp(event.getIdempotencyKey(), 3L, 2L, INTERACTION_SCORE_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 호출 스레드는 DB에 접근하지 않고 DLQ 저장을 별도 워커에 넘김")
+    void offer_shouldHandOffDlqSaveWhenBufferFull() {
+        // Given
+        fillBuffer();
+        PostLikedEvent overflow = PostLikedEvent.of(10_000L, 2L, 3L);
+
+        // When
+        boolean buffered = ingestor.offer(overflow);
+
+        // Then - 호출 스레드(추천/댓글 트랜잭션)에서는 DLQ 저장이 일어나지 않음
+        assertThat(buffered).isFalse();
+        verifyNoInteractions(friendEventDlqService);
+        assertThat(overflowTasks).hasSize(1);
+
+        overflowTasks.getFirst().run();
+        verify(friendEventDlqService).saveScoreUp(overflow.getIdempotencyKey(), 3L, 2L, INTERACTION_SCORE_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("DLQ 저장 워커도 가득 차면 호출자에게 예외를 던지지 않고 이벤트를 버린 뒤 건수를 기록")
+    void offer_shouldDropAndCountWhenOverflowExecutorRejects() {
+        // Given
+        ingestor = new FriendInteractionIngestor(redisInteractionScoreRepository, friendEventDlqService, friendRebuildFlag,
+                task -> { }, task -> { throw new RejectedExecutionException("가득 참"); });
+        fillBuffer();
+
+        // When
+        boolean buffered = ingestor.offer(PostLikedEvent.of(10_000L, 2L, 3L));
+
+        // Then
+        assertThat(buffered).isFalse();
+        assertThat(ingestor.getDroppedCount()).isEqualTo(1);
+        verifyNoInteractions(friendEventDlqService);
+    }
+
+    @Test
+    @DisplayName("종료 시 반영하지 못한 버퍼 이벤트를 DLQ에 저장하고 이후 이벤트도 DLQ로 보냄")
+    void stop_shouldSaveRemainingEventsToDlq() {
+        // Given
+        PostLikedEvent buffered = PostLikedEvent.of(1L, 2L, 3L);
+        ingestor.offer(buffered);
+
+        // When
+        ingestor.stop();
+        PostLikedEvent late = PostLikedEvent.of(2L, 4L, 3L);
+        boolean accepted = ingestor.offer(late);
+
+        // Then - 종료 후 이벤트는 DLQ 저장 워커로 넘어감
+        assertThat(accepted).isFalse();
+        verify(friendEventDlqService).saveScoreUp(buffered.getIdempotencyKey(), 3L, 2L, INTERACTION_SCORE_DEFAULT);
+        overflowTasks.forEach(Runnable::run);
+        verify(friendEventDlqService).saveScoreUp(late.getIdempotencyKey(), 3L, 4L, INTERACTION_SCORE_DEFAULT);
+        verifyNoInteractions(redisInteractionScoreRepository);
+    }
+
+    @Test
+    @DisplayName("리스너는 익명/자기 자신 상호작용을 버퍼에 적재하지 않음")
+    void listener_shouldSkipAnonymousAndSelfInteraction() {
+        // Given
+        FriendInteractionIngestor mockIngestor = mock(FriendInteractionIngestor.class);
+        FriendInteractionListener listener = new FriendInteractionListener(mockIngestor);
+        FriendInteractionEvent anonymous = PostLikedEvent.of(1L, null, 3L);
+        FriendInteractionEvent self = PostLikedEvent.of(1L, 3L, 3L);
+        FriendInteractionEvent normal = PostLikedEvent.of(1L, 2L, 3L);
+
+        // When
+        listener.handlePostLiked(anonymous);
+        listener.handlePostLiked(self);
+        listener.handlePostLiked(normal);
+
+        // Then
+        verify(mockIngestor, times(1)).offer(any());
+        verify(mockIngestor).offer(normal);
+    }
+}
@@ -0,0 +1,207 @@
+package jaeik.bimillog.unit.domain.friend;
+
+import jaeik.bimillog.domain.friend.entity.Friend;
+import jaeik.bimillog.domain.friend.repository.FriendListCache;
+import jaeik.bimillog.domain.friend.repository.FriendshipQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>FriendListCache 단위 테스트</h2>
+ * <p>친구 목록 로컬 캐시의 적재, 페이지 슬라이싱, 이벤트 패치(추가/삭제/닉네임 변경/탈퇴), 친구 수 초과 표시를 검증합니다.</p>
+ */
+@DisplayName("FriendListCache 단위 테스트")
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class FriendListCacheTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Instant CREATED_AT = Instant.parse("2025-06-01T12:34:56.123456Z");
+
+    @Mock
+    private FriendshipQueryRepository friendshipQueryRepository;
+
+    private FriendListCache friendListCache;
+
+    @BeforeEach
+    void setUp() {
+        friendListCache = new FriendListCache(friendshipQueryRepository);
+    }
+
+    private Friend friend(long friendshipId, long friendId, String name) {
+        return new Friend(friendshipId, friendId, name, "http://example.com/" + friendId + ".jpg", CREATED_AT);
+    }
+
+    private List<Long> friendIdsOf(Page<Friend> page) {
+        return page.getContent().stream().map(Friend::friendMemberId).toList();
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 한 번 적재 후 모든 페이지를 캐시에서 응답")
+    void shouldLoadOnceAndServeAllPages() {
+        // Given
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt()))
+                .willReturn(List.of(friend(30L, 4L, "c"), friend(20L, 3L, "b"), friend(10L, 2L, "a")));
+
+        // When
+        Page<Friend> first = friendListCache.getPage(OWNER_ID, PageRequest.of(0, 2)).orElseThrow();
+        Page<Friend> second = friendListCache.getPage(OWNER_ID, PageRequest.of(1, 2)).orElseThrow();
+
+        // Then
+        assertThat(friendIdsOf(first)).containsExactly(4L, 3L);
+        assertThat(friendIdsOf(second)).containsExactly(2L);
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent().getFirst().friendshipCreatedAt()).isEqualTo(CREATED_AT);
+        verify(friendshipQueryRepository, times(1)).getFriendList(eq(OWNER_ID), anyInt());
+    }
+
+    @Test
+    @DisplayName("친구 수 초과 회원은 초과 표시를 캐시하여 TTL 동안 다시 적재하지 않음")
+    void shouldCacheOversizedMarkerWhenTooManyFriends() {
+        // Given
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt())).willAnswer(invocation -> {
+            int limit = invocation.getArgument(1);
+            return java.util.stream.LongStream.rangeClosed(1, limit)
+                    .mapToObj(i -> friend(i, i + 100, "n" + i))
+                    .toList();
+        });
+
+        // When
+        Optional<Page<Friend>> result = friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10));
+        Optional<Page<Friend>> again = friendListCache.getPage(OWNER_ID, PageRequest.of(1, 10));
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(again).isEmpty();
+        verify(friendshipQueryRepository, times(1)).getFriendList(eq(OWNER_ID), anyInt());
+    }
+
+    @Test
+    @DisplayName("초과 표시가 캐시된 회원에게는 친구 추가/삭제/닉네임 변경을 적용하지 않음")
+    void shouldIgnorePatchesOnOversizedMarker() {
+        // Given
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt())).willAnswer(invocation -> {
+            int limit = invocation.getArgument(1);
+            return java.util.stream.LongStream.rangeClosed(1, limit)
+                    .mapToObj(i -> friend(i, i + 100, "n" + i))
+                    .toList();
+        });
+        given(friendshipQueryRepository.getMyFriendIdsSet(OWNER_ID)).willReturn(Set.of());
+        friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10));
+
+        // When
+        friendListCache.addFriend(OWNER_ID, 3L);
+        friendListCache.removeFriend(OWNER_ID, 101L);
+        friendListCache.renameFriend(OWNER_ID, "renamed");
+
+        // Then: 초과 표시는 그대로, 본인 친구 ID는 DB에서 조회
+        assertThat(friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10))).isEmpty();
+        verify(friendshipQueryRepository, never()).getFriend(anyLong(), anyLong());
+        verify(friendshipQueryRepository, times(1)).getFriendList(eq(OWNER_ID), anyInt());
+    }
+
+    @Test
+    @DisplayName("친구 추가 시 정렬 위치에 삽입")
+    void shouldInsertAddedFriendInOrder() {
+        // Given
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt()))
+                .willReturn(List.of(friend(30L, 4L, "c"), friend(10L, 2L, "a")));
+        given(friendshipQueryRepository.getFriend(OWNER_ID, 3L)).willReturn(Optional.of(friend(20L, 3L, "b")));
+        friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10));
+
+        // When
+        friendListCache.addFriend(OWNER_ID, 3L);
+        friendListCache.addFriend(OWNER_ID, 3L); // 중복 반영은 무시
+
+        // Then
+        Page<Friend> page = friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10)).orElseThrow();
+        assertThat(friendIdsOf(page)).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 회원의 친구 추가는 DB 조회 없이 무시")
+    void shouldIgnoreAddWhenNotCached() {
+        // When
+        friendListCache.addFriend(OWNER_ID, 3L);
+
+        // Then
+        verify(friendshipQueryRepository, never()).getFriend(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("친구 삭제 시 해당 항목만 제거")
+    void shouldRemoveDeletedFriend() {
+        // Given
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt()))
+                .willReturn(List.of(friend(30L, 4L, "c"), friend(20L, 3L, "b"), friend(10L, 2L, "a")));
+        friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10));
+
+        // When
+        friendListCache.removeFriend(OWNER_ID, 3L);
+
+        // Then
+        Page<Friend> page = friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10)).orElseThrow();
+        assertThat(friendIdsOf(page)).containsExactly(4L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 시 친구들의 목록에서 닉네임만 교체")
+    void shouldRenameFriendInOwnersLists() {
+        // Given
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt()))
+                .willReturn(List.of(friend(20L, 3L, "b"), friend(10L, 2L, "a")));
+        given(friendshipQueryRepository.getMyFriendIdsSet(3L)).willReturn(Set.of(OWNER_ID));
+        friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10));
+
+        // When
+        friendListCache.renameFriend(3L, "renamed");
+
+        // Then
+        Page<Friend> page = friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10)).orElseThrow();
+        assertThat(page.getContent()).extracting(Friend::memberName).containsExactly("renamed", "a");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 탈퇴 회원의 친구 목록에서만 제거")
+    void shouldRemoveWithdrawnMemberFromFriendsLists() {
+        // Given: OWNER_ID와 5번은 3번의 친구, 6번은 3번과 친구가 아님(캐시 스냅샷상으로만 항목 존재)
+        given(friendshipQueryRepository.getFriendList(eq(OWNER_ID), anyInt()))
+                .willReturn(List.of(friend(20L, 3L, "b"), friend(10L, 2L, "a")));
+        given(friendshipQueryRepository.getFriendList(eq(6L), anyInt()))
+                .willReturn(List.of(friend(40L, 3L, "b")));
+        given(friendshipQueryRepository.getFriendList(eq(3L), anyInt()))
+                .willReturn(List.of(friend(20L, OWNER_ID, "owner")), List.of());
+        friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10));
+        friendListCache.getPage(6L, PageRequest.of(0, 10));
+        friendListCache.getPage(3L, PageRequest.of(0, 10));
+
+        // When
+        friendListCache.removeMember(3L, Set.of(OWNER_ID, 5L));
+
+        // Then: 친구 목록에서만 제거, 탈퇴 회원 본인 캐시는 제거되어 다시 적재
+        assertThat(friendIdsOf(friendListCache.getPage(OWNER_ID, PageRequest.of(0, 10)).orElseThrow()))
+                .containsExactly(2L);
+        assertThat(friendIdsOf(friendListCache.getPage(6L, PageRequest.of(0, 10)).orElseThrow()))
+                .containsExactly(3L);
+        assertThat(friendListCache.getPage(3L, PageRequest.of(0, 10)).orElseThrow().getContent()).isEmpty();
+    }
+}
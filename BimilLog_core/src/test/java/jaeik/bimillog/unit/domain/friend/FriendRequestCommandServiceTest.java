@@ -45,6 +45,8 @@ class FriendRequestCommandServiceTest extends BaseUnitTest {
 
     private static final Long SENDER_ID = 1L;
     private static final Long RECEIVER_ID = 2L;
+    private static final Long PAIR_MIN_ID = SENDER_ID;
+    private static final Long PAIR_MAX_ID = RECEIVER_ID;
     private static final Long FRIEND_REQUEST_ID = 100L;
 
     @Mock private FriendRequestRepository friendRequestRepository;
@@ -77,8 +79,7 @@ class FriendRequestCommandServiceTest extends BaseUnitTest {
         // Given
         given(friendToMemberAdapter.findById(RECEIVER_ID)).willReturn(receiver);
         given(friendToMemberAdapter.findById(SENDER_ID)).willReturn(sender);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(SENDER_ID, RECEIVER_ID)).willReturn(false);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(RECEIVER_ID, SENDER_ID)).willReturn(false);
+        given(friendRequestRepository.findSenderIdByPair(PAIR_MIN_ID, PAIR_MAX_ID)).willReturn(Optional.empty());
         given(friendRequestRepository.save(any(FriendRequest.class))).willReturn(friendRequest);
 
         // When
@@ -125,8 +126,7 @@ class FriendRequestCommandServiceTest extends BaseUnitTest {
         // Given
         given(friendToMemberAdapter.findById(RECEIVER_ID)).willReturn(receiver);
         given(friendToMemberAdapter.findById(SENDER_ID)).willReturn(sender);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(SENDER_ID, RECEIVER_ID)).willReturn(false);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(RECEIVER_ID, SENDER_ID)).willReturn(false);
+        given(friendRequestRepository.findSenderIdByPair(PAIR_MIN_ID, PAIR_MAX_ID)).willReturn(Optional.empty());
         given(friendRequestRepository.save(any(FriendRequest.class))).willReturn(friendRequest);
 
         // When
@@ -147,7 +147,7 @@ class FriendRequestCommandServiceTest extends BaseUnitTest {
     void shouldThrowException_WhenRequestAlreadySent() {
         // Given
         given(friendToMemberAdapter.findById(RECEIVER_ID)).willReturn(receiver);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(SENDER_ID, RECEIVER_ID)).willReturn(true);
+        given(friendRequestRepository.findSenderIdByPair(PAIR_MIN_ID, PAIR_MAX_ID)).willReturn(Optional.of(SENDER_ID));
 
         // When & Then
         assertThatThrownBy(() -> friendRequestCommandService.sendFriendRequest(SENDER_ID, RECEIVER_ID))
@@ -162,8 +162,7 @@ class FriendRequestCommandServiceTest extends BaseUnitTest {
     void shouldThrowException_WhenReverseRequestExists() {
         // Given
         given(friendToMemberAdapter.findById(RECEIVER_ID)).willReturn(receiver);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(SENDER_ID, RECEIVER_ID)).willReturn(false);
-        given(friendRequestRepository.existsBySenderIdAndReceiverId(RECEIVER_ID, SENDER_ID)).willReturn(true);
+        given(friendRequestRepository.findSenderIdByPair(PAIR_MIN_ID, PAIR_MAX_ID)).willReturn(Optional.of(RECEIVER_ID));
 
         // When & Then
         assertThatThrownBy(() -> friendRequestCommandService.sendFriendRequest(SENDER_ID, RECEIVER_ID))
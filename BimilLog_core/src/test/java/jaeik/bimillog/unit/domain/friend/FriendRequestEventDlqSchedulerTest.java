@@ -1,6 +1,5 @@
 package jaeik.bimillog.unit.domain.friend;
 
-import jaeik.bimillog.domain.friend.entity.jpa.FriendDlqStatus;
 import jaeik.bimillog.domain.friend.entity.jpa.FriendEventDlq;
 import jaeik.bimillog.domain.friend.repository.FriendEventDlqRepository;
 import jaeik.bimillog.domain.friend.scheduler.FriendEventDlqScheduler;
@@ -14,16 +13,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collections;
 import java.util.List;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -31,16 +29,15 @@ import static org.mockito.Mockito.*;
 /**
  * <h2>FriendEventDlqScheduler 단위 테스트</h2>
  * <p>친구 이벤트 DLQ 재처리 스케줄러의 비즈니스 로직을 검증하는 단위 테스트</p>
- * <p>Redis 상태 확인, PENDING 이벤트 일괄 파이프라인 처리, 파이프라인 실패 시 개별 재시도,
- * 최대 재시도 초과 시 FAILED 처리 흐름을 검증합니다.</p>
- * <p>모든 외부 의존성을 모킹하여 순수한 비즈니스 로직만 테스트</p>
+ * <p>Redis 상태 확인, 배치 선점 후 파이프라인 처리, 파이프라인 실패 시 개별 재시도,
+ * claimId 기준 벌크 상태 갱신 흐름을 검증합니다.</p>
+ * <p>모든 외부 의존성을 모킹하고, 슬롯 워커는 호출 스레드에서 순차 실행합니다.</p>
  */
 @DisplayName("FriendEventDlqScheduler 테스트")
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
 class FriendRequestEventDlqSchedulerTest {
 
-    @InjectMocks
     private FriendEventDlqScheduler scheduler;
 
     @Mock
@@ -66,6 +63,8 @@ class FriendRequestEventDlqSchedulerTest {
 
     @BeforeEach
     void setUp() {
+        scheduler = new FriendEventDlqScheduler(repository, stringRedisTemplate, redisCheck, redisFriendshipRepository,
+                redisInteractionScoreRepository, redisFriendRestore, friendRebuildFlag, Runnable::run);
         // 기본적으로 Redis 정상 상태
         lenient().when(redisCheck.isRedisHealthy()).thenReturn(true);
     }
@@ -79,124 +78,98 @@ class FriendRequestEventDlqSchedulerTest {
         // When
         scheduler.processDlq();
 
-        // Then - 이벤트 조회도 안함
-        verify(repository, never()).findPendingEvents(any(), anyInt(), anyInt());
-        verify(stringRedisTemplate, never()).executePipelined(any(org.springframework.data.redis.core.RedisCallback.class));
+        // Then - 선점도 안함
+        verify(repository, never()).claimPendingEvents(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
     }
 
     @Test
-    @DisplayName("PENDING 이벤트가 없으면 처리 없음")
+    @DisplayName("선점할 PENDING 이벤트가 없으면 처리 없음")
     void processDlq_shouldDoNothingWhenNoEvents() {
-        // Given
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(Collections.emptyList());
-
         // When
         scheduler.processDlq();
 
-        // Then - 파이프라인 실행 안함
-        verify(stringRedisTemplate, never()).executePipelined(any(org.springframework.data.redis.core.RedisCallback.class));
+        // Then - 모든 슬롯이 선점을 시도하지만 파이프라인 실행 안함
+        verify(repository, times(4)).claimPendingEvents(anyString(), anyInt(), eq(4), eq(3), anyInt());
+        verify(repository, never()).findByClaimIdOrderByIdAsc(anyString());
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
     }
 
     @Test
     @DisplayName("FRIEND_ADD 이벤트 재처리 성공")
     void processDlq_shouldProcessFriendAddEvent() {
         // Given
-        FriendEventDlq event = FriendEventDlq.createFriendAdd(1L, 2L);
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(List.of(event))
-                .willReturn(Collections.emptyList());
-        given(stringRedisTemplate.executePipelined(any(org.springframework.data.redis.core.RedisCallback.class)))
-                .willReturn(Collections.emptyList());
+        givenClaimed(withId(FriendEventDlq.createFriendAdd(1L, 2L), 1L));
 
         // When
         scheduler.processDlq();
 
         // Then
-        verify(stringRedisTemplate).executePipelined(any(org.springframework.data.redis.core.RedisCallback.class));
-        verify(repository, atLeast(1)).saveAll(anyList());
-        assertThat(event.getStatus()).isEqualTo(FriendDlqStatus.PROCESSED);
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        verify(repository).markProcessedByClaimId(anyString());
+        verify(repository, never()).releaseFailedEvents(anyList(), anyInt());
     }
 
     @Test
     @DisplayName("FRIEND_REMOVE 이벤트 재처리 성공")
     void processDlq_shouldProcessFriendRemoveEvent() {
         // Given
-        FriendEventDlq event = FriendEventDlq.createFriendRemove(1L, 2L);
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(List.of(event))
-                .willReturn(Collections.emptyList());
-        given(stringRedisTemplate.executePipelined(any(org.springframework.data.redis.core.RedisCallback.class)))
-                .willReturn(Collections.emptyList());
+        givenClaimed(withId(FriendEventDlq.createFriendRemove(1L, 2L), 1L));
 
         // When
         scheduler.processDlq();
 
         // Then
-        verify(stringRedisTemplate).executePipelined(any(org.springframework.data.redis.core.RedisCallback.class));
-        verify(repository, atLeast(1)).saveAll(anyList());
-        assertThat(event.getStatus()).isEqualTo(FriendDlqStatus.PROCESSED);
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        verify(repository).markProcessedByClaimId(anyString());
+        verify(repository, never()).releaseFailedEvents(anyList(), anyInt());
     }
 
     @Test
     @DisplayName("SCORE_UP 이벤트 재처리 성공")
     void processDlq_shouldProcessScoreUpEvent() {
         // Given
-        FriendEventDlq event = FriendEventDlq.createScoreUp("test-score-event-id", 1L, 2L, 0.5);
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(List.of(event))
-                .willReturn(Collections.emptyList());
-        given(stringRedisTemplate.executePipelined(any(org.springframework.data.redis.core.RedisCallback.class)))
-                .willReturn(Collections.emptyList());
+        givenClaimed(withId(FriendEventDlq.createScoreUp("test-score-event-id", 1L, 2L, 0.5), 1L));
 
         // When
         scheduler.processDlq();
 
         // Then
-        verify(stringRedisTemplate).executePipelined(any(org.springframework.data.redis.core.RedisCallback.class));
-        verify(repository, atLeast(1)).saveAll(anyList());
-        assertThat(event.getStatus()).isEqualTo(FriendDlqStatus.PROCESSED);
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        verify(repository).markProcessedByClaimId(anyString());
+        verify(repository, never()).releaseFailedEvents(anyList(), anyInt());
     }
 
     @Test
-    @DisplayName("파이프라인 실패 시 개별 재처리 후 retryCount 증가")
-    void processDlq_shouldIncrementRetryCountOnFailure() {
+    @DisplayName("파이프라인 실패 시 개별 재처리 후 실패 이벤트만 재시도 처리")
+    void processDlq_shouldReleaseFailedEventsOnFailure() {
         // Given
-        FriendEventDlq event = FriendEventDlq.createFriendAdd(1L, 2L);
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(List.of(event))
-                .willReturn(Collections.emptyList());
-        given(stringRedisTemplate.executePipelined(any(org.springframework.data.redis.core.RedisCallback.class)))
+        FriendEventDlq failEvent = withId(FriendEventDlq.createFriendAdd(1L, 2L), 10L);
+        FriendEventDlq okEvent = withId(FriendEventDlq.createFriendRemove(3L, 4L), 11L);
+        givenClaimed(failEvent, okEvent);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
                 .willThrow(new RedisConnectionFailureException("파이프라인 실패"));
 
-        // 개별 처리도 실패하도록 설정
+        // 친구 추가 개별 처리만 실패하도록 설정
         doThrow(new RedisConnectionFailureException("개별 처리 실패"))
                 .when(redisFriendshipRepository).addFriend(anyLong(), anyLong());
 
         // When
         scheduler.processDlq();
 
-        // Then
-        assertThat(event.getRetryCount()).isEqualTo(1);
-        assertThat(event.getStatus()).isEqualTo(FriendDlqStatus.PENDING);
+        // Then - 실패 이벤트는 재시도 처리, 나머지는 claimId 기준 PROCESSED
+        verify(redisFriendshipRepository).deleteFriend(3L, 4L);
+        verify(repository).releaseFailedEvents(List.of(10L), 3);
+        verify(repository).markProcessedByClaimId(anyString());
     }
 
     @Test
-    @DisplayName("최대 재시도 초과 시 FAILED 상태로 변경")
-    void processDlq_shouldMarkAsFailedAfterMaxRetries() {
+    @DisplayName("실패 상태 갱신이 처리 완료 갱신보다 먼저 실행됨")
+    void processDlq_shouldReleaseFailedBeforeMarkingProcessed() {
         // Given
-        FriendEventDlq event = FriendEventDlq.createFriendAdd(1L, 2L);
-        // 이미 2회 재시도한 상태 시뮬레이션
-        event.incrementRetryCount();
-        event.incrementRetryCount();
-
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(List.of(event))
-                .willReturn(Collections.emptyList());
-        given(stringRedisTemplate.executePipelined(any(org.springframework.data.redis.core.RedisCallback.class)))
+        givenClaimed(withId(FriendEventDlq.createFriendAdd(1L, 2L), 10L));
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
                 .willThrow(new RedisConnectionFailureException("파이프라인 실패"));
-
-        // 개별 처리도 실패하도록 설정
         doThrow(new RedisConnectionFailureException("개별 처리 실패"))
                 .when(redisFriendshipRepository).addFriend(anyLong(), anyLong());
 
@@ -204,32 +177,52 @@ class FriendRequestEventDlqSchedulerTest {
         scheduler.processDlq();
 
         // Then
-        assertThat(event.getRetryCount()).isEqualTo(3);
-        assertThat(event.getStatus()).isEqualTo(FriendDlqStatus.FAILED);
+        var inOrder = inOrder(repository);
+        inOrder.verify(repository).releaseFailedEvents(List.of(10L), 3);
+        inOrder.verify(repository).markProcessedByClaimId(anyString());
     }
 
     @Test
-    @DisplayName("여러 이벤트 동시 처리")
+    @DisplayName("여러 이벤트 한 번의 파이프라인으로 처리")
     void processDlq_shouldProcessMultipleEvents() {
         // Given
-        FriendEventDlq addEvent = FriendEventDlq.createFriendAdd(1L, 2L);
-        FriendEventDlq removeEvent = FriendEventDlq.createFriendRemove(3L, 4L);
-        FriendEventDlq scoreEvent = FriendEventDlq.createScoreUp("test-score-event-id-2", 5L, 6L, 0.5);
+        givenClaimed(
+                withId(FriendEventDlq.createFriendAdd(1L, 2L), 1L),
+                withId(FriendEventDlq.createFriendRemove(3L, 4L), 2L),
+                withId(FriendEventDlq.createScoreUp("test-score-event-id-2", 5L, 6L, 0.5), 3L));
+
+        // When
+        scheduler.processDlq();
 
-        given(repository.findPendingEvents(eq(FriendDlqStatus.PENDING), eq(3), anyInt()))
-                .willReturn(List.of(addEvent, removeEvent, scoreEvent))
-                .willReturn(Collections.emptyList());
-        given(stringRedisTemplate.executePipelined(any(org.springframework.data.redis.core.RedisCallback.class)))
-                .willReturn(Collections.emptyList());
+        // Then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(repository, times(1)).markProcessedByClaimId(anyString());
+    }
 
+    @Test
+    @DisplayName("만료된 선점은 재처리 전에 해제됨")
+    void processDlq_shouldReleaseStaleClaimsFirst() {
         // When
         scheduler.processDlq();
 
         // Then
-        verify(stringRedisTemplate).executePipelined(any(org.springframework.data.redis.core.RedisCallback.class));
-        verify(repository, atLeast(1)).saveAll(anyList());
-        assertThat(addEvent.getStatus()).isEqualTo(FriendDlqStatus.PROCESSED);
-        assertThat(removeEvent.getStatus()).isEqualTo(FriendDlqStatus.PROCESSED);
-        assertThat(scoreEvent.getStatus()).isEqualTo(FriendDlqStatus.PROCESSED);
+        var inOrder = inOrder(repository);
+        inOrder.verify(repository).releaseStaleClaims(600L); // 선점 만료 10분, DB 시계 기준 비교
+        inOrder.verify(repository, atLeastOnce()).claimPendingEvents(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    /**
+     * 첫 선점 호출에만 이벤트가 선점되고 이후 호출은 빈 결과를 반환하도록 설정
+     */
+    private void givenClaimed(FriendEventDlq... events) {
+        given(repository.claimPendingEvents(anyString(), anyInt(), anyInt(), anyInt(), anyInt()))
+                .willReturn(events.length)
+                .willReturn(0);
+        given(repository.findByClaimIdOrderByIdAsc(anyString())).willReturn(List.of(events));
+    }
+
+    private FriendEventDlq withId(FriendEventDlq event, Long id) {
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
     }
 }
@@ -1,10 +1,14 @@
 package jaeik.bimillog.unit.domain.friend;
 
+import jaeik.bimillog.domain.friend.entity.jpa.FriendAdjacency;
 import jaeik.bimillog.domain.friend.entity.jpa.Friendship;
 import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipCreatedEvent;
 import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipDeletedEvent;
+import jaeik.bimillog.domain.friend.event.FriendEvent.FriendshipsWithdrawnEvent;
 import jaeik.bimillog.domain.friend.repository.FriendRequestRepository;
 import jaeik.bimillog.domain.friend.adapter.FriendToMemberAdapter;
+import jaeik.bimillog.domain.friend.repository.FriendAdjacencyRepository;
+import jaeik.bimillog.domain.friend.repository.FriendshipQueryRepository;
 import jaeik.bimillog.domain.friend.repository.FriendshipRepository;
 import jaeik.bimillog.domain.friend.service.FriendshipCommandService;
 import jaeik.bimillog.domain.member.entity.Member;
@@ -23,12 +27,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -51,6 +59,8 @@ class FriendshipCommandServiceTest extends BaseUnitTest {
 
     @Mock private FriendToMemberAdapter friendToMemberAdapter;
     @Mock private FriendshipRepository friendshipRepository;
+    @Mock private FriendAdjacencyRepository friendAdjacencyRepository;
+    @Mock private FriendshipQueryRepository friendshipQueryRepository;
     @Mock private FriendRequestRepository friendRequestRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
 
@@ -90,8 +100,7 @@ class FriendshipCommandServiceTest extends BaseUnitTest {
         // Given
         given(friendToMemberAdapter.findById(FRIEND_ID)).willReturn(friend);
         given(friendToMemberAdapter.findById(MEMBER_ID)).willReturn(member);
-        given(friendshipRepository.existsByMemberIdAndFriendId(MEMBER_ID, FRIEND_ID)).willReturn(false);
-        given(friendshipRepository.existsByMemberIdAndFriendId(FRIEND_ID, MEMBER_ID)).willReturn(false);
+        given(friendshipRepository.existsByPairMinIdAndPairMaxId(MEMBER_ID, FRIEND_ID)).willReturn(false);
         given(friendshipRepository.save(any(Friendship.class))).willReturn(friendship);
 
         // When
@@ -125,8 +134,7 @@ class FriendshipCommandServiceTest extends BaseUnitTest {
         // Given
         given(friendToMemberAdapter.findById(FRIEND_ID)).willReturn(friend);
         given(friendToMemberAdapter.findById(MEMBER_ID)).willReturn(member);
-        given(friendshipRepository.existsByMemberIdAndFriendId(MEMBER_ID, FRIEND_ID)).willReturn(false);
-        given(friendshipRepository.existsByMemberIdAndFriendId(FRIEND_ID, MEMBER_ID)).willReturn(false);
+        given(friendshipRepository.existsByPairMinIdAndPairMaxId(MEMBER_ID, FRIEND_ID)).willReturn(false);
         given(friendshipRepository.save(any(Friendship.class))).willReturn(friendship);
 
         // When
@@ -145,16 +153,13 @@ class FriendshipCommandServiceTest extends BaseUnitTest {
     @ParameterizedTest(name = "친구 관계 생성 실패 - 이미 존재 ({0})")
     @MethodSource("provideFriendshipExistsScenarios")
     @DisplayName("이미 친구 관계 존재 예외 - 정방향/역방향 공통")
-    void shouldThrowException_WhenFriendshipAlreadyExists(String direction, boolean memberToFriendExists, boolean friendToMemberExists) {
-        // Given
-        given(friendToMemberAdapter.findById(FRIEND_ID)).willReturn(friend);
-        given(friendshipRepository.existsByMemberIdAndFriendId(MEMBER_ID, FRIEND_ID)).willReturn(memberToFriendExists);
-        if (!memberToFriendExists) {
-            given(friendshipRepository.existsByMemberIdAndFriendId(FRIEND_ID, MEMBER_ID)).willReturn(friendToMemberExists);
-        }
+    void shouldThrowException_WhenFriendshipAlreadyExists(String direction, Long requesterId, Long targetId) {
+        // Given - 방향과 무관하게 (작은 ID, 큰 ID) 쌍 키로 조회
+        given(friendToMemberAdapter.findById(targetId)).willReturn(targetId.equals(FRIEND_ID) ? friend : member);
+        given(friendshipRepository.existsByPairMinIdAndPairMaxId(MEMBER_ID, FRIEND_ID)).willReturn(true);
 
         // When & Then
-        assertThatThrownBy(() -> friendshipCommandService.createFriendship(MEMBER_ID, FRIEND_ID, FRIEND_REQUEST_ID))
+        assertThatThrownBy(() -> friendshipCommandService.createFriendship(requesterId, targetId, FRIEND_REQUEST_ID))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FRIEND_SHIP_ALREADY_EXIST);
 
@@ -163,18 +168,55 @@ class FriendshipCommandServiceTest extends BaseUnitTest {
 
     private static Stream<Arguments> provideFriendshipExistsScenarios() {
         return Stream.of(
-                Arguments.of("member -> friend", true, false),
-                Arguments.of("friend -> member", false, true)
+                Arguments.of("member -> friend", MEMBER_ID, FRIEND_ID),
+                Arguments.of("friend -> member", FRIEND_ID, MEMBER_ID)
         );
     }
 
+    @Test
+    @DisplayName("친구 관계 생성 - 인접 목록 양방향 행 저장")
+    void shouldSaveAdjacencyBothDirections_WhenCreatingFriendship() {
+        // Given
+        given(friendToMemberAdapter.findById(FRIEND_ID)).willReturn(friend);
+        given(friendToMemberAdapter.findById(MEMBER_ID)).willReturn(member);
+        given(friendshipRepository.existsByPairMinIdAndPairMaxId(MEMBER_ID, FRIEND_ID)).willReturn(false);
+
+        // When
+        friendshipCommandService.createFriendship(MEMBER_ID, FRIEND_ID, FRIEND_REQUEST_ID);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FriendAdjacency>> captor = ArgumentCaptor.forClass(List.class);
+        verify(friendAdjacencyRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(FriendAdjacency::getMemberId, FriendAdjacency::getFriendId)
+                .containsExactlyInAnyOrder(tuple(MEMBER_ID, FRIEND_ID), tuple(FRIEND_ID, MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("친구 관계 생성 실패 - 동시 수락으로 쌍 키 유니크 위반")
+    void shouldThrowException_WhenPairKeyViolated() {
+        // Given
+        given(friendToMemberAdapter.findById(FRIEND_ID)).willReturn(friend);
+        given(friendToMemberAdapter.findById(MEMBER_ID)).willReturn(member);
+        given(friendshipRepository.existsByPairMinIdAndPairMaxId(MEMBER_ID, FRIEND_ID)).willReturn(false);
+        given(friendshipRepository.save(any(Friendship.class))).willThrow(new DataIntegrityViolationException("uk_friendship_pair"));
+
+        // When & Then
+        assertThatThrownBy(() -> friendshipCommandService.createFriendship(MEMBER_ID, FRIEND_ID, FRIEND_REQUEST_ID))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FRIEND_SHIP_ALREADY_EXIST);
+
+        verify(friendAdjacencyRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any(FriendshipCreatedEvent.class));
+    }
+
     @Test
     @DisplayName("친구 관계 생성 실패 - 회원이 존재하지 않음")
     void shouldThrowException_WhenMemberNotFound() {
         // Given
         given(friendToMemberAdapter.findById(FRIEND_ID)).willReturn(friend);
-        given(friendshipRepository.existsByMemberIdAndFriendId(MEMBER_ID, FRIEND_ID)).willReturn(false);
-        given(friendshipRepository.existsByMemberIdAndFriendId(FRIEND_ID, MEMBER_ID)).willReturn(false);
+        given(friendshipRepository.existsByPairMinIdAndPairMaxId(MEMBER_ID, FRIEND_ID)).willReturn(false);
         given(friendToMemberAdapter.findById(MEMBER_ID)).willThrow(new CustomException(ErrorCode.MEMBER_USER_NOT_FOUND));
 
         // When & Then
@@ -222,6 +264,19 @@ class FriendshipCommandServiceTest extends BaseUnitTest {
         verify(eventPublisher, never()).publishEvent(any(FriendshipDeletedEvent.class));
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 - 친구 관계 삭제 전에 친구 ID를 담아 이벤트 발행")
+    void shouldPublishFriendIds_WhenMemberWithdrawn() {
+        // Given
+        given(friendshipQueryRepository.getMyFriendIdsSet(MEMBER_ID)).willReturn(Set.of(FRIEND_ID, 3L));
+
+        // When
+        friendshipCommandService.publishFriendshipsWithdrawn(MEMBER_ID);
+
+        // Then
+        verify(eventPublisher).publishEvent(new FriendshipsWithdrawnEvent(MEMBER_ID, Set.of(FRIEND_ID, 3L)));
+    }
+
     private static Stream<Arguments> provideFriendshipDeleteParticipants() {
         return Stream.of(
                 Arguments.of("member", 1L),
@@ -1,6 +1,7 @@
 package jaeik.bimillog.unit.domain.friend;
 
 import jaeik.bimillog.domain.friend.entity.Friend;
+import jaeik.bimillog.domain.friend.repository.FriendListCache;
 import jaeik.bimillog.domain.friend.repository.FriendshipQueryRepository;
 import jaeik.bimillog.domain.friend.service.FriendshipQueryService;
 import jaeik.bimillog.testutil.BaseUnitTest;
@@ -20,10 +21,14 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * <h2>FriendshipQueryService 단위 테스트</h2>
@@ -39,6 +44,7 @@ class FriendshipQueryServiceTest extends BaseUnitTest {
     private static final Long FRIEND_ID_2 = 3L;
 
     @Mock private FriendshipQueryRepository friendshipQueryRepository;
+    @Mock private FriendListCache friendListCache;
 
     @InjectMocks
     private FriendshipQueryService friendshipQueryService;
@@ -119,4 +125,20 @@ class FriendshipQueryServiceTest extends BaseUnitTest {
         assertThat(resultFriend.memberName()).isEqualTo("친구이름");
         assertThat(resultFriend.thumbnailImage()).isEqualTo("http://example.com/profile.jpg");
     }
+
+    @Test
+    @DisplayName("친구 목록 조회 - 캐시 적중 시 DB 조회 안함")
+    void shouldReturnCachedPage_WhenCacheHit() {
+        // Given
+        Friend friend = new Friend(100L, FRIEND_ID_1, "친구이름", "http://example.com/profile.jpg", Instant.now());
+        Page<Friend> cachedPage = new PageImpl<>(List.of(friend), pageable, 1);
+        given(friendListCache.getPage(MEMBER_ID, pageable)).willReturn(Optional.of(cachedPage));
+
+        // When
+        Page<Friend> result = friendshipQueryService.getMyFriendList(MEMBER_ID, pageable);
+
+        // Then
+        assertThat(result).isSameAs(cachedPage);
+        verify(friendshipQueryRepository, never()).getFriendPage(any(), any());
+    }
 }
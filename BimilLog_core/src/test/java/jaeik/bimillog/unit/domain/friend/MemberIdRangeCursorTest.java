@@ -0,0 +1,118 @@
+package jaeik.bimillog.unit.domain.friend;
+
+import jaeik.bimillog.domain.friend.async.MemberIdRangeCursor;
+import jaeik.bimillog.domain.friend.repository.FriendAdminQueryRepository;
+import jaeik.bimillog.testutil.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * <h2>MemberIdRangeCursor 단위 테스트</h2>
+ * <p>청크 경계에서 범위가 겹치거나 빠지지 않는지, 빈 마지막 청크와 희소한 ID에서 올바르게 종료되는지 검증</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("MemberIdRangeCursor 단위 테스트")
+@Tag("unit")
+class MemberIdRangeCursorTest extends BaseUnitTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    @Mock
+    private FriendAdminQueryRepository friendAdminQueryRepository;
+
+    @Test
+    @DisplayName("직전 청크의 마지막 ID 이후부터 다음 청크를 조회하고, 회원 수가 청크 크기의 배수면 빈 청크에서 종료")
+    void shouldContinueAfterLastIdAndStopOnEmptyLastChunk() {
+        // Given - 회원 6명, 청크 크기 3 → 마지막 조회는 빈 청크
+        given(friendAdminQueryRepository.getMemberIdChunk(0L, CHUNK_SIZE)).willReturn(List.of(1L, 2L, 3L));
+        given(friendAdminQueryRepository.getMemberIdChunk(3L, CHUNK_SIZE)).willReturn(List.of(4L, 5L, 6L));
+        given(friendAdminQueryRepository.getMemberIdChunk(6L, CHUNK_SIZE)).willReturn(List.of());
+
+        MemberIdRangeCursor cursor = new MemberIdRangeCursor(friendAdminQueryRepository, CHUNK_SIZE);
+
+        // When
+        List<MemberIdRangeCursor.Range> ranges = drain(cursor);
+
+        // Then
+        assertThat(ranges).containsExactly(
+                new MemberIdRangeCursor.Range(1L, 3L, 3),
+                new MemberIdRangeCursor.Range(4L, 6L, 3));
+        assertThat(cursor.next()).isEmpty();
+        verify(friendAdminQueryRepository).getMemberIdChunk(6L, CHUNK_SIZE);
+        verifyNoMoreInteractions(friendAdminQueryRepository);
+    }
+
+    @Test
+    @DisplayName("희소한 ID - 범위는 실제 존재하는 첫/마지막 ID로 정해지고 개수는 실제 회원 수")
+    void shouldBoundRangesBySparseIds() {
+        // Given - 탈퇴 등으로 ID 사이에 큰 간격이 있음
+        given(friendAdminQueryRepository.getMemberIdChunk(0L, CHUNK_SIZE)).willReturn(List.of(2L, 50L, 51L));
+        given(friendAdminQueryRepository.getMemberIdChunk(51L, CHUNK_SIZE)).willReturn(List.of(900L, 10_000L));
+
+        MemberIdRangeCursor cursor = new MemberIdRangeCursor(friendAdminQueryRepository, CHUNK_SIZE);
+
+        // When
+        List<MemberIdRangeCursor.Range> ranges = drain(cursor);
+
+        // Then - 두 범위는 인접하지만 겹치지 않음
+        assertThat(ranges).containsExactly(
+                new MemberIdRangeCursor.Range(2L, 51L, 3),
+                new MemberIdRangeCursor.Range(900L, 10_000L, 2));
+        assertThat(ranges.get(1).startId()).isGreaterThan(ranges.get(0).endId());
+    }
+
+    @Test
+    @DisplayName("청크 크기보다 작은 청크를 받으면 추가 조회 없이 종료")
+    void shouldStopWithoutExtraQueryAfterPartialChunk() {
+        // Given
+        given(friendAdminQueryRepository.getMemberIdChunk(0L, CHUNK_SIZE)).willReturn(List.of(7L, 8L));
+
+        MemberIdRangeCursor cursor = new MemberIdRangeCursor(friendAdminQueryRepository, CHUNK_SIZE);
+
+        // When
+        List<MemberIdRangeCursor.Range> ranges = drain(cursor);
+
+        // Then
+        assertThat(ranges).containsExactly(new MemberIdRangeCursor.Range(7L, 8L, 2));
+        assertThat(cursor.next()).isEmpty();
+        verify(friendAdminQueryRepository, times(1)).getMemberIdChunk(0L, CHUNK_SIZE);
+        verifyNoMoreInteractions(friendAdminQueryRepository);
+    }
+
+    @Test
+    @DisplayName("회원이 없으면 범위를 발급하지 않음")
+    void shouldReturnEmptyWhenNoMembers() {
+        // Given
+        given(friendAdminQueryRepository.getMemberIdChunk(0L, CHUNK_SIZE)).willReturn(List.of());
+
+        MemberIdRangeCursor cursor = new MemberIdRangeCursor(friendAdminQueryRepository, CHUNK_SIZE);
+
+        // When & Then
+        assertThat(cursor.next()).isEmpty();
+        assertThat(cursor.next()).isEmpty();
+        verify(friendAdminQueryRepository, times(1)).getMemberIdChunk(0L, CHUNK_SIZE);
+    }
+
+    private static List<MemberIdRangeCursor.Range> drain(MemberIdRangeCursor cursor) {
+        List<MemberIdRangeCursor.Range> ranges = new ArrayList<>();
+        Optional<MemberIdRangeCursor.Range> next;
+        while ((next = cursor.next()).isPresent()) {
+            ranges.add(next.get());
+        }
+        return ranges;
+    }
+}
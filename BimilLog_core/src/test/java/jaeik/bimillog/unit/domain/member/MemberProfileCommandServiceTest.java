@@ -2,6 +2,7 @@ package jaeik.bimillog.unit.domain.member;
 
 import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.member.entity.Setting;
+import jaeik.bimillog.domain.member.event.MemberNameChangedEvent;
 import jaeik.bimillog.domain.member.repository.MemberRepository;
 import jaeik.bimillog.domain.member.service.MemberProfileCommandService;
 import jaeik.bimillog.infrastructure.exception.CustomException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -33,6 +35,9 @@ class MemberProfileCommandServiceTest extends BaseUnitTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberProfileCommandService memberProfileCommandService;
 
@@ -76,6 +81,7 @@ class MemberProfileCommandServiceTest extends BaseUnitTest {
 
         verify(memberRepository).findById(memberId);
         assertThat(member.getMemberName()).isEqualTo("newNick");
+        verify(eventPublisher).publishEvent(new MemberNameChangedEvent(memberId, "newNick"));
     }
 
     @Test
@@ -1,8 +1,10 @@
 package jaeik.bimillog.unit.domain.notification;
 
 import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.adapter.NotificationToAuthAdapter;
 import jaeik.bimillog.domain.notification.adapter.NotificationToMemberAdapter;
 import jaeik.bimillog.domain.notification.service.FcmPushService;
+import jaeik.bimillog.infrastructure.api.dto.FcmSendResultDTO;
 import jaeik.bimillog.infrastructure.api.fcm.FcmAdapter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -18,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -34,19 +37,27 @@ class FcmPushServiceTest {
 
     @Mock private FcmAdapter fcmAdapter;
     @Mock private NotificationToMemberAdapter notificationToMemberAdapter;
+    @Mock private NotificationToAuthAdapter notificationToAuthAdapter;
 
     @InjectMocks private FcmPushService fcmPushService;
 
+    private void givenSendResult(int successCount, List<String> deadTokens) throws IOException {
+        when(fcmAdapter.sendEach(anyList(), anyString(), anyString()))
+                .thenReturn(new FcmSendResultDTO(successCount, deadTokens.size(), deadTokens));
+    }
+
     @Test
     @DisplayName("댓글 알림 전송 - 토큰 있음")
     void shouldSendCommentNotificationWhenTokensPresent() throws IOException {
         List<String> tokens = List.of("token-1", "token-2");
         when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.COMMENT)).thenReturn(tokens);
+        givenSendResult(2, List.of());
 
         fcmPushService.sendNotification(NotificationType.COMMENT, 1L, "commenter", null);
 
         verify(notificationToMemberAdapter).fcmEligibleFcmTokens(1L, NotificationType.COMMENT);
-        verify(fcmAdapter, times(2)).sendMessageTo(anyString(), anyString(), anyString());
+        verify(fcmAdapter, times(1)).sendEach(eq(tokens), anyString(), anyString());
+        verifyNoInteractions(notificationToAuthAdapter);
     }
 
     @Test
@@ -57,7 +68,7 @@ class FcmPushServiceTest {
         fcmPushService.sendNotification(NotificationType.COMMENT, 1L, "commenter", null);
 
         verify(notificationToMemberAdapter).fcmEligibleFcmTokens(1L, NotificationType.COMMENT);
-        verify(fcmAdapter, never()).sendMessageTo(anyString(), anyString(), anyString());
+        verify(fcmAdapter, never()).sendEach(anyList(), anyString(), anyString());
     }
 
     @Test
@@ -65,12 +76,37 @@ class FcmPushServiceTest {
     void shouldLogWhenSendFails() throws IOException {
         when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.COMMENT)).thenReturn(List.of("token-1"));
         doThrow(new IOException("fail"))
-                .when(fcmAdapter).sendMessageTo(anyString(), anyString(), anyString());
+                .when(fcmAdapter).sendEach(anyList(), anyString(), anyString());
 
         fcmPushService.sendNotification(NotificationType.COMMENT, 1L, "commenter", null);
 
         verify(notificationToMemberAdapter).fcmEligibleFcmTokens(1L, NotificationType.COMMENT);
-        verify(fcmAdapter).sendMessageTo(anyString(), anyString(), anyString());
+        verify(fcmAdapter).sendEach(anyList(), anyString(), anyString());
+        verifyNoInteractions(notificationToAuthAdapter);
+    }
+
+    @Test
+    @DisplayName("FCM이 거부한 만료 토큰은 한 번에 해제")
+    void shouldClearDeadTokens() throws IOException {
+        List<String> tokens = List.of("token-1", "token-2", "token-3");
+        when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.COMMENT)).thenReturn(tokens);
+        givenSendResult(1, List.of("token-2", "token-3"));
+
+        fcmPushService.sendNotification(NotificationType.COMMENT, 1L, "commenter", null);
+
+        verify(notificationToAuthAdapter, times(1)).clearFcmTokens(List.of("token-2", "token-3"));
+    }
+
+    @Test
+    @DisplayName("만료 토큰 해제 실패 시 예외를 전파하지 않음 (재시도로 인한 중복 발송 방지)")
+    void shouldNotPropagate_WhenClearDeadTokensFails() throws IOException {
+        when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.COMMENT)).thenReturn(List.of("token-1"));
+        givenSendResult(0, List.of("token-1"));
+        when(notificationToAuthAdapter.clearFcmTokens(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        fcmPushService.sendNotification(NotificationType.COMMENT, 1L, "commenter", null);
+
+        verify(notificationToAuthAdapter).clearFcmTokens(List.of("token-1"));
     }
 
     @Test
@@ -78,14 +114,17 @@ class FcmPushServiceTest {
     void shouldBuildMessageWithTitleAndBody() throws IOException {
         when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.POST_FEATURED_WEEKLY)).thenReturn(List.of("token-1"));
 
-        ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
+        givenSendResult(1, List.of());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> tokenCaptor = ArgumentCaptor.forClass(List.class);
         ArgumentCaptor<String> titleCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
 
         fcmPushService.sendNotification(NotificationType.POST_FEATURED_WEEKLY, 1L, null, "게시글 제목");
 
-        verify(fcmAdapter).sendMessageTo(tokenCaptor.capture(), titleCaptor.capture(), bodyCaptor.capture());
-        assertThat(tokenCaptor.getValue()).isEqualTo("token-1");
+        verify(fcmAdapter).sendEach(tokenCaptor.capture(), titleCaptor.capture(), bodyCaptor.capture());
+        assertThat(tokenCaptor.getValue()).containsExactly("token-1");
         assertThat(titleCaptor.getValue()).isEqualTo("축하합니다! 주간 인기글에 선정되었습니다!");
         assertThat(bodyCaptor.getValue()).contains("게시글 제목");
     }
@@ -95,11 +134,12 @@ class FcmPushServiceTest {
     void shouldSendMessageNotification() throws IOException {
         List<String> tokens = List.of("token-1");
         when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.MESSAGE)).thenReturn(tokens);
+        givenSendResult(1, List.of());
 
         fcmPushService.sendNotification(NotificationType.MESSAGE, 1L, "sender", null);
 
         verify(notificationToMemberAdapter).fcmEligibleFcmTokens(1L, NotificationType.MESSAGE);
-        verify(fcmAdapter).sendMessageTo(anyString(), anyString(), anyString());
+        verify(fcmAdapter).sendEach(eq(tokens), anyString(), anyString());
     }
 
     @Test
@@ -107,10 +147,23 @@ class FcmPushServiceTest {
     void shouldSendFriendNotification() throws IOException {
         List<String> tokens = List.of("token-1");
         when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.FRIEND)).thenReturn(tokens);
+        givenSendResult(1, List.of());
 
         fcmPushService.sendNotification(NotificationType.FRIEND, 1L, "friend", null);
 
         verify(notificationToMemberAdapter).fcmEligibleFcmTokens(1L, NotificationType.FRIEND);
-        verify(fcmAdapter).sendMessageTo(anyString(), anyString(), anyString());
+        verify(fcmAdapter).sendEach(eq(tokens), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다이제스트 알림 전송 - 다이제스트 메시지를 제목으로 한 번만 전송")
+    void shouldSendDigestMessageAsTitle() throws IOException {
+        List<String> tokens = List.of("token-1", "token-2");
+        when(notificationToMemberAdapter.fcmEligibleFcmTokens(1L, NotificationType.COMMENT)).thenReturn(tokens);
+        givenSendResult(2, List.of());
+
+        fcmPushService.sendDigestNotification(NotificationType.COMMENT, 1L, "댓글러님 등이 남긴 새 댓글 5개가 있어요!");
+
+        verify(fcmAdapter).sendEach(tokens, "댓글러님 등이 남긴 새 댓글 5개가 있어요!", "지금 확인해보세요!");
     }
 }
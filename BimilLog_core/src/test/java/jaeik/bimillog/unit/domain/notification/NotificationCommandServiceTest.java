@@ -1,23 +1,36 @@
 package jaeik.bimillog.unit.domain.notification;
 
-import jaeik.bimillog.domain.notification.entity.Notification;
+import jaeik.bimillog.domain.notification.dto.NotificationUpdateResultDTO;
+import jaeik.bimillog.domain.notification.entity.NotificationOutbox;
+import jaeik.bimillog.domain.notification.entity.NotificationOutboxStatus;
+import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.outbox.NotificationOutboxRelay;
+import jaeik.bimillog.domain.notification.repository.NotificationOutboxRepository;
 import jaeik.bimillog.domain.notification.repository.NotificationRepository;
 import jaeik.bimillog.domain.notification.service.NotificationCommandService;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -35,9 +48,29 @@ class NotificationCommandServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationOutboxRelay notificationOutboxRelay;
+
+    @Mock
+    private RedisNotificationUnreadCounter redisNotificationUnreadCounter;
+
     @InjectMocks
     private NotificationCommandService notificationCommandService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationCommandService, "baseUrl", "https://bimillog.site");
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
     @Test
     @DisplayName("알림 일괄 업데이트 - null 사용자 처리")
     void shouldDelegateToPort_WhenNullUser() {
@@ -45,32 +78,135 @@ class NotificationCommandServiceTest {
         Long nullUserId = null;
         List<Long> readIds = Arrays.asList(1L, 2L);
         List<Long> deletedIds = List.of(3L);
-        given(notificationRepository.findAllByIdInAndMember_Id(anyList(), any())).willReturn(Collections.emptyList());
 
         // When
-        notificationCommandService.batchUpdate(nullUserId, readIds, deletedIds);
+        NotificationUpdateResultDTO result = notificationCommandService.batchUpdate(nullUserId, readIds, deletedIds);
 
-        // Then
-        verify(notificationRepository).deleteAllByIdInAndMember_Id(anyList(), any());
-        verify(notificationRepository).findAllByIdInAndMember_Id(anyList(), any());
+        // Then: 소유자 조건에 걸려 반영되는 알림 없음
+        verify(notificationRepository).deleteByIdsAndRead(anyList(), isNull(), eq(false));
+        verify(notificationRepository).markAsReadByIds(anyList(), isNull(), any(Instant.class));
+        assertThat(result).isEqualTo(new NotificationUpdateResultDTO(0, 0));
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림 일괄 업데이트 - 엔티티 조회 없이 벌크 문장으로 처리하고 커밋 후 안 읽은 알림만큼 카운터 차감")
+    void shouldBulkUpdateAndDecrementUnreadCountAfterCommit() {
+        // Given
+        Long memberId = 42L;
+        given(notificationRepository.deleteByIdsAndRead(List.of(1L, 2L), memberId, false)).willReturn(1);
+        given(notificationRepository.deleteByIdsAndRead(List.of(1L, 2L), memberId, true)).willReturn(1);
+        given(notificationRepository.markAsReadByIds(eq(List.of(3L, 4L)), eq(memberId), any(Instant.class))).willReturn(1);
+
+        // When
+        NotificationUpdateResultDTO result = notificationCommandService.batchUpdate(memberId, List.of(3L, 4L), List.of(1L, 2L));
+
+        // Then: 커밋 전에는 카운터를 건드리지 않음
+        assertThat(result).isEqualTo(new NotificationUpdateResultDTO(1, 2));
+        verify(notificationRepository, never()).findAll();
+        verifyNoInteractions(redisNotificationUnreadCounter);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisNotificationUnreadCounter).add(Map.of(memberId, -2L));
     }
 
     @Test
-    @DisplayName("알림 일괄 업데이트 - 정상 플로우")
-    void shouldDelegateToPort_WhenUserPresent() {
+    @DisplayName("알림 일괄 업데이트 - 큰 ID 목록은 청크로 나눠 실행하고 개수를 합산")
+    void shouldSplitLargeIdListsIntoChunks() {
         // Given
         Long memberId = 42L;
-        List<Long> readIds = List.of(10L);
-        List<Long> deletedIds = List.of(20L);
-        Notification notification = mock(Notification.class);
-        given(notificationRepository.findAllByIdInAndMember_Id(anyList(), anyLong())).willReturn(List.of(notification));
+        List<Long> readIds = LongStream.rangeClosed(1, 2500).boxed().toList();
+        given(notificationRepository.markAsReadByIds(anyList(), eq(memberId), any(Instant.class)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
 
         // When
-        notificationCommandService.batchUpdate(memberId, readIds, deletedIds);
+        NotificationUpdateResultDTO result = notificationCommandService.batchUpdate(memberId, readIds, List.of());
+
+        // Then
+        ArgumentCaptor<List<Long>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(3)).markAsReadByIds(chunks.capture(), eq(memberId), any(Instant.class));
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+        assertThat(result.readCount()).isEqualTo(2500);
+        verify(notificationRepository, never()).deleteByIdsAndRead(anyList(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("알림 일괄 업데이트 - 반영된 안 읽은 알림이 없으면 카운터를 건드리지 않음")
+    void shouldNotTouchUnreadCount_WhenNothingUnreadChanged() {
+        // Given
+        given(notificationRepository.deleteByIdsAndRead(List.of(1L), 42L, true)).willReturn(1);
+
+        // When
+        NotificationUpdateResultDTO result = notificationCommandService.batchUpdate(42L, List.of(), List.of(1L));
+
+        // Then
+        assertThat(result).isEqualTo(new NotificationUpdateResultDTO(0, 1));
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 알림 삭제 - 커밋 후 카운터 삭제")
+    void shouldDeleteUnreadCounterAfterCommit_WhenAllNotificationsDeleted() {
+        // When
+        notificationCommandService.deleteAllNotification(7L);
+
+        // Then
+        verify(notificationRepository).deleteAllByMemberId(7L);
+        verify(redisNotificationUnreadCounter, never()).delete(anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisNotificationUnreadCounter).delete(7L);
+    }
+
+    @Test
+    @DisplayName("댓글 알림 - 아웃박스에 기록하고 커밋 후에만 릴레이를 깨움")
+    void shouldEnqueueOutboxAndWakeRelayAfterCommit() {
+        // When
+        notificationCommandService.saveCommentNotification(1L, "작성자", 100L);
+
+        // Then: 회원 조회 없이 아웃박스 행만 기록
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(captor.capture());
+        NotificationOutbox outbox = captor.getValue();
+        assertThat(outbox.getMemberId()).isEqualTo(1L);
+        assertThat(outbox.getNotificationType()).isEqualTo(NotificationType.COMMENT);
+        assertThat(outbox.getContent()).isEqualTo("작성자님이 댓글을 남겼습니다!");
+        assertThat(outbox.getUrl()).isEqualTo("https://bimillog.site/board/post/100");
+        assertThat(outbox.getRelatedMemberName()).isEqualTo("작성자");
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        assertThat(outbox.getDigestKey()).isEqualTo("COMMENT:1:100");
+        assertThat(outbox.getDigestCount()).isEqualTo(1);
+        verifyNoInteractions(notificationRepository);
+
+        // 커밋 전에는 깨우지 않음
+        verify(notificationOutboxRelay, never()).wakeUp();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(notificationOutboxRelay).wakeUp();
+    }
+
+    @Test
+    @DisplayName("롤링페이퍼 알림 - 여러 메시지는 N개 알림 하나로 기록")
+    void shouldEnqueueMergedMessageNotification() {
+        // When
+        notificationCommandService.saveMessageNotification(1L, "주인", 3);
+
+        // Then
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getContent()).isEqualTo("롤링페이퍼에 메시지 3개가 작성되었어요!");
+        assertThat(captor.getValue().getUrl()).isEqualTo("https://bimillog.site/rolling-paper/주인");
+        assertThat(captor.getValue().getDigestKey()).isEqualTo("MESSAGE:1");
+        assertThat(captor.getValue().getDigestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션은 릴레이를 깨우지 않음")
+    void shouldNotWakeRelay_WhenRolledBack() {
+        // When
+        notificationCommandService.saveFriendNotification(2L, "친구 요청이 도착했습니다!", "요청자");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
 
         // Then
-        verify(notificationRepository).deleteAllByIdInAndMember_Id(anyList(), anyLong());
-        verify(notificationRepository).findAllByIdInAndMember_Id(anyList(), anyLong());
-        verify(notification).markAsRead();
+        verify(notificationOutboxRepository).save(any(NotificationOutbox.class));
+        verify(notificationOutboxRelay, never()).wakeUp();
     }
 }
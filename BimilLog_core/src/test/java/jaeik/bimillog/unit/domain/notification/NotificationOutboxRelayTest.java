@@ -0,0 +1,297 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.entity.NotificationOutbox;
+import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.outbox.NotificationOutboxRelay;
+import jaeik.bimillog.domain.notification.repository.NotificationOutboxRepository;
+import jaeik.bimillog.domain.notification.service.FcmPushService;
+import jaeik.bimillog.domain.notification.service.SseService;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>NotificationOutboxRelay 단위 테스트</h2>
+ * <p>배치 선점 → 저장과 SAVED 전이(한 트랜잭션) → SSE/FCM 전송 → 삭제 흐름과,
+ * 만료된 선점 복구 및 전송 미완료 알림의 재전송을 검증합니다.</p>
+ * <p>FCM 실행기는 호출 스레드에서 바로 실행합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("NotificationOutboxRelay 단위 테스트")
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long DIGEST_WINDOW_SECONDS = 30;
+
+    @Mock
+    private NotificationOutboxRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SseService sseService;
+
+    @Mock
+    private FcmPushService fcmPushService;
+
+    @Mock
+    private RedisNotificationUnreadCounter unreadCounter;
+
+    private final List<Runnable> relayTasks = new ArrayList<>();
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new NotificationOutboxRelay(repository, new TransactionTemplate(transactionManager),
+                sseService, fcmPushService, unreadCounter, relayTasks::add, Runnable::run, DIGEST_WINDOW_SECONDS);
+    }
+
+    private static NotificationOutbox outbox(Long id, Long memberId, NotificationType type, String relatedMemberName, String postTitle) {
+        NotificationOutbox outbox = NotificationOutbox.create(memberId, type, "메시지" + id, "/url/" + id, relatedMemberName, postTitle);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    private static NotificationOutbox digest(Long id, Long memberId, NotificationType type, String relatedMemberName,
+                                             Long targetId, int count) {
+        NotificationOutbox outbox = NotificationOutbox.createDigest(memberId, type, "메시지" + id, "/url/" + targetId,
+                relatedMemberName, targetId, count);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    @Test
+    @DisplayName("선점한 배치를 한 트랜잭션으로 저장한 뒤 SSE/FCM 전송 후 삭제")
+    void shouldSaveDispatchAndDelete() {
+        // Given
+        NotificationOutbox comment = outbox(1L, 10L, NotificationType.COMMENT, "댓글러", null);
+        NotificationOutbox featured = outbox(2L, 20L, NotificationType.POST_FEATURED_WEEKLY, null, "제목");
+        given(repository.claimPending(anyString(), eq(BATCH_SIZE))).willReturn(2);
+        given(repository.findByClaimIdOrderByIdAsc(anyString())).willReturn(List.of(comment, featured));
+
+        // When
+        relay.relayPending();
+
+        // Then
+        ArgumentCaptor<String> claimId = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(repository, transactionManager, sseService, fcmPushService);
+        inOrder.verify(repository).claimPending(claimId.capture(), eq(BATCH_SIZE));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(repository).insertNotificationsByClaimId(claimId.getValue());
+        inOrder.verify(repository).markSavedByClaimId(claimId.getValue());
+        inOrder.verify(transactionManager).commit(any());
+        verify(unreadCounter).add(Map.of(10L, 1L, 20L, 1L));
+        inOrder.verify(sseService).sendNotification(10L, NotificationType.COMMENT, "메시지1", "/url/1");
+        inOrder.verify(fcmPushService).sendNotification(NotificationType.COMMENT, 10L, "댓글러", null);
+        inOrder.verify(sseService).sendNotification(20L, NotificationType.POST_FEATURED_WEEKLY, "메시지2", "/url/2");
+        inOrder.verify(fcmPushService).sendNotification(NotificationType.POST_FEATURED_WEEKLY, 20L, null, "제목");
+        inOrder.verify(repository).deleteSentByClaimId(claimId.getValue());
+
+        // 배치보다 적게 선점되면 더 선점하지 않음
+        verify(repository, times(1)).claimPending(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다이제스트 - 같은 묶음은 함께 선점해 최근 행 하나로 합쳐 한 번만 전송하고, 묶음의 다이제스트 창을 엶")
+    void shouldMergeDigestGroupsIntoSingleNotification() {
+        // Given: 같은 게시글 댓글 3건(묶음), 롤링페이퍼 메시지 1건(2개 메시지, 단독), 인기글 1건(다이제스트 아님)
+        NotificationOutbox comment1 = digest(1L, 10L, NotificationType.COMMENT, "댓글러1", 100L, 1);
+        NotificationOutbox comment2 = digest(2L, 10L, NotificationType.COMMENT, "댓글러2", 100L, 1);
+        NotificationOutbox message = digest(3L, 20L, NotificationType.MESSAGE, null, null, 2);
+        NotificationOutbox comment3 = digest(4L, 10L, NotificationType.COMMENT, "댓글러3", 100L, 1);
+        NotificationOutbox featured = outbox(5L, 30L, NotificationType.POST_FEATURED_WEEKLY, null, "제목");
+        given(repository.claimPending(anyString(), eq(BATCH_SIZE))).willReturn(3);
+        given(repository.findByClaimIdOrderByIdAsc(anyString()))
+                .willReturn(List.of(comment1, comment2, message, comment3, featured));
+
+        // When
+        relay.relayPending();
+
+        // Then
+        ArgumentCaptor<String> claimId = ArgumentCaptor.forClass(String.class);
+        verify(repository).claimPending(claimId.capture(), eq(BATCH_SIZE));
+        verify(repository).claimDigestGroups(claimId.getValue());
+
+        // 저장과 같은 트랜잭션에서 선점한 묶음의 다이제스트 창(30초)을 열고,
+        // 묶음의 앞선 행은 삭제되고 최근 행이 대표가 됨 (저장 전에 병합)
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).openDigestWindows(claimId.getValue(), DIGEST_WINDOW_SECONDS);
+        inOrder.verify(repository).deleteAllInBatch(List.of(comment1, comment2));
+        inOrder.verify(repository).insertNotificationsByClaimId(claimId.getValue());
+        assertThat(comment3.getDigestCount()).isEqualTo(3);
+        assertThat(comment3.getContent()).isEqualTo("댓글러3님 등이 남긴 새 댓글 3개가 있어요!");
+
+        // 단독 행은 그대로, 대표 행만 전송
+        verify(sseService).sendNotification(10L, NotificationType.COMMENT, comment3.getContent(), "/url/100");
+        verify(sseService).sendNotification(20L, NotificationType.MESSAGE, "메시지3", "/url/null");
+        verify(sseService).sendNotification(30L, NotificationType.POST_FEATURED_WEEKLY, "메시지5", "/url/5");
+        verify(sseService, times(3)).sendNotification(anyLong(), any(), anyString(), anyString());
+        verify(fcmPushService).sendDigestNotification(NotificationType.COMMENT, 10L, comment3.getContent());
+        verify(fcmPushService).sendDigestNotification(NotificationType.MESSAGE, 20L, "메시지3");
+        verify(fcmPushService).sendNotification(NotificationType.POST_FEATURED_WEEKLY, 30L, null, "제목");
+        verify(unreadCounter).add(Map.of(10L, 1L, 20L, 1L, 30L, 1L));
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 선점할 알림이 없을 때까지 반복")
+    void shouldRepeatWhileBatchIsFull() {
+        // Given
+        given(repository.claimPending(anyString(), eq(BATCH_SIZE))).willReturn(BATCH_SIZE, 0);
+        given(repository.findByClaimIdOrderByIdAsc(anyString())).willReturn(List.of());
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(repository, times(2)).claimPending(anyString(), eq(BATCH_SIZE));
+        verify(repository, times(1)).insertNotificationsByClaimId(anyString());
+        verify(repository, times(1)).deleteSentByClaimId(anyString());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 전송과 삭제 없이 중단 - 선점은 만료 후 PENDING 복귀")
+    void shouldStopWithoutDispatch_WhenSaveFails() {
+        // Given
+        given(repository.claimPending(anyString(), eq(BATCH_SIZE))).willReturn(1);
+        given(repository.findByClaimIdOrderByIdAsc(anyString()))
+                .willReturn(List.of(outbox(1L, 10L, NotificationType.MESSAGE, null, null)));
+        willThrow(new RuntimeException("DB 오류")).given(repository).insertNotificationsByClaimId(anyString());
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(repository, never()).markSavedByClaimId(anyString());
+        verifyNoInteractions(sseService, fcmPushService, unreadCounter);
+        verify(repository, never()).deleteSentByClaimId(anyString());
+    }
+
+    @Test
+    @DisplayName("개별 전송 실패는 배치 삭제를 막지 않음")
+    void shouldDeleteBatch_WhenSingleDispatchFails() {
+        // Given
+        given(repository.claimPending(anyString(), eq(BATCH_SIZE))).willReturn(2);
+        given(repository.findByClaimIdOrderByIdAsc(anyString())).willReturn(List.of(
+                outbox(1L, 10L, NotificationType.FRIEND, "친구", null),
+                outbox(2L, 20L, NotificationType.FRIEND, "친구", null)));
+        lenient().doThrow(new RuntimeException("Redis 오류")).when(sseService)
+                .sendNotification(eq(10L), any(), anyString(), anyString());
+        lenient().doThrow(new RuntimeException("FCM 오류")).when(fcmPushService)
+                .sendNotification(any(), eq(20L), anyString(), any());
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(fcmPushService).sendNotification(NotificationType.FRIEND, 10L, "친구", null);
+        verify(sseService).sendNotification(20L, NotificationType.FRIEND, "메시지2", "/url/2");
+        verify(repository).deleteSentByClaimId(anyString());
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수는 회원별로 합쳐 한 번에 증가 - Redis 실패는 전송을 막지 않음")
+    void shouldIncrementUnreadCountsPerMember() {
+        // Given
+        given(repository.claimPending(anyString(), eq(BATCH_SIZE))).willReturn(3);
+        given(repository.findByClaimIdOrderByIdAsc(anyString())).willReturn(List.of(
+                outbox(1L, 10L, NotificationType.COMMENT, "댓글러", null),
+                outbox(2L, 10L, NotificationType.COMMENT, "댓글러2", null),
+                outbox(3L, 30L, NotificationType.MESSAGE, null, null)));
+        willThrow(new RuntimeException("Redis 오류")).given(unreadCounter).add(any());
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(unreadCounter).add(Map.of(10L, 2L, 30L, 1L));
+        verify(sseService, times(3)).sendNotification(anyLong(), any(), anyString(), anyString());
+        verify(repository).deleteSentByClaimId(anyString());
+    }
+
+    @Test
+    @DisplayName("주기 실행 - 만료 선점 복구 후 전송 미완료 알림은 저장 없이 재전송")
+    void shouldRedeliverStaleSavedWithoutSavingAgain() {
+        // Given
+        NotificationOutbox saved = outbox(1L, 10L, NotificationType.COMMENT, "댓글러", null);
+        given(repository.reclaimStaleSaved(anyString(), eq(300L), eq(BATCH_SIZE))).willReturn(1);
+        given(repository.findByClaimIdOrderByIdAsc(anyString())).willReturn(List.of(saved));
+
+        // When
+        relay.poll();
+
+        // Then
+        verify(repository).releaseStaleClaims(300L); // 선점 만료 5분, DB 시계 기준 비교
+        verify(repository).deleteClosedDigestWindows();
+        verify(sseService).sendNotification(10L, NotificationType.COMMENT, "메시지1", "/url/1");
+        verify(fcmPushService).sendNotification(NotificationType.COMMENT, 10L, "댓글러", null);
+        verify(repository).deleteSentByClaimId(anyString());
+        verify(repository, never()).insertNotificationsByClaimId(anyString());
+        verify(unreadCounter, never()).add(any());
+
+        // 이어서 PENDING 알림 선점 시도
+        verify(repository).claimPending(anyString(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("깨우기 - 시작 전 깨우기가 있으면 합쳐서 한 번만 실행")
+    void shouldCoalesceWakeUps() {
+        // When
+        relay.wakeUp();
+        relay.wakeUp();
+        relay.wakeUp();
+
+        // Then
+        assertThat(relayTasks).hasSize(1);
+        relayTasks.removeFirst().run();
+        verify(repository, times(1)).claimPending(anyString(), eq(BATCH_SIZE));
+
+        // 실행이 시작된 뒤의 깨우기는 다시 예약
+        relay.wakeUp();
+        assertThat(relayTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("깨우기 - 실행기가 거절해도 다음 깨우기는 다시 예약")
+    void shouldResetWakeUp_WhenRejected() {
+        // Given
+        Executor rejecting = mock(Executor.class);
+        willThrow(new TaskRejectedException("queue full")).willDoNothing().given(rejecting).execute(any());
+        NotificationOutboxRelay rejectingRelay = new NotificationOutboxRelay(repository,
+                new TransactionTemplate(transactionManager), sseService, fcmPushService, unreadCounter, rejecting, Runnable::run, DIGEST_WINDOW_SECONDS);
+
+        // When
+        rejectingRelay.wakeUp();
+        rejectingRelay.wakeUp();
+
+        // Then
+        verify(rejecting, times(2)).execute(any());
+    }
+}
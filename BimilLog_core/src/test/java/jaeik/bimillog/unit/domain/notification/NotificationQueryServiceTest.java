@@ -1,28 +1,39 @@
 package jaeik.bimillog.unit.domain.notification;
 
+import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.domain.global.entity.CustomUserDetails;
 import jaeik.bimillog.domain.notification.dto.NotificationDTO;
+import jaeik.bimillog.domain.notification.entity.Notification;
+import jaeik.bimillog.domain.notification.entity.NotificationType;
 import jaeik.bimillog.domain.notification.repository.NotificationRepository;
 import jaeik.bimillog.domain.notification.service.NotificationQueryService;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
 import jaeik.bimillog.testutil.BaseUnitTest;
 import jaeik.bimillog.testutil.AuthTestFixtures;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * <h2>NotificationQueryService 테스트</h2>
- * <p>알림 조회 서비스의 핵심 null 안전성을 검증하는 단위 테스트</p>
+ * <p>알림 조회 서비스의 null 안전성, 커서 페이지 경계, 안 읽은 알림 수 캐시 채우기를 검증하는 단위 테스트</p>
  * <p>CLAUDE.md 가이드라인: 단순 위임이 아닌 null 처리 로직만 테스트</p>
  *
  * @author Jaeik
@@ -34,9 +45,22 @@ class NotificationQueryServiceTest extends BaseUnitTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private RedisNotificationUnreadCounter redisNotificationUnreadCounter;
+
     @InjectMocks
     private NotificationQueryService notificationQueryService;
 
+    private Notification notification(long id) {
+        Notification notification = Notification.create(getTestMember(), NotificationType.COMMENT, "알림" + id, "/url/" + id);
+        ReflectionTestUtils.setField(notification, "id", id);
+        return notification;
+    }
+
+    private List<Notification> notifications(long fromId, long toId) {
+        return LongStream.iterate(fromId, id -> id >= toId, id -> id - 1).mapToObj(this::notification).toList();
+    }
+
     @Test
     @DisplayName("알림 목록 조회 - null 사용자 예외 발생")
     void shouldThrowException_WhenNullUser() {
@@ -55,7 +79,7 @@ class NotificationQueryServiceTest extends BaseUnitTest {
     void shouldReturnEmptyList_WhenRepositoryReturnsEmptyList() {
         // Given
         CustomUserDetails userDetails = AuthTestFixtures.createCustomUserDetails(getTestMember());
-        given(notificationRepository.getNotificationList(userDetails.getMemberId()))
+        given(notificationRepository.findLatest(userDetails.getMemberId(), NotificationQueryService.LIST_SIZE))
                 .willReturn(List.of());
 
         // When
@@ -64,6 +88,86 @@ class NotificationQueryServiceTest extends BaseUnitTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(notificationRepository).getNotificationList(userDetails.getMemberId());
+        verify(notificationRepository).findLatest(userDetails.getMemberId(), NotificationQueryService.LIST_SIZE);
+    }
+
+    @Test
+    @DisplayName("알림함 조회 - size+1건이 조회되면 size건만 반환하고 마지막 ID를 커서로 반환")
+    void shouldReturnNextCursor_WhenMoreNotificationsExist() {
+        // Given
+        given(notificationRepository.findBefore(1L, 100L, 3)).willReturn(notifications(99, 97));
+
+        // When
+        CursorPageResponse<NotificationDTO> result = notificationQueryService.getInbox(1L, 100L, 2);
+
+        // Then
+        assertThat(result.content()).extracting(NotificationDTO::getId).containsExactly(99L, 98L);
+        assertThat(result.nextCursor()).isEqualTo(98L);
+    }
+
+    @Test
+    @DisplayName("알림함 조회 - 마지막 페이지는 커서 null, 페이지 크기는 상한으로 제한")
+    void shouldReturnNullCursor_OnLastPage() {
+        // Given
+        given(notificationRepository.findLatest(1L, 51)).willReturn(notifications(3, 1));
+
+        // When
+        CursorPageResponse<NotificationDTO> result = notificationQueryService.getInbox(1L, null, 1000);
+
+        // Then
+        assertThat(result.content()).hasSize(3);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 - 캐시 적중 시 DB 조회 없음")
+    void shouldReturnCachedUnreadCount() {
+        // Given
+        given(redisNotificationUnreadCounter.get(1L)).willReturn(5L);
+
+        // When & Then
+        assertThat(notificationQueryService.getUnreadCount(1L)).isEqualTo(5L);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 - 캐시 미스 시 DB COUNT로 채움")
+    void shouldInitUnreadCount_WhenCacheMiss() {
+        // Given
+        given(redisNotificationUnreadCounter.get(1L)).willReturn(null);
+        given(redisNotificationUnreadCounter.beginSeed(1L)).willReturn(true);
+        given(notificationRepository.countByMember_IdAndIsReadFalse(1L)).willReturn(7L);
+
+        // When & Then
+        assertThat(notificationQueryService.getUnreadCount(1L)).isEqualTo(7L);
+        InOrder inOrder = inOrder(redisNotificationUnreadCounter, notificationRepository);
+        inOrder.verify(redisNotificationUnreadCounter).beginSeed(1L);
+        inOrder.verify(notificationRepository).countByMember_IdAndIsReadFalse(1L);
+        inOrder.verify(redisNotificationUnreadCounter).completeSeed(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 - 다른 요청이 채우는 중이면 DB COUNT만 반환")
+    void shouldNotSeed_WhenAnotherSeedInProgress() {
+        // Given
+        given(redisNotificationUnreadCounter.get(1L)).willReturn(null);
+        given(redisNotificationUnreadCounter.beginSeed(1L)).willReturn(false);
+        given(notificationRepository.countByMember_IdAndIsReadFalse(1L)).willReturn(7L);
+
+        // When & Then
+        assertThat(notificationQueryService.getUnreadCount(1L)).isEqualTo(7L);
+        verify(redisNotificationUnreadCounter, never()).completeSeed(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 - Redis 장애 시 DB COUNT 반환")
+    void shouldFallbackToDatabase_WhenRedisFails() {
+        // Given
+        given(redisNotificationUnreadCounter.get(1L)).willThrow(new RedisConnectionFailureException("down"));
+        given(notificationRepository.countByMember_IdAndIsReadFalse(1L)).willReturn(3L);
+
+        // When & Then
+        assertThat(notificationQueryService.getUnreadCount(1L)).isEqualTo(3L);
+        verify(redisNotificationUnreadCounter, never()).completeSeed(anyLong(), anyLong());
     }
 }
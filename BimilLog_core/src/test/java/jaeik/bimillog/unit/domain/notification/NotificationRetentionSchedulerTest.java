@@ -0,0 +1,119 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.dto.ExpiredNotificationDTO;
+import jaeik.bimillog.domain.notification.repository.NotificationRepository;
+import jaeik.bimillog.domain.notification.scheduler.NotificationRetentionScheduler;
+import jaeik.bimillog.infrastructure.redis.notification.RedisNotificationUnreadCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>NotificationRetentionScheduler 단위 테스트</h2>
+ * <p>보관 기간이 지난 알림을 청크 단위로 삭제하고, 실제로 삭제된 안 읽은 알림 수만큼 회원별로 차감하는지 검증합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Tag("unit")
+@DisplayName("NotificationRetentionScheduler 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionSchedulerTest {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private RedisNotificationUnreadCounter redisNotificationUnreadCounter;
+
+    @InjectMocks
+    private NotificationRetentionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "retentionDays", 90);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차면 다음 청크를 이어서 삭제하고, 안 읽은 알림만 회원별로 차감")
+    void shouldDeleteExpiredInChunksAndDecrementUnread() {
+        // Given
+        List<ExpiredNotificationDTO> fullChunk = LongStream.rangeClosed(1, CHUNK_SIZE)
+                .mapToObj(id -> new ExpiredNotificationDTO(id, id % 2 == 0 ? 10L : 20L, id > 3))
+                .toList();
+        List<ExpiredNotificationDTO> lastChunk = List.of(new ExpiredNotificationDTO(1001L, 10L, false));
+        given(notificationRepository.findExpired(any(Instant.class), eq(CHUNK_SIZE))).willReturn(fullChunk, lastChunk);
+        given(notificationRepository.deleteByIdsAndRead(List.of(1L, 3L), 20L, false)).willReturn(2);
+        given(notificationRepository.deleteByIdsAndRead(List.of(2L), 10L, false)).willReturn(1);
+        given(notificationRepository.deleteByIdsAndRead(List.of(1001L), 10L, false)).willReturn(1);
+
+        // When
+        scheduler.deleteExpiredNotifications();
+
+        // Then
+        ArgumentCaptor<Instant> createdBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(notificationRepository, times(2)).findExpired(createdBefore.capture(), eq(CHUNK_SIZE));
+        assertThat(createdBefore.getValue()).isBefore(Instant.now().minus(Duration.ofDays(89)));
+        // 읽은 알림(4~1000번)이 있는 첫 청크만 ID 일괄 삭제
+        verify(notificationRepository).deleteAllByIdInBatch(LongStream.rangeClosed(4, CHUNK_SIZE).boxed().toList());
+        // 1~3번 중 안 읽은 알림: 1, 3 → 회원 20, 2 → 회원 10
+        verify(redisNotificationUnreadCounter).add(Map.of(20L, -2L, 10L, -1L));
+        verify(redisNotificationUnreadCounter).add(Map.of(10L, -1L));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 삭제한 안 읽은 알림은 차감하지 않음")
+    void shouldNotDecrement_WhenAnotherInstanceDeletedFirst() {
+        // Given
+        List<ExpiredNotificationDTO> chunk = List.of(
+                new ExpiredNotificationDTO(1L, 10L, false),
+                new ExpiredNotificationDTO(2L, 10L, false),
+                new ExpiredNotificationDTO(3L, 20L, false));
+        given(notificationRepository.findExpired(any(Instant.class), eq(CHUNK_SIZE))).willReturn(chunk);
+        given(notificationRepository.deleteByIdsAndRead(List.of(1L, 2L), 10L, false)).willReturn(1);
+        given(notificationRepository.deleteByIdsAndRead(List.of(3L), 20L, false)).willReturn(0);
+
+        // When
+        scheduler.deleteExpiredNotifications();
+
+        // Then
+        verify(notificationRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(redisNotificationUnreadCounter).add(Map.of(10L, -1L));
+    }
+
+    @Test
+    @DisplayName("만료 알림이 없으면 삭제하지 않음")
+    void shouldDoNothing_WhenNoExpiredNotifications() {
+        // Given
+        given(notificationRepository.findExpired(any(Instant.class), eq(CHUNK_SIZE))).willReturn(List.of());
+
+        // When
+        scheduler.deleteExpiredNotifications();
+
+        // Then
+        verify(notificationRepository, never()).deleteAllByIdInBatch(anyList());
+        verifyNoInteractions(redisNotificationUnreadCounter);
+    }
+}
@@ -0,0 +1,66 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.comment.event.CommentCreatedEvent;
+import jaeik.bimillog.domain.friend.event.FriendEvent.FriendRequestEvent;
+import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.listener.NotificationSaveListener;
+import jaeik.bimillog.domain.notification.service.NotificationCommandService;
+import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
+import jaeik.bimillog.domain.post.event.PostEvent.PostFeaturedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>NotificationSaveListener 단위 테스트</h2>
+ * <p>도메인 이벤트를 알림 아웃박스 기록으로 위임하는지 검증합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationSaveListener 단위 테스트")
+@Tag("unit")
+class NotificationSaveListenerTest {
+
+    @Mock
+    private NotificationCommandService notificationCommandService;
+
+    @InjectMocks
+    private NotificationSaveListener listener;
+
+    @Test
+    @DisplayName("댓글 알림 - 게시글 작성자에게 기록")
+    void shouldSaveCommentNotification() {
+        listener.handleCommentCreatedEvent(CommentCreatedEvent.of(1L, "작성자", 2L, 100L));
+
+        verify(notificationCommandService).saveCommentNotification(1L, "작성자", 100L);
+    }
+
+    @Test
+    @DisplayName("댓글 알림 - 익명 게시글과 자기 글 댓글은 기록하지 않음")
+    void shouldSkipComment_WhenAnonymousPostOrOwnPost() {
+        listener.handleCommentCreatedEvent(CommentCreatedEvent.of(null, "작성자", 2L, 100L));
+        listener.handleCommentCreatedEvent(CommentCreatedEvent.of(2L, "작성자", 2L, 100L));
+
+        verifyNoInteractions(notificationCommandService);
+    }
+
+    @Test
+    @DisplayName("롤링페이퍼, 인기글, 친구 요청 알림 기록")
+    void shouldSaveOtherNotifications() {
+        listener.handleRollingPaperEvent(new RollingPaperEvent(1L, "주인", 2));
+        listener.handlePostFeaturedEvent(new PostFeaturedEvent(1L, "주간 인기글!", 100L, NotificationType.POST_FEATURED_WEEKLY, "제목"));
+        listener.handleFriendEvent(new FriendRequestEvent(1L, "친구 요청이 도착했습니다!", "요청자"));
+
+        verify(notificationCommandService).saveMessageNotification(1L, "주인", 2);
+        verify(notificationCommandService).savePopularNotification(1L, "주간 인기글!", 100L, NotificationType.POST_FEATURED_WEEKLY, "제목");
+        verify(notificationCommandService).saveFriendNotification(1L, "친구 요청이 도착했습니다!", "요청자");
+    }
+}
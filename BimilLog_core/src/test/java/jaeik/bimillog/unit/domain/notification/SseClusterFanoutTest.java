@@ -0,0 +1,119 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.cluster.InMemorySseClusterBroker;
+import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.entity.SseMessage;
+import jaeik.bimillog.domain.notification.repository.SseRepository;
+import jaeik.bimillog.domain.notification.service.SseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>SSE 클러스터 전달 단위 테스트</h2>
+ * <p>InMemorySseClusterBroker 하나를 공유하는 SseService 세 개를 노드로 보고,
+ * 다른 노드에 연결된 사용자에게 알림이 해당 노드로만 전달되고, 연결 정리가 다른 노드에도 적용되는지 검증합니다.</p>
+ */
+@Tag("unit")
+@DisplayName("SSE 클러스터 전달 테스트")
+@ExtendWith(MockitoExtension.class)
+class SseClusterFanoutTest {
+
+    @Mock
+    private SseRepository repositoryA;
+
+    @Mock
+    private SseRepository repositoryB;
+
+    @Mock
+    private SseRepository repositoryC;
+
+    private SseService nodeA;
+    private SseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InMemorySseClusterBroker broker = new InMemorySseClusterBroker();
+        nodeA = new SseService(repositoryA, broker);
+        nodeB = new SseService(repositoryB, broker);
+        SseService nodeC = new SseService(repositoryC, broker);
+        nodeA.subscribeNodeChannel();
+        nodeB.subscribeNodeChannel();
+        nodeC.subscribeNodeChannel();
+    }
+
+    @Test
+    @DisplayName("노드 A에 연결된 사용자의 알림이 노드 B에서 발생하면 노드 A로만 전달")
+    void shouldDeliverToNodeHoldingConnection() {
+        // Given
+        given(repositoryA.subscribe(1L, 100L)).willReturn(new SseEmitter(0L));
+        nodeA.subscribe(1L, 100L);
+
+        // When
+        nodeB.sendNotification(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // Then
+        verify(repositoryA).send(argThat((SseMessage message) -> message.memberId().equals(1L)));
+        verify(repositoryB).send(any(SseMessage.class)); // 로컬 전송 시도 (연결 없음)
+        verifyNoInteractions(repositoryC);
+    }
+
+    @Test
+    @DisplayName("노드 A에서 연결이 모두 정리되면 더 이상 노드 A로 전달하지 않음")
+    void shouldStopDelivering_WhenConnectionsRemoved() {
+        // Given
+        given(repositoryA.subscribe(1L, 100L)).willReturn(new SseEmitter(0L));
+        nodeA.subscribe(1L, 100L);
+        nodeA.deleteEmitters(1L, null);
+
+        // When
+        nodeB.sendNotification(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // Then
+        verify(repositoryA, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("노드 B에서 탈퇴 처리하면 노드 A의 연결도 정리하고 더 이상 전달하지 않음")
+    void shouldDeleteRemoteEmitters_WhenDeletedOnAnotherNode() {
+        // Given
+        given(repositoryA.subscribe(1L, 100L)).willReturn(new SseEmitter(0L));
+        nodeA.subscribe(1L, 100L);
+
+        // When
+        nodeB.deleteEmitters(1L, null);
+        nodeB.sendNotification(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // Then
+        verify(repositoryA).deleteEmitters(1L, null);
+        verify(repositoryA, never()).send(any());
+        verify(repositoryC, never()).deleteEmitters(any(), any());
+    }
+
+    @Test
+    @DisplayName("노드 B에서 기기 로그아웃하면 노드 A에 해당 토큰 연결 정리를 전달하고, 남은 연결이 있으면 전달 유지")
+    void shouldDeleteRemoteTokenEmitter_WhenLoggedOutOnAnotherNode() {
+        // Given
+        given(repositoryA.subscribe(1L, 100L)).willReturn(new SseEmitter(0L));
+        given(repositoryA.hasConnections(1L)).willReturn(true);
+        nodeA.subscribe(1L, 100L);
+
+        // When
+        nodeB.deleteEmitters(1L, 100L);
+        nodeB.sendNotification(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // Then
+        verify(repositoryA).deleteEmitters(1L, 100L);
+        verify(repositoryA).send(any(SseMessage.class));
+    }
+}
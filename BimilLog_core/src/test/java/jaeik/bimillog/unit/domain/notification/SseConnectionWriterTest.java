@@ -0,0 +1,257 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.repository.SseConnection;
+import jaeik.bimillog.domain.notification.repository.SseConnectionWriter;
+import jaeik.bimillog.domain.notification.repository.SseEmitterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>SseConnectionWriter 단위 테스트</h2>
+ * <p>연결별 대기열의 전송 묶음, heartbeat 생략, 느린 소비자와 writer 포화 시 연결 제거를 검증합니다.</p>
+ * <p>writer 작업은 직접 실행하는 Executor로 받아 실행 시점을 제어합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Tag("unit")
+@DisplayName("SseConnectionWriter 단위 테스트")
+class SseConnectionWriterTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private SseEmitterRegistry registry;
+    private SseConnectionWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry();
+        writer = new SseConnectionWriter(tasks::add, registry, 2);
+    }
+
+    private SseConnection register(Long memberId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(memberId + "_1_0", memberId, 1L, emitter);
+        registry.register(connection);
+        return connection;
+    }
+
+    private void runTasks() {
+        List<Runnable> scheduled = new ArrayList<>(tasks);
+        tasks.clear();
+        scheduled.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("writer 작업 전에 쌓인 이벤트는 한 번의 send로 전송")
+    void shouldCoalescePendingEvents() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = register(1L, emitter);
+
+        // When
+        writer.send(connection, SseEmitter.event().name("COMMENT").data("first"));
+        writer.send(connection, SseEmitter.event().name("COMMENT").data("second"));
+        runTasks();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<DataWithMediaType>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, times(1)).send(captor.capture());
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(captor.getValue()).extracting(DataWithMediaType::getData).contains("first", "second");
+    }
+
+    @Test
+    @DisplayName("전송 대기 중인 연결은 heartbeat 생략")
+    void shouldMergeHeartbeatIntoPendingWrite() throws Exception {
+        // Given
+        SseEmitter pendingEmitter = mock(SseEmitter.class);
+        SseEmitter idleEmitter = mock(SseEmitter.class);
+        SseConnection pending = register(1L, pendingEmitter);
+        SseConnection idle = register(2L, idleEmitter);
+        writer.send(pending, SseEmitter.event().name("COMMENT").data("message"));
+
+        // When
+        writer.sendHeartbeat(pending);
+        writer.sendHeartbeat(idle);
+
+        // Then
+        assertThat(tasks).hasSize(2);
+        runTasks();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<DataWithMediaType>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(pendingEmitter, times(1)).send(captor.capture());
+        assertThat(captor.getValue()).noneMatch(item -> String.valueOf(item.getData()).contains("heartbeat"));
+        verify(idleEmitter, times(1)).send(anySet());
+    }
+
+    @Test
+    @DisplayName("대기열 한도를 넘은 연결은 제거하고 writer 작업에서 종료")
+    void shouldDropSlowConsumer_WhenBacklogExceeded() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = register(1L, emitter);
+
+        // When: 한도(2)를 넘겨 적재
+        writer.send(connection, SseEmitter.event().data("1"));
+        writer.send(connection, SseEmitter.event().data("2"));
+        writer.send(connection, SseEmitter.event().data("3"));
+
+        // Then: 호출 스레드에서는 레지스트리에서만 제거하고 complete는 writer 작업에서 호출
+        assertThat(registry.connectionsOf(1L)).isEmpty();
+        verify(emitter, never()).complete();
+
+        runTasks();
+        verify(emitter, never()).send(anySet());
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("writer 작업이 거절되면 연결 제거 후 호출 스레드에서 종료")
+    void shouldCompleteEmitter_WhenWriterRejected() throws Exception {
+        // Given
+        SseConnectionWriter rejectingWriter = new SseConnectionWriter(task -> {
+            throw new RejectedExecutionException("saturated");
+        }, registry, 2);
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = register(1L, emitter);
+
+        // When
+        rejectingWriter.send(connection, SseEmitter.event().data("message"));
+
+        // Then
+        assertThat(registry.connectionsOf(1L)).isEmpty();
+        verify(emitter, never()).send(anySet());
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 연결 제거 및 종료")
+    void shouldDropConnection_WhenSendFails() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = register(1L, emitter);
+        doThrow(new IOException("Connection lost")).when(emitter).send(anySet());
+
+        // When
+        writer.send(connection, SseEmitter.event().data("message"));
+        runTasks();
+        writer.send(connection, SseEmitter.event().data("after"));
+
+        // Then
+        assertThat(registry.connectionsOf(1L)).isEmpty();
+        verify(emitter).complete();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소켓이 막힌 연결이 있어도 정상 연결의 전송 지연은 늘어나지 않음")
+    void shouldKeepHealthyLatency_WhenSomeSocketsStall() throws Exception {
+        int healthyCount = 50;
+        int stalledCount = 2;
+        int rounds = 100;
+        long stallMillis = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        SseConnectionWriter pooledWriter = new SseConnectionWriter(executor, registry, 32);
+        try {
+            List<SseConnection> connections = new ArrayList<>();
+            for (long memberId = 1; memberId <= healthyCount; memberId++) {
+                connections.add(register(memberId, new LatencyEmitter(latencies)));
+            }
+            for (long memberId = 1; memberId <= stalledCount; memberId++) {
+                connections.add(register(-memberId, new StalledEmitter(release, stallMillis)));
+            }
+
+            // When: 모든 연결에 전송 시각을 담은 이벤트 전송
+            for (int round = 0; round < rounds; round++) {
+                for (SseConnection connection : connections) {
+                    pooledWriter.send(connection, SseEmitter.event().data(System.nanoTime()));
+                }
+                Thread.sleep(1);
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (latencies.size() < healthyCount * rounds && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Then: 정상 연결은 모두 수신, p99 지연은 막힌 시간보다 훨씬 짧음, 막힌 연결은 대기열 한도로 제거
+            assertThat(latencies).hasSize(healthyCount * rounds);
+            List<Long> sorted = latencies.stream().sorted().toList();
+            long p99Millis = TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99) - 1));
+            assertThat(p99Millis).isLessThan(stallMillis / 10);
+            assertThat(registry.size()).isEqualTo(healthyCount);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 이벤트 데이터(전송 시각)로 큐 대기부터 소켓 쓰기까지의 지연을 기록하는 Emitter
+     */
+    private static final class LatencyEmitter extends SseEmitter {
+        private final ConcurrentLinkedQueue<Long> latencies;
+
+        private LatencyEmitter(ConcurrentLinkedQueue<Long> latencies) {
+            super(0L);
+            this.latencies = latencies;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            long now = System.nanoTime();
+            for (DataWithMediaType item : items) {
+                if (item.getData() instanceof Long sentAt) {
+                    latencies.add(now - sentAt);
+                }
+            }
+        }
+    }
+
+    /**
+     * 클라이언트가 읽지 않아 소켓 쓰기가 막힌 상황을 흉내 내는 Emitter
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final long stallMillis;
+
+        private StalledEmitter(CountDownLatch release, long stallMillis) {
+            super(0L);
+            this.release = release;
+            this.stallMillis = stallMillis;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                release.await(stallMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("write timeout");
+        }
+
+        @Override
+        public synchronized void complete() {
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.repository.SseConnection;
+import jaeik.bimillog.domain.notification.repository.SseEmitterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>SseEmitterRegistry 단위 테스트</h2>
+ * <p>사용자별 색인, 연결 단위 해제, 기기별 삭제, 동시 등록/해제 후 연결 수를 검증합니다.</p>
+ */
+@Tag("unit")
+@DisplayName("SseEmitterRegistry 단위 테스트")
+class SseEmitterRegistryTest {
+
+    private final SseEmitterRegistry registry = new SseEmitterRegistry();
+
+    private SseConnection connection(long memberId, long tokenId) {
+        return new SseConnection(memberId + "_" + tokenId + "_0", memberId, tokenId, new SseEmitter(0L));
+    }
+
+    @Test
+    @DisplayName("사용자별 조회 - 해당 사용자의 연결만 반환")
+    void connectionsOf_shouldReturnOnlyOwnConnections() {
+        SseConnection first = connection(1L, 100L);
+        SseConnection second = connection(1L, 101L);
+        registry.register(first);
+        registry.register(second);
+        registry.register(connection(17L, 100L)); // 같은 샤드의 다른 사용자
+
+        assertThat(registry.connectionsOf(1L)).containsExactly(first, second);
+        assertThat(registry.connectionsOf(2L)).isEmpty();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("연결 해제 - 같은 기기의 다른 연결은 유지하고 중복 해제는 무시")
+    void unregister_shouldRemoveOnlyThatConnection() {
+        SseConnection old = connection(1L, 100L);
+        SseConnection reconnected = connection(1L, 100L);
+        registry.register(old);
+        registry.register(reconnected);
+
+        assertThat(registry.unregister(old)).isTrue();
+        assertThat(registry.unregister(old)).isFalse();
+        assertThat(registry.connectionsOf(1L)).containsExactly(reconnected);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기기별 삭제 - 토큰이 같은 연결만 제거하여 반환")
+    void removeAll_shouldRemoveByToken() {
+        SseConnection kept = connection(1L, 101L);
+        registry.register(connection(1L, 100L));
+        registry.register(kept);
+
+        assertThat(registry.removeAll(1L, 100L)).hasSize(1);
+        assertThat(registry.connectionsOf(1L)).containsExactly(kept);
+        assertThat(registry.removeAll(1L, null)).containsExactly(kept);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 등록/해제 후 연결 수 일치")
+    void concurrentRegisterAndUnregister_shouldKeepSizeConsistent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                long base = thread * 1_000L;
+                futures.add(executor.submit(() -> {
+                    for (long memberId = base; memberId < base + 1_000; memberId++) {
+                        SseConnection kept = connection(memberId, 1L);
+                        SseConnection removed = connection(memberId, 2L);
+                        registry.register(kept);
+                        registry.register(removed);
+                        registry.unregister(removed);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.size()).isEqualTo(8_000);
+        assertThat(registry.snapshot()).hasSize(8_000);
+    }
+}
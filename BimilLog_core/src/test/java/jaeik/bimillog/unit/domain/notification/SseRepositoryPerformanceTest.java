@@ -0,0 +1,138 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.entity.NotificationType;
+import jaeik.bimillog.domain.notification.entity.SseMessage;
+import jaeik.bimillog.domain.notification.repository.SseConnection;
+import jaeik.bimillog.domain.notification.repository.SseConnectionWriter;
+import jaeik.bimillog.domain.notification.repository.SseEmitterRegistry;
+import jaeik.bimillog.domain.notification.repository.SseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>SSE 알림 전송 성능 테스트</h2>
+ * <p>50,000개 연결(사용자 25,000명 × 기기 2대)이 있을 때 한 사용자에게 알림을 보내는 시간을 비교합니다.</p>
+ * <p>기존: 전체 emitterId를 startsWith로 훑는 ConcurrentHashMap, 변경: 사용자별로 색인된 SseEmitterRegistry</p>
+ * <p>네트워크 비용을 제외하기 위해 전송 횟수만 세는 Emitter를 사용하고, writer는 호출 스레드에서 바로 실행합니다.</p>
+ * <p>실행: gradlew performanceTest --tests "*.SseRepositoryPerformanceTest"</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("SSE 알림 전송 성능 테스트")
+@Tag("performance")
+class SseRepositoryPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SseRepositoryPerformanceTest.class);
+
+    private static final int MEMBER_COUNT = 25_000;
+    private static final int DEVICES_PER_MEMBER = 2;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    @DisplayName("[성능] 50,000개 연결에서 사용자 1명에게 알림 전송 - 전체 스캔 vs 사용자별 색인")
+    void compareSendLatency() {
+        LongAdder sent = new LongAdder();
+        Map<String, SseEmitter> legacyEmitters = new ConcurrentHashMap<>();
+        SseEmitterRegistry registry = new SseEmitterRegistry();
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            for (long tokenId = 1; tokenId <= DEVICES_PER_MEMBER; tokenId++) {
+                String emitterId = memberId + "_" + tokenId + "_" + System.currentTimeMillis();
+                SseEmitter emitter = new CountingEmitter(sent);
+                legacyEmitters.put(emitterId, emitter);
+                registry.register(new SseConnection(emitterId, memberId, tokenId, emitter));
+            }
+        }
+        SseRepository sseRepository = new SseRepository(registry, new SseConnectionWriter(Runnable::run, registry, 256));
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacySend(legacyEmitters, randomMessage());
+            sseRepository.send(randomMessage());
+        }
+
+        sent.reset();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacySend(legacyEmitters, randomMessage());
+        }
+        long legacyUs = (System.nanoTime() - start) / ITERATIONS / 1_000;
+        long legacySent = sent.sumThenReset();
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sseRepository.send(randomMessage());
+        }
+        long indexedUs = (System.nanoTime() - start) / ITERATIONS / 1_000;
+        long indexedSent = sent.sum();
+
+        log.info("");
+        log.info("╔══════════════════════════════════════════════════╗");
+        log.info("║  연결 {}개, 알림 1건 전송 시간 ({}회 평균)", String.format("%,d", registry.size()), String.format("%,d", ITERATIONS));
+        log.info("╠══════════════════════════════════════════════════╣");
+        log.info("║  기존 (전체 키 스캔)   : {}μs", String.format("%-22s║", legacyUs));
+        log.info("║  사용자별 색인         : {}μs", String.format("%-22s║", indexedUs));
+        log.info("╚══════════════════════════════════════════════════╝");
+
+        assertThat(registry.size()).isEqualTo(MEMBER_COUNT * DEVICES_PER_MEMBER);
+        assertThat(legacySent).isEqualTo(indexedSent).isEqualTo((long) ITERATIONS * DEVICES_PER_MEMBER);
+        assertThat(indexedUs).isLessThan(legacyUs);
+    }
+
+    private static SseMessage randomMessage() {
+        long memberId = ThreadLocalRandom.current().nextLong(1, MEMBER_COUNT + 1);
+        return SseMessage.of(memberId, NotificationType.COMMENT, "테스터님이 댓글을 남겼습니다!", "/board/post/1");
+    }
+
+    /**
+     * 변경 전 SseRepository.send와 같은 방식의 전체 키 스캔
+     */
+    private static void legacySend(Map<String, SseEmitter> emitters, SseMessage sseMessage) {
+        String prefix = sseMessage.memberId() + "_";
+        emitters.forEach((emitterId, emitter) -> {
+            if (emitterId.startsWith(prefix)) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name(sseMessage.type().toString())
+                            .data(sseMessage.toJsonData()));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 네트워크로 보내지 않고 전송 횟수만 세는 Emitter
+     */
+    private static final class CountingEmitter extends SseEmitter {
+        private final LongAdder sent;
+
+        private CountingEmitter(LongAdder sent) {
+            super(0L);
+            this.sent = sent;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.increment();
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sent.increment();
+        }
+    }
+}
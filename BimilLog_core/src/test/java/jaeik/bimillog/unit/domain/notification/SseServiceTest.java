@@ -1,5 +1,6 @@
 package jaeik.bimillog.unit.domain.notification;
 
+import jaeik.bimillog.domain.notification.cluster.SseClusterBroker;
 import jaeik.bimillog.domain.notification.entity.NotificationType;
 import jaeik.bimillog.domain.notification.entity.SseMessage;
 import jaeik.bimillog.domain.notification.repository.SseRepository;
@@ -16,17 +17,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
 
 /**
  * <h2>SseService 단위 테스트</h2>
  * <p>SSE 실시간 알림 서비스의 비즈니스 로직을 검증하는 단위 테스트</p>
  * <p>SSE 구독, Emitter 삭제, 알림 메시지 구성 및 SseRepository 위임을 검증합니다.</p>
+ * <p>다른 노드로의 전달은 presence에 등록된 노드로만 발행하는지 검증합니다.</p>
  * <p>모든 외부 의존성을 모킹하여 순수한 비즈니스 로직만 테스트</p>
  */
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +42,9 @@ class SseServiceTest {
     @Mock
     private SseRepository sseRepository;
 
+    @Mock
+    private SseClusterBroker sseClusterBroker;
+
     @InjectMocks
     private SseService notificationSseService;
 
@@ -55,6 +63,22 @@ class SseServiceTest {
         // Then
         assertThat(result).isEqualTo(emitter);
         verify(sseRepository).subscribe(memberId, tokenId);
+        verify(sseClusterBroker).addPresence(eq(memberId), anyString());
+    }
+
+    @Test
+    @DisplayName("presence 등록에 실패해도 SSE 구독은 유지한다")
+    void shouldKeepSubscription_WhenPresenceFails() {
+        // Given
+        SseEmitter emitter = new SseEmitter(1000L);
+        given(sseRepository.subscribe(1L, 2L)).willReturn(emitter);
+        willThrow(new RuntimeException("Redis 연결 실패")).given(sseClusterBroker).addPresence(eq(1L), anyString());
+
+        // When
+        SseEmitter result = notificationSseService.subscribe(1L, 2L);
+
+        // Then
+        assertThat(result).isEqualTo(emitter);
     }
 
     @Test
@@ -68,6 +92,8 @@ class SseServiceTest {
 
         // Then
         verify(sseRepository).deleteEmitters(memberId, null);
+        verify(sseClusterBroker).removePresence(eq(List.of(memberId)), anyString());
+        verify(sseClusterBroker).clearPresence(memberId);
     }
 
     @Test
@@ -76,12 +102,44 @@ class SseServiceTest {
         // Given
         Long memberId = 10L;
         Long tokenId = 99L;
+        given(sseRepository.hasConnections(memberId)).willReturn(true);
 
         // When
         notificationSseService.deleteEmitters(memberId, tokenId);
 
-        // Then
+        // Then: 다른 기기 연결이 남아 있으므로 presence 유지
         verify(sseRepository).deleteEmitters(memberId, tokenId);
+        verify(sseClusterBroker, never()).removePresence(anyCollection(), anyString());
+        verify(sseClusterBroker, never()).clearPresence(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게는 해당 노드 채널로만 발행한다")
+    void shouldPublishToOtherNodes_WhenMemberConnectedElsewhere() {
+        // Given
+        given(sseClusterBroker.findNodes(1L)).willReturn(Set.of("node-a", "node-b"));
+
+        // When
+        notificationSseService.sendNotification(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // Then
+        verify(sseRepository).send(any(SseMessage.class));
+        verify(sseClusterBroker).publish(eq("node-a"), argThat(m -> m.memberId().equals(1L)));
+        verify(sseClusterBroker).publish(eq("node-b"), any(SseMessage.class));
+    }
+
+    @Test
+    @DisplayName("presence 조회 실패 시 로컬 전송만 하고 예외를 전파하지 않는다")
+    void shouldSendLocally_WhenPresenceLookupFails() {
+        // Given
+        given(sseClusterBroker.findNodes(1L)).willThrow(new RuntimeException("Redis 연결 실패"));
+
+        // When
+        notificationSseService.sendNotification(1L, NotificationType.COMMENT, "댓글", "/board/post/1");
+
+        // Then
+        verify(sseRepository).send(any(SseMessage.class));
+        verify(sseClusterBroker, never()).publish(anyString(), any());
     }
 
     /**
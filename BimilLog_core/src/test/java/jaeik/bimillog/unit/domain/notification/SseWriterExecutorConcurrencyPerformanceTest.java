@@ -0,0 +1,144 @@
+package jaeik.bimillog.unit.domain.notification;
+
+import jaeik.bimillog.domain.notification.repository.SseConnection;
+import jaeik.bimillog.domain.notification.repository.SseConnectionWriter;
+import jaeik.bimillog.domain.notification.repository.SseEmitterRegistry;
+import jaeik.bimillog.infrastructure.config.async.NotificationAsyncConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>SSE writer 실행기 동시 실행 성능 테스트</h2>
+ * <p>writer 작업이 모두 막힌 상황에서 sseWriterExecutor의 플랫폼 스레드 풀(기본)과 가상 스레드 모드가
+ * 동시에 진행시키는 writer 작업 수와 그때의 힙 증가량을 비교합니다.</p>
+ * <p>실행기 수준의 측정입니다. 서블릿 컨테이너, 실제 소켓, 클라이언트가 없으므로 SSE 연결 수용량을 나타내지 않으며
+ * 컨테이너의 연결/버퍼 비용도 반영하지 않습니다.</p>
+ * <p>막힌 쓰기는 실제 {@code ResponseBodyEmitter.send}와 같이 synchronized 메서드 안의 latch 대기로 흉내 냅니다.
+ * JDK 21에서는 모니터를 잡은 채 멈춘 가상 스레드가 carrier 스레드를 점유하므로, 가상 스레드 모드의 동시 진행 수는
+ * carrier 스레드 수에서 멈춥니다. (모니터 점유 중 unmount가 가능한 JDK 24 이상에서는 작업 수만큼 진행)</p>
+ * <p>동시 writer 작업 수: send에 진입한 작업 수, 작업당 힙: 연결 객체와 대기/진행 중인 writer 작업을 합친 힙 증가량 / 작업 수</p>
+ * <p>실행: gradlew performanceTest --tests "*.SseWriterExecutorConcurrencyPerformanceTest"</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("SSE writer 실행기 동시 실행 성능 테스트")
+@Tag("performance")
+class SseWriterExecutorConcurrencyPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SseWriterExecutorConcurrencyPerformanceTest.class);
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int PLATFORM_POOL_SIZE = 8;
+
+    @Test
+    @DisplayName("[성능] writer 작업 10,000개가 모두 막힌 상황의 동시 진행 수 - 플랫폼 스레드 풀 vs 가상 스레드")
+    void compareBlockedWriterConcurrency() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("");
+        log.info("╔══════════════════════════════════════════════════╗");
+        log.info("║  writer 작업 {}개, 모두 막힘 (실행기 수준, 소켓 없음)", String.format("%,d", CONNECTIONS));
+        log.info("╠══════════════════════════════════════════════════╣");
+        log.info("║  플랫폼 스레드 풀 : 동시 진행 {}개, 작업당 힙 {}B", String.format("%,d", platform.inFlight()), String.format("%,d", platform.heapPerConnection()));
+        log.info("║  가상 스레드      : 동시 진행 {}개, 작업당 힙 {}B", String.format("%,d", virtual.inFlight()), String.format("%,d", virtual.heapPerConnection()));
+        log.info("╚══════════════════════════════════════════════════╝");
+
+        assertThat(platform.inFlight()).isEqualTo(PLATFORM_POOL_SIZE);
+        assertThat(virtual.inFlight()).isEqualTo(virtualThreadCeiling());
+    }
+
+    /**
+     * 막힌 쓰기가 carrier를 점유할 때 가상 스레드 모드에서 동시에 진행될 수 있는 writer 작업 수
+     */
+    private static int virtualThreadCeiling() {
+        if (Runtime.version().feature() >= 24) {
+            return CONNECTIONS;
+        }
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        Executor executor = new NotificationAsyncConfig().sseWriterExecutor(virtualThreads);
+        SseEmitterRegistry registry = new SseEmitterRegistry();
+        SseConnectionWriter writer = new SseConnectionWriter(executor, registry, 256);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger inFlight = new AtomicInteger();
+        try {
+            long before = usedHeap();
+            for (long memberId = 1; memberId <= CONNECTIONS; memberId++) {
+                SseConnection connection = new SseConnection(memberId + "_1_0", memberId, 1L,
+                        new StalledEmitter(release, inFlight));
+                registry.register(connection);
+                writer.send(connection, SseEmitter.event().name("COMMENT").data("message"));
+            }
+
+            int expected = virtualThreads ? virtualThreadCeiling() : PLATFORM_POOL_SIZE;
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (inFlight.get() < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            long heapPerConnection = (usedHeap() - before) / CONNECTIONS;
+            return new Result(inFlight.get(), heapPerConnection);
+        } finally {
+            release.countDown();
+            if (executor instanceof DisposableBean disposable) {
+                disposable.destroy();
+            } else if (executor instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        Thread.sleep(100);
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private record Result(int inFlight, long heapPerConnection) {
+    }
+
+    /**
+     * send에 진입하면 해제될 때까지 대기하는 Emitter. 실제 소켓은 없음
+     * <p>실제 send와 같이 synchronized로 선언하여 막힌 쓰기의 carrier 점유를 그대로 재현합니다.</p>
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final AtomicInteger inFlight;
+
+        private StalledEmitter(CountDownLatch release, AtomicInteger inFlight) {
+            super(0L);
+            this.release = release;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            inFlight.incrementAndGet();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package jaeik.bimillog.unit.domain.paper;
 
 import jaeik.bimillog.domain.paper.entity.PopularPaperInfo;
-import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
 import jaeik.bimillog.domain.paper.adapter.PaperToMemberAdapter;
 import jaeik.bimillog.domain.paper.service.PaperCacheService;
 import jaeik.bimillog.domain.global.dto.CursorPageResponse;
 import jaeik.bimillog.infrastructure.redis.paper.RedisPaperQueryAdapter;
+import jaeik.bimillog.infrastructure.redis.paper.RedisPaperUpdateAdapter;
 import jaeik.bimillog.testutil.BaseUnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -15,21 +15,23 @@ import org.mockito.Mock;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * <h2>PaperCacheService 단위 테스트</h2>
- * <p>실시간 인기 롤링페이퍼 커서 기반 조회 로직을 검증하는 단위 테스트</p>
+ * <p>실시간 인기 롤링페이퍼 커서 기반 조회와 인기 목록 스냅샷 갱신/조회 로직을 검증하는 단위 테스트</p>
  *
  * @author Jaeik
  */
@@ -41,7 +43,7 @@ class PaperCacheServiceTest extends BaseUnitTest {
     private RedisPaperQueryAdapter redisPaperQueryAdapter;
 
     @Mock
-    private PaperQueryRepository paperQueryRepository;
+    private RedisPaperUpdateAdapter redisPaperUpdateAdapter;
 
     @Mock
     private PaperToMemberAdapter paperToMemberAdapter;
@@ -85,7 +87,7 @@ class PaperCacheServiceTest extends BaseUnitTest {
                 .willReturn(papers);
         given(paperToMemberAdapter.findMemberNamesByIds(List.of(1L, 2L)))
                 .willReturn(Map.of(1L, "user1", 2L, "user2"));
-        given(paperQueryRepository.enrichPopularPaperInfos(eq(List.of(1L, 2L)), any(Instant.class)))
+        given(redisPaperQueryAdapter.getRecentMessageCounts(List.of(1L, 2L)))
                 .willReturn(Map.of(1L, 5, 2L, 3));
 
         // When
@@ -115,7 +117,7 @@ class PaperCacheServiceTest extends BaseUnitTest {
                 .willReturn(papers);
         given(paperToMemberAdapter.findMemberNamesByIds(List.of(1L, 2L)))
                 .willReturn(Map.of(1L, "user1", 2L, "user2"));
-        given(paperQueryRepository.enrichPopularPaperInfos(eq(List.of(1L, 2L)), any(Instant.class)))
+        given(redisPaperQueryAdapter.getRecentMessageCounts(List.of(1L, 2L)))
                 .willReturn(Collections.emptyMap());
 
         // When
@@ -153,7 +155,7 @@ class PaperCacheServiceTest extends BaseUnitTest {
                 .willReturn(papers);
         given(paperToMemberAdapter.findMemberNamesByIds(List.of(1L)))
                 .willReturn(Map.of(1L, "user1"));
-        given(paperQueryRepository.enrichPopularPaperInfos(eq(List.of(1L)), any(Instant.class)))
+        given(redisPaperQueryAdapter.getRecentMessageCounts(List.of(1L)))
                 .willReturn(Collections.emptyMap());
 
         // When
@@ -174,7 +176,7 @@ class PaperCacheServiceTest extends BaseUnitTest {
                 .willReturn(papers);
         given(paperToMemberAdapter.findMemberNamesByIds(List.of(999L)))
                 .willReturn(Collections.emptyMap());
-        given(paperQueryRepository.enrichPopularPaperInfos(eq(List.of(999L)), any(Instant.class)))
+        given(redisPaperQueryAdapter.getRecentMessageCounts(List.of(999L)))
                 .willReturn(Collections.emptyMap());
 
         // When
@@ -184,6 +186,92 @@ class PaperCacheServiceTest extends BaseUnitTest {
         assertThat(result.content().get(0).getMemberName()).isEmpty();
     }
 
+    @Test
+    @DisplayName("스냅샷 조회 - 범위 안이면 ZSet 조회와 회원 이름 조회 없이 스냅샷을 잘라 반환")
+    void shouldServeFromSnapshot_WhenRangeWithinSnapshot() {
+        // Given: 상위 100개 스냅샷
+        given(redisPaperQueryAdapter.getRealtimePopularSnapshot()).willReturn(Optional.of(snapshotOf(100)));
+
+        // When
+        CursorPageResponse<PopularPaperInfo> first = paperCacheService.getRealtimePapers(null, 10);
+        CursorPageResponse<PopularPaperInfo> second = paperCacheService.getRealtimePapers(10L, 10);
+
+        // Then
+        assertThat(first.content()).extracting(PopularPaperInfo::getRank).containsExactlyElementsOf(IntStream.rangeClosed(1, 10).boxed().toList());
+        assertThat(first.nextCursor()).isEqualTo(10L);
+        assertThat(second.content().getFirst().getRank()).isEqualTo(11);
+        assertThat(second.content().getFirst().getMemberName()).isEqualTo("user11");
+        verify(redisPaperQueryAdapter).getRealtimePopularSnapshot(); // 두 번째 요청은 로컬 캐시
+        verify(redisPaperQueryAdapter, never()).getRealtimePopularPapersWithRankAndScore(anyInt(), anyInt());
+        verifyNoInteractions(paperToMemberAdapter);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 전체 목록이 스냅샷보다 작으면 마지막 페이지도 스냅샷으로 응답")
+    void shouldReturnLastPageFromSnapshot_WhenSnapshotIsComplete() {
+        // Given: 전체 15개
+        given(redisPaperQueryAdapter.getRealtimePopularSnapshot()).willReturn(Optional.of(snapshotOf(15)));
+
+        // When
+        CursorPageResponse<PopularPaperInfo> result = paperCacheService.getRealtimePapers(10L, 10);
+
+        // Then
+        assertThat(result.content()).hasSize(5);
+        assertThat(result.nextCursor()).isNull();
+        verify(redisPaperQueryAdapter, never()).getRealtimePopularPapersWithRankAndScore(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("스냅샷 범위 밖 - ZSet 기반 조회로 대체")
+    void shouldFallBackToZSet_WhenRangeBeyondSnapshot() {
+        // Given: 상위 100개 스냅샷, cursor=95, size=10 → 스냅샷으로 다음 페이지 여부를 알 수 없음
+        given(redisPaperQueryAdapter.getRealtimePopularSnapshot()).willReturn(Optional.of(snapshotOf(100)));
+        given(redisPaperQueryAdapter.getRealtimePopularPapersWithRankAndScore(95, 105))
+                .willReturn(Collections.emptyList());
+
+        // When
+        paperCacheService.getRealtimePapers(95L, 10);
+
+        // Then
+        verify(redisPaperQueryAdapter).getRealtimePopularPapersWithRankAndScore(95, 105);
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 상위 목록에 이름과 메시지 수를 채워 저장")
+    void shouldSaveEnrichedSnapshot_WhenRefreshed() {
+        // Given
+        List<PopularPaperInfo> papers = new ArrayList<>();
+        papers.add(createPaperInfo(1L, 1, 100.0));
+        papers.add(createPaperInfo(2L, 2, 80.0));
+
+        given(redisPaperQueryAdapter.getRealtimePopularPapersWithRankAndScore(0, 99)).willReturn(papers);
+        given(paperToMemberAdapter.findMemberNamesByIds(List.of(1L, 2L)))
+                .willReturn(Map.of(1L, "user1", 2L, "user2"));
+        given(redisPaperQueryAdapter.getRecentMessageCounts(List.of(1L, 2L)))
+                .willReturn(Map.of(1L, 5));
+
+        // When
+        paperCacheService.refreshPopularSnapshot();
+        CursorPageResponse<PopularPaperInfo> result = paperCacheService.getRealtimePapers(null, 10);
+
+        // Then: 저장된 스냅샷이 로컬 캐시에도 반영되어 Redis GET 없이 응답
+        verify(redisPaperUpdateAdapter).saveRealtimePopularSnapshot(argThat(saved ->
+                saved.size() == 2 && "user1".equals(saved.getFirst().getMemberName())
+                        && saved.getFirst().getRecentMessageCount() == 5 && saved.get(1).getRecentMessageCount() == 0));
+        assertThat(result.content()).extracting(PopularPaperInfo::getMemberName).containsExactly("user1", "user2");
+        verify(redisPaperQueryAdapter, never()).getRealtimePopularSnapshot();
+    }
+
+    private List<PopularPaperInfo> snapshotOf(int count) {
+        List<PopularPaperInfo> snapshot = new ArrayList<>();
+        for (int rank = 1; rank <= count; rank++) {
+            PopularPaperInfo info = createPaperInfo((long) rank, rank, 1000.0 - rank);
+            info.setMemberName("user" + rank);
+            snapshot.add(info);
+        }
+        return snapshot;
+    }
+
     private PopularPaperInfo createPaperInfo(Long memberId, int rank, double score) {
         PopularPaperInfo info = new PopularPaperInfo();
         info.setMemberId(memberId);
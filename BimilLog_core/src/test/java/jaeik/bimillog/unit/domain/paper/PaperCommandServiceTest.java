@@ -4,12 +4,15 @@ import jaeik.bimillog.domain.member.entity.Member;
 import jaeik.bimillog.domain.paper.dto.MessageWriteDTO;
 import jaeik.bimillog.domain.paper.entity.Message;
 import jaeik.bimillog.domain.paper.event.PaperEvent.MessageDeletedEvent;
-import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
 import jaeik.bimillog.domain.paper.repository.PaperRepository;
+import jaeik.bimillog.domain.paper.repository.PaperSnapshotCache;
+import jaeik.bimillog.domain.paper.write.PaperWriteBatcher;
+import jaeik.bimillog.domain.paper.write.PaperWriteRateLimiter;
 import jaeik.bimillog.domain.paper.adapter.PaperToMemberAdapter;
 import jaeik.bimillog.domain.paper.service.PaperCommandService;
 import jaeik.bimillog.infrastructure.exception.CustomException;
 import jaeik.bimillog.infrastructure.exception.ErrorCode;
+import jaeik.bimillog.infrastructure.redis.paper.RedisPaperDeleteAdapter;
 import jaeik.bimillog.testutil.BaseUnitTest;
 import jaeik.bimillog.testutil.TestFixtures;
 import org.junit.jupiter.api.DisplayName;
@@ -18,11 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -45,6 +51,18 @@ class PaperCommandServiceTest extends BaseUnitTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private PaperWriteRateLimiter paperWriteRateLimiter;
+
+    @Mock
+    private PaperWriteBatcher paperWriteBatcher;
+
+    @Mock
+    private PaperSnapshotCache paperSnapshotCache;
+
+    @Mock
+    private RedisPaperDeleteAdapter redisPaperDeleteAdapter;
+
     @InjectMocks
     private PaperCommandService paperCommandService;
 
@@ -66,7 +84,7 @@ class PaperCommandServiceTest extends BaseUnitTest {
         // Then
         verify(paperRepository, times(1)).findById(messageId);
         verify(paperRepository, times(1)).deleteById(messageId);
-        verify(eventPublisher, times(1)).publishEvent(any(MessageDeletedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(new MessageDeletedEvent(memberId, messageId));
     }
 
     @Test
@@ -119,14 +137,58 @@ class PaperCommandServiceTest extends BaseUnitTest {
         MessageWriteDTO dto = TestFixtures.createMessageWriteDTO(ownerId, "테스트 메시지", 2, 2);
 
         given(paperToMemberAdapter.getMemberById(ownerId)).willReturn(owner);
+        given(paperWriteRateLimiter.tryAcquire(ownerId)).willReturn(true);
 
         // When
         paperCommandService.writeMessage(memberId, dto);
 
         // Then
         verify(paperToMemberAdapter, times(1)).getMemberById(ownerId);
-        verify(paperRepository, times(1)).save(any(Message.class));
-        verify(eventPublisher, times(1)).publishEvent(any(RollingPaperEvent.class));
+        verify(paperWriteBatcher, times(1)).write(eq(owner), argThat(message ->
+                message.getContent().equals("테스트 메시지") && message.getX() == 2 && message.getY() == 2));
+        verify(paperRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("메시지 작성 - 작성 요청이 많으면 저장하지 않고 예외")
+    void shouldThrowException_WhenRateLimited() {
+        // Given
+        Long memberId = 1L;
+        Long ownerId = 2L;
+        Member owner = createTestMemberWithId(ownerId);
+        MessageWriteDTO dto = TestFixtures.createMessageWriteDTO(ownerId, "테스트 메시지", 2, 2);
+
+        given(paperToMemberAdapter.getMemberById(ownerId)).willReturn(owner);
+        given(paperWriteRateLimiter.tryAcquire(ownerId)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> paperCommandService.writeMessage(memberId, dto))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAPER_WRITE_RATE_LIMITED);
+
+        verifyNoInteractions(paperWriteBatcher);
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 메시지 전체 삭제 - 스냅샷 캐시는 커밋 후 비움")
+    void shouldEvictSnapshotAfterCommit_WhenWithdraw() {
+        // Given
+        Long memberId = 1L;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            paperCommandService.deleteAllMessageWhenWithdraw(memberId);
+
+            // Then - 커밋 전에는 캐시를 건드리지 않음
+            verify(paperRepository).deleteAllByMember_Id(memberId);
+            verify(redisPaperDeleteAdapter).removeMemberIdFromRealtimeScore(memberId);
+            verifyNoInteractions(paperSnapshotCache);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(paperSnapshotCache).evict(memberId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -146,8 +208,7 @@ class PaperCommandServiceTest extends BaseUnitTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MEMBER_USER_NOT_FOUND);
 
         verify(paperToMemberAdapter, times(1)).getMemberById(nonExistentOwnerId);
-        verify(paperRepository, never()).save(any());
-        verify(eventPublisher, never()).publishEvent(any());
+        verifyNoInteractions(paperWriteBatcher, eventPublisher);
     }
 
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package jaeik.bimillog.unit.domain.paper;
 
+import jaeik.bimillog.domain.global.dto.CursorPageResponse;
+import jaeik.bimillog.domain.paper.dto.PaperRegion;
 import jaeik.bimillog.domain.paper.dto.VisitPaperDTO;
-import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.DecoType;
+import jaeik.bimillog.domain.paper.entity.PaperCell;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
 import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
+import jaeik.bimillog.domain.paper.repository.PaperSnapshotCache;
 import jaeik.bimillog.domain.paper.adapter.PaperToMemberAdapter;
 import jaeik.bimillog.domain.paper.service.PaperQueryService;
 import jaeik.bimillog.infrastructure.exception.CustomException;
@@ -36,6 +41,9 @@ import static org.mockito.Mockito.*;
 @Tag("unit")
 class PaperQueryServiceTest extends BaseUnitTest {
 
+    @Mock
+    private PaperSnapshotCache paperSnapshotCache;
+
     @Mock
     private PaperQueryRepository paperQueryRepository;
 
@@ -54,13 +62,13 @@ class PaperQueryServiceTest extends BaseUnitTest {
     void shouldVisitPaper_WhenValidUserName() {
         // Given
         String memberName = getTestMember().getMemberName();
-        List<Message> messages = Arrays.asList(
-                PaperTestDataBuilder.createRollingPaper(getTestMember(), "메시지1", 5, 5),
-                PaperTestDataBuilder.createRollingPaper(getOtherMember(), "메시지2", 10, 10)
+        List<PaperMessage> messages = Arrays.asList(
+                PaperMessage.from(PaperTestDataBuilder.createRollingPaper(getTestMember(), "메시지1", 5, 5)),
+                PaperMessage.from(PaperTestDataBuilder.createRollingPaper(getOtherMember(), "메시지2", 10, 10))
         );
 
         given(paperToMemberAdapter.findByMemberName(memberName)).willReturn(Optional.of(getTestMember()));
-        given(paperQueryRepository.getMessageList(getTestMember().getId())).willReturn(messages);
+        given(paperSnapshotCache.getMessages(getTestMember().getId())).willReturn(messages);
 
         // When
         VisitPaperDTO result = paperQueryService.visitPaper(memberName);
@@ -71,7 +79,7 @@ class PaperQueryServiceTest extends BaseUnitTest {
         assertThat(result.getVisitMessageDTOList()).hasSize(2);
 
         verify(paperToMemberAdapter, times(1)).findByMemberName(memberName);
-        verify(paperQueryRepository, times(1)).getMessageList(getTestMember().getId());
+        verify(paperSnapshotCache, times(1)).getMessages(getTestMember().getId());
     }
 
     @Test
@@ -81,7 +89,7 @@ class PaperQueryServiceTest extends BaseUnitTest {
         String memberName = "userWithNoMessages";
 
         given(paperToMemberAdapter.findByMemberName(memberName)).willReturn(Optional.of(getTestMember()));
-        given(paperQueryRepository.getMessageList(getTestMember().getId())).willReturn(Collections.emptyList());
+        given(paperSnapshotCache.getMessages(getTestMember().getId())).willReturn(Collections.emptyList());
 
         // When
         VisitPaperDTO result = paperQueryService.visitPaper(memberName);
@@ -92,7 +100,7 @@ class PaperQueryServiceTest extends BaseUnitTest {
         assertThat(result.getVisitMessageDTOList()).isEmpty();
 
         verify(paperToMemberAdapter, times(1)).findByMemberName(memberName);
-        verify(paperQueryRepository, times(1)).getMessageList(getTestMember().getId());
+        verify(paperSnapshotCache, times(1)).getMessages(getTestMember().getId());
     }
 
 
@@ -116,7 +124,59 @@ class PaperQueryServiceTest extends BaseUnitTest {
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAPER_INVALID_INPUT_VALUE);
 
-        verify(paperQueryRepository, never()).getMessageList(any());
+        verify(paperSnapshotCache, never()).getMessages(any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자 롤링페이퍼 영역 조회 - 초과 1건으로 다음 커서 계산")
+    void shouldReturnNextCursor_WhenRegionHasMore() {
+        // Given
+        String memberName = getTestMember().getMemberName();
+        PaperRegion region = new PaperRegion(0, 5, 0, 4);
+        given(paperToMemberAdapter.findByMemberName(memberName)).willReturn(Optional.of(getTestMember()));
+        given(paperQueryRepository.getCellsInRegion(getTestMember().getId(), region, 1, 2, 3)).willReturn(List.of(
+                new PaperCell(DecoType.POTATO, 3, 1),
+                new PaperCell(DecoType.POTATO, 0, 2),
+                new PaperCell(DecoType.POTATO, 5, 3)
+        ));
+
+        // When - 커서 14 = (y=1, x=2)
+        CursorPageResponse<PaperCell> result = paperQueryService.visitPaperRegion(memberName, region, 14L, 2);
+
+        // Then
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.nextCursor()).isEqualTo(2L * 12);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("다른 사용자 롤링페이퍼 영역 조회 - 마지막 페이지는 커서 없음")
+    void shouldReturnNullCursor_WhenRegionExhausted() {
+        // Given
+        String memberName = getTestMember().getMemberName();
+        PaperRegion region = new PaperRegion(0, 11, 0, 9);
+        given(paperToMemberAdapter.findByMemberName(memberName)).willReturn(Optional.of(getTestMember()));
+        given(paperQueryRepository.getCellsInRegion(getTestMember().getId(), region, null, null, 31))
+                .willReturn(List.of(new PaperCell(DecoType.POTATO, 0, 0)));
+
+        // When
+        CursorPageResponse<PaperCell> result = paperQueryService.visitPaperRegion(memberName, region, null, 30);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("롤링페이퍼 영역 조회 - 그리드를 벗어난 영역 예외")
+    void shouldThrowException_WhenRegionOutOfGrid() {
+        assertThatThrownBy(() -> paperQueryService.getMyPaperRegion(1L, new PaperRegion(0, 12, 0, 9), null, 30))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAPER_INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> paperQueryService.getMyPaperRegion(1L, new PaperRegion(5, 4, 0, 9), null, 30))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAPER_INVALID_INPUT_VALUE);
+
+        verify(paperQueryRepository, never()).getMessagesInRegion(any(), any(), any(), any(), anyInt());
+    }
+}
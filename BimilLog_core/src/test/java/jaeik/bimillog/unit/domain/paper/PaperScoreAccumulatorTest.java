@@ -0,0 +1,175 @@
+package jaeik.bimillog.unit.domain.paper;
+
+import jaeik.bimillog.domain.paper.async.PaperScoreAccumulator;
+import jaeik.bimillog.domain.paper.dto.PaperScoreIncrementDTO;
+import jaeik.bimillog.domain.paper.event.PaperEvent.MessageDeletedEvent;
+import jaeik.bimillog.domain.paper.event.PaperEvent.PaperViewedEvent;
+import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
+import jaeik.bimillog.domain.paper.listener.RealtimePaperPopularScoreListener;
+import jaeik.bimillog.infrastructure.redis.paper.RedisPaperUpdateAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>PaperScoreAccumulator 단위 테스트</h2>
+ * <p>리스너 이벤트별 증감 누적, 롤링페이퍼별 합산, 일괄 반영, 실패 시 같은 묶음 재시도, 종료 시 반영을 검증합니다.</p>
+ * <p>스케줄러는 동작하지 않으므로 flush를 직접 호출합니다.</p>
+ */
+@DisplayName("PaperScoreAccumulator 단위 테스트")
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class PaperScoreAccumulatorTest {
+
+    @Mock
+    private RedisPaperUpdateAdapter redisPaperUpdateAdapter;
+
+    private PaperScoreAccumulator accumulator;
+    private RealtimePaperPopularScoreListener listener;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new PaperScoreAccumulator(redisPaperUpdateAdapter);
+        listener = new RealtimePaperPopularScoreListener(accumulator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PaperScoreIncrementDTO> captureFlush() {
+        ArgumentCaptor<List<PaperScoreIncrementDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisPaperUpdateAdapter).incrementRealtimePopularPaperScores(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("같은 롤링페이퍼의 이벤트는 하나의 증감으로 합산")
+    void flush_shouldCoalesceEventsPerPaper() {
+        // Given - 1번: 조회 3회 + 메시지 작성 3개(단건 1회, 2개 배치 1회) + 삭제 1회, 2번: 조회 1회
+        listener.handlePaperViewed(new PaperViewedEvent(1L));
+        listener.handlePaperViewed(new PaperViewedEvent(1L));
+        listener.handlePaperViewed(new PaperViewedEvent(1L));
+        listener.handleMessageCreated(new RollingPaperEvent(1L, "작성자", 1));
+        listener.handleMessageCreated(new RollingPaperEvent(1L, "작성자", 2));
+        listener.handleMessageDeleted(new MessageDeletedEvent(1L, 10L));
+        listener.handlePaperViewed(new PaperViewedEvent(2L));
+
+        // When
+        accumulator.flush();
+
+        // Then
+        assertThat(captureFlush()).containsExactlyInAnyOrder(
+                new PaperScoreIncrementDTO(1L, 16.0, 2),
+                new PaperScoreIncrementDTO(2L, 2.0, 0));
+    }
+
+    @Test
+    @DisplayName("반영 후 누적이 비워져 다음 주기에 다시 반영하지 않음")
+    void flush_shouldClearAfterSuccess() {
+        // Given
+        accumulator.add(1L, 2.0, 0);
+        accumulator.flush();
+
+        // When
+        accumulator.flush();
+
+        // Then
+        verify(redisPaperUpdateAdapter, times(1)).incrementRealtimePopularPaperScores(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감을 누적에 되돌리지 않고 같은 묶음 ID로 먼저 재시도한 뒤 새 증감을 별도 묶음으로 반영")
+    void flush_shouldRetrySameBatchOnFailure() {
+        // Given
+        accumulator.add(1L, 2.0, 0);
+        willThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+                .willDoNothing()
+                .given(redisPaperUpdateAdapter).incrementRealtimePopularPaperScores(anyString(), anyList());
+        accumulator.flush();
+        accumulator.add(1L, 5.0, 1);
+
+        // When
+        accumulator.flush();
+
+        // Then
+        ArgumentCaptor<String> batchIds = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaperScoreIncrementDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisPaperUpdateAdapter, times(3)).incrementRealtimePopularPaperScores(batchIds.capture(), captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(
+                List.of(new PaperScoreIncrementDTO(1L, 2.0, 0)),
+                List.of(new PaperScoreIncrementDTO(1L, 2.0, 0)),
+                List.of(new PaperScoreIncrementDTO(1L, 5.0, 1)));
+        assertThat(batchIds.getAllValues().get(1)).isEqualTo(batchIds.getAllValues().get(0));
+        assertThat(batchIds.getAllValues().get(2)).isNotEqualTo(batchIds.getAllValues().get(0));
+    }
+
+    @Test
+    @DisplayName("실패한 묶음의 재시도가 다시 실패하면 새 증감은 꺼내지 않고 계속 누적")
+    void flush_shouldKeepPendingWhileRetryFails() {
+        // Given
+        accumulator.add(1L, 2.0, 0);
+        willThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+                .given(redisPaperUpdateAdapter).incrementRealtimePopularPaperScores(anyString(), anyList());
+        accumulator.flush();
+        accumulator.add(2L, 5.0, 0);
+
+        // When
+        accumulator.flush();
+
+        // Then: 두 번 모두 첫 묶음만 시도
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaperScoreIncrementDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisPaperUpdateAdapter, times(2)).incrementRealtimePopularPaperScores(anyString(), captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(increments ->
+                assertThat(increments).containsExactly(new PaperScoreIncrementDTO(1L, 2.0, 0)));
+    }
+
+    @Test
+    @DisplayName("대기 중인 롤링페이퍼 수가 가득 차면 새 롤링페이퍼는 거부하고 기존 롤링페이퍼는 계속 합산")
+    void add_shouldRejectNewPaperWhenFull() {
+        // Given
+        for (long memberId = 1; memberId <= 10_000; memberId++) {
+            assertThat(accumulator.add(memberId, 2.0, 0)).isTrue();
+        }
+
+        // When & Then
+        assertThat(accumulator.add(10_001L, 2.0, 0)).isFalse();
+        assertThat(accumulator.add(1L, 2.0, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증감 반영")
+    void stop_shouldFlushRemaining() {
+        // Given
+        accumulator.add(1L, 5.0, 1);
+
+        // When
+        accumulator.stop();
+
+        // Then
+        assertThat(captureFlush()).containsExactly(new PaperScoreIncrementDTO(1L, 5.0, 1));
+    }
+
+    @Test
+    @DisplayName("누적된 증감이 없으면 Redis 호출 없음")
+    void flush_shouldSkipWhenEmpty() {
+        // When
+        accumulator.flush();
+
+        // Then
+        verifyNoInteractions(redisPaperUpdateAdapter);
+    }
+}
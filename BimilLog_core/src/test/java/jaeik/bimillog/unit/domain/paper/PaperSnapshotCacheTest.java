@@ -0,0 +1,141 @@
+package jaeik.bimillog.unit.domain.paper;
+
+import jaeik.bimillog.domain.paper.entity.DecoType;
+import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.PaperMessage;
+import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
+import jaeik.bimillog.domain.paper.repository.PaperSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>PaperSnapshotCache 단위 테스트</h2>
+ * <p>롤링페이퍼 스냅샷 캐시의 적재와 이벤트 패치(저장/삭제/탈퇴)를 검증합니다.</p>
+ */
+@DisplayName("PaperSnapshotCache 단위 테스트")
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class PaperSnapshotCacheTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Mock
+    private PaperQueryRepository paperQueryRepository;
+
+    private PaperSnapshotCache paperSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        paperSnapshotCache = new PaperSnapshotCache(paperQueryRepository);
+    }
+
+    private Message message(long id, String content, int x, int y) {
+        Message message = Message.builder()
+                .decoType(DecoType.POTATO)
+                .anonymity("익명")
+                .content(content)
+                .x(x)
+                .y(y)
+                .build();
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+
+    private List<Long> idsOf(List<PaperMessage> messages) {
+        return messages.stream().map(PaperMessage::id).toList();
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 한 번 적재 후 캐시에서 응답")
+    void shouldLoadOnceAndServeFromCache() {
+        // Given
+        given(paperQueryRepository.getMessageList(OWNER_ID))
+                .willReturn(List.of(message(2L, "둘", 1, 1), message(1L, "하나", 0, 0)));
+
+        // When
+        List<PaperMessage> first = paperSnapshotCache.getMessages(OWNER_ID);
+        List<PaperMessage> second = paperSnapshotCache.getMessages(OWNER_ID);
+
+        // Then
+        assertThat(idsOf(first)).containsExactly(2L, 1L);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getFirst().content()).isEqualTo("둘");
+        verify(paperQueryRepository, times(1)).getMessageList(OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("메시지 저장 시 맨 앞에 추가하고 중복 반영은 무시")
+    void shouldPrependSavedMessage() {
+        // Given
+        given(paperQueryRepository.getMessageList(OWNER_ID)).willReturn(List.of(message(1L, "하나", 0, 0)));
+        paperSnapshotCache.getMessages(OWNER_ID);
+        PaperMessage saved = new PaperMessage(2L, DecoType.POTATO, "익명", "새 메시지", 3, 3, Instant.now());
+
+        // When
+        paperSnapshotCache.addMessage(OWNER_ID, saved);
+        paperSnapshotCache.addMessage(OWNER_ID, saved);
+
+        // Then
+        assertThat(idsOf(paperSnapshotCache.getMessages(OWNER_ID))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 소유자의 메시지 저장은 무시")
+    void shouldIgnoreSaveWhenNotCached() {
+        // Given
+        PaperMessage saved = new PaperMessage(2L, DecoType.POTATO, "익명", "새 메시지", 3, 3, Instant.now());
+        paperSnapshotCache.addMessage(OWNER_ID, saved);
+        given(paperQueryRepository.getMessageList(OWNER_ID)).willReturn(List.of(message(1L, "하나", 0, 0)));
+
+        // When
+        List<PaperMessage> messages = paperSnapshotCache.getMessages(OWNER_ID);
+
+        // Then
+        assertThat(idsOf(messages)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("메시지 삭제 시 해당 메시지만 제거")
+    void shouldRemoveDeletedMessage() {
+        // Given
+        given(paperQueryRepository.getMessageList(OWNER_ID))
+                .willReturn(List.of(message(3L, "셋", 2, 2), message(2L, "둘", 1, 1), message(1L, "하나", 0, 0)));
+        paperSnapshotCache.getMessages(OWNER_ID);
+
+        // When
+        paperSnapshotCache.removeMessage(OWNER_ID, 2L);
+
+        // Then
+        assertThat(idsOf(paperSnapshotCache.getMessages(OWNER_ID))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("소유자 스냅샷 제거 후 다시 적재")
+    void shouldReloadAfterEvict() {
+        // Given
+        given(paperQueryRepository.getMessageList(OWNER_ID))
+                .willReturn(List.of(message(1L, "하나", 0, 0)))
+                .willReturn(List.of());
+        paperSnapshotCache.getMessages(OWNER_ID);
+
+        // When
+        paperSnapshotCache.evict(OWNER_ID);
+
+        // Then
+        assertThat(paperSnapshotCache.getMessages(OWNER_ID)).isEmpty();
+        verify(paperQueryRepository, times(2)).getMessageList(OWNER_ID);
+    }
+}
@@ -0,0 +1,220 @@
+package jaeik.bimillog.unit.domain.paper;
+
+import jaeik.bimillog.domain.member.entity.Member;
+import jaeik.bimillog.domain.paper.entity.Message;
+import jaeik.bimillog.domain.paper.entity.MessagePosition;
+import jaeik.bimillog.domain.paper.event.PaperEvent.MessageSavedEvent;
+import jaeik.bimillog.domain.paper.event.PaperEvent.RollingPaperEvent;
+import jaeik.bimillog.domain.paper.repository.PaperBatchRepository;
+import jaeik.bimillog.domain.paper.repository.PaperQueryRepository;
+import jaeik.bimillog.domain.paper.write.PaperWriteBatcher;
+import jaeik.bimillog.infrastructure.exception.CustomException;
+import jaeik.bimillog.infrastructure.exception.ErrorCode;
+import jaeik.bimillog.testutil.BaseUnitTest;
+import jaeik.bimillog.testutil.builder.PaperTestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>PaperWriteBatcher 단위 테스트</h2>
+ * <p>단건 저장, 칸 중복 거부, 동시 작성의 배치 저장과 알림 이벤트 합산을 검증합니다.</p>
+ * <p>저장소는 칸별 메시지 ID를 기억하는 메모리 구현으로 대신합니다.</p>
+ */
+@DisplayName("PaperWriteBatcher 단위 테스트")
+@Tag("unit")
+class PaperWriteBatcherTest extends BaseUnitTest {
+
+    @Mock
+    private PaperBatchRepository paperBatchRepository;
+
+    @Mock
+    private PaperQueryRepository paperQueryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PaperWriteBatcher batcher;
+    private Member owner;
+    private final Map<String, Long> storedIds = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(100L);
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        batcher = new PaperWriteBatcher(paperBatchRepository, paperQueryRepository, eventPublisher, transactionTemplate);
+        owner = createTestMemberWithId(1L);
+
+        lenient().when(paperQueryRepository.findMessagePositions(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<Message> messages = invocation.getArgument(1);
+            List<MessagePosition> positions = new ArrayList<>();
+            for (Message message : messages) {
+                Long id = storedIds.get(cell(message));
+                if (id != null) {
+                    positions.add(new MessagePosition(id, message.getX(), message.getY()));
+                }
+            }
+            return positions;
+        });
+        lenient().doAnswer(invocation -> {
+            store(invocation.getArgument(0));
+            return null;
+        }).when(paperBatchRepository).insertMessages(anyList(), any());
+    }
+
+    private static String cell(Message message) {
+        return message.getX() + ":" + message.getY();
+    }
+
+    private void store(List<Message> messages) {
+        for (Message message : messages) {
+            storedIds.put(cell(message), idSequence.getAndIncrement());
+        }
+    }
+
+    private Message message(int x, int y) {
+        return PaperTestDataBuilder.createRollingPaper(owner, "메시지 " + x + "," + y, x, y);
+    }
+
+    @Test
+    @DisplayName("단건 작성 - 저장 후 메시지 ID를 담은 스냅샷 이벤트와 알림 이벤트 발행")
+    void write_shouldInsertAndPublishEvents() {
+        // When
+        batcher.write(owner, message(2, 3));
+
+        // Then
+        verify(paperBatchRepository).insertMessages(argThat(messages -> messages.size() == 1), any());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof MessageSavedEvent saved
+                        && saved.paperOwnerId().equals(1L)
+                        && saved.message().id().equals(100L)
+                        && saved.message().x() == 2 && saved.message().y() == 3));
+        verify(eventPublisher).publishEvent((Object) new RollingPaperEvent(1L, owner.getMemberName(), 1));
+    }
+
+    @Test
+    @DisplayName("이미 메시지가 있는 칸 - 저장하지 않고 예외")
+    void write_shouldRejectOccupiedCell() {
+        // Given
+        store(List.of(message(2, 3)));
+
+        // When & Then
+        assertThatThrownBy(() -> batcher.write(owner, message(2, 3)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAPER_MESSAGE_POSITION_TAKEN);
+
+        verify(paperBatchRepository, never()).insertMessages(anyList(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스와 동시에 같은 칸 저장 - 제약 위반을 칸 중복 예외로 변환")
+    void write_shouldTranslateConstraintViolation() {
+        // Given
+        willThrow(new DataIntegrityViolationException("unique_member_x_y"))
+                .given(paperBatchRepository).insertMessages(anyList(), any());
+
+        // When & Then
+        assertThatThrownBy(() -> batcher.write(owner, message(2, 3)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAPER_MESSAGE_POSITION_TAKEN);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("저장 중 도착한 작성은 다음 배치 하나로 저장되고 알림 이벤트는 한 번만 발행")
+    void write_shouldBatchWritesArrivingDuringFlush() throws Exception {
+        // Given - 첫 저장을 붙잡아 두는 동안 같은 롤링페이퍼에 3건이 도착
+        CountDownLatch firstInsertStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstInsert = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstInsertStarted.countDown();
+            releaseFirstInsert.await(5, TimeUnit.SECONDS);
+            store(invocation.getArgument(0));
+            return null;
+        }).doAnswer(invocation -> {
+            store(invocation.getArgument(0));
+            return null;
+        }).when(paperBatchRepository).insertMessages(anyList(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> first = executor.submit(() -> batcher.write(owner, message(0, 0)));
+            assertThat(firstInsertStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<?>> followers = new ArrayList<>();
+            for (int x = 1; x <= 3; x++) {
+                int cellX = x;
+                followers.add(executor.submit(() -> batcher.write(owner, message(cellX, 0))));
+            }
+            awaitFollowersQueued(3);
+
+            // When
+            releaseFirstInsert.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            for (Future<?> follower : followers) {
+                follower.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(paperBatchRepository, times(2)).insertMessages(captor.capture(), any());
+        assertThat(captor.getAllValues().get(0)).hasSize(1);
+        assertThat(captor.getAllValues().get(1)).hasSize(3);
+        verify(eventPublisher).publishEvent((Object) new RollingPaperEvent(1L, owner.getMemberName(), 1));
+        verify(eventPublisher).publishEvent((Object) new RollingPaperEvent(1L, owner.getMemberName(), 3));
+        verify(eventPublisher, times(4)).publishEvent(argThat((Object event) -> event instanceof MessageSavedEvent));
+    }
+
+    /**
+     * 대기열에 들어간 요청 스레드는 리더의 처리를 기다리며 WAITING 상태가 됩니다.
+     */
+    private void awaitFollowersQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long waiting = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getState() == Thread.State.WAITING)
+                    .filter(thread -> thread.getName().startsWith("pool-"))
+                    .filter(thread -> isBlockedInWrite(thread.getStackTrace()))
+                    .count();
+            if (waiting >= expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("대기열에 들어간 작성 요청이 " + expected + "건이 되지 않음");
+    }
+
+    private static boolean isBlockedInWrite(StackTraceElement[] stackTrace) {
+        for (StackTraceElement element : stackTrace) {
+            if (element.getClassName().equals(PaperWriteBatcher.class.getName()) && element.getMethodName().equals("write")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
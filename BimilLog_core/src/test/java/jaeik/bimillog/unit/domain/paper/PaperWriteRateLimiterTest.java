@@ -0,0 +1,39 @@
+package jaeik.bimillog.unit.domain.paper;
+
+import jaeik.bimillog.domain.paper.write.PaperWriteRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>PaperWriteRateLimiter 단위 테스트</h2>
+ * <p>롤링페이퍼 주인별 버스트 허용량과 주인 간 독립성을 검증합니다.</p>
+ */
+@DisplayName("PaperWriteRateLimiter 단위 테스트")
+@Tag("unit")
+class PaperWriteRateLimiterTest {
+
+    private final PaperWriteRateLimiter rateLimiter = new PaperWriteRateLimiter();
+
+    @Test
+    @DisplayName("버스트 허용량만큼 허용한 뒤 거부")
+    void tryAcquire_shouldRejectAfterBurst() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(rateLimiter.tryAcquire(1L)).isTrue();
+        }
+
+        assertThat(rateLimiter.tryAcquire(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 롤링페이퍼 주인의 작성은 영향받지 않음")
+    void tryAcquire_shouldBeIndependentPerOwner() {
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.tryAcquire(1L);
+        }
+
+        assertThat(rateLimiter.tryAcquire(2L)).isTrue();
+    }
+}
@@ -0,0 +1,164 @@
+package jaeik.bimillog.unit.infrastructure.api.fcm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Retryer;
+import feign.codec.EncodeException;
+import jaeik.bimillog.infrastructure.api.dto.FcmSendResultDTO;
+import jaeik.bimillog.infrastructure.api.fcm.FcmAdapter;
+import jaeik.bimillog.infrastructure.api.fcm.FcmApiClient;
+import jaeik.bimillog.infrastructure.api.fcm.FcmCredentialManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * <h2>FcmAdapter 스텁 서버 테스트</h2>
+ * <p>FCM HTTP v1 응답을 흉내 내는 로컬 스텁 서버에 실제 Feign 요청을 보내 토큰별 결과 집계와 동시 전송을 검증합니다.</p>
+ * <p>스텁 서버는 토큰 접두사로 응답을 정합니다: dead-(404 UNREGISTERED), invalid-(400 잘못된 등록 토큰),
+ * payload-(400 메시지 오류), busy-(503), 그 외(200)</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Tag("unit")
+@DisplayName("FcmAdapter 스텁 서버 테스트")
+class FcmAdapterStubServerTest {
+
+    private static final long LATENCY_MS = 50;
+    private static final int DISPATCH_THREADS = 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Queue<String> authorizations = new ConcurrentLinkedQueue<>();
+
+    private HttpServer server;
+    private ExecutorService dispatchExecutor;
+    private FcmAdapter fcmAdapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+
+        FcmApiClient fcmApiClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder((object, bodyType, template) -> {
+                    try {
+                        template.body(objectMapper.writeValueAsBytes(object), StandardCharsets.UTF_8);
+                    } catch (JsonProcessingException e) {
+                        throw new EncodeException(e.getMessage(), e);
+                    }
+                })
+                .retryer(Retryer.NEVER_RETRY)
+                .target(FcmApiClient.class, "http://localhost:" + server.getAddress().getPort());
+
+        dispatchExecutor = Executors.newFixedThreadPool(DISPATCH_THREADS);
+        FcmCredentialManager fcmCredentialManager = Mockito.mock(FcmCredentialManager.class);
+        given(fcmCredentialManager.getAccessToken()).willReturn("stub-access-token");
+        fcmAdapter = new FcmAdapter(fcmApiClient, fcmCredentialManager, objectMapper, dispatchExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatchExecutor.shutdownNow();
+        dispatchExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("토큰별 응답 집계 - UNREGISTERED와 잘못된 등록 토큰만 삭제 대상")
+    void shouldCollectDeadTokens() throws IOException {
+        List<String> tokens = List.of("ok-1", "dead-1", "ok-2", "invalid-1", "payload-1", "busy-1", "dead-2", "ok-3");
+
+        FcmSendResultDTO result = fcmAdapter.sendEach(tokens, "제목", "내용");
+
+        assertThat(result.successCount()).isEqualTo(3);
+        assertThat(result.failureCount()).isEqualTo(5);
+        assertThat(result.deadTokens()).containsExactly("dead-1", "invalid-1", "dead-2");
+        assertThat(authorizations).hasSize(tokens.size()).containsOnly("Bearer stub-access-token");
+    }
+
+    @Test
+    @DisplayName("다중 기기 전송 - 동시 요청 수는 실행기 크기 이내, 순차 전송보다 빠름")
+    void shouldSendConcurrentlyWithBoundedInFlight() throws IOException {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            tokens.add("ok-" + i);
+        }
+
+        long start = System.nanoTime();
+        FcmSendResultDTO result = fcmAdapter.sendEach(tokens, "제목", "내용");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(result.successCount()).isEqualTo(tokens.size());
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(DISPATCH_THREADS);
+        assertThat(elapsedMs).isLessThan(tokens.size() * LATENCY_MS / 2);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            String token = objectMapper.readTree(exchange.getRequestBody()).path("message").path("token").asText();
+            Thread.sleep(LATENCY_MS);
+
+            if (token.startsWith("dead-")) {
+                respond(exchange, 404, error(404, "Requested entity was not found.", "NOT_FOUND", "UNREGISTERED"));
+            } else if (token.startsWith("invalid-")) {
+                respond(exchange, 400, error(400, "The registration token is not a valid FCM registration token",
+                        "INVALID_ARGUMENT", "INVALID_ARGUMENT"));
+            } else if (token.startsWith("payload-")) {
+                respond(exchange, 400, error(400, "Invalid value at 'message.notification'",
+                        "INVALID_ARGUMENT", "INVALID_ARGUMENT"));
+            } else if (token.startsWith("busy-")) {
+                respond(exchange, 503, error(503, "The service is currently unavailable.", "UNAVAILABLE", "UNAVAILABLE"));
+            } else {
+                respond(exchange, 200, "{\"name\":\"projects/growfarm-6cd79/messages/1\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static String error(int code, String message, String status, String errorCode) {
+        return """
+                {"error":{"code":%d,"message":"%s","status":"%s","details":[{"@type":"type.googleapis.com/google.firebase.fcm.v1.FcmError","errorCode":"%s"}]}}
+                """.formatted(code, message, status, errorCode);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -1,10 +1,12 @@
 package jaeik.bimillog.unit.infrastructure.api.fcm;
 
-import com.google.auth.oauth2.AccessToken;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jaeik.bimillog.infrastructure.api.dto.FcmSendResultDTO;
 import jaeik.bimillog.infrastructure.api.fcm.FcmAdapter;
 import jaeik.bimillog.infrastructure.api.fcm.FcmApiClient;
+import jaeik.bimillog.infrastructure.api.fcm.FcmCredentialManager;
 import jaeik.bimillog.testutil.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -12,13 +14,13 @@ import org.mockito.*;
 import org.springframework.http.MediaType;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Date;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -29,32 +31,32 @@ import static org.mockito.Mockito.verify;
 class FcmAdapterTest extends BaseUnitTest {
 
     @Mock private FcmApiClient fcmApiClient;
+    @Mock private FcmCredentialManager fcmCredentialManager;
 
-    @InjectMocks private FcmAdapter fcmAdapter;
+    private FcmAdapter fcmAdapter;
+
+    @BeforeEach
+    void setUp() {
+        fcmAdapter = new FcmAdapter(fcmApiClient, fcmCredentialManager, new ObjectMapper(), Runnable::run);
+    }
 
     @Test
-    @DisplayName("FCM 메시지 전송 - 성공")
-    void shouldSendMessageTo() throws IOException {
-        String token = "token-1";
+    @DisplayName("FCM 다중 전송 - 성공, 액세스 토큰은 한 번만 조회")
+    void shouldSendEach() throws IOException {
+        List<String> tokens = List.of("token-1", "token-2");
         String title = "제목";
         String body = "내용";
         doNothing().when(fcmApiClient).sendMessage(anyString(), anyString(), any());
+        given(fcmCredentialManager.getAccessToken()).willReturn("mock-access-token");
 
-        try (MockedStatic<GoogleCredentials> mockedCredentials = Mockito.mockStatic(GoogleCredentials.class)) {
-            GoogleCredentials credentials = Mockito.mock(GoogleCredentials.class);
-            AccessToken accessToken = new AccessToken("mock-access-token", new Date(System.currentTimeMillis() + 60_000));
-
-            mockedCredentials.when(() -> GoogleCredentials.fromStream(any(InputStream.class))).thenReturn(credentials);
-            given(credentials.createScoped(anyList())).willReturn(credentials);
-            doNothing().when(credentials).refreshIfExpired();
-            given(credentials.getAccessToken()).willReturn(accessToken);
-
-            fcmAdapter.sendMessageTo(token, title, body);
+        FcmSendResultDTO result = fcmAdapter.sendEach(tokens, title, body);
 
-            ArgumentCaptor<String> authHeaderCaptor = ArgumentCaptor.forClass(String.class);
-            verify(fcmApiClient).sendMessage(authHeaderCaptor.capture(), Mockito.eq(MediaType.APPLICATION_JSON_VALUE), any());
-            assertThat(authHeaderCaptor.getValue()).isEqualTo("Bearer mock-access-token");
-        }
+        ArgumentCaptor<String> authHeaderCaptor = ArgumentCaptor.forClass(String.class);
+        verify(fcmApiClient, times(2)).sendMessage(authHeaderCaptor.capture(), Mockito.eq(MediaType.APPLICATION_JSON_VALUE), any());
+        assertThat(authHeaderCaptor.getAllValues()).containsOnly("Bearer mock-access-token");
+        verify(fcmCredentialManager, times(1)).getAccessToken();
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.deadTokens()).isEmpty();
     }
 
 }
@@ -0,0 +1,152 @@
+package jaeik.bimillog.unit.infrastructure.api.fcm;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import jaeik.bimillog.infrastructure.api.fcm.FcmCredentialManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>FcmCredentialManager 단위 테스트</h2>
+ * <p>서비스 계정 파일은 한 번만 읽고, 액세스 토큰은 캐시 후 만료 전에 한 번씩만 갱신하는지 검증합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Tag("unit")
+@DisplayName("FcmCredentialManager 단위 테스트")
+class FcmCredentialManagerTest {
+
+    private MockedConstruction<ClassPathResource> mockedResource;
+    private MockedStatic<GoogleCredentials> mockedCredentials;
+    private GoogleCredentials credentials;
+    private FcmCredentialManager fcmCredentialManager;
+
+    @BeforeEach
+    void setUp() {
+        mockedResource = Mockito.mockConstruction(ClassPathResource.class,
+                (resource, context) -> given(resource.getInputStream()).willReturn(new ByteArrayInputStream(new byte[0])));
+        mockedCredentials = Mockito.mockStatic(GoogleCredentials.class);
+        credentials = mock(GoogleCredentials.class);
+        mockedCredentials.when(() -> GoogleCredentials.fromStream(any(InputStream.class))).thenReturn(credentials);
+        given(credentials.createScoped(anyList())).willReturn(credentials);
+        fcmCredentialManager = new FcmCredentialManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedCredentials.close();
+        mockedResource.close();
+    }
+
+    private static AccessToken tokenExpiringIn(String value, Duration duration) {
+        return new AccessToken(value, new Date(System.currentTimeMillis() + duration.toMillis()));
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 캐시에서 반환 - 파일 읽기와 토큰 발급은 한 번")
+    void shouldReuseCachedToken() throws Exception {
+        given(credentials.getAccessToken()).willReturn(tokenExpiringIn("token-1", Duration.ofHours(1)));
+
+        assertThat(fcmCredentialManager.getAccessToken()).isEqualTo("token-1");
+        assertThat(fcmCredentialManager.getAccessToken()).isEqualTo("token-1");
+
+        mockedCredentials.verify(() -> GoogleCredentials.fromStream(any(InputStream.class)), times(1));
+        verify(credentials, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("만료 임박 토큰은 전송 시점에 갱신 - 서비스 계정은 다시 읽지 않음")
+    void shouldRefresh_WhenTokenAboutToExpire() throws Exception {
+        given(credentials.getAccessToken()).willReturn(
+                tokenExpiringIn("token-1", Duration.ofSeconds(10)),
+                tokenExpiringIn("token-2", Duration.ofHours(1)));
+
+        assertThat(fcmCredentialManager.getAccessToken()).isEqualTo("token-1");
+        assertThat(fcmCredentialManager.getAccessToken()).isEqualTo("token-2");
+
+        mockedCredentials.verify(() -> GoogleCredentials.fromStream(any(InputStream.class)), times(1));
+        verify(credentials, times(2)).refresh();
+    }
+
+    @Test
+    @DisplayName("선제 갱신 - 갱신 시각이 지난 토큰만 갱신")
+    void shouldRefreshInBackground_OnlyWhenDue() throws Exception {
+        given(credentials.getAccessToken()).willReturn(
+                tokenExpiringIn("token-1", Duration.ofMinutes(3)),
+                tokenExpiringIn("token-2", Duration.ofHours(1)));
+        fcmCredentialManager.getAccessToken();
+
+        // 만료 3분 전: 갱신 여유(5분) 안이므로 갱신
+        fcmCredentialManager.refreshIfDue();
+        assertThat(fcmCredentialManager.getAccessToken()).isEqualTo("token-2");
+
+        // 만료 1시간 전: 갱신하지 않음
+        fcmCredentialManager.refreshIfDue();
+        verify(credentials, times(2)).refresh();
+    }
+
+    @Test
+    @DisplayName("선제 갱신 - 발급 전에는 서비스 계정을 읽지 않음")
+    void shouldSkipBackgroundRefresh_BeforeFirstUse() {
+        fcmCredentialManager.refreshIfDue();
+
+        mockedCredentials.verifyNoInteractions();
+        assertThat(mockedResource.constructed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 시 동시 요청 - 갱신은 한 번만 수행")
+    void shouldRefreshOnce_WhenConcurrentRequestsSeeExpiredToken() throws Exception {
+        given(credentials.getAccessToken()).willReturn(
+                tokenExpiringIn("token-1", Duration.ofSeconds(10)),
+                tokenExpiringIn("token-2", Duration.ofHours(1)));
+        fcmCredentialManager.getAccessToken();
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            return null;
+        }).when(credentials).refresh();
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return fcmCredentialManager.getAccessToken();
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+            }
+            verify(credentials, times(2)).refresh();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -77,9 +77,8 @@ class ThreadCategoryClassifierTest {
     void classifyAsyncPrefixes() {
         String[] asyncPrefixes = {
                 "task-1",
-                "sse-notification-2",
                 "fcm-notification-3",
-                "save-notification-4",
+                "notification-relay-4",
                 "member-event-5",
                 "friend-update-6",
                 "realtime-event-7",
@@ -90,7 +89,12 @@ class ThreadCategoryClassifierTest {
                 "rebuild-consumer-12",
                 "interaction-producer-13",
                 "interaction-consumer-14",
-                "circuit-sync-15"
+                "circuit-sync-15",
+                "interaction-ingest-16",
+                "friend-dlq-17",
+                "sse-cluster-18",
+                "sse-writer-19",
+                "fcm-dispatch-20"
         };
 
         for (String name : asyncPrefixes) {
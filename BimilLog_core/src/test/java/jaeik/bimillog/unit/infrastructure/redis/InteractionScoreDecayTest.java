@@ -0,0 +1,64 @@
+package jaeik.bimillog.unit.infrastructure.redis;
+
+import jaeik.bimillog.infrastructure.redis.friend.InteractionScoreDecay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static jaeik.bimillog.infrastructure.redis.RedisKey.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * <h2>InteractionScoreDecay 단위 테스트</h2>
+ * <p>로그 저장 형태가 기준 시각에서 멀어져도 오버플로 없이 감쇠를 계산하고, 이전 형식 판별 범위와 겹치지 않는지 검증합니다.</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@Tag("unit")
+@DisplayName("InteractionScoreDecay 단위 테스트")
+class InteractionScoreDecayTest {
+
+    @Test
+    @DisplayName("하루가 지나면 0.95배로 감쇠")
+    void shouldDecayByRatePerDay() {
+        // Given
+        Instant now = Instant.parse("2026-10-18T00:00:00Z");
+        double stored = InteractionScoreDecay.toStored(5.0, now.minus(Duration.ofDays(1)));
+
+        // When & Then
+        assertThat(InteractionScoreDecay.toCurrent(stored, now)).isCloseTo(5.0 * INTERACTION_SCORE_DECAY_RATE, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("기준 시각 100년 뒤에도 저장 값이 유한하고 현재 점수로 정확히 복원됨 (지수 형식은 약 38년에 오버플로)")
+    void shouldStayFiniteFarFromEpoch() {
+        // Given
+        Instant farFuture = INTERACTION_SCORE_DECAY_EPOCH.plus(Duration.ofDays(365L * 100));
+
+        // When
+        double stored = InteractionScoreDecay.toStored(INTERACTION_SCORE_LIMIT, farFuture);
+
+        // Then
+        assertThat(Math.exp(InteractionScoreDecay.logWeightAt(farFuture))).isInfinite();
+        assertThat(stored).isFinite().isLessThan(InteractionScoreDecay.EXPONENT_SCORE_FLOOR);
+        assertThat(InteractionScoreDecay.toCurrent(stored, farFuture)).isCloseTo(INTERACTION_SCORE_LIMIT, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("현재 이후 저장되는 로그 형식 값은 기존 형식 상한보다 큼")
+    void shouldNotOverlapLegacyRange() {
+        // Given - 정리 임계값만큼 남은 가장 작은 점수
+        Instant now = Instant.parse("2026-10-18T00:00:00Z");
+
+        // When
+        double smallest = InteractionScoreDecay.toStored(INTERACTION_SCORE_THRESHOLD, now);
+
+        // Then
+        assertThat(smallest).isGreaterThan(InteractionScoreDecay.LEGACY_SCORE_CEILING);
+    }
+}
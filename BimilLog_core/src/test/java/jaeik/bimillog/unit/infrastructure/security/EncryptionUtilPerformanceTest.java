@@ -0,0 +1,101 @@
+package jaeik.bimillog.unit.infrastructure.security;
+
+import jaeik.bimillog.infrastructure.security.EncryptionUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>메시지 복호화 성능 테스트</h2>
+ * <p>호출마다 Cipher를 생성하던 기존 방식과 스레드별 Cipher를 재사용하는 EncryptionUtil의 메시지 1건당 복호화 시간을 비교합니다.</p>
+ * <p>실행: gradlew performanceTest --tests "*.EncryptionUtilPerformanceTest"</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("메시지 복호화 성능 테스트")
+@Tag("performance")
+class EncryptionUtilPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EncryptionUtilPerformanceTest.class);
+
+    private static final String KEY = "abcdefghijklmnopqrstuvwxyz123456";
+    private static final String MESSAGE = "생일 축하해! 올해도 좋은 일만 가득하길 바랄게 :) ".repeat(4);
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("[성능] 기존 Cipher 생성 방식 vs 스레드별 Cipher 재사용 (ECB 기존 행, GCM 새 행)")
+    void compareDecryptCost() throws Exception {
+        EncryptionUtil encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "KEY", KEY);
+        ReflectionTestUtils.setField(encryptionUtil, "gcmWriteEnabled", true);
+        encryptionUtil.init();
+
+        String legacy = legacyEncrypt(MESSAGE);
+        String gcm = encryptionUtil.encrypt(MESSAGE);
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacyDecrypt(legacy);
+            encryptionUtil.decrypt(legacy);
+            encryptionUtil.decrypt(gcm);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyDecrypt(legacy);
+        }
+        long baselineNs = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encryptionUtil.decrypt(legacy);
+        }
+        long pooledLegacyNs = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encryptionUtil.decrypt(gcm);
+        }
+        long pooledGcmNs = (System.nanoTime() - start) / ITERATIONS;
+
+        log.info("");
+        log.info("╔══════════════════════════════════════════════════╗");
+        log.info("║  메시지 1건 복호화 시간 ({}회 평균)", String.format("%-25s║", String.format("%,d", ITERATIONS)));
+        log.info("╠══════════════════════════════════════════════════╣");
+        log.info("║  기존 (매번 Cipher 생성) : {}ns", String.format("%-20s║", baselineNs));
+        log.info("║  재사용 ECB (기존 행)    : {}ns", String.format("%-20s║", pooledLegacyNs));
+        log.info("║  재사용 GCM (새 행)      : {}ns", String.format("%-20s║", pooledGcmNs));
+        log.info("╚══════════════════════════════════════════════════╝");
+
+        assertThat(encryptionUtil.decrypt(legacy)).isEqualTo(MESSAGE);
+        assertThat(pooledLegacyNs).isLessThan(baselineNs);
+    }
+
+    private static String legacyEncrypt(String message) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(), "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 변경 전 EncryptionUtil.decrypt와 동일한 구현
+     */
+    private static String legacyDecrypt(String encrypted) throws Exception {
+        SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encrypted));
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+package jaeik.bimillog.unit.infrastructure.security;
+
+import jaeik.bimillog.infrastructure.security.EncryptionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EncryptionUtil 단위 테스트")
+@Tag("unit")
+class EncryptionUtilTest {
+
+    private static final String KEY = "abcdefghijklmnopqrstuvwxyz123456";
+
+    private EncryptionUtil encryptionUtil;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "KEY", KEY);
+        ReflectionTestUtils.setField(encryptionUtil, "gcmWriteEnabled", true);
+        encryptionUtil.init();
+    }
+
+    private String legacyEncrypt(String message) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(), "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("새 암호문은 GCM 버전 헤더를 가지며 복호화하면 원문이 된다")
+    void encryptWithGcmHeaderAndRoundTrip() throws Exception {
+        String message = "롤링페이퍼 메시지 😀";
+
+        String encrypted = encryptionUtil.encrypt(message);
+
+        assertThat(encrypted).startsWith("g1:");
+        assertThat(encryptionUtil.decrypt(encrypted)).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("같은 메시지도 IV가 달라 매번 다른 암호문이 된다")
+    void encryptUsesFreshIv() throws Exception {
+        assertThat(encryptionUtil.encrypt("같은 메시지")).isNotEqualTo(encryptionUtil.encrypt("같은 메시지"));
+    }
+
+    @Test
+    @DisplayName("GCM 쓰기가 꺼져 있으면 이전 버전이 읽을 수 있는 기존 형식으로 암호화한다")
+    void encryptLegacyFormatWhenGcmWriteDisabled() throws Exception {
+        ReflectionTestUtils.setField(encryptionUtil, "gcmWriteEnabled", false);
+        String message = "배포 중 저장된 메시지";
+
+        String encrypted = encryptionUtil.encrypt(message);
+
+        assertThat(encrypted).doesNotStartWith("g1:").isEqualTo(legacyEncrypt(message));
+        assertThat(encryptionUtil.decrypt(encrypted)).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("헤더 없는 기존 AES/ECB 암호문도 복호화된다")
+    void decryptLegacyCiphertext() throws Exception {
+        String message = "기존에 저장된 메시지";
+
+        assertThat(encryptionUtil.decrypt(legacyEncrypt(message))).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("초기 버퍼보다 긴 메시지도 처리된다")
+    void roundTripLargeMessage() throws Exception {
+        String message = "가".repeat(2_000);
+
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(message))).isEqualTo(message);
+        assertThat(encryptionUtil.decrypt(legacyEncrypt(message))).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("변조된 GCM 암호문은 태그 검증에 실패한다")
+    void rejectTamperedCiphertext() throws Exception {
+        byte[] data = Base64.getDecoder().decode(encryptionUtil.encrypt("원문").substring(3));
+        data[data.length - 1] ^= 1;
+        String tampered = "g1:" + Base64.getEncoder().encodeToString(data);
+
+        assertThatThrownBy(() -> encryptionUtil.decrypt(tampered)).isInstanceOf(AEADBadTagException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 사용해도 결과가 섞이지 않는다")
+    void concurrentUse() {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        String message = "thread-" + thread + "-" + i;
+                        if (!encryptionUtil.decrypt(encryptionUtil.encrypt(message)).equals(message)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                } catch (Exception e) {
+                    return false;
+                }
+            }));
+        }
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isTrue());
+    }
+}
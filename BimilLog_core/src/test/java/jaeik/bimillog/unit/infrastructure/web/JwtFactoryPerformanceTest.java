@@ -0,0 +1,114 @@
+package jaeik.bimillog.unit.infrastructure.web;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jaeik.bimillog.domain.global.entity.CustomUserDetails;
+import jaeik.bimillog.domain.member.entity.MemberRole;
+import jaeik.bimillog.domain.member.entity.SocialProvider;
+import jaeik.bimillog.infrastructure.web.JwtClaims;
+import jaeik.bimillog.infrastructure.web.JwtFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>JWT 인증 파싱 성능 테스트</h2>
+ * <p>요청마다 파서를 새로 만들고 같은 토큰을 여러 번 파싱하던 기존 JwtFilter 흐름과,
+ * 캐시된 파서로 토큰당 한 번만 파싱하는 현재 흐름의 요청 1건당 인증 시간을 비교합니다.</p>
+ * <p>기존 흐름: 리프레시 토큰 검증 1회 + 액세스 토큰 검증 1회 + 사용자 정보 추출 1회 = 파서 생성 3회, 파싱 3회</p>
+ * <p>실행: gradlew performanceTest --tests "*.JwtFactoryPerformanceTest"</p>
+ *
+ * @author Jaeik
+ * @version 2.8.0
+ */
+@DisplayName("JWT 인증 파싱 성능 테스트")
+@Tag("performance")
+class JwtFactoryPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtFactoryPerformanceTest.class);
+
+    private static final String RAW_SECRET = "0123456789abcdef0123456789abcdef";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("[성능] 요청마다 파서 생성 + 중복 파싱 vs 캐시된 파서 + 토큰당 1회 파싱")
+    void compareAuthenticationCost() {
+        JwtFactory jwtFactory = new JwtFactory();
+        ReflectionTestUtils.setField(jwtFactory, "secretKey",
+                Base64.getEncoder().encodeToString(RAW_SECRET.getBytes(StandardCharsets.UTF_8)));
+        jwtFactory.init();
+        Key key = (Key) ReflectionTestUtils.getField(jwtFactory, "key");
+
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .memberId(1L)
+                .socialId("social-1")
+                .provider(SocialProvider.KAKAO)
+                .settingId(10L)
+                .socialNickname("소셜닉")
+                .thumbnailImage("thumb.jpg")
+                .memberName("tester")
+                .role(MemberRole.USER)
+                .authTokenId(99L)
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        String accessToken = jwtFactory.generateAccessToken(userDetails);
+        String refreshToken = jwtFactory.generateRefreshToken(userDetails);
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += legacyAuthenticate(key, accessToken, refreshToken);
+            sink += authenticate(jwtFactory, accessToken, refreshToken);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += legacyAuthenticate(key, accessToken, refreshToken);
+        }
+        long baselineNs = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += authenticate(jwtFactory, accessToken, refreshToken);
+        }
+        long cachedNs = (System.nanoTime() - start) / ITERATIONS;
+
+        log.info("");
+        log.info("╔══════════════════════════════════════════════════╗");
+        log.info("║  요청 1건 인증 시간 ({}회 평균)", String.format("%-28s║", String.format("%,d", ITERATIONS)));
+        log.info("╠══════════════════════════════════════════════════╣");
+        log.info("║  기존 (파서 생성 3회, 파싱 3회) : {}ns", String.format("%-13s║", baselineNs));
+        log.info("║  현재 (캐시 파서, 파싱 2회)     : {}ns", String.format("%-13s║", cachedNs));
+        log.info("╚══════════════════════════════════════════════════╝");
+
+        assertThat(sink).isEqualTo(2L * (WARMUP + ITERATIONS));
+        assertThat(cachedNs).isLessThan(baselineNs);
+    }
+
+    /**
+     * 변경 전 JwtFilter의 액세스 토큰 유효 경로와 동일한 흐름
+     */
+    private static long legacyAuthenticate(Key key, String accessToken, String refreshToken) {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    private static long authenticate(JwtFactory jwtFactory, String accessToken, String refreshToken) {
+        jwtFactory.parse(refreshToken).orElseThrow();
+        JwtClaims accessClaims = jwtFactory.parse(accessToken).orElseThrow();
+        return jwtFactory.getUserInfo(accessClaims).getMemberId();
+    }
+}
@@ -2,9 +2,11 @@ package jaeik.bimillog.unit.infrastructure.web;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import jaeik.bimillog.domain.global.entity.CustomUserDetails;
 import jaeik.bimillog.domain.member.entity.MemberRole;
 import jaeik.bimillog.domain.member.entity.SocialProvider;
+import jaeik.bimillog.infrastructure.web.JwtClaims;
 import jaeik.bimillog.infrastructure.web.JwtFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -110,6 +113,49 @@ class JwtFactoryTest {
         assertThat(jwtFactory.shouldRefreshToken(longLivedToken, 15)).isFalse();
     }
 
+    @Test
+    @DisplayName("한 번의 파싱으로 검증된 클레임을 얻고 그대로 사용자 정보로 변환한다")
+    void shouldParseOnceIntoVerifiedClaims() {
+        String accessToken = jwtFactory.generateAccessToken(userDetails);
+
+        Optional<JwtClaims> claims = jwtFactory.parse(accessToken);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().subjectId()).isEqualTo(userDetails.getMemberId());
+        assertThat(claims.get().expiresWithin(15)).isTrue();
+
+        CustomUserDetails parsed = jwtFactory.getUserInfo(claims.get());
+        assertThat(parsed.getMemberId()).isEqualTo(userDetails.getMemberId());
+        assertThat(parsed.getRole()).isEqualTo(MemberRole.USER);
+        assertThat(parsed.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명되었거나 만료되었거나 형식이 잘못된 토큰은 빈 결과를 반환한다")
+    void shouldReturnEmptyForInvalidToken() {
+        Key otherKey = Keys.hmacShaKeyFor("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8));
+        Key key = (Key) ReflectionTestUtils.getField(jwtFactory, "key");
+        long now = System.currentTimeMillis();
+
+        String forgedToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(otherKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        String expiredToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(now - TimeUnit.MINUTES.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtFactory.parse(forgedToken)).isEmpty();
+        assertThat(jwtFactory.parse(expiredToken)).isEmpty();
+        assertThat(jwtFactory.parse("not-a-jwt")).isEmpty();
+        assertThat(jwtFactory.parse(null)).isEmpty();
+        assertThat(jwtFactory.validateToken(forgedToken)).isFalse();
+    }
+
     @Test
     @DisplayName("토큰 해시값은 안정적으로 생성된다")
     void shouldGenerateStableTokenHash() {
@@ -0,0 +1,6 @@
+-- Friend Event DLQ 배치 선점(claim) 재처리 지원
+
+ALTER TABLE friend_event_dlq ADD COLUMN claim_id VARCHAR(36);
+ALTER TABLE friend_event_dlq ADD COLUMN claimed_at TIMESTAMP(6);
+
+CREATE INDEX idx_dlq_claim_id ON friend_event_dlq (claim_id);
@@ -0,0 +1,25 @@
+-- 친구 관계 정규화 쌍 키 + 회원별 인접 목록 프로젝션 (H2)
+
+ALTER TABLE friendship ADD COLUMN pair_min_id BIGINT GENERATED ALWAYS AS (LEAST(member_id, friend_id));
+ALTER TABLE friendship ADD COLUMN pair_max_id BIGINT GENERATED ALWAYS AS (GREATEST(member_id, friend_id));
+CREATE UNIQUE INDEX uk_friendship_pair ON friendship (pair_min_id, pair_max_id);
+
+ALTER TABLE friend_request ADD COLUMN pair_min_id BIGINT GENERATED ALWAYS AS (LEAST(sender_id, receiver_id));
+ALTER TABLE friend_request ADD COLUMN pair_max_id BIGINT GENERATED ALWAYS AS (GREATEST(sender_id, receiver_id));
+CREATE UNIQUE INDEX uk_friend_request_pair ON friend_request (pair_min_id, pair_max_id);
+
+CREATE TABLE IF NOT EXISTS friend_adjacency (
+    member_id BIGINT NOT NULL,
+    friendship_id BIGINT NOT NULL,
+    friend_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+
+    PRIMARY KEY (member_id, friendship_id),
+
+    CONSTRAINT fk_friend_adjacency_friendship
+        FOREIGN KEY (friendship_id)
+        REFERENCES friendship (friendship_id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_friend_adjacency_friendship ON friend_adjacency (friendship_id);
@@ -0,0 +1,3 @@
+-- 롤링페이퍼 그리드 영역 조회용 (member_id, y, x) 인덱스
+
+CREATE INDEX idx_message_member_y_x ON message (member_id, y, x);
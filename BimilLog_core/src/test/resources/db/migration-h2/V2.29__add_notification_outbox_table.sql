@@ -0,0 +1,18 @@
+-- 알림 트랜잭션 아웃박스
+
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    notification_type VARCHAR(50) NOT NULL,
+    content VARCHAR(255) NOT NULL,
+    url VARCHAR(255) NOT NULL,
+    related_member_name VARCHAR(255),
+    post_title VARCHAR(255),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    claim_id VARCHAR(36),
+    claimed_at TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE INDEX idx_outbox_status_created ON notification_outbox (status, created_at);
+CREATE INDEX idx_outbox_claim_id ON notification_outbox (claim_id);
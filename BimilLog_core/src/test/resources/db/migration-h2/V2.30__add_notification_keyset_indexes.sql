@@ -0,0 +1,7 @@
+-- V2.30: 알림함 키셋 페이지네이션/보관 기간 정리용 인덱스 (H2)
+
+CREATE INDEX idx_notification_member_id ON notification(member_id, notification_id DESC);
+CREATE INDEX idx_notification_created ON notification(created_at);
+
+-- 기존 (member_id, created_at) 인덱스 제거
+DROP INDEX IF EXISTS idx_notification_member_created ON notification;
@@ -0,0 +1,6 @@
+-- V2.31: 알림 다이제스트 (H2)
+
+ALTER TABLE notification_outbox ADD COLUMN digest_key VARCHAR(100);
+ALTER TABLE notification_outbox ADD COLUMN digest_count INT NOT NULL DEFAULT 1;
+
+CREATE INDEX idx_outbox_digest_key ON notification_outbox (digest_key);
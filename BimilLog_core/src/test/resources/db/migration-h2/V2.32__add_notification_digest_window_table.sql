@@ -0,0 +1,8 @@
+-- V2.32: 알림 다이제스트 창 (H2)
+
+CREATE TABLE notification_digest_window (
+    digest_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    window_end TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_digest_window_end ON notification_digest_window (window_end);
@@ -22,6 +22,7 @@ TRUNCATE TABLE comment;
 TRUNCATE TABLE post_like;
 TRUNCATE TABLE post;
 TRUNCATE TABLE member_blacklist;
+TRUNCATE TABLE friend_adjacency;
 TRUNCATE TABLE friendship;
 TRUNCATE TABLE friend_request;
 TRUNCATE TABLE notification;
@@ -104,6 +105,12 @@ FROM (
     LIMIT 150000
 ) friendship_data;
 
+-- 회원별 친구 인접 목록 (friendship 양방향 프로젝션)
+INSERT INTO friend_adjacency (member_id, friendship_id, friend_id, created_at)
+SELECT member_id, friendship_id, friend_id, created_at FROM friendship
+UNION ALL
+SELECT friend_id, friendship_id, member_id, created_at FROM friendship;
+
 -- ========================================
 -- 5. 게시글 1,000개 생성
 -- ========================================